@@ -30,7 +30,9 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
@@ -38,7 +40,7 @@ import io.jenetics.ext.grammar.Cfg.Symbol;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 7.1
+ * @version 8.2
  * @since 7.1
  */
 @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
@@ -62,6 +64,35 @@ public class SentenceGeneratorPerf {
 		10_000
 	);
 
+	@Param({"10000", "100000"})
+	public int limit;
+
+	@Param({"LEFT_MOST", "LEFT_TO_RIGHT"})
+	public SentenceGenerator.Expansion expansion;
+
+	private SentenceGenerator<String> generator;
+
+	@Setup
+	public void setup() {
+		generator = new SentenceGenerator<>(
+			SymbolIndex.of(RandomGenerator.getDefault()),
+			expansion,
+			limit
+		);
+	}
+
+	@Benchmark
+	public Object generation() {
+		return generator.generate(CFG);
+	}
+
+	@Benchmark
+	public Object arrayListReferenceGeneration() {
+		final var sentence = new ArrayList<Symbol<String>>();
+		generator.generate(CFG, sentence);
+		return sentence;
+	}
+
 	@Benchmark
 	public Object linkedListGeneration() {
 		final var sentence = new LinkedList<Symbol<String>>();
@@ -0,0 +1,115 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * Measures the hypervolume calculation and the hypervolume based selection
+ * of points on the positive part of the unit sphere, where all points are
+ * non-dominated.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HypervolumePerf {
+
+	@Param({"50", "100", "200"})
+	public int size;
+
+	@Param({"3", "4", "5", "6"})
+	public int dimension;
+
+	private Vec<double[]> reference;
+	private ISeq<Vec<double[]>> points;
+	private ISeq<Phenotype<DoubleGene, Vec<double[]>>> population;
+	private HypervolumeSelector<DoubleGene, Vec<double[]>> selector;
+
+	@Setup
+	public void setup() {
+		final var random = new Random(123);
+		reference = Vec.of(new double[dimension]);
+		points = IntStream.range(0, size)
+			.mapToObj(i -> sphere(random))
+			.collect(ISeq.toISeq());
+
+		final var genotype = Genotype.of(DoubleChromosome.of(0, 1));
+		population = points
+			.map(p -> Phenotype.of(genotype, 1, p));
+		selector = new HypervolumeSelector<>(reference);
+	}
+
+	private Vec<double[]> sphere(final Random random) {
+		final double[] point = random.doubles(dimension).toArray();
+		double norm = 0;
+		for (double v : point) {
+			norm += v*v;
+		}
+		norm = Math.sqrt(norm);
+		for (int i = 0; i < point.length; ++i) {
+			point[i] /= norm;
+		}
+		return Vec.of(point);
+	}
+
+	@Benchmark
+	public double volume() {
+		return Hypervolume.of(points, reference, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public double[] contributions() {
+		return Hypervolume.contributions(points, reference, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public ISeq<Phenotype<DoubleGene, Vec<double[]>>> select() {
+		return selector.select(population, size - size/10, Optimize.MAXIMUM);
+	}
+
+}
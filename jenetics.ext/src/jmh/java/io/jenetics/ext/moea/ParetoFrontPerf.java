@@ -0,0 +1,105 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the insertion into the list based {@link ParetoFront} with the
+ * {@link IndexedParetoFront}. Most of the generated points lie close to the
+ * unit sphere surface, which results in big pareto fronts.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ParetoFrontPerf {
+
+	@Param({"1000", "10000"})
+	public int size;
+
+	@Param({"2", "3", "5"})
+	public int dimension;
+
+	private List<Vec<double[]>> points;
+
+	@Setup
+	public void setup() {
+		final var random = new Random(123);
+		points = IntStream.range(0, size)
+			.mapToObj(i -> point(random))
+			.toList();
+	}
+
+	private Vec<double[]> point(final Random random) {
+		final double[] point = random.doubles(dimension).toArray();
+		final double norm = Math.sqrt(DoubleStream.of(point).map(v -> v*v).sum());
+		final double radius = 1 - random.nextDouble()*0.01;
+		for (int i = 0; i < point.length; ++i) {
+			point[i] = point[i]/norm*radius;
+		}
+		return Vec.of(point);
+	}
+
+	@Benchmark
+	public int listFront() {
+		final var front = new ParetoFront<Vec<double[]>>(Vec::dominance);
+		front.addAll(points);
+		return front.size();
+	}
+
+	@Benchmark
+	public int indexedFront() {
+		final IndexedParetoFront<Vec<double[]>> front = IndexedParetoFront.ofVec();
+		front.addAll(points);
+		return front.size();
+	}
+
+	@Benchmark
+	public int boundedIndexedFront() {
+		final IndexedParetoFront<Vec<double[]>> front =
+			IndexedParetoFront.ofVec(100);
+		front.addAll(points);
+		return front.size();
+	}
+
+}
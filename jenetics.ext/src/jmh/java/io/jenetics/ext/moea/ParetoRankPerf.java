@@ -0,0 +1,105 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the pairwise non-domination rank calculation with the
+ * <em>efficient non-dominated sort</em>, on {@link Vec} objects and on the
+ * primitive objective matrix.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ParetoRankPerf {
+
+	@Param({"500", "5000", "10000"})
+	public int size;
+
+	@Param({"2", "3", "5", "8"})
+	public int dimension;
+
+	private ISeq<Vec<double[]>> points;
+	private double[] matrix;
+
+	@Setup
+	public void setup() {
+		final var random = new Random(123);
+		points = IntStream.range(0, size)
+			.mapToObj(i -> Vec.of(
+				random.doubles(dimension).toArray()
+			))
+			.collect(ISeq.toISeq());
+		matrix = points.stream()
+			.flatMapToDouble(p -> Arrays.stream(p.data()))
+			.toArray();
+	}
+
+	@Benchmark
+	public int[] pairwiseRank() {
+		return Pareto.rank(points, Vec::dominance);
+	}
+
+	@Benchmark
+	public int[] efficientRank() {
+		return Pareto.rank(points);
+	}
+
+	@Benchmark
+	public int[] matrixRank() {
+		return Pareto.rank(matrix, dimension);
+	}
+
+	@Benchmark
+	public double[] crowdingDistance() {
+		return Pareto.crowdingDistance(points);
+	}
+
+	@Benchmark
+	public double[] matrixCrowdingDistance() {
+		return Pareto.crowdingDistance(matrix, dimension);
+	}
+
+}
@@ -29,13 +29,15 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 8.2
  * @since 5.0
  */
 @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
@@ -48,8 +50,17 @@ public class TreePerf {
 
 	@State(Scope.Benchmark)
 	public static class Trees {
-		Tree<Integer, ?> tree = newTree(4, new Random(123));
-		Tree<Integer, ?> flatTree = FlatTreeNode.ofTree(tree);
+		@Param({"4", "8"})
+		public int levels;
+
+		Tree<Integer, ?> tree;
+		Tree<Integer, ?> flatTree;
+
+		@Setup
+		public void setup() {
+			tree = newTree(levels, new Random(123));
+			flatTree = FlatTreeNode.ofTree(tree);
+		}
 	}
 
 	private static TreeNode<Integer> newTree(final int levels, final RandomGenerator random) {
@@ -59,7 +70,10 @@ public class TreePerf {
 	}
 
 	public static void main(String[] args) {
-		System.out.println(new Trees().flatTree.size());
+		final var trees = new Trees();
+		trees.levels = 4;
+		trees.setup();
+		System.out.println(trees.flatTree.size());
 	}
 
 	public static void fill(
@@ -109,6 +123,62 @@ public class TreePerf {
 		return trees.flatTree.reduce(new Integer[]{0}, TreePerf::sum);
 	}
 
+	@Benchmark
+	public int levels(final Trees trees) {
+		return levels(trees.tree);
+	}
+
+	@Benchmark
+	public int flatLevels(final Trees trees) {
+		return levels(trees.flatTree);
+	}
+
+	private static int levels(final Tree<?, ?> tree) {
+		int levels = 0;
+		for (var node : tree) {
+			levels += node.level();
+		}
+		return levels;
+	}
+
+	@Benchmark
+	public int paths(final Trees trees) {
+		return paths(trees.tree);
+	}
+
+	@Benchmark
+	public int flatPaths(final Trees trees) {
+		return paths(trees.flatTree);
+	}
+
+	private static int paths(final Tree<?, ?> tree) {
+		int length = 0;
+		for (var node : tree) {
+			length += node.childPath().length();
+		}
+		return length;
+	}
+
+	@Benchmark
+	public int siblings(final Trees trees) {
+		return siblings(trees.tree);
+	}
+
+	@Benchmark
+	public int flatSiblings(final Trees trees) {
+		return siblings(trees.flatTree);
+	}
+
+	private static int siblings(final Tree<?, ?> tree) {
+		int count = 0;
+		for (var node : tree) {
+			if (node.nextSibling().isPresent()) {
+				++count;
+			}
+		}
+		return count;
+	}
+
 	static int sum(final Integer zero, final Integer[] values) {
 		int value = zero;
 		for (var i : values) {
@@ -0,0 +1,147 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.util.random.RandomGenerator;
+
+import io.jenetics.AbstractAlterer;
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.Recombinator;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Swaps two, randomly chosen, nodes (subtrees) from two given trees. This
+ * alterer performs the same crossover as the {@link SingleNodeCrossover},
+ * but it works directly on the flattened tree genes of the chromosomes. The
+ * two offspring chromosomes are created by splicing the gene arrays, without
+ * converting the chromosomes to mutable {@link io.jenetics.ext.util.TreeNode}
+ * objects and flattening them back again. Given the same random engine, both
+ * alterers create the same offspring.
+ *
+ * @see SingleNodeCrossover
+ * @see SubtreeMutator
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public class SubtreeCrossover<
+	G extends TreeGene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Recombinator<G, C>
+{
+
+	/**
+	 * Constructs a subtree crossover with a given recombination probability.
+	 *
+	 * @param probability the recombination probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}
+	 */
+	public SubtreeCrossover(final double probability) {
+		super(probability, 2);
+	}
+
+	/**
+	 * Create a new subtree crossover with the default recombination
+	 * probability ({@link AbstractAlterer#DEFAULT_ALTER_PROBABILITY}).
+	 */
+	public SubtreeCrossover() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	@Override
+	protected int recombine(
+		final MSeq<Phenotype<G, C>> population,
+		final int[] individuals,
+		final long generation
+	) {
+		assert individuals.length == 2 : "Required order of 2";
+		final var random = RandomRegistry.random();
+
+		final Phenotype<G, C> pt1 = population.get(individuals[0]);
+		final Phenotype<G, C> pt2 = population.get(individuals[1]);
+		final Genotype<G> gt1 = pt1.genotype();
+		final Genotype<G> gt2 = pt2.genotype();
+
+		//Choosing the Chromosome index for crossover.
+		final int chIndex = random.nextInt(min(gt1.length(), gt2.length()));
+
+		final MSeq<Chromosome<G>> c1 = MSeq.of(gt1);
+		final MSeq<Chromosome<G>> c2 = MSeq.of(gt2);
+
+		swap(c1, c2, chIndex, random);
+
+		//Creating two new Phenotypes and exchanging it with the old.
+		population.set(
+			individuals[0],
+			Phenotype.of(Genotype.of(c1.toISeq()), generation)
+		);
+		population.set(
+			individuals[1],
+			Phenotype.of(Genotype.of(c2.toISeq()), generation)
+		);
+
+		return order();
+	}
+
+	// The static method makes it easier to test.
+	static <G extends TreeGene<?, G>> int swap(
+		final MSeq<Chromosome<G>> c1,
+		final MSeq<Chromosome<G>> c2,
+		final int index,
+		final RandomGenerator random
+	) {
+		final Chromosome<G> ch1 = c1.get(index);
+		final Chromosome<G> ch2 = c2.get(index);
+
+		final int changed;
+		if (ch1.length() > 1 && ch2.length() > 1) {
+			final int i1 = random.nextInt(ch1.length() - 1) + 1;
+			final int i2 = random.nextInt(ch2.length() - 1) + 1;
+
+			final ISeq<G> genes1 = TreeGenes.splice(ch1, i1, ch2, i2);
+			final ISeq<G> genes2 = TreeGenes.splice(ch2, i2, ch1, i1);
+
+			c1.set(index, ch1.newInstance(genes1));
+			c2.set(index, ch2.newInstance(genes2));
+
+			changed = 2;
+		} else {
+			changed = 0;
+		}
+
+		return changed;
+	}
+
+	@Override
+	public String toString() {
+		return format("SubtreeCrossover[%f]", _probability);
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.random.RandomGenerator;
+
+import io.jenetics.AbstractAlterer;
+import io.jenetics.Chromosome;
+import io.jenetics.Mutator;
+import io.jenetics.MutatorResult;
+import io.jenetics.internal.math.Probabilities;
+
+/**
+ * Replaces a randomly chosen node (subtree) of a tree chromosome with a
+ * randomly chosen subtree of a newly created chromosome. The new chromosome
+ * is created with {@link Chromosome#newInstance()}, which means that the
+ * inserted subtrees fulfill the same construction rules as the mutated tree.
+ * The mutation works directly on the flattened tree genes of the
+ * chromosome, without converting it to a mutable
+ * {@link io.jenetics.ext.util.TreeNode} and back again.
+ * <p>
+ * The <em>point</em> mutation of the tree nodes, which replaces single node
+ * values with values of the same arity, is performed by the standard
+ * {@link Mutator}, which also works on the flattened genes.
+ *
+ * @see SubtreeCrossover
+ * @see TreeMutator
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public class SubtreeMutator<
+	G extends TreeGene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Mutator<G, C>
+{
+
+	/**
+	 * Constructs a subtree mutator with a given mutation probability.
+	 *
+	 * @param probability the mutation probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}
+	 */
+	public SubtreeMutator(final double probability) {
+		super(probability);
+	}
+
+	/**
+	 * Create a new subtree mutator with the default mutation probability
+	 * ({@link AbstractAlterer#DEFAULT_ALTER_PROBABILITY}).
+	 */
+	public SubtreeMutator() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Mutates the given chromosome.
+	 *
+	 * @param chromosome the chromosome to mutate
+	 * @param p the mutation probability for the underlying genetic objects
+	 * @param random the random engine used for the genotype mutation
+	 * @return the mutation result
+	 */
+	@Override
+	protected MutatorResult<Chromosome<G>> mutate(
+		final Chromosome<G> chromosome,
+		final double p,
+		final RandomGenerator random
+	) {
+		final int P = Probabilities.toInt(p);
+		return random.nextInt() < P
+			? new MutatorResult<>(mutate(chromosome, random), 1)
+			: new MutatorResult<>(chromosome, 0);
+	}
+
+	// The static method makes it easier to test.
+	static <G extends TreeGene<?, G>> Chromosome<G> mutate(
+		final Chromosome<G> chromosome,
+		final RandomGenerator random
+	) {
+		final Chromosome<G> source = chromosome.newInstance();
+
+		final int index = random.nextInt(chromosome.length());
+		final int sourceIndex = random.nextInt(source.length());
+
+		return chromosome.newInstance(
+			TreeGenes.splice(chromosome, index, source, sourceIndex)
+		);
+	}
+
+}
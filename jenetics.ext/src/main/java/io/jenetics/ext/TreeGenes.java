@@ -0,0 +1,130 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static java.lang.String.format;
+
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * Helper methods for manipulating the flattened tree genes of a
+ * {@link TreeChromosome} directly, without converting it into a
+ * {@link io.jenetics.ext.util.TreeNode} first. The genes of a tree chromosome
+ * are stored in breadth-first order, where the children of every node are
+ * stored contiguously, starting at the node's {@code childOffset}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class TreeGenes {
+	private TreeGenes() {}
+
+	/**
+	 * The child offset of leaf nodes, as used by the flat tree nodes.
+	 */
+	private static final int NULL_INDEX = -1;
+
+	/**
+	 * Create a new gene sequence, where the subtree rooted at the node with
+	 * the given {@code index} in the {@code target} genes is replaced by the
+	 * subtree rooted at {@code sourceIndex} in the {@code source} genes. The
+	 * result is again in breadth-first order and is equal to the flattened
+	 * genes of the corresponding (mutable) tree after the replacement. The
+	 * splicing only needs one {@code int[]} array of node references and
+	 * creates exactly one new gene for every node of the resulting tree.
+	 *
+	 * @param target the target tree genes
+	 * @param index the index of the replaced subtree root in the target genes
+	 * @param source the source tree genes
+	 * @param sourceIndex the index of the inserted subtree root in the
+	 *        source genes
+	 * @param <G> the tree gene type
+	 * @return the spliced tree genes
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 */
+	static <G extends TreeGene<?, G>> ISeq<G> splice(
+		final BaseSeq<G> target,
+		final int index,
+		final BaseSeq<G> source,
+		final int sourceIndex
+	) {
+		checkIndex(index, target.length());
+		checkIndex(sourceIndex, source.length());
+
+		// Node references in breadth-first order of the resulting tree.
+		// Positive values are target indexes and negative values are
+		// complemented source indexes.
+		final int[] nodes = new int[target.length() + source.length()];
+		nodes[0] = index == 0 ? ~sourceIndex : 0;
+
+		int size = 1;
+		for (int i = 0; i < size; ++i) {
+			final int node = nodes[i];
+			final G gene = node >= 0 ? target.get(node) : source.get(~node);
+
+			final int offset = gene.childOffset();
+			for (int j = 0, n = gene.childCount(); j < n; ++j) {
+				final int child = offset + j;
+				if (node < 0) {
+					nodes[size++] = ~child;
+				} else {
+					nodes[size++] = child == index ? ~sourceIndex : child;
+				}
+			}
+		}
+
+		final MSeq<G> genes = MSeq.ofLength(size);
+		int offset = 1;
+		for (int i = 0; i < size; ++i) {
+			final int node = nodes[i];
+			final G gene = node >= 0 ? target.get(node) : source.get(~node);
+			final int count = gene.childCount();
+
+			genes.set(i, gene(gene, count == 0 ? NULL_INDEX : offset, count));
+			offset += count;
+		}
+
+		return genes.toISeq();
+	}
+
+	// The allele type "A" is not part of the gene type, so we have to make it
+	// "visible" again for creating the new gene.
+	@SuppressWarnings("unchecked")
+	private static <A, G extends TreeGene<?, G>> G gene(
+		final G gene,
+		final int childOffset,
+		final int childCount
+	) {
+		final var g = (TreeGene<A, ?>)gene;
+		return (G)g.newInstance(g.allele(), childOffset, childCount);
+	}
+
+	private static void checkIndex(final int index, final int length) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException(format(
+				"Node index out of bounds [0, %d): %d", length, index
+			));
+		}
+	}
+
+}
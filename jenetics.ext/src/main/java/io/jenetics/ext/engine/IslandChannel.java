@@ -0,0 +1,227 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Checkpoints;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.ISeq;
+
+/**
+ * Message channel between the {@link ProcessIslandEngine} coordinator and
+ * an {@link IslandWorker}. The coordinator sends commands and the worker
+ * answers every command, except {@link #EXIT}, with the evolution result of
+ * the island generation. Populations are transferred in the binary
+ * {@link Checkpoints} format, framed by its byte length. The first frame
+ * sent by the worker is the token it was launched with, which authenticates
+ * the connection.
+ *
+ * <pre>
+ * handshake = frame(token)
+ * command   = EVOLVE frame(start) | CONTINUE | MIGRATE frame(immigrants) | EXIT
+ * response  = OK frame(result) | FAILURE utf(message)
+ * </pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class IslandChannel implements Closeable {
+
+	/**
+	 * Evolves the transferred evolution start object.
+	 */
+	static final byte EVOLVE = 1;
+
+	/**
+	 * Evolves the next generation of the last island result.
+	 */
+	static final byte CONTINUE = 2;
+
+	/**
+	 * Evolves the next generation of the last island result, after the
+	 * worst individuals have been replaced by the transferred immigrants.
+	 */
+	static final byte MIGRATE = 3;
+
+	/**
+	 * Terminates the worker.
+	 */
+	static final byte EXIT = 4;
+
+	private static final byte OK = 0;
+	private static final byte FAILURE = 1;
+
+	// Keeps the UTF encoded failure message below 64k bytes.
+	private static final int MAX_MESSAGE_LENGTH = 8*1024;
+
+	private final SocketChannel _channel;
+	private final DataInputStream _in;
+	private final DataOutputStream _out;
+
+	IslandChannel(final SocketChannel channel) {
+		_channel = requireNonNull(channel);
+		_in = new DataInputStream(
+			new BufferedInputStream(Channels.newInputStream(channel), 1 << 16)
+		);
+		_out = new DataOutputStream(
+			new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16)
+		);
+	}
+
+	/* *************************************************************************
+	 * Coordinator side.
+	 * ************************************************************************/
+
+	<G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start)
+		throws IOException
+	{
+		_out.writeByte(EVOLVE);
+		writeFrame(start);
+		return readResult();
+	}
+
+	<G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> next() throws IOException {
+		_out.writeByte(CONTINUE);
+		_out.flush();
+		return readResult();
+	}
+
+	<G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> migrate(
+		final List<Phenotype<G, C>> immigrants,
+		final long generation
+	)
+		throws IOException
+	{
+		_out.writeByte(MIGRATE);
+		writeFrame(EvolutionStart.of(ISeq.of(immigrants), generation));
+		return readResult();
+	}
+
+	void exit() throws IOException {
+		_out.writeByte(EXIT);
+		_out.flush();
+	}
+
+	private <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> readResult() throws IOException {
+		final byte status = _in.readByte();
+		return switch (status) {
+			case OK -> Checkpoints.readResult(readFrame());
+			case FAILURE -> throw new IllegalStateException(
+				"Island worker failed: " + _in.readUTF()
+			);
+			default -> throw new StreamCorruptedException(
+				"Unknown response status: " + status
+			);
+		};
+	}
+
+	/* *************************************************************************
+	 * Worker side.
+	 * ************************************************************************/
+
+	void writeToken(final byte[] token) throws IOException {
+		_out.writeInt(token.length);
+		_out.write(token);
+		_out.flush();
+	}
+
+	byte readCommand() throws IOException {
+		return _in.readByte();
+	}
+
+	<G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> readStart() throws IOException {
+		return Checkpoints.readStart(readFrame());
+	}
+
+	void writeResult(final EvolutionResult<?, ?> result) throws IOException {
+		_out.writeByte(OK);
+		writeFrame(result);
+	}
+
+	void writeFailure(final Throwable failure) throws IOException {
+		_out.writeByte(FAILURE);
+		final String message = String.valueOf(failure);
+		_out.writeUTF(message.length() > MAX_MESSAGE_LENGTH
+			? message.substring(0, MAX_MESSAGE_LENGTH)
+			: message);
+		_out.flush();
+	}
+
+	/* *************************************************************************
+	 * Framing.
+	 * ************************************************************************/
+
+	private void writeFrame(final EvolutionStart<?, ?> start) throws IOException {
+		final var bytes = new ByteArrayOutputStream();
+		Checkpoints.write(start, bytes);
+		writeFrame(bytes);
+	}
+
+	private void writeFrame(final EvolutionResult<?, ?> result) throws IOException {
+		final var bytes = new ByteArrayOutputStream();
+		Checkpoints.write(result, bytes);
+		writeFrame(bytes);
+	}
+
+	private void writeFrame(final ByteArrayOutputStream bytes) throws IOException {
+		_out.writeInt(bytes.size());
+		bytes.writeTo(_out);
+		_out.flush();
+	}
+
+	private ByteBuffer readFrame() throws IOException {
+		final int length = _in.readInt();
+		if (length < 0) {
+			throw new StreamCorruptedException("Invalid frame length: " + length);
+		}
+		final byte[] bytes = new byte[length];
+		_in.readFully(bytes);
+		return ByteBuffer.wrap(bytes);
+	}
+
+	@Override
+	public void close() throws IOException {
+		_channel.close();
+	}
+
+}
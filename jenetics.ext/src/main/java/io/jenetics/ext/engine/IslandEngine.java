@@ -0,0 +1,691 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.TournamentSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.Evolution;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Island-model evolution engine, which evolves the populations of several
+ * {@link Engine}s (islands) in parallel. Every island evolves its own
+ * population, and the islands exchange individuals every
+ * {@link #migrationInterval()} generations. The migrants are selected with
+ * the {@link #migrantSelector()} and replace the worst individuals of the
+ * receiving islands. The {@link Topology} defines, which islands are
+ * connected.
+ *
+ * <pre> {@code
+ *          +------------+    migrants     +------------+
+ *          |  Engine 1  |---------------->|  Engine 2  |
+ *          +------------+                 +------------+
+ *                ^                              |
+ *                |          +------------+      |
+ *                +----------|  Engine 3  |<-----+
+ *                           +------------+
+ * } </pre>
+ *
+ * The islands are evolved in lock-step, each island generation as a task of
+ * the given {@link Builder#executor(Executor)}. The island results of a
+ * generation are merged into one {@link EvolutionResult}, which contains the
+ * populations of all islands. In the <em>reproducible</em> mode of the
+ * {@link RandomRegistry}, every island generation is executed as
+ * {@link RandomRegistry#task(long, int, Supplier) task} with the island index.
+ * The islands therefore get different random generators, even if they use
+ * the same engine, and the migration uses the task index after the last
+ * island.
+ *
+ * {@snippet lang="java":
+ * final Problem<double[], DoubleGene, Double> problem = Problem.of(
+ *     v -> Math.sin(v[0])*Math.cos(v[1]),
+ *     Codecs.ofVector(DoubleRange.of(0, 2*Math.PI), 2)
+ * );
+ *
+ * final List<Engine<DoubleGene, Double>> islands = IntStream.range(0, 8)
+ *     .mapToObj(i -> Engine.builder(problem)
+ *         .populationSize(200)
+ *         .alterers(new Mutator<>(0.05 + i*0.02), new MeanAlterer<>())
+ *         .build())
+ *     .toList();
+ *
+ * final Genotype<DoubleGene> best = IslandEngine.builder(islands)
+ *     .topology(IslandEngine.Topology.ring())
+ *     .migrationInterval(20)
+ *     .migrants(5)
+ *     .build()
+ *     .stream()
+ *     .limit(Limits.bySteadyFitness(100))
+ *     .collect(EvolutionResult.toBestGenotype());
+ * }
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionStreamable<G, C>
+{
+
+	/**
+	 * The migration topology defines the islands, an island sends its
+	 * migrants to.
+	 */
+	@FunctionalInterface
+	public interface Topology {
+
+		/**
+		 * Return the indexes of the islands, the given {@code island} sends its
+		 * migrants to. The returned array must not contain the sending island.
+		 *
+		 * @param island the index of the sending island
+		 * @param islands the number of islands
+		 * @param random the random generator, used by randomized topologies
+		 * @return the indexes of the receiving islands
+		 */
+		int[] targets(
+			final int island,
+			final int islands,
+			final RandomGenerator random
+		);
+
+		/**
+		 * Return a ring topology, where island {@code i} sends its migrants
+		 * to island {@code (i + 1)%n}.
+		 *
+		 * @return a ring topology
+		 */
+		static Topology ring() {
+			return (island, islands, random) -> islands > 1
+				? new int[]{(island + 1)%islands}
+				: new int[0];
+		}
+
+		/**
+		 * Return a fully connected topology, where every island sends its
+		 * migrants to all other islands.
+		 *
+		 * @return a fully connected topology
+		 */
+		static Topology fullyConnected() {
+			return (island, islands, random) -> IntStream.range(0, islands)
+				.filter(i -> i != island)
+				.toArray();
+		}
+
+		/**
+		 * Return a random topology, where every island sends its migrants to
+		 * {@code degree} randomly chosen other islands. The receiving
+		 * islands are chosen anew for every migration.
+		 *
+		 * @param degree the number of receiving islands
+		 * @return a random topology
+		 * @throws IllegalArgumentException if {@code degree < 1}
+		 */
+		static Topology random(final int degree) {
+			if (degree < 1) {
+				throw new IllegalArgumentException(
+					"Degree must be positive: " + degree
+				);
+			}
+
+			return (island, islands, random) -> {
+				final int[] others = IntStream.range(0, islands)
+					.filter(i -> i != island)
+					.toArray();
+
+				// Partial Fisher-Yates shuffle.
+				final int n = Math.min(degree, others.length);
+				for (int i = 0; i < n; ++i) {
+					final int j = random.nextInt(i, others.length);
+					final int temp = others[i];
+					others[i] = others[j];
+					others[j] = temp;
+				}
+				return Arrays.copyOf(others, n);
+			};
+		}
+
+	}
+
+	private final List<Engine<G, C>> _engines;
+	private final Topology _topology;
+	private final int _migrationInterval;
+	private final int _migrants;
+	private final Selector<G, C> _migrantSelector;
+	private final Executor _executor;
+
+	private IslandEngine(
+		final List<Engine<G, C>> engines,
+		final Topology topology,
+		final int migrationInterval,
+		final int migrants,
+		final Selector<G, C> migrantSelector,
+		final Executor executor
+	) {
+		_engines = List.copyOf(engines);
+		_topology = requireNonNull(topology);
+		_migrationInterval = migrationInterval;
+		_migrants = migrants;
+		_migrantSelector = requireNonNull(migrantSelector);
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Return the island engines.
+	 *
+	 * @return the island engines
+	 */
+	public List<Engine<G, C>> engines() {
+		return _engines;
+	}
+
+	/**
+	 * Return the migration topology.
+	 *
+	 * @return the migration topology
+	 */
+	public Topology topology() {
+		return _topology;
+	}
+
+	/**
+	 * Return the number of generations between two migrations.
+	 *
+	 * @return the number of generations between two migrations
+	 */
+	public int migrationInterval() {
+		return _migrationInterval;
+	}
+
+	/**
+	 * Return the number of individuals an island sends to each of its
+	 * target islands.
+	 *
+	 * @return the number of migrants per island
+	 */
+	public int migrants() {
+		return _migrants;
+	}
+
+	/**
+	 * Return the selector used for selecting the migrants.
+	 *
+	 * @return the selector used for selecting the migrants
+	 */
+	public Selector<G, C> migrantSelector() {
+		return _migrantSelector;
+	}
+
+	/**
+	 * Return the executor, which executes the island generations.
+	 *
+	 * @return the island executor
+	 */
+	public Executor executor() {
+		return _executor;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+		return EvolutionStream.ofEvolution(start, new IslandEvolution());
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		requireNonNull(init);
+		return stream(() -> EvolutionStart.of(
+			init.population().map(gt -> Phenotype.of(gt, init.generation())),
+			init.generation()
+		));
+	}
+
+	/**
+	 * The stateful evolution function of one evolution stream. The merged
+	 * evolution start object is only used for the first generation;
+	 * afterward, every island continues with its own population.
+	 */
+	private final class IslandEvolution implements Evolution<G, C> {
+		private List<EvolutionStart<G, C>> _starts;
+		private long _steps = 0;
+
+		@Override
+		public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+			final long begin = System.nanoTime();
+
+			final List<CompletableFuture<EvolutionResult<G, C>>> futures;
+			if (_starts == null) {
+				final List<EvolutionStart<G, C>> starts =
+					split(start, _engines.size());
+				futures = IntStream.range(0, _engines.size())
+					.mapToObj(i -> CompletableFuture.supplyAsync(
+						RandomRegistry.task(start.generation(), i, () ->
+							_engines.get(i).stream(starts.get(i))
+								.findFirst()
+								.orElseThrow()),
+						_executor
+					))
+					.toList();
+			} else {
+				futures = IntStream.range(0, _engines.size())
+					.mapToObj(i -> CompletableFuture.supplyAsync(
+						RandomRegistry.task(_starts.get(i).generation(), i, () ->
+							_engines.get(i).evolve(_starts.get(i))),
+						_executor
+					))
+					.toList();
+			}
+
+			final List<EvolutionResult<G, C>> results = futures.stream()
+				.map(CompletableFuture::join)
+				.toList();
+
+			++_steps;
+			if (_steps%_migrationInterval == 0) {
+				final List<List<Phenotype<G, C>>> immigrants = immigrants(
+					results, _topology, _migrantSelector, _migrants
+				);
+				_starts = IntStream.range(0, results.size())
+					.mapToObj(i -> settle(results.get(i), immigrants.get(i)))
+					.toList();
+			} else {
+				_starts = results.stream().map(EvolutionResult::next).toList();
+			}
+
+			return merge(results, Duration.ofNanos(System.nanoTime() - begin));
+		}
+	}
+
+	/*
+	 * Splits the start population round-robin into the island populations.
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	List<EvolutionStart<G, C>>
+	split(final EvolutionStart<G, C> start, final int islands) {
+		final List<List<Phenotype<G, C>>> parts = new ArrayList<>(islands);
+		for (int i = 0; i < islands; ++i) {
+			parts.add(new ArrayList<>());
+		}
+		for (int i = 0; i < start.population().size(); ++i) {
+			parts.get(i%islands).add(start.population().get(i));
+		}
+
+		return parts.stream()
+			.map(part -> EvolutionStart.of(ISeq.of(part), start.generation()))
+			.toList();
+	}
+
+	/*
+	 * Selects the migrants of every island and returns the immigrants of
+	 * every island. The migration is executed as task with the index after
+	 * the island tasks, so that it gets its own reproducible random scope.
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	List<List<Phenotype<G, C>>> immigrants(
+		final List<? extends EvolutionResult<G, C>> results,
+		final Topology topology,
+		final Selector<G, C> selector,
+		final int count
+	) {
+		return RandomRegistry.task(
+			results.get(0).generation(),
+			results.size(),
+			() -> immigrants0(results, topology, selector, count)
+		).get();
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	List<List<Phenotype<G, C>>> immigrants0(
+		final List<? extends EvolutionResult<G, C>> results,
+		final Topology topology,
+		final Selector<G, C> selector,
+		final int count
+	) {
+		final int islands = results.size();
+		final RandomGenerator random = RandomRegistry.random();
+
+		final List<List<Phenotype<G, C>>> immigrants = new ArrayList<>(islands);
+		for (int i = 0; i < islands; ++i) {
+			immigrants.add(new ArrayList<>());
+		}
+
+		for (int i = 0; i < islands; ++i) {
+			final EvolutionResult<G, C> result = results.get(i);
+			final ISeq<Phenotype<G, C>> migrants = selector.select(
+				result.population(),
+				Math.min(count, result.population().size()),
+				result.optimize()
+			);
+			for (int target : topology.targets(i, islands, random)) {
+				immigrants.get(target).addAll(migrants.asList());
+			}
+		}
+
+		return immigrants;
+	}
+
+	/*
+	 * Replaces the worst individuals of the island with the immigrants.
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> settle(
+		final EvolutionResult<G, C> result,
+		final List<Phenotype<G, C>> immigrants
+	) {
+		final EvolutionStart<G, C> next = result.next();
+		if (immigrants.isEmpty()) {
+			return next;
+		}
+
+		final MSeq<Phenotype<G, C>> population = result.population().copy();
+		population.sort(worstFirst(result.optimize()));
+
+		final int count = Math.min(immigrants.size(), population.size());
+		for (int i = 0; i < count; ++i) {
+			population.set(i, immigrants.get(i));
+		}
+
+		return EvolutionStart.of(population.toISeq(), next.generation());
+	}
+
+	/*
+	 * Merges the island results of one generation.
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> merge(
+		final List<? extends EvolutionResult<G, C>> results,
+		final Duration evolveDuration
+	) {
+		final EvolutionResult<G, C> first = results.get(0);
+		return EvolutionResult.of(
+			first.optimize(),
+			results.stream()
+				.flatMap(result -> result.population().stream())
+				.collect(ISeq.toISeq()),
+			first.generation(),
+			first.totalGenerations(),
+			durations(results, evolveDuration),
+			results.stream().mapToInt(EvolutionResult::killCount).sum(),
+			results.stream().mapToInt(EvolutionResult::invalidCount).sum(),
+			results.stream().mapToInt(EvolutionResult::alterCount).sum()
+		);
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Comparator<Phenotype<G, C>> worstFirst(final Optimize optimize) {
+		return (a, b) -> optimize.compare(a.fitness(), b.fitness());
+	}
+
+	/*
+	 * Since the islands are evolved in parallel, the phase durations are the
+	 * maximal durations of the islands.
+	 */
+	private static EvolutionDurations durations(
+		final List<? extends EvolutionResult<?, ?>> results,
+		final Duration evolveDuration
+	) {
+		Duration offspringSelection = Duration.ZERO;
+		Duration survivorsSelection = Duration.ZERO;
+		Duration offspringAlter = Duration.ZERO;
+		Duration offspringFilter = Duration.ZERO;
+		Duration survivorFilter = Duration.ZERO;
+		Duration evaluation = Duration.ZERO;
+
+		for (var result : results) {
+			final EvolutionDurations d = result.durations();
+			offspringSelection = max(offspringSelection, d.offspringSelectionDuration());
+			survivorsSelection = max(survivorsSelection, d.survivorsSelectionDuration());
+			offspringAlter = max(offspringAlter, d.offspringAlterDuration());
+			offspringFilter = max(offspringFilter, d.offspringFilterDuration());
+			survivorFilter = max(survivorFilter, d.survivorFilterDuration());
+			evaluation = max(evaluation, d.evaluationDuration());
+		}
+
+		return new EvolutionDurations(
+			offspringSelection,
+			survivorsSelection,
+			offspringAlter,
+			offspringFilter,
+			survivorFilter,
+			evaluation,
+			evolveDuration
+		);
+	}
+
+	private static Duration max(final Duration a, final Duration b) {
+		return a.compareTo(b) >= 0 ? a : b;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"IslandEngine[islands=%d, migrationInterval=%d, migrants=%d]",
+			_engines.size(), _migrationInterval, _migrants
+		);
+	}
+
+
+	/* *************************************************************************
+	 * Builder
+	 * ************************************************************************/
+
+	/**
+	 * Create a new island engine builder for the given island engines.
+	 *
+	 * @param engines the island engines
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine builder
+	 * @throws NullPointerException if the {@code engines} or one of its
+	 *         elements is {@code null}
+	 * @throws IllegalArgumentException if the given list is empty or the
+	 *         engines have different optimization strategies
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final List<? extends Engine<G, C>> engines) {
+		return new Builder<>(engines);
+	}
+
+	/**
+	 * Create a new island engine builder for the given island engines.
+	 *
+	 * @param engines the island engines
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine builder
+	 * @throws NullPointerException if the {@code engines} or one of its
+	 *         elements is {@code null}
+	 * @throws IllegalArgumentException if the given array is empty or the
+	 *         engines have different optimization strategies
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Engine<G, C>... engines) {
+		return builder(List.of(engines));
+	}
+
+	/**
+	 * Builder class for building a new {@link IslandEngine}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 8.2
+	 * @since 8.2
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final List<Engine<G, C>> _engines;
+
+		private Topology _topology = Topology.ring();
+		private int _migrationInterval = 10;
+		private int _migrants = 1;
+		private Selector<G, C> _migrantSelector = new TournamentSelector<>();
+		private Executor _executor = task ->
+			Thread.ofVirtual().name("jenetics-island").start(task);
+
+		private Builder(final List<? extends Engine<G, C>> engines) {
+			if (engines.isEmpty()) {
+				throw new IllegalArgumentException("No island engines given.");
+			}
+			engines.forEach(Objects::requireNonNull);
+
+			final Optimize optimize = engines.get(0).optimize();
+			if (!engines.stream().allMatch(e -> e.optimize() == optimize)) {
+				throw new IllegalArgumentException(
+					"All island engines must have the same optimization strategy."
+				);
+			}
+
+			_engines = List.copyOf(engines);
+		}
+
+		/**
+		 * Set the migration topology. <i>Default value is set to
+		 * {@code Topology.ring()}.</i>
+		 *
+		 * @param topology the migration topology
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code topology} is {@code null}
+		 */
+		public Builder<G, C> topology(final Topology topology) {
+			_topology = requireNonNull(topology);
+			return this;
+		}
+
+		/**
+		 * Set the number of generations between two migrations. <i>Default
+		 * value is set to 10.</i>
+		 *
+		 * @param generations the number of generations between two migrations
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code generations < 1}
+		 */
+		public Builder<G, C> migrationInterval(final int generations) {
+			if (generations < 1) {
+				throw new IllegalArgumentException(
+					"Migration interval must be positive: " + generations
+				);
+			}
+			_migrationInterval = generations;
+			return this;
+		}
+
+		/**
+		 * Set the number of individuals an island sends to each of its target
+		 * islands. <i>Default value is set to 1.</i>
+		 *
+		 * @param count the number of migrants
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code count < 0}
+		 */
+		public Builder<G, C> migrants(final int count) {
+			if (count < 0) {
+				throw new IllegalArgumentException(
+					"Number of migrants must not be negative: " + count
+				);
+			}
+			_migrants = count;
+			return this;
+		}
+
+		/**
+		 * Set the selector used for selecting the migrants. <i>Default value
+		 * is set to {@code TournamentSelector<>()}.</i>
+		 *
+		 * @param selector the migrant selector
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code selector} is {@code null}
+		 */
+		public Builder<G, C> migrantSelector(final Selector<G, C> selector) {
+			_migrantSelector = requireNonNull(selector);
+			return this;
+		}
+
+		/**
+		 * Set the executor, which executes the island generations. Every
+		 * island generation is executed as separate task. <i>Default value is
+		 * an executor, which starts a new virtual thread for every task.</i>
+		 *
+		 * @param executor the island executor
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code executor} is {@code null}
+		 */
+		public Builder<G, C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * Builds a new island engine from the set parameters.
+		 *
+		 * @return a new island engine
+		 */
+		public IslandEngine<G, C> build() {
+			return new IslandEngine<>(
+				_engines,
+				_topology,
+				_migrationInterval,
+				_migrants,
+				_migrantSelector,
+				_executor
+			);
+		}
+	}
+
+}
@@ -0,0 +1,261 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+
+/**
+ * Worker process of a {@link ProcessIslandEngine}. The worker creates its
+ * island {@link Engine} with the given engine factory, connects to the
+ * coordinator and evolves the island generations requested by the
+ * coordinator. The worker terminates when the coordinator closes the
+ * connection.
+ * <p>
+ * The worker is started by the {@link ProcessIslandEngine} with the following
+ * arguments:
+ * <pre>
+ * java io.jenetics.ext.engine.IslandWorker &lt;address&gt; &lt;factory&gt; &lt;island&gt;
+ * </pre>
+ * where {@code address} is the coordinator address, either
+ * {@code tcp:<host>:<port>} or {@code unix:<path>}, {@code factory} the
+ * class name of the engine factory and {@code island} the island index.
+ * The connection token, which authenticates the worker at the coordinator,
+ * is given by the {@code JENETICS_ISLAND_TOKEN} environment variable.
+ *
+ * @see ProcessIslandEngine
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class IslandWorker {
+	private IslandWorker() {}
+
+	/**
+	 * The environment variable, which contains the connection token.
+	 */
+	static final String TOKEN = "JENETICS_ISLAND_TOKEN";
+
+	/**
+	 * Starts the island worker.
+	 *
+	 * @param args the worker arguments: coordinator address, engine factory
+	 *        class name and island index
+	 * @throws Exception if the worker can't be started or the connection to
+	 *         the coordinator fails
+	 */
+	public static void main(final String[] args) throws Exception {
+		if (args.length != 3) {
+			throw new IllegalArgumentException(format(
+				"Usage: java %s <address> <factory> <island>",
+				IslandWorker.class.getName()
+			));
+		}
+
+		final String token = System.getenv(TOKEN);
+		if (token == null) {
+			throw new IllegalArgumentException(format(
+				"Environment variable %s is not set.", TOKEN
+			));
+		}
+
+		final SocketAddress address = address(args[0]);
+		final int island = Integer.parseInt(args[2]);
+		final Object engine = factory(args[1]).apply(island);
+		if (!(engine instanceof Engine<?, ?>)) {
+			throw new IllegalArgumentException(format(
+				"Engine factory '%s' returned %s instead of an engine.",
+				args[1], engine
+			));
+		}
+
+		serve(address, token, (Engine<?, ?>)engine);
+	}
+
+	private static IntFunction<?> factory(final String name)
+		throws ReflectiveOperationException
+	{
+		final Object factory = Class.forName(name)
+			.getDeclaredConstructor()
+			.newInstance();
+
+		if (factory instanceof IntFunction<?> function) {
+			return function;
+		} else {
+			throw new IllegalArgumentException(format(
+				"Engine factory '%s' must implement %s.",
+				name, IntFunction.class.getName()
+			));
+		}
+	}
+
+	/**
+	 * Formats the given socket address as worker argument.
+	 *
+	 * @param address the socket address
+	 * @return the address argument
+	 */
+	static String argument(final SocketAddress address) {
+		return switch (address) {
+			case InetSocketAddress inet ->
+				"tcp:" + inet.getHostString() + ":" + inet.getPort();
+			case UnixDomainSocketAddress unix -> "unix:" + unix.getPath();
+			default -> throw new IllegalArgumentException(
+				"Unsupported address: " + address
+			);
+		};
+	}
+
+	/**
+	 * Parses the given address argument.
+	 *
+	 * @param value the address argument
+	 * @return the parsed socket address
+	 */
+	static SocketAddress address(final String value) {
+		if (value.startsWith("tcp:")) {
+			final int index = value.lastIndexOf(':');
+			return new InetSocketAddress(
+				value.substring(4, index),
+				Integer.parseInt(value.substring(index + 1))
+			);
+		} else if (value.startsWith("unix:")) {
+			return UnixDomainSocketAddress.of(value.substring(5));
+		} else {
+			throw new IllegalArgumentException("Invalid address: " + value);
+		}
+	}
+
+	/**
+	 * Connects to the coordinator and serves the requests with the given
+	 * island {@code engine}, until the coordinator terminates the connection.
+	 *
+	 * @param address the address of the coordinator
+	 * @param token the hex encoded connection token
+	 * @param engine the island engine
+	 * @throws IOException if the communication with the coordinator fails
+	 * @throws IllegalArgumentException if the {@code token} is not hex
+	 *         encoded
+	 */
+	static void serve(
+		final SocketAddress address,
+		final String token,
+		final Engine<?, ?> engine
+	)
+		throws IOException
+	{
+		requireNonNull(engine);
+		final byte[] bytes = HexFormat.of().parseHex(token);
+		try (var channel = new IslandChannel(SocketChannel.open(address))) {
+			channel.writeToken(bytes);
+			serve(channel, engine);
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static void serve(final IslandChannel channel, final Engine engine)
+		throws IOException
+	{
+		new Island<>(channel, engine).serve();
+	}
+
+	private static final class Island<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final IslandChannel _channel;
+		private final Engine<G, C> _engine;
+
+		private EvolutionResult<G, C> _result;
+
+		Island(final IslandChannel channel, final Engine<G, C> engine) {
+			_channel = channel;
+			_engine = engine;
+		}
+
+		void serve() throws IOException {
+			for (;;) {
+				final byte command;
+				try {
+					command = _channel.readCommand();
+				} catch (EOFException e) {
+					// The coordinator closed the connection.
+					return;
+				}
+				if (command == IslandChannel.EXIT) {
+					return;
+				}
+
+				final EvolutionStart<G, C> start = switch (command) {
+					case IslandChannel.EVOLVE -> _channel.readStart();
+					case IslandChannel.CONTINUE -> next(List.of());
+					case IslandChannel.MIGRATE -> next(
+						_channel.<G, C>readStart().population().asList()
+					);
+					default -> throw new StreamCorruptedException(
+						"Unknown command: " + command
+					);
+				};
+
+				try {
+					// A transferred start population may be incomplete.
+					_result = command == IslandChannel.EVOLVE
+						? _engine.stream(start).findFirst().orElseThrow()
+						: _engine.evolve(start);
+				} catch (RuntimeException e) {
+					_channel.writeFailure(e);
+					continue;
+				}
+				_channel.writeResult(_result);
+			}
+		}
+
+		private EvolutionStart<G, C>
+		next(final List<Phenotype<G, C>> immigrants)
+			throws IOException
+		{
+			if (_result == null) {
+				throw new StreamCorruptedException(
+					"No island population available."
+				);
+			}
+			return IslandEngine.settle(_result, immigrants);
+		}
+	}
+
+}
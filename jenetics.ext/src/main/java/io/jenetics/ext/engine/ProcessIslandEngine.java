@@ -0,0 +1,1037 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.TournamentSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.Evolution;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+
+/**
+ * Island-model evolution engine, which evolves every island in a separate
+ * worker process. The coordinator, this engine, and the
+ * {@link IslandWorker}s communicate via loopback TCP or Unix domain sockets.
+ * The populations and the migrants are transferred in the compact binary
+ * {@link io.jenetics.engine.Checkpoints} format.
+ * <p>
+ * Since the island engines are created in the worker processes, they are
+ * given by the class of an engine <em>factory</em>. The factory class must
+ * be public, must have a public no-arg constructor and must be available on
+ * the class path of the workers. The factory is called with the island
+ * index.
+ *
+ * {@snippet lang="java":
+ * public final class Islands implements IntFunction<Engine<DoubleGene, Double>> {
+ *     @Override
+ *     public Engine<DoubleGene, Double> apply(final int island) {
+ *         return Engine.builder(NativeFitness::eval, CODEC)
+ *             .populationSize(500)
+ *             .build();
+ *     }
+ * }
+ *
+ * try (var engine = ProcessIslandEngine.builder(Islands.class, 4)
+ *         .migrationInterval(20)
+ *         .recycleInterval(1_000)
+ *         .build())
+ * {
+ *     final Phenotype<DoubleGene, Double> best = engine.stream()
+ *         .limit(10_000)
+ *         .collect(EvolutionResult.toBestPhenotype());
+ * }
+ * }
+ *
+ * The coordinator keeps the last result of every island. If a worker
+ * process crashes, it is restarted and continues with this result, without
+ * losing the evolution run. Workers, which are leaking resources, can be
+ * restarted periodically with {@link Builder#recycleInterval(long)}.
+ * <p>
+ * Every evolution stream starts its own worker processes. The workers are
+ * terminated when the stream or the engine is closed. Every launched worker gets a new
+ * random token, via the {@code JENETICS_ISLAND_TOKEN} environment variable.
+ * The coordinator only accepts a worker connection which sends this token
+ * first, before any population is transferred. The sockets of the
+ * {@link Transport#UNIX} transport are created in a new directory, which is
+ * only accessible by the current user.
+ * <p>
+ * If the thread, which consumes the evolution stream, is interrupted while
+ * waiting for the islands, the workers of the stream are terminated and the
+ * stream fails with a {@link CancellationException}. This is also the case,
+ * if a thread of a custom {@link Builder#executor(Executor)}, which waits
+ * for an island worker, is interrupted. Cancelled islands don't count as
+ * worker restarts. Other island failures are re-thrown unwrapped by the
+ * stream, after terminating all workers of the stream.
+ *
+ * @see IslandEngine
+ * @see IslandWorker
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class ProcessIslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionStreamable<G, C>, AutoCloseable
+{
+
+	/**
+	 * The socket type used for the communication with the workers.
+	 */
+	public enum Transport {
+
+		/**
+		 * TCP sockets, bound to the loopback address.
+		 */
+		TCP,
+
+		/**
+		 * Unix domain sockets, located in a private directory of the
+		 * temporary directory.
+		 */
+		UNIX
+
+	}
+
+	/**
+	 * Launches the worker of an island. The worker must send the given
+	 * {@code token} after connecting to the given {@code address}.
+	 */
+	@FunctionalInterface
+	interface Launcher {
+		Worker launch(
+			final SocketAddress address,
+			final int island,
+			final String token
+		)
+			throws IOException;
+	}
+
+	/**
+	 * A running island worker.
+	 */
+	interface Worker {
+		boolean isAlive();
+		void destroy();
+
+		static Worker of(final Process process) {
+			return new Worker() {
+				@Override
+				public boolean isAlive() {
+					return process.isAlive();
+				}
+				@Override
+				public void destroy() {
+					process.destroy();
+					try {
+						if (!process.waitFor(1, TimeUnit.SECONDS)) {
+							process.destroyForcibly();
+						}
+					} catch (InterruptedException e) {
+						process.destroyForcibly();
+						Thread.currentThread().interrupt();
+					}
+				}
+			};
+		}
+	}
+
+	private static final SecureRandom TOKENS = new SecureRandom();
+	private static final int TOKEN_LENGTH = 32;
+
+	private final int _islands;
+	private final IslandEngine.Topology _topology;
+	private final int _migrationInterval;
+	private final int _migrants;
+	private final Selector<G, C> _migrantSelector;
+	private final Executor _executor;
+	private final Transport _transport;
+	private final int _maxRestarts;
+	private final long _recycleInterval;
+	private final Duration _startupTimeout;
+	private final Launcher _launcher;
+
+	private final Set<Island> _running = ConcurrentHashMap.newKeySet();
+	private volatile boolean _closed = false;
+
+	private ProcessIslandEngine(final Builder<G, C> builder) {
+		_islands = builder._islands;
+		_topology = builder._topology;
+		_migrationInterval = builder._migrationInterval;
+		_migrants = builder._migrants;
+		_migrantSelector = builder._migrantSelector;
+		_executor = builder._executor;
+		_transport = builder._transport;
+		_maxRestarts = builder._maxRestarts;
+		_recycleInterval = builder._recycleInterval;
+		_startupTimeout = builder._startupTimeout;
+		_launcher = builder._launcher != null
+			? builder._launcher
+			: processLauncher(builder._command, builder._factory.getName());
+	}
+
+	/**
+	 * Return the number of islands.
+	 *
+	 * @return the number of islands
+	 */
+	public int islands() {
+		return _islands;
+	}
+
+	/**
+	 * Return the migration topology.
+	 *
+	 * @return the migration topology
+	 */
+	public IslandEngine.Topology topology() {
+		return _topology;
+	}
+
+	/**
+	 * Return the number of generations between two migrations.
+	 *
+	 * @return the number of generations between two migrations
+	 */
+	public int migrationInterval() {
+		return _migrationInterval;
+	}
+
+	/**
+	 * Return the number of individuals an island sends to each of its
+	 * target islands.
+	 *
+	 * @return the number of migrants per island
+	 */
+	public int migrants() {
+		return _migrants;
+	}
+
+	/**
+	 * Return the selector used for selecting the migrants.
+	 *
+	 * @return the selector used for selecting the migrants
+	 */
+	public Selector<G, C> migrantSelector() {
+		return _migrantSelector;
+	}
+
+	/**
+	 * Return the socket type used for the worker communication.
+	 *
+	 * @return the socket type used for the worker communication
+	 */
+	public Transport transport() {
+		return _transport;
+	}
+
+	/**
+	 * Return the maximal number of unplanned restarts of an island worker.
+	 *
+	 * @return the maximal number of unplanned restarts of an island worker
+	 */
+	public int maxRestarts() {
+		return _maxRestarts;
+	}
+
+	/**
+	 * Return the number of generations, after which an island worker is
+	 * replaced by a new worker process.
+	 *
+	 * @return the number of generations of a worker process
+	 */
+	public long recycleInterval() {
+		return _recycleInterval;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+
+		final var evolution = new ProcessEvolution();
+		final EvolutionStream<G, C> stream =
+			EvolutionStream.ofEvolution(start, evolution);
+		stream.onClose(evolution::close);
+		return stream;
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		requireNonNull(init);
+		return stream(() -> EvolutionStart.of(
+			init.population().map(gt -> Phenotype.of(gt, init.generation())),
+			init.generation()
+		));
+	}
+
+	/**
+	 * Terminates the worker processes of all evolution streams, created by
+	 * this engine. Running and newly created streams will fail.
+	 */
+	@Override
+	public void close() {
+		_closed = true;
+		_running.forEach(Island::terminate);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"ProcessIslandEngine[islands=%d, migrationInterval=%d, " +
+				"migrants=%d, transport=%s]",
+			_islands, _migrationInterval, _migrants, _transport
+		);
+	}
+
+	/**
+	 * The stateful evolution function of one evolution stream. Closing it
+	 * terminates the worker processes of the stream.
+	 */
+	private final class ProcessEvolution implements Evolution<G, C> {
+		private volatile List<Island> _workers;
+		private volatile boolean _cancelled = false;
+		private List<List<Phenotype<G, C>>> _immigrants;
+		private long _steps = 0;
+
+		@Override
+		public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+			if (_closed) {
+				throw new IllegalStateException("Engine has been closed.");
+			}
+			if (_cancelled) {
+				throw new IllegalStateException("Evolution stream has been closed.");
+			}
+			final long begin = System.nanoTime();
+
+			final List<CompletableFuture<EvolutionResult<G, C>>> futures;
+			if (_workers == null) {
+				_workers = IntStream.range(0, _islands)
+					.mapToObj(Island::new)
+					.toList();
+
+				final List<EvolutionStart<G, C>> starts =
+					IslandEngine.split(start, _islands);
+				futures = IntStream.range(0, _islands)
+					.mapToObj(i -> CompletableFuture.supplyAsync(
+						() -> _workers.get(i).evolve(starts.get(i)),
+						_executor
+					))
+					.toList();
+			} else {
+				futures = IntStream.range(0, _islands)
+					.mapToObj(i -> CompletableFuture.supplyAsync(
+						() -> _workers.get(i).evolve(_immigrants.get(i)),
+						_executor
+					))
+					.toList();
+			}
+
+			final List<EvolutionResult<G, C>> results = await(futures);
+
+			++_steps;
+			_immigrants = _steps%_migrationInterval == 0
+				? IslandEngine.immigrants(
+					results, _topology, _migrantSelector, _migrants)
+				: results.stream()
+					.map(r -> List.<Phenotype<G, C>>of())
+					.toList();
+
+			return IslandEngine.merge(
+				results,
+				Duration.ofNanos(System.nanoTime() - begin)
+			);
+		}
+
+		/*
+		 * Waits interruptibly for the island results. If waiting is
+		 * interrupted or one island fails, the whole stream is cancelled.
+		 */
+		private List<EvolutionResult<G, C>>
+		await(final List<CompletableFuture<EvolutionResult<G, C>>> futures) {
+			final var results = new ArrayList<EvolutionResult<G, C>>(futures.size());
+			try {
+				for (var future : futures) {
+					results.add(future.get());
+				}
+				return results;
+			} catch (InterruptedException e) {
+				close();
+				Thread.currentThread().interrupt();
+				final var ce = new CancellationException(
+					"Waiting for the island workers has been interrupted."
+				);
+				ce.initCause(e);
+				throw ce;
+			} catch (ExecutionException e) {
+				close();
+				if (e.getCause() instanceof RuntimeException re) {
+					throw re;
+				} else if (e.getCause() instanceof Error error) {
+					throw error;
+				} else {
+					throw new CompletionException(e.getCause());
+				}
+			}
+		}
+
+		void close() {
+			_cancelled = true;
+			final List<Island> workers = _workers;
+			if (workers != null) {
+				workers.forEach(Island::cancel);
+			}
+		}
+	}
+
+	/**
+	 * The coordinator side of an island. It owns the worker process and
+	 * keeps the last island result, which is needed for restarting the
+	 * worker.
+	 */
+	private final class Island {
+		private final int _index;
+
+		private volatile Worker _worker;
+		private volatile IslandChannel _channel;
+		private volatile boolean _cancelled = false;
+
+		private EvolutionResult<G, C> _result;
+		private long _generations = 0;
+		private int _restarts = 0;
+
+		Island(final int index) {
+			_index = index;
+		}
+
+		EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+			return evolve(start, List.of());
+		}
+
+		EvolutionResult<G, C> evolve(final List<Phenotype<G, C>> immigrants) {
+			return evolve(null, immigrants);
+		}
+
+		private EvolutionResult<G, C> evolve(
+			final EvolutionStart<G, C> start,
+			final List<Phenotype<G, C>> immigrants
+		) {
+			for (;;) {
+				try {
+					if (_channel != null && _generations >= _recycleInterval) {
+						recycle();
+					}
+
+					final IslandChannel channel = _channel;
+					final EvolutionResult<G, C> result;
+					if (channel == null) {
+						result = launch().evolve(
+							_result == null
+								? start
+								: IslandEngine.settle(_result, immigrants)
+						);
+					} else if (immigrants.isEmpty()) {
+						result = channel.next();
+					} else {
+						result = channel.migrate(
+							immigrants,
+							_result.next().generation()
+						);
+					}
+
+					_result = result;
+					++_generations;
+					return result;
+				} catch (InterruptedIOException | ClosedByInterruptException e) {
+					terminate();
+					final var ce = new CancellationException(format(
+						"Worker request of island %d has been interrupted.",
+						_index
+					));
+					ce.initCause(e);
+					throw ce;
+				} catch (IOException e) {
+					terminate();
+					if (_closed) {
+						throw new IllegalStateException("Engine has been closed.", e);
+					}
+					if (_cancelled) {
+						final var ce = new CancellationException(format(
+							"Island %d has been cancelled.", _index
+						));
+						ce.initCause(e);
+						throw ce;
+					}
+					if (++_restarts > _maxRestarts) {
+						throw new UncheckedIOException(format(
+							"Worker of island %d failed %d times.",
+							_index, _restarts
+						), e);
+					}
+				}
+			}
+		}
+
+		private IslandChannel launch() throws IOException {
+			if (_closed) {
+				throw new IllegalStateException("Engine has been closed.");
+			}
+			checkRunning();
+
+			final byte[] token = new byte[TOKEN_LENGTH];
+			TOKENS.nextBytes(token);
+
+			_running.add(this);
+			try (var server = server()) {
+				_worker = _launcher.launch(
+					server.address,
+					_index,
+					HexFormat.of().formatHex(token)
+				);
+				_channel = new IslandChannel(accept(server.channel, token));
+			}
+			checkRunning();
+			_generations = 0;
+			return _channel;
+		}
+
+		// Accepts the first connection, which sends the given token.
+		private SocketChannel accept(
+			final ServerSocketChannel server,
+			final byte[] token
+		)
+			throws IOException
+		{
+			server.configureBlocking(false);
+			final long deadline = System.nanoTime() + _startupTimeout.toNanos();
+
+			for (;;) {
+				final SocketChannel channel = server.accept();
+				if (channel == null) {
+					await(deadline);
+				} else if (authenticate(channel, token, deadline)) {
+					channel.configureBlocking(true);
+					return channel;
+				} else {
+					channel.close();
+				}
+			}
+		}
+
+		// Reads the token frame, the first message of the worker, without
+		// blocking longer than the startup deadline.
+		private boolean authenticate(
+			final SocketChannel channel,
+			final byte[] token,
+			final long deadline
+		)
+			throws IOException
+		{
+			try {
+				channel.configureBlocking(false);
+				final var frame = ByteBuffer.allocate(Integer.BYTES + token.length);
+				while (frame.hasRemaining()) {
+					final int read = channel.read(frame);
+					if (read < 0) {
+						return false;
+					}
+					if (read == 0) {
+						await(deadline);
+					}
+				}
+
+				frame.flip();
+				final int length = frame.getInt();
+				final byte[] received = new byte[token.length];
+				frame.get(received);
+
+				return length == token.length &&
+					MessageDigest.isEqual(received, token);
+			} catch (IOException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		// Stops a worker launch, which overlaps with terminating the island.
+		private void checkRunning() throws IOException {
+			if (_closed || _cancelled) {
+				throw new IOException(format(
+					"Island %d has been terminated.", _index
+				));
+			}
+		}
+
+		private void await(final long deadline) throws IOException {
+			checkRunning();
+			final Worker worker = _worker;
+			if (worker == null || !worker.isAlive()) {
+				throw new IOException(format(
+					"Worker of island %d terminated on startup.", _index
+				));
+			}
+			if (System.nanoTime() > deadline) {
+				throw new IOException(format(
+					"Worker of island %d didn't connect within %s.",
+					_index, _startupTimeout
+				));
+			}
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+		}
+
+		private void recycle() throws IOException {
+			final IslandChannel channel = _channel;
+			if (channel != null) {
+				channel.exit();
+			}
+			terminate();
+		}
+
+		void cancel() {
+			_cancelled = true;
+			terminate();
+		}
+
+		void terminate() {
+			final IslandChannel channel = _channel;
+			final Worker worker = _worker;
+			_channel = null;
+			_worker = null;
+
+			if (channel != null) {
+				try {
+					channel.close();
+				} catch (IOException ignore) {
+					// The worker process is destroyed anyway.
+				}
+			}
+			if (worker != null) {
+				worker.destroy();
+			}
+			_running.remove(this);
+		}
+	}
+
+	/*
+	 * Server socket, which accepts the connection of one worker. The socket
+	 * file of a Unix domain socket is deleted, together with its private
+	 * directory, when the server is closed.
+	 */
+	private record Server(ServerSocketChannel channel, SocketAddress address, Path path)
+		implements AutoCloseable
+	{
+		@Override
+		public void close() throws IOException {
+			try {
+				channel.close();
+			} finally {
+				if (path != null) {
+					try {
+						Files.deleteIfExists(path);
+					} finally {
+						Files.deleteIfExists(path.getParent());
+					}
+				}
+			}
+		}
+	}
+
+	private Server server() throws IOException {
+		return switch (_transport) {
+			case TCP -> {
+				final var channel = ServerSocketChannel.open(StandardProtocolFamily.INET)
+					.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1);
+				yield new Server(channel, channel.getLocalAddress(), null);
+			}
+			case UNIX -> {
+				final Path directory = privateDirectory();
+				final Path path = directory.resolve("island.sock");
+				final ServerSocketChannel channel;
+				try {
+					channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+						.bind(UnixDomainSocketAddress.of(path), 1);
+				} catch (IOException e) {
+					Files.deleteIfExists(directory);
+					throw e;
+				}
+				yield new Server(channel, channel.getLocalAddress(), path);
+			}
+		};
+	}
+
+	/*
+	 * Creates a new temporary directory, which is only accessible by the
+	 * current user, if the file system supports POSIX permissions.
+	 */
+	private static Path privateDirectory() throws IOException {
+		return FileSystems.getDefault()
+				.supportedFileAttributeViews()
+				.contains("posix")
+			? Files.createTempDirectory(
+				"jenetics-",
+				PosixFilePermissions.asFileAttribute(
+					PosixFilePermissions.fromString("rwx------")
+				)
+			)
+			: Files.createTempDirectory("jenetics-");
+	}
+
+	private static Launcher processLauncher(
+		final List<String> command,
+		final String factory
+	) {
+		return (address, island, token) -> {
+			final List<String> arguments = new ArrayList<>(command);
+			arguments.add(IslandWorker.class.getName());
+			arguments.add(IslandWorker.argument(address));
+			arguments.add(factory);
+			arguments.add(Integer.toString(island));
+
+			// The token is not passed as argument, which would make it
+			// visible to other users in the process list.
+			final var builder = new ProcessBuilder(arguments).inheritIO();
+			builder.environment().put(IslandWorker.TOKEN, token);
+			return Worker.of(builder.start());
+		};
+	}
+
+	/**
+	 * Return the default command for starting the worker JVMs. It consists
+	 * of the {@code java} executable of the running JVM and the current
+	 * class path.
+	 *
+	 * @return the default worker JVM command
+	 */
+	public static List<String> defaultCommand() {
+		final String java = Path.of(
+			System.getProperty("java.home"), "bin", "java"
+		).toString();
+
+		return List.of(
+			java,
+			"-cp",
+			System.getProperty("java.class.path", "")
+		);
+	}
+
+
+	/* *************************************************************************
+	 * Builder
+	 * ************************************************************************/
+
+	/**
+	 * Create a new builder for a process island engine.
+	 *
+	 * @param factory the class of the island engine factory. The factory
+	 *        class must be public and must have a public no-arg constructor.
+	 * @param islands the number of islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new builder
+	 * @throws NullPointerException if the {@code factory} is {@code null}
+	 * @throws IllegalArgumentException if {@code islands < 1}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(
+		final Class<? extends IntFunction<? extends Engine<G, C>>> factory,
+		final int islands
+	) {
+		return new Builder<>(factory, islands);
+	}
+
+	/**
+	 * Builder class for building a new {@link ProcessIslandEngine}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 8.2
+	 * @since 8.2
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final Class<?> _factory;
+		private final int _islands;
+
+		private IslandEngine.Topology _topology = IslandEngine.Topology.ring();
+		private int _migrationInterval = 10;
+		private int _migrants = 1;
+		private Selector<G, C> _migrantSelector = new TournamentSelector<>();
+		private Executor _executor = task ->
+			Thread.ofVirtual().name("jenetics-island").start(task);
+		private Transport _transport = Transport.TCP;
+		private List<String> _command = defaultCommand();
+		private int _maxRestarts = 3;
+		private long _recycleInterval = Long.MAX_VALUE;
+		private Duration _startupTimeout = Duration.ofMinutes(1);
+		private Launcher _launcher;
+
+		private Builder(final Class<?> factory, final int islands) {
+			if (islands < 1) {
+				throw new IllegalArgumentException(
+					"Number of islands must be positive: " + islands
+				);
+			}
+			_factory = requireNonNull(factory);
+			_islands = islands;
+		}
+
+		/**
+		 * Set the migration topology. <i>Default value is set to
+		 * {@code Topology.ring()}.</i>
+		 *
+		 * @param topology the migration topology
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code topology} is {@code null}
+		 */
+		public Builder<G, C> topology(final IslandEngine.Topology topology) {
+			_topology = requireNonNull(topology);
+			return this;
+		}
+
+		/**
+		 * Set the number of generations between two migrations. <i>Default
+		 * value is set to 10.</i>
+		 *
+		 * @param generations the number of generations between two migrations
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code generations < 1}
+		 */
+		public Builder<G, C> migrationInterval(final int generations) {
+			if (generations < 1) {
+				throw new IllegalArgumentException(
+					"Migration interval must be positive: " + generations
+				);
+			}
+			_migrationInterval = generations;
+			return this;
+		}
+
+		/**
+		 * Set the number of individuals an island sends to each of its target
+		 * islands. <i>Default value is set to 1.</i>
+		 *
+		 * @param count the number of migrants
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code count < 0}
+		 */
+		public Builder<G, C> migrants(final int count) {
+			if (count < 0) {
+				throw new IllegalArgumentException(
+					"Number of migrants must not be negative: " + count
+				);
+			}
+			_migrants = count;
+			return this;
+		}
+
+		/**
+		 * Set the selector used for selecting the migrants. <i>Default value
+		 * is set to {@code TournamentSelector<>()}.</i>
+		 *
+		 * @param selector the migrant selector
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code selector} is {@code null}
+		 */
+		public Builder<G, C> migrantSelector(final Selector<G, C> selector) {
+			_migrantSelector = requireNonNull(selector);
+			return this;
+		}
+
+		/**
+		 * Set the executor, which executes the blocking worker requests.
+		 * <i>Default value is an executor, which starts a new virtual thread
+		 * for every request.</i>
+		 *
+		 * @param executor the request executor
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code executor} is {@code null}
+		 */
+		public Builder<G, C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * Set the socket type used for the worker communication. <i>Default
+		 * value is set to {@link Transport#TCP}.</i>
+		 *
+		 * @param transport the socket type
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code transport} is {@code null}
+		 */
+		public Builder<G, C> transport(final Transport transport) {
+			_transport = requireNonNull(transport);
+			return this;
+		}
+
+		/**
+		 * Set the command, which starts the worker JVM. The worker main class
+		 * and its arguments are appended to the given command. <i>Default
+		 * value is set to {@link #defaultCommand()}.</i>
+		 *
+		 * @param command the worker JVM command, e.g.
+		 *        {@code [java, -Xmx2g, -cp, <class-path>]}
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code command} is {@code null}
+		 * @throws IllegalArgumentException if the {@code command} is empty
+		 */
+		public Builder<G, C> command(final List<String> command) {
+			if (command.isEmpty()) {
+				throw new IllegalArgumentException("Empty worker command.");
+			}
+			_command = List.copyOf(command);
+			return this;
+		}
+
+		/**
+		 * Set the maximal number of unplanned restarts of an island worker.
+		 * If a worker fails more often, the evolution stream fails.
+		 * <i>Default value is set to 3.</i>
+		 *
+		 * @param restarts the maximal number of worker restarts
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code restarts < 0}
+		 */
+		public Builder<G, C> maxRestarts(final int restarts) {
+			if (restarts < 0) {
+				throw new IllegalArgumentException(
+					"Number of restarts must not be negative: " + restarts
+				);
+			}
+			_maxRestarts = restarts;
+			return this;
+		}
+
+		/**
+		 * Set the number of generations, after which an island worker is
+		 * replaced by a new worker process. This releases resources leaked
+		 * by the fitness function. <i>By default, the workers are not
+		 * recycled.</i>
+		 *
+		 * @param generations the number of generations of a worker process
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code generations < 1}
+		 */
+		public Builder<G, C> recycleInterval(final long generations) {
+			if (generations < 1) {
+				throw new IllegalArgumentException(
+					"Recycle interval must be positive: " + generations
+				);
+			}
+			_recycleInterval = generations;
+			return this;
+		}
+
+		/**
+		 * Set the maximal time a started worker may need for connecting to
+		 * the coordinator. <i>Default value is set to one minute.</i>
+		 *
+		 * @param timeout the worker startup timeout
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code timeout} is {@code null}
+		 * @throws IllegalArgumentException if the {@code timeout} is not
+		 *         positive
+		 */
+		public Builder<G, C> startupTimeout(final Duration timeout) {
+			if (timeout.isNegative() || timeout.isZero()) {
+				throw new IllegalArgumentException(
+					"Startup timeout must be positive: " + timeout
+				);
+			}
+			_startupTimeout = timeout;
+			return this;
+		}
+
+		/*
+		 * Replaces the process launcher. Used for testing.
+		 */
+		Builder<G, C> launcher(final Launcher launcher) {
+			_launcher = requireNonNull(launcher);
+			return this;
+		}
+
+		/**
+		 * Builds a new process island engine from the set parameters.
+		 *
+		 * @return a new process island engine
+		 */
+		public ProcessIslandEngine<G, C> build() {
+			return new ProcessIslandEngine<>(this);
+		}
+	}
+
+}
@@ -563,6 +563,7 @@ public final class Cfg<T> {
 	private final List<Terminal<T>> terminals;
 	private final List<Rule<T>> rules;
 	private final NonTerminal<T> start;
+	private final CfgTables<T> tables;
 
 	/**
 	 * Create a new <em>context-free</em> grammar object.
@@ -658,6 +659,7 @@ public final class Cfg<T> {
 		this.terminals = List.copyOf(terminals);
 		this.rules = List.copyOf(rules);
 		this.start = requireNonNull(start);
+		this.tables = CfgTables.of(this.nonTerminals, this.rules, this.start);
 	}
 
 	/**
@@ -707,13 +709,17 @@ public final class Cfg<T> {
 	 *         {@code null}
 	 */
 	public Optional<Rule<T>> rule(final NonTerminal<?> start) {
-		requireNonNull(start);
-		for (var rule : rules) {
-			if (rule.start().name().equals(start.name())) {
-				return Optional.of(rule);
-			}
-		}
-		return Optional.empty();
+		final int id = tables.id(start);
+		return id >= 0 ? Optional.ofNullable(tables.rule(id)) : Optional.empty();
+	}
+
+	/**
+	 * Return the precompiled integer tables of {@code this} grammar.
+	 *
+	 * @return the grammar tables
+	 */
+	CfgTables<T> tables() {
+		return tables;
 	}
 
 	/**
@@ -0,0 +1,263 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.grammar;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jenetics.ext.grammar.Cfg.Expression;
+import io.jenetics.ext.grammar.Cfg.NonTerminal;
+import io.jenetics.ext.grammar.Cfg.Rule;
+import io.jenetics.ext.grammar.Cfg.Symbol;
+import io.jenetics.ext.grammar.Cfg.Terminal;
+
+/**
+ * Dense integer representation of a {@link Cfg}, used by the generators. The
+ * non-terminal symbols are identified by their index in
+ * {@link Cfg#nonTerminals()}, and the symbols of all rule alternatives are
+ * stored in one flat array. A symbol <em>position</em> is an index into
+ * this array and an <em>expression</em> is a global alternative index.
+ *
+ * <pre>{@code
+ * alternatives: nt-id      -> [first expression, last expression + 1)
+ * expressions:  expression -> [first position, last position + 1)
+ * codes:        position   -> nt-id, or TERMINAL
+ * }</pre>
+ *
+ * The tables are created once per grammar and are immutable.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class CfgTables<T> {
+
+	/**
+	 * Symbol code of terminal symbols.
+	 */
+	static final int TERMINAL = -1;
+
+	private final Map<String, Integer> _ids;
+	private final int _start;
+	private final Rule<T>[] _rules;
+	private final int[] _alternatives;
+	private final int[] _expressions;
+	private final List<Symbol<T>>[] _expressionSymbols;
+	private final int[] _codes;
+	private final Symbol<T>[] _symbols;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private CfgTables(
+		final List<NonTerminal<T>> nonTerminals,
+		final List<Rule<T>> rules,
+		final NonTerminal<T> start
+	) {
+		_ids = new HashMap<>();
+		for (var nt : nonTerminals) {
+			_ids.putIfAbsent(nt.name(), _ids.size());
+		}
+		for (var rule : rules) {
+			_ids.putIfAbsent(rule.start().name(), _ids.size());
+		}
+		_start = _ids.get(start.name());
+
+		final int size = _ids.size();
+		_rules = new Rule[size];
+		for (var rule : rules) {
+			_rules[_ids.get(rule.start().name())] = rule;
+		}
+
+		int expressions = 0;
+		int positions = 0;
+		for (var rule : rules) {
+			expressions += rule.alternatives().size();
+			for (var expr : rule.alternatives()) {
+				positions += expr.symbols().size();
+			}
+		}
+
+		_alternatives = new int[size + 1];
+		_expressions = new int[expressions + 1];
+		_expressionSymbols = new List[expressions];
+		_codes = new int[positions];
+		_symbols = new Symbol[positions];
+
+		int e = 0;
+		int p = 0;
+		for (int id = 0; id < size; ++id) {
+			_alternatives[id] = e;
+			if (_rules[id] != null) {
+				for (Expression<T> expr : _rules[id].alternatives()) {
+					_expressions[e] = p;
+					_expressionSymbols[e] = expr.symbols();
+					for (var symbol : expr.symbols()) {
+						_codes[p] = switch (symbol) {
+							case NonTerminal<T> nt -> _ids.get(nt.name());
+							case Terminal<T> t -> TERMINAL;
+						};
+						_symbols[p] = symbol;
+						++p;
+					}
+					++e;
+				}
+			}
+		}
+		_alternatives[size] = e;
+		_expressions[e] = p;
+	}
+
+	/**
+	 * Return the number of non-terminal ids.
+	 *
+	 * @return the number of non-terminal ids
+	 */
+	int size() {
+		return _rules.length;
+	}
+
+	/**
+	 * Return the id of the start symbol.
+	 *
+	 * @return the id of the start symbol
+	 */
+	int start() {
+		return _start;
+	}
+
+	/**
+	 * Return the id of the given non-terminal symbol, or -1 if the symbol is
+	 * not part of the grammar.
+	 *
+	 * @param symbol the non-terminal symbol
+	 * @return the non-terminal id
+	 */
+	int id(final NonTerminal<?> symbol) {
+		final Integer id = _ids.get(symbol.name());
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * Return the rule of the given non-terminal id, or {@code null} if no
+	 * rule is defined for the non-terminal.
+	 *
+	 * @param id the non-terminal id
+	 * @return the rule of the non-terminal
+	 */
+	Rule<T> rule(final int id) {
+		return _rules[id];
+	}
+
+	/**
+	 * Return the number of alternatives of the given non-terminal id.
+	 *
+	 * @param id the non-terminal id
+	 * @return the number of alternatives, zero if there is no rule for the
+	 *         given non-terminal
+	 */
+	int alternatives(final int id) {
+		return _alternatives[id + 1] - _alternatives[id];
+	}
+
+	/**
+	 * Selects one of the alternatives of the given non-terminal id. The
+	 * symbol {@code index} is only called if the non-terminal has a rule.
+	 *
+	 * @param id the non-terminal id
+	 * @param index the symbol selection strategy
+	 * @return the selected expression, or -1 if there is no rule for the
+	 *         given non-terminal
+	 */
+	int select(final int id, final SymbolIndex index) {
+		final Rule<T> rule = _rules[id];
+		return rule != null
+			? _alternatives[id] + index.next(rule, alternatives(id))
+			: -1;
+	}
+
+	/**
+	 * Return the first symbol position of the given expression.
+	 *
+	 * @param expression the expression
+	 * @return the first symbol position, inclusively
+	 */
+	int begin(final int expression) {
+		return _expressions[expression];
+	}
+
+	/**
+	 * Return the last symbol position of the given expression.
+	 *
+	 * @param expression the expression
+	 * @return the last symbol position, exclusively
+	 */
+	int end(final int expression) {
+		return _expressions[expression + 1];
+	}
+
+	/**
+	 * Return the symbols of the given expression.
+	 *
+	 * @param expression the expression
+	 * @return the symbols of the given expression
+	 */
+	List<Symbol<T>> symbols(final int expression) {
+		return _expressionSymbols[expression];
+	}
+
+	/**
+	 * Return the non-terminal id of the symbol at the given position, or
+	 * {@link #TERMINAL} if it is a terminal symbol.
+	 *
+	 * @param position the symbol position
+	 * @return the code of the symbol at the given position
+	 */
+	int code(final int position) {
+		return _codes[position];
+	}
+
+	/**
+	 * Return the symbol at the given position.
+	 *
+	 * @param position the symbol position
+	 * @return the symbol at the given position
+	 */
+	Symbol<T> symbol(final int position) {
+		return _symbols[position];
+	}
+
+	/**
+	 * Compiles the given grammar elements into its table representation.
+	 *
+	 * @param nonTerminals the non-terminal symbols of the grammar
+	 * @param rules the rules of the grammar
+	 * @param start the start symbol of the grammar
+	 * @param <T> the terminal type
+	 * @return the compiled grammar tables
+	 */
+	static <T> CfgTables<T> of(
+		final List<NonTerminal<T>> nonTerminals,
+		final List<Rule<T>> rules,
+		final NonTerminal<T> start
+	) {
+		return new CfgTables<>(nonTerminals, rules, start);
+	}
+
+}
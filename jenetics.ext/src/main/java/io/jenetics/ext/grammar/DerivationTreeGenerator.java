@@ -21,10 +21,10 @@ package io.jenetics.ext.grammar;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Optional;
+import java.util.ArrayList;
 
-import io.jenetics.ext.grammar.Cfg.NonTerminal;
 import io.jenetics.ext.grammar.Cfg.Symbol;
+import io.jenetics.ext.internal.util.IntList;
 import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
 
@@ -54,7 +54,7 @@ import io.jenetics.ext.util.TreeNode;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 7.1
- * @version 7.1
+ * @version 8.2
  */
 public final class DerivationTreeGenerator<T>
 	implements Generator<T, Tree<Symbol<T>, ?>>
@@ -93,36 +93,38 @@ public final class DerivationTreeGenerator<T>
 	@Override
 	public Tree<Symbol<T>, ?> generate(final Cfg<? extends T> cfg) {
 		final Cfg<T> grammar = Cfg.upcast(cfg);
-		final NonTerminal<T> start = grammar.start();
-		final TreeNode<Symbol<T>> symbols = TreeNode.of(start);
+		final CfgTables<T> tables = grammar.tables();
+		final TreeNode<Symbol<T>> symbols = TreeNode.of(grammar.start());
+
+		// The expandable leaves are expanded in breadth-first order, which
+		// is the order they are appended to the node queue.
+		final var nodes = new ArrayList<TreeNode<Symbol<T>>>();
+		final var ids = new IntList();
+		nodes.add(symbols);
+		ids.add(tables.start());
 
 		int count = 1;
-		boolean expanded = true;
-		while (expanded) {
-			final Optional<TreeNode<Symbol<T>>> tree = symbols.leaves()
-				.filter(leave ->
-					leave.value() instanceof NonTerminal<T> nt &&
-					cfg.rule(nt).isPresent()
-				)
-				.findFirst();
+		for (int i = 0; i < nodes.size(); ++i) {
+			final TreeNode<Symbol<T>> node = nodes.get(i);
+			final int expression = tables.select(ids.get(i), _index);
+			final int begin = tables.begin(expression);
+			final int end = tables.end(expression);
 
-			if (tree.isPresent()) {
-				final var t = tree.orElseThrow();
-				final var selection = Generator.select(
-					(NonTerminal<T>)t.value(),
-					grammar,
-					_index
-				);
-				count += selection.size();
+			count += end - begin;
+			if (count > _limit) {
+				return TreeNode.of();
+			}
 
-				if (count > _limit) {
-					return TreeNode.of();
-				}
+			for (int p = begin; p < end; ++p) {
+				final TreeNode<Symbol<T>> child = TreeNode.of(tables.symbol(p));
+				node.attach(child);
 
-				selection.forEach(t::attach);
+				final int id = tables.code(p);
+				if (id != CfgTables.TERMINAL && tables.alternatives(id) > 0) {
+					nodes.add(child);
+					ids.add(id);
+				}
 			}
-
-			expanded = tree.isPresent();
 		}
 
 		return symbols;
@@ -36,7 +36,7 @@ import io.jenetics.ext.grammar.Cfg.Symbol;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 7.1
- * @version 7.1
+ * @version 8.2
  */
 @FunctionalInterface
 public interface Generator<T, R> {
@@ -79,11 +79,10 @@ public interface Generator<T, R> {
 		final Cfg<T> cfg,
 		final SymbolIndex index
 	) {
-		return cfg.rule(rule)
-			.map(r -> r.alternatives()
-				.get(index.next(r, r.alternatives().size()))
-				.symbols())
-			.orElse(List.of());
+		final CfgTables<T> tables = cfg.tables();
+		final int id = tables.id(rule);
+		final int expression = id >= 0 ? tables.select(id, index) : -1;
+		return expression >= 0 ? tables.symbols(expression) : List.of();
 	}
 
 }
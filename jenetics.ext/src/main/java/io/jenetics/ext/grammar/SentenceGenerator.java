@@ -19,17 +19,21 @@
  */
 package io.jenetics.ext.grammar;
 
+import static java.lang.Math.max;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 import static io.jenetics.ext.grammar.SentenceGenerator.Expansion.LEFT_MOST;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
 
 import io.jenetics.ext.grammar.Cfg.NonTerminal;
 import io.jenetics.ext.grammar.Cfg.Symbol;
 import io.jenetics.ext.grammar.Cfg.Terminal;
+import io.jenetics.ext.internal.util.IntList;
 
 /**
  * Standard implementation of a sentence generator. The generator can generate
@@ -78,7 +82,7 @@ import io.jenetics.ext.grammar.Cfg.Terminal;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 7.1
- * @version 7.1
+ * @version 8.2
  */
 public final class SentenceGenerator<T>
 	implements Generator<T, List<Terminal<T>>>
@@ -151,16 +155,162 @@ public final class SentenceGenerator<T>
 	 */
 	@Override
 	public List<Terminal<T>> generate(final Cfg<? extends T> cfg) {
-		final var sentence = new ArrayList<Symbol<T>>();
-		generate(Cfg.upcast(cfg), sentence);
-
-		// The 'generate' step guarantees that the list only
-		// contains terminal symbols. So this cast is safe.
-		@SuppressWarnings("unchecked")
-		final var result = (List<Terminal<T>>)(Object)sentence;
-		return List.copyOf(result);
+		final Cfg<T> grammar = Cfg.upcast(cfg);
+		return switch (_expansion) {
+			case LEFT_MOST -> leftMost(grammar);
+			case LEFT_TO_RIGHT -> leftToRight(grammar);
+		};
 	}
 
+	/*
+	 * The leftmost expansion is a depth-first traversal of the derivation
+	 * tree. The symbol positions of the unexpanded symbols are kept on an
+	 * explicit stack, with the leftmost symbol on top, and terminal symbols
+	 * are appended directly to the sentence. Every symbol is touched exactly
+	 * once.
+	 */
+	private List<Terminal<T>> leftMost(final Cfg<T> cfg) {
+		final CfgTables<T> tables = cfg.tables();
+		final var sentence = new ArrayList<Terminal<T>>();
+
+		int[] stack = new int[16];
+		int size = 0;
+		int id = tables.start();
+
+		while (true) {
+			if (id != CfgTables.TERMINAL) {
+				final int expression = tables.select(id, _index);
+				if (expression >= 0) {
+					final int begin = tables.begin(expression);
+					final int end = tables.end(expression);
+					if (size + end - begin > stack.length) {
+						stack = Arrays.copyOf(stack, max(2*stack.length, size + end - begin));
+					}
+					for (int p = end; --p >= begin;) {
+						stack[size++] = p;
+					}
+				}
+				if (sentence.size() + size > _limit) {
+					return List.of();
+				}
+			}
+			if (size == 0) {
+				break;
+			}
+
+			final int position = stack[--size];
+			id = tables.code(position);
+			if (id == CfgTables.TERMINAL) {
+				sentence.add((Terminal<T>)tables.symbol(position));
+			}
+		}
+
+		return Collections.unmodifiableList(sentence);
+	}
+
+	/*
+	 * The left-to-right expansion replaces all non-terminals of the current
+	 * sentence in one pass, which is a breadth-first traversal of the
+	 * derivation tree. The non-terminals are expanded level by level, in the
+	 * same order as the passes of the list based implementation, so the
+	 * symbol index is consumed identically. The selected expressions are
+	 * stored by non-terminal node, and the final sentence is assembled with
+	 * a depth-first traversal over these expressions.
+	 */
+	private List<Terminal<T>> leftToRight(final Cfg<T> cfg) {
+		final CfgTables<T> tables = cfg.tables();
+		final var nodes = new IntList();
+		final var expressions = new IntList();
+		final var children = new IntList();
+		nodes.add(tables.start());
+
+		int terminals = 0;
+		int level = 1;
+		for (int node = 0; node < nodes.size(); ++node) {
+			final int expression = tables.select(nodes.get(node), _index);
+			expressions.add(expression);
+			children.add(nodes.size());
+
+			if (expression >= 0) {
+				for (int p = tables.begin(expression); p < tables.end(expression); ++p) {
+					final int id = tables.code(p);
+					if (id == CfgTables.TERMINAL) {
+						++terminals;
+					} else {
+						nodes.add(id);
+					}
+				}
+			}
+
+			if (node + 1 == level) {
+				if (terminals + nodes.size() - level > _limit) {
+					return List.of();
+				}
+				level = nodes.size();
+			}
+		}
+
+		return Collections.unmodifiableList(
+			sentence(tables, expressions, children, terminals)
+		);
+	}
+
+	/*
+	 * Assembles the sentence from the expanded expressions. A stack frame
+	 * consists of the current symbol position, the end position of the
+	 * expression and the next non-terminal child node.
+	 */
+	private static <T> List<Terminal<T>> sentence(
+		final CfgTables<T> tables,
+		final IntList expressions,
+		final IntList children,
+		final int size
+	) {
+		final var sentence = new ArrayList<Terminal<T>>(size);
+		if (expressions.get(0) < 0) {
+			return sentence;
+		}
+
+		int[] stack = new int[3*16];
+		int top = 0;
+		stack[0] = tables.begin(expressions.get(0));
+		stack[1] = tables.end(expressions.get(0));
+		stack[2] = children.get(0);
+
+		while (top >= 0) {
+			final int base = 3*top;
+			final int position = stack[base];
+
+			if (position < stack[base + 1]) {
+				stack[base] = position + 1;
+				if (tables.code(position) == CfgTables.TERMINAL) {
+					sentence.add((Terminal<T>)tables.symbol(position));
+				} else {
+					final int node = stack[base + 2]++;
+					final int expression = expressions.get(node);
+					if (expression >= 0) {
+						if (base + 5 >= stack.length) {
+							stack = Arrays.copyOf(stack, stack.length*2);
+						}
+						stack[base + 3] = tables.begin(expression);
+						stack[base + 4] = tables.end(expression);
+						stack[base + 5] = children.get(node);
+						++top;
+					}
+				}
+			} else {
+				--top;
+			}
+		}
+
+		return sentence;
+	}
+
+	/*
+	 * Straight forward implementation of the sentence generation, which
+	 * replaces the non-terminal symbols in place. Replacing a symbol is
+	 * linear in the sentence length and is used as reference implementation.
+	 */
 	void generate(final Cfg<T> cfg, final List<Symbol<T>> symbols) {
 		symbols.add(cfg.start());
 
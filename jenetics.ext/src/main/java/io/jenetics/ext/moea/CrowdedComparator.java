@@ -23,6 +23,7 @@ import java.util.Comparator;
 import java.util.function.ToIntFunction;
 
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.internal.util.IntComparator;
 import io.jenetics.util.BaseSeq;
 
@@ -30,7 +31,7 @@ import io.jenetics.util.BaseSeq;
  * Crowded distance comparator.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.2
  * @since 4.1
  */
 final class CrowdedComparator<T> implements IntComparator {
@@ -46,12 +47,20 @@ final class CrowdedComparator<T> implements IntComparator {
 		final ElementDistance<? super T> distance,
 		final ToIntFunction<? super T> dimension
 	) {
-		_rank = Pareto.rank(
-			population,
-			opt == Optimize.MAXIMUM
-				? dominance
-				: dominance.reversed()
-		);
+		_rank = dominance != null
+			? Pareto.rank(
+				population,
+				opt == Optimize.MAXIMUM
+					? dominance
+					: dominance.reversed()
+			)
+			: Pareto.rank(
+				population,
+				opt == Optimize.MAXIMUM
+					? comparator
+					: comparator.reversed(),
+				dimension
+			);
 
 		_dist = Pareto.crowdingDistance(
 			population,
@@ -63,6 +72,58 @@ final class CrowdedComparator<T> implements IntComparator {
 		);
 	}
 
+	/**
+	 * Create a new crowded comparator from the given objective matrix, where
+	 * greater objective values are better.
+	 *
+	 * @see Objectives#of(BaseSeq, Optimize)
+	 *
+	 * @param objectives the row-major objective matrix
+	 * @param dimension the number of objectives
+	 */
+	CrowdedComparator(final double[] objectives, final int dimension) {
+		_rank = Pareto.rank(objectives, dimension);
+		_dist = Pareto.crowdingDistance(objectives, dimension);
+	}
+
+	/**
+	 * Create a new crowded comparator for the given {@code population}. If
+	 * {@code vectorized} is {@code true}, the fitness values are {@link Vec}
+	 * objects. The ranks and distances are then calculated on the objective
+	 * matrix of the population, if the fitness values allow it. If not, the
+	 * ranks are calculated with the Pareto dominance of the element
+	 * {@code comparator}, if all vectors use it, and with the given
+	 * {@code dominance} otherwise.
+	 */
+	static <T extends Phenotype<?, ?>> CrowdedComparator<T> of(
+		final BaseSeq<? extends T> population,
+		final Optimize opt,
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension,
+		final boolean vectorized
+	) {
+		if (vectorized && !population.isEmpty()) {
+			final double[] objectives = Objectives.of(population, opt);
+			if (objectives != null) {
+				return new CrowdedComparator<>(
+					objectives,
+					objectives.length/population.length()
+				);
+			}
+		}
+
+		return new CrowdedComparator<>(
+			population,
+			opt,
+			vectorized && Objectives.isPareto(population) ? null : dominance,
+			comparator,
+			distance,
+			dimension
+		);
+	}
+
 	@Override
 	public int compare(final int i, final int j) {
 		if (cco(i, j)) {
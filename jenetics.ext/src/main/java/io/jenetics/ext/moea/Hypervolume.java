@@ -0,0 +1,427 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.jenetics.Optimize;
+import io.jenetics.util.BaseSeq;
+
+/**
+ * Exact calculation of the <em>hypervolume indicator</em> of a set of
+ * multi-objective points. The hypervolume is the volume of the objective
+ * space which is dominated by the given points and bounded by a reference
+ * point. It is the only known unary quality indicator which is strictly
+ * monotone with respect to Pareto dominance, which makes it a good measure
+ * for the convergence of a multi-objective optimization.
+ * {@snippet lang="java":
+ * final ISeq<Vec<double[]>> front = ...;
+ * final double volume = Hypervolume.of(
+ *     front,
+ *     Vec.of(0.0, 0.0, 0.0),
+ *     Optimize.MAXIMUM
+ * );
+ * }
+ *
+ * The volume of two- and three-dimensional point sets is calculated with a
+ * sweep algorithm in <em>O(n log n)</em>. For more dimensions, the
+ * <em>WFG</em> algorithm is used, which reduces the dimension by slicing
+ * along the last objective and bounding the remaining points by the
+ * exclusive point.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      L. While, L. Bradstreet and L. Barone. 2012. A Fast Way of Calculating
+ *      Exact Hypervolumes. IEEE Transactions on Evolutionary Computation 16,
+ *      1 (Feb. 2012), 86-95. DOI=<a href="https://doi.org/10.1109/TEVC.2010.2077298">
+ *          10.1109/TEVC.2010.2077298</a></em>
+ *
+ * @see HypervolumeSelector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class Hypervolume {
+
+	private Hypervolume() {
+	}
+
+	/**
+	 * Calculates the hypervolume of the given {@code points}, bounded by the
+	 * given {@code reference} point. Points which don't dominate the
+	 * reference point don't contribute to the volume.
+	 *
+	 * @param points the points of the objective space
+	 * @param reference the reference point, which must be dominated by the
+	 *        points which contribute to the volume
+	 * @param optimize the optimization strategy of the objectives
+	 * @return the hypervolume of the given points
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimension of the points and
+	 *         the reference point differ
+	 */
+	public static double of(
+		final BaseSeq<? extends Vec<double[]>> points,
+		final Vec<double[]> reference,
+		final Optimize optimize
+	) {
+		final double[][] normalized = normalize(points, reference, optimize);
+		return volume(normalized, normalized.length, reference.length());
+	}
+
+	/**
+	 * Calculates the exclusive hypervolume contribution of every given
+	 * point. This is the volume which is lost if the point is removed from
+	 * the set. Dominated and duplicate points have a contribution of zero.
+	 *
+	 * @param points the points of the objective space
+	 * @param reference the reference point, which must be dominated by the
+	 *        points which contribute to the volume
+	 * @param optimize the optimization strategy of the objectives
+	 * @return the exclusive hypervolume contributions of the points
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimension of the points and
+	 *         the reference point differ
+	 */
+	public static double[] contributions(
+		final BaseSeq<? extends Vec<double[]>> points,
+		final Vec<double[]> reference,
+		final Optimize optimize
+	) {
+		return contributions(
+			normalize(points, reference, optimize),
+			reference.length()
+		);
+	}
+
+	/**
+	 * Transforms the given points, so that the reference point is the origin
+	 * and all objectives are maximized. Negative values are set to zero,
+	 * since they don't contribute to the volume.
+	 */
+	private static double[][] normalize(
+		final BaseSeq<? extends Vec<double[]>> points,
+		final Vec<double[]> reference,
+		final Optimize optimize
+	) {
+		requireNonNull(points);
+		requireNonNull(optimize);
+
+		final double[] ref = reference.data();
+		final double sign = optimize == Optimize.MAXIMUM ? 1.0 : -1.0;
+
+		final double[][] result = new double[points.length()][];
+		for (int i = 0; i < result.length; ++i) {
+			final double[] point = points.get(i).data();
+			if (point.length != ref.length) {
+				throw new IllegalArgumentException(format(
+					"Expected point dimension %d, but got %d.",
+					ref.length, point.length
+				));
+			}
+
+			result[i] = new double[point.length];
+			for (int m = 0; m < point.length; ++m) {
+				result[i][m] = Math.max(sign*(point[m] - ref[m]), 0.0);
+			}
+		}
+
+		return result;
+	}
+
+	/* *************************************************************************
+	 * Calculations on normalized points. The reference point is the origin and
+	 * all objectives are maximized.
+	 * ************************************************************************/
+
+	/**
+	 * Calculates the hypervolume of the first {@code n} normalized points,
+	 * using the first {@code d} objectives. The order of the points array is
+	 * changed by this method.
+	 */
+	static double volume(final double[][] points, final int n, final int d) {
+		final int count = positive(points, n, d);
+
+		return switch (d) {
+			case 1 -> {
+				double max = 0;
+				for (int i = 0; i < count; ++i) {
+					max = Math.max(max, points[i][0]);
+				}
+				yield max;
+			}
+			case 2 -> volume2(points, count);
+			case 3 -> volume3(points, count);
+			default -> wfg(points, count, d);
+		};
+	}
+
+	/**
+	 * Calculates the exclusive contributions of the given normalized points.
+	 */
+	static double[] contributions(final double[][] points, final int d) {
+		final int n = points.length;
+		final double[] result = new double[n];
+		final double[][] limited = new double[n][];
+
+		for (int i = 0; i < n; ++i) {
+			final double[] p = points[i];
+			final double inclusive = inclusive(p, d);
+			if (inclusive > 0 && !isWeaklyDominated(points, i, d)) {
+				int k = 0;
+				for (int j = 0; j < n; ++j) {
+					if (j != i) {
+						limited[k++] = limit(points[j], p, d);
+					}
+				}
+
+				result[i] = inclusive - volume(limited, nds(limited, k, d), d);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Calculates the volume which is dominated by the points {@code i} and
+	 * {@code j}, but by none of the other first {@code n} normalized points.
+	 * This is the amount the exclusive contribution of point {@code i} grows
+	 * by, if point {@code j} is removed. It is zero, unless the corner of
+	 * the shared box isn't covered by any other point, which is true only
+	 * for the neighbours of point {@code j}.
+	 */
+	static double shared(
+		final double[][] points,
+		final int n,
+		final int i,
+		final int j,
+		final int d
+	) {
+		final double[] corner = limit(points[i], points[j], d);
+		final double inclusive = inclusive(corner, d);
+		if (inclusive <= 0) {
+			return 0;
+		}
+		for (int k = 0; k < n; ++k) {
+			if (k != i && k != j && covers(points[k], corner, d)) {
+				return 0;
+			}
+		}
+
+		final double[][] limited = new double[n][];
+		int count = 0;
+		for (int k = 0; k < n; ++k) {
+			if (k != i && k != j) {
+				limited[count++] = limit(points[k], corner, d);
+			}
+		}
+
+		return inclusive - volume(limited, nds(limited, count, d), d);
+	}
+
+	private static boolean isWeaklyDominated(
+		final double[][] points,
+		final int index,
+		final int d
+	) {
+		for (int j = 0; j < points.length; ++j) {
+			if (j != index && covers(points[j], points[index], d)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// Moves the points with a positive volume to the front of the array.
+	private static int positive(final double[][] points, final int n, final int d) {
+		int count = 0;
+		for (int i = 0; i < n; ++i) {
+			if (inclusive(points[i], d) > 0) {
+				final double[] p = points[count];
+				points[count++] = points[i];
+				points[i] = p;
+			}
+		}
+		return count;
+	}
+
+	private static double inclusive(final double[] point, final int d) {
+		double volume = 1;
+		for (int m = 0; m < d; ++m) {
+			volume *= point[m];
+		}
+		return volume;
+	}
+
+	private static double volume2(final double[][] points, final int n) {
+		Arrays.sort(points, 0, n, descending(0, 1));
+
+		double volume = 0;
+		double height = 0;
+		for (int i = 0; i < n; ++i) {
+			final double y = points[i][1];
+			if (y > height) {
+				volume += points[i][0]*(y - height);
+				height = y;
+			}
+		}
+
+		return volume;
+	}
+
+	private static double volume3(final double[][] points, final int n) {
+		Arrays.sort(points, 0, n, descending(2, 0));
+
+		// Two-dimensional staircase of the points swept so far, x -> y.
+		final TreeMap<Double, Double> front = new TreeMap<>();
+		double area = 0;
+		double volume = 0;
+		for (int i = 0; i < n; ++i) {
+			area += insert(front, points[i][0], points[i][1]);
+
+			final double depth = i + 1 < n ? points[i + 1][2] : 0;
+			volume += area*(points[i][2] - depth);
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Inserts the point (x, y) into the staircase and returns the area which
+	 * is additionally covered by the new point.
+	 */
+	private static double insert(
+		final TreeMap<Double, Double> front,
+		final double x,
+		final double y
+	) {
+		final Map.Entry<Double, Double> ceiling = front.ceilingEntry(x);
+		if (ceiling != null && ceiling.getValue() >= y) {
+			return 0;
+		}
+
+		final Map.Entry<Double, Double> higher = front.higherEntry(x);
+		double height = higher != null ? higher.getValue() : 0;
+		double upper = x;
+		double area = 0;
+
+		Map.Entry<Double, Double> entry = front.floorEntry(x);
+		while (entry != null && entry.getValue() <= y) {
+			area += (upper - entry.getKey())*(y - height);
+			height = entry.getValue();
+			upper = entry.getKey();
+			front.remove(upper);
+			entry = front.lowerEntry(upper);
+		}
+		final double lower = entry != null ? entry.getKey() : 0;
+		area += (upper - lower)*(y - height);
+
+		front.put(x, y);
+		return area;
+	}
+
+	private static double wfg(final double[][] points, final int n, final int d) {
+		if (d == 3) {
+			return volume3(points, n);
+		}
+
+		Arrays.sort(points, 0, n, Comparator.comparingDouble(p -> p[d - 1]));
+
+		final double[][] limited = new double[n][];
+		double volume = 0;
+		for (int i = 0; i < n; ++i) {
+			final double[] p = points[i];
+
+			int k = 0;
+			for (int j = i + 1; j < n; ++j) {
+				limited[k++] = limit(points[j], p, d - 1);
+			}
+			k = nds(limited, k, d - 1);
+
+			final double exclusive = inclusive(p, d - 1) -
+				(k > 0 ? wfg(limited, k, d - 1) : 0);
+			volume += p[d - 1]*exclusive;
+		}
+
+		return volume;
+	}
+
+	private static double[] limit(final double[] q, final double[] p, final int d) {
+		final double[] result = new double[d];
+		for (int m = 0; m < d; ++m) {
+			result[m] = Math.min(q[m], p[m]);
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the weakly dominated and the zero volume points from the first
+	 * {@code n} points of the given array and returns the number of remaining
+	 * points.
+	 */
+	private static int nds(final double[][] points, final int n, final int d) {
+		int count = 0;
+		outer:
+		for (int i = 0; i < n; ++i) {
+			final double[] p = points[i];
+			if (inclusive(p, d) <= 0) {
+				continue;
+			}
+
+			int kept = 0;
+			for (int j = 0; j < count; ++j) {
+				if (covers(points[j], p, d)) {
+					continue outer;
+				}
+				if (!covers(p, points[j], d)) {
+					points[kept++] = points[j];
+				}
+			}
+			points[kept++] = p;
+			count = kept;
+		}
+
+		return count;
+	}
+
+	// Return true if point u is not worse than point v in every objective.
+	private static boolean covers(final double[] u, final double[] v, final int d) {
+		for (int m = 0; m < d; ++m) {
+			if (u[m] < v[m]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Comparator<double[]> descending(final int first, final int second) {
+		return (u, v) -> {
+			final int cmp = Double.compare(v[first], u[first]);
+			return cmp != 0 ? cmp : Double.compare(v[second], u[second]);
+		};
+	}
+
+}
@@ -0,0 +1,280 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.ext.internal.util.IntList;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Hypervolume based selector, as used by the <em>S-metric selection
+ * evolutionary multi-objective algorithm</em> (SMS-EMOA). The population is
+ * first divided into fronts of equal <em>non-domination</em> rank. Whole
+ * fronts are selected as long as they fit into the requested {@code count}.
+ * The last, partially selected front is then reduced by removing the point
+ * with the smallest exclusive hypervolume contribution, one at a time, until
+ * it fits. The contributions are calculated once for the whole front. After
+ * every removal, only the contributions of the neighbours of the removed
+ * point are updated, since they are the only points which share dominated
+ * volume with it. In two dimensions these are the two adjacent points of
+ * the front.
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .survivorsSelector(new HypervolumeSelector<>())
+ *     .build();
+ * }
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      N. Beume, B. Naujoks and M. Emmerich. 2007. SMS-EMOA: Multiobjective
+ *      selection based on dominated hypervolume. European Journal of
+ *      Operational Research 181, 3 (2007), 1653-1669.
+ *      DOI=<a href="https://doi.org/10.1016/j.ejor.2006.08.008">
+ *          10.1016/j.ejor.2006.08.008</a></em>
+ *
+ * @see Hypervolume
+ *
+ * @param <G> the gene type
+ * @param <V> the multi-objective result vector type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public class HypervolumeSelector<
+	G extends Gene<?, G>,
+	V extends Vec<double[]>
+>
+	implements Selector<G, V>
+{
+
+	// The fixed reference point, or null for a dynamic reference point.
+	private final Vec<double[]> _reference;
+	private final double _offset;
+
+	/**
+	 * Create a new hypervolume selector with the given, fixed
+	 * {@code reference} point. Points which don't dominate the reference
+	 * point have a hypervolume contribution of zero.
+	 *
+	 * @param reference the reference point of the hypervolume calculation
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 */
+	public HypervolumeSelector(final Vec<double[]> reference) {
+		_reference = requireNonNull(reference);
+		_offset = 0;
+	}
+
+	/**
+	 * Create a new hypervolume selector with a dynamic reference point. The
+	 * reference point is the worst value of every objective of the reduced
+	 * front, moved by the given {@code offset} in the <em>worse</em>
+	 * direction. This guarantees a positive contribution of the boundary
+	 * points of the front.
+	 *
+	 * @param offset the offset of the dynamic reference point
+	 * @throws IllegalArgumentException if the {@code offset} is not positive
+	 */
+	public HypervolumeSelector(final double offset) {
+		if (!(offset > 0) || Double.isInfinite(offset)) {
+			throw new IllegalArgumentException(format(
+				"Offset must be positive and finite: %f", offset
+			));
+		}
+		_reference = null;
+		_offset = offset;
+	}
+
+	/**
+	 * Create a new hypervolume selector with a dynamic reference point, with
+	 * an offset of {@code 1.0}.
+	 *
+	 * @see #HypervolumeSelector(double)
+	 */
+	public HypervolumeSelector() {
+		this(1.0);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, V>> select(
+		final Seq<Phenotype<G, V>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+		if (population.isEmpty() || count == 0) {
+			return ISeq.empty();
+		}
+
+		final int dimension = population.get(0).fitness().length();
+		final double[] objectives = objectives(population, dimension, opt);
+		final int[] ranks = Pareto.rank(objectives, dimension);
+
+		final List<IntList> fronts = new ArrayList<>();
+		for (int i = 0; i < ranks.length; ++i) {
+			while (fronts.size() <= ranks[i]) {
+				fronts.add(new IntList());
+			}
+			fronts.get(ranks[i]).add(i);
+		}
+
+		final IntList selected = new IntList();
+		for (int f = 0; f < fronts.size() && selected.size() < count; ++f) {
+			final int[] front = fronts.get(f).toArray();
+			selected.addAll(
+				selected.size() + front.length > count
+					? reduce(front, count - selected.size(), objectives, dimension, opt)
+					: front
+			);
+		}
+
+		final List<Phenotype<G, V>> result = new ArrayList<>(count);
+		while (result.size() < count) {
+			for (int i = 0; i < selected.size() && result.size() < count; ++i) {
+				result.add(population.get(selected.get(i)));
+			}
+		}
+
+		return ISeq.of(result);
+	}
+
+	private static double[] objectives(
+		final Seq<? extends Phenotype<?, ? extends Vec<double[]>>> population,
+		final int dimension,
+		final Optimize opt
+	) {
+		final double sign = opt == Optimize.MAXIMUM ? 1.0 : -1.0;
+		final double[] objectives = new double[population.size()*dimension];
+		for (int i = 0; i < population.size(); ++i) {
+			final double[] data = population.get(i).fitness().data();
+			if (data.length != dimension) {
+				throw new IllegalArgumentException(format(
+					"Expected fitness dimension %d, but got %d.",
+					dimension, data.length
+				));
+			}
+			for (int m = 0; m < dimension; ++m) {
+				objectives[i*dimension + m] = sign*data[m];
+			}
+		}
+		return objectives;
+	}
+
+	/**
+	 * Reduces the given {@code front} to the given {@code size}, by removing
+	 * the point with the smallest hypervolume contribution, one at a time.
+	 * The contributions of the remaining points are updated incrementally.
+	 */
+	private int[] reduce(
+		final int[] front,
+		final int size,
+		final double[] objectives,
+		final int dimension,
+		final Optimize opt
+	) {
+		final double[] reference = reference(front, objectives, dimension, opt);
+
+		final int[] indexes = front.clone();
+		final double[][] points = new double[front.length][dimension];
+		for (int i = 0; i < points.length; ++i) {
+			final int offset = front[i]*dimension;
+			for (int m = 0; m < dimension; ++m) {
+				points[i][m] = Math.max(objectives[offset + m] - reference[m], 0);
+			}
+		}
+
+		final double[] contributions =
+			Hypervolume.contributions(points, dimension);
+
+		for (int n = front.length; n > size; --n) {
+			int worst = 0;
+			for (int i = 1; i < n; ++i) {
+				if (contributions[i] < contributions[worst]) {
+					worst = i;
+				}
+			}
+
+			for (int i = 0; i < n; ++i) {
+				if (i != worst) {
+					contributions[i] +=
+						Hypervolume.shared(points, n, i, worst, dimension);
+				}
+			}
+
+			System.arraycopy(points, worst + 1, points, worst, n - worst - 1);
+			System.arraycopy(indexes, worst + 1, indexes, worst, n - worst - 1);
+			System.arraycopy(
+				contributions, worst + 1,
+				contributions, worst, n - worst - 1
+			);
+		}
+
+		return Arrays.copyOf(indexes, size);
+	}
+
+	// The reference point, in the maximized objective space.
+	private double[] reference(
+		final int[] front,
+		final double[] objectives,
+		final int dimension,
+		final Optimize opt
+	) {
+		final double[] reference = new double[dimension];
+		if (_reference != null) {
+			final double sign = opt == Optimize.MAXIMUM ? 1.0 : -1.0;
+			final double[] data = _reference.data();
+			for (int m = 0; m < dimension; ++m) {
+				reference[m] = sign*data[m];
+			}
+		} else {
+			Arrays.fill(reference, Double.POSITIVE_INFINITY);
+			for (final int index : front) {
+				final int offset = index*dimension;
+				for (int m = 0; m < dimension; ++m) {
+					reference[m] = Math.min(reference[m], objectives[offset + m]);
+				}
+			}
+			for (int m = 0; m < dimension; ++m) {
+				reference[m] -= _offset;
+			}
+		}
+		return reference;
+	}
+
+}
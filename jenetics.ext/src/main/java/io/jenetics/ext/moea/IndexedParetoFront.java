@@ -0,0 +1,836 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Arrays.revert;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.Seq;
+
+/**
+ * Pareto front implementation which keeps its elements in a spatial index,
+ * for sub-linear dominance checks and insertions. Unlike the
+ * {@link ParetoFront}, which compares every new element with all existing
+ * front members, this class requires an {@link ElementComparator} and the
+ * dimensionality of the elements. The Pareto dominance is derived from the
+ * element comparator, where bigger values are better.
+ * <ul>
+ *     <li><em>Two objectives:</em> The elements are stored in a tree set,
+ *     sorted by the first objective. Since the elements are non-dominated,
+ *     the second objective is sorted in reverse order. Checking for dominance
+ *     and inserting an element has a runtime complexity of
+ *     {@code O(log(n))}, plus {@code O(k)} for removing the {@code k}
+ *     elements dominated by the new one.</li>
+ *     <li><em>Other dimensions:</em> The elements are stored in a k-d tree,
+ *     where every node records the bounding box of its subtree. Dominance
+ *     queries only visit the subtrees whose bounding box overlaps the
+ *     dominating (dominated) orthant of the new element. The tree is
+ *     rebuilt, balanced, when it contains too many removed elements or
+ *     gets too deep.</li>
+ * </ul>
+ * {@snippet lang="java":
+ * final IndexedParetoFront<Vec<double[]>> front = IndexedParetoFront.ofVec();
+ * front.add(Vec.of(1.0, 2.0));
+ * front.add(Vec.of(1.1, 2.5));
+ * front.add(Vec.of(0.9, 2.1));
+ * front.add(Vec.of(0.0, 2.9));
+ * }
+ *
+ * The front can optionally be bounded. If a bounded front exceeds its
+ * maximal size by more than {@code max(16, maxSize/4)} elements, it is
+ * trimmed to {@code maxSize} elements, removing the elements with the
+ * smallest crowding distance first. Trimming in batches amortizes the
+ * crowding distance calculation over many insertions. Call {@link #trim()}
+ * for trimming the front to its exact maximal size.
+ *
+ * @apiNote
+ * Two elements with equal values in all objectives are treated as the
+ * same element and only the first one is kept. The iteration order is
+ * deterministic for a given insertion order, but not the insertion order
+ * itself.
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @see ParetoFront
+ * @see Pareto#front(BaseSeq, Comparator)
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class IndexedParetoFront<T> extends AbstractSet<T> {
+
+	private final ElementComparator<? super T> _comparator;
+	private final ElementDistance<? super T> _distance;
+	private final ToIntFunction<? super T> _dimension;
+	private final int _maxSize;
+	private final int _slack;
+
+	// Created lazily, when the dimension of the first element is known.
+	private Index<T> _index;
+
+	/**
+	 * Create a new, bounded pareto front.
+	 *
+	 * @param comparator the element comparator, which defines the pareto
+	 *        dominance of the elements
+	 * @param distance the element distance measure, used for calculating the
+	 *        crowding distance when the front is trimmed
+	 * @param dimension the number of vector elements of {@code T}
+	 * @param maxSize the maximal size of the front
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code maxSize < 1}
+	 */
+	public IndexedParetoFront(
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension,
+		final int maxSize
+	) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(
+				"Max size must be greater than zero: " + maxSize
+			);
+		}
+
+		_comparator = requireNonNull(comparator);
+		_distance = requireNonNull(distance);
+		_dimension = requireNonNull(dimension);
+		_maxSize = maxSize;
+		_slack = max(16, maxSize/4);
+	}
+
+	/**
+	 * Create a new, unbounded pareto front.
+	 *
+	 * @param comparator the element comparator, which defines the pareto
+	 *        dominance of the elements
+	 * @param dimension the number of vector elements of {@code T}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public IndexedParetoFront(
+		final ElementComparator<? super T> comparator,
+		final ToIntFunction<? super T> dimension
+	) {
+		_comparator = requireNonNull(comparator);
+		_distance = null;
+		_dimension = requireNonNull(dimension);
+		_maxSize = Integer.MAX_VALUE;
+		_slack = 0;
+	}
+
+	/**
+	 * Return the maximal size of {@code this} front, or
+	 * {@link Integer#MAX_VALUE} if the front is unbounded.
+	 *
+	 * @return the maximal size of {@code this} front
+	 */
+	public int maxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Inserts an {@code element} to this pareto front.
+	 *
+	 * @implNote
+	 * For two objectives, the runtime complexity of this operation is
+	 * {@code O(log(this.size()))}, plus the number of removed elements.
+	 *
+	 * @param element the element to add
+	 * @return {@code true} if this set did not already contain the specified
+	 *         element and the element is not dominated by an existing one
+	 * @throws IllegalArgumentException if the element has a different
+	 *         dimension than the existing elements
+	 */
+	@Override
+	public boolean add(final T element) {
+		requireNonNull(element);
+
+		if (_index == null) {
+			final int dim = _dimension.applyAsInt(element);
+			if (dim < 1) {
+				throw new IllegalArgumentException(
+					"Element dimension must be greater than zero: " + dim
+				);
+			}
+			_index = dim == 2
+				? new SortedIndex<>(_comparator)
+				: new KdIndex<>(_comparator, dim);
+		} else if (_dimension.applyAsInt(element) != _index.dimension()) {
+			throw new IllegalArgumentException(String.format(
+				"Expected element dimension %d, but got %d.",
+				_index.dimension(), _dimension.applyAsInt(element)
+			));
+		}
+
+		final boolean added = _index.add(element);
+		if (added && _index.size() > _maxSize + _slack) {
+			trim();
+		}
+		return added;
+	}
+
+	/**
+	 * Adds all elements of the given collection to {@code this} pareto front.
+	 *
+	 * @param elements the elements to add to {@code this} pareto front
+	 * @return {@code true} if {@code this} pareto front has been changed,
+	 *         {@code false} otherwise
+	 */
+	@Override
+	public boolean addAll(final Collection<? extends T> elements) {
+		boolean changed = false;
+		for (T element : elements) {
+			changed |= add(element);
+		}
+		return changed;
+	}
+
+	/**
+	 * Add the all {@code elements} to {@code this} pareto-set.
+	 *
+	 * @param elements the elements to add
+	 * @return {@code this} pareto-set
+	 * @throws NullPointerException if the given parameter is {@code null}
+	 */
+	public IndexedParetoFront<T> merge(
+		final IndexedParetoFront<? extends T> elements
+	) {
+		addAll(elements);
+		return this;
+	}
+
+	/**
+	 * Trims a bounded front to its maximal size. The front elements are
+	 * sorted according to its crowding distance, and the elements which have
+	 * smaller distance to its neighbors are removed first. Calling this method
+	 * on an unbounded front has no effect.
+	 *
+	 * @return {@code this} trimmed pareto front
+	 */
+	public IndexedParetoFront<T> trim() {
+		if (_index != null && _index.size() > _maxSize) {
+			final List<T> elements = new ArrayList<>(_index.size());
+			_index.forEach(elements::add);
+
+			final double[] distances = Pareto.crowdingDistance(
+				Seq.viewOf(elements),
+				_comparator,
+				_distance,
+				_dimension
+			);
+			final int[] indexes = ProxySorter.sort(distances);
+			revert(indexes);
+
+			final Index<T> index = _index.empty();
+			for (int i = 0; i < _maxSize; ++i) {
+				index.add(elements.get(indexes[i]));
+			}
+			_index = index;
+		}
+
+		return this;
+	}
+
+	@Override
+	public boolean contains(final Object object) {
+		return _index != null && _index.find(object) != null;
+	}
+
+	@Override
+	public boolean remove(final Object object) {
+		return _index != null && _index.remove(object);
+	}
+
+	@Override
+	public void clear() {
+		_index = null;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		if (_index == null) {
+			return Collections.emptyIterator();
+		}
+
+		final Index<T> index = _index;
+		final List<T> elements = new ArrayList<>(index.size());
+		index.forEach(elements::add);
+
+		return new Iterator<>() {
+			private int _cursor = 0;
+			private T _last = null;
+
+			@Override
+			public boolean hasNext() {
+				return _cursor < elements.size();
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return _last = elements.get(_cursor++);
+			}
+
+			@Override
+			public void remove() {
+				if (_last == null) {
+					throw new IllegalStateException();
+				}
+				index.remove(_last);
+				_last = null;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return _index != null ? _index.size() : 0;
+	}
+
+	/**
+	 * Return the elements of {@code this} pareto-front as {@link ISeq}.
+	 *
+	 * @return the elements of {@code this} pareto-front as {@link ISeq}
+	 */
+	public ISeq<T> toISeq() {
+		return ISeq.of(this);
+	}
+
+	/**
+	 * Create a new, unbounded pareto front for {@link Vec} objects.
+	 *
+	 * @param <V> the vector type
+	 * @return a new pareto front for {@link Vec} objects
+	 */
+	public static <V extends Vec<?>> IndexedParetoFront<V> ofVec() {
+		return new IndexedParetoFront<>(IndexedParetoFront::compare, Vec::length);
+	}
+
+	/**
+	 * Create a new, bounded pareto front for {@link Vec} objects.
+	 *
+	 * @param maxSize the maximal size of the front
+	 * @param <V> the vector type
+	 * @return a new pareto front for {@link Vec} objects
+	 * @throws IllegalArgumentException if {@code maxSize < 1}
+	 */
+	public static <V extends Vec<?>> IndexedParetoFront<V> ofVec(final int maxSize) {
+		return new IndexedParetoFront<>(
+			IndexedParetoFront::compare,
+			IndexedParetoFront::distance,
+			Vec::length,
+			maxSize
+		);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static int compare(final Vec u, final Vec v, final int index) {
+		return u.compare(v, index);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static double distance(final Vec u, final Vec v, final int index) {
+		return u.distance(v, index);
+	}
+
+	/**
+	 * Return a collector which collects {@link Vec} objects into an unbounded,
+	 * indexed pareto front.
+	 *
+	 * @param <V> the vector type
+	 * @return a new pareto-front collector
+	 */
+	public static <V extends Vec<?>>
+	Collector<V, ?, IndexedParetoFront<V>> toParetoFront() {
+		return Collector.of(
+			IndexedParetoFront::ofVec,
+			IndexedParetoFront::add,
+			IndexedParetoFront::merge
+		);
+	}
+
+	/**
+	 * Return a collector which collects the elements into an unbounded,
+	 * indexed pareto front.
+	 *
+	 * @param comparator the element comparator, which defines the pareto
+	 *        dominance of the elements
+	 * @param dimension the number of vector elements of {@code T}
+	 * @param <T> the element type
+	 * @return a new pareto-front collector
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> Collector<T, ?, IndexedParetoFront<T>> toParetoFront(
+		final ElementComparator<? super T> comparator,
+		final ToIntFunction<? super T> dimension
+	) {
+		requireNonNull(comparator);
+		requireNonNull(dimension);
+
+		return Collector.of(
+			() -> new IndexedParetoFront<>(comparator, dimension),
+			IndexedParetoFront::add,
+			IndexedParetoFront::merge
+		);
+	}
+
+
+	/* *************************************************************************
+	 * Index implementations.
+	 * ************************************************************************/
+
+	/**
+	 * Spatial index of mutually non-dominated elements.
+	 */
+	private interface Index<T> extends Iterable<T> {
+
+		int dimension();
+
+		int size();
+
+		/**
+		 * Adds the given element, if it is not (weakly) dominated by an
+		 * existing element, and removes all elements it dominates.
+		 */
+		boolean add(final T element);
+
+		/**
+		 * Return the stored element with the same objective values as the
+		 * given object, or {@code null} if there is no such element.
+		 */
+		T find(final Object object);
+
+		boolean remove(final Object object);
+
+		Index<T> empty();
+
+	}
+
+	/**
+	 * Returns {@code true} if {@code u} is better or equal than {@code v} in
+	 * all objectives.
+	 */
+	private static <T> boolean covers(
+		final T u,
+		final T v,
+		final int dimension,
+		final ElementComparator<? super T> comparator
+	) {
+		for (int i = 0; i < dimension; ++i) {
+			if (comparator.compare(u, v, i) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Index for two objectives. The non-dominated elements are sorted in
+	 * ascending order of the first and in descending order of the second
+	 * objective.
+	 */
+	private static final class SortedIndex<T> implements Index<T> {
+		private final ElementComparator<? super T> _comparator;
+		private final TreeSet<T> _elements;
+
+		SortedIndex(final ElementComparator<? super T> comparator) {
+			_comparator = comparator;
+			_elements = new TreeSet<>((a, b) -> comparator.compare(a, b, 0));
+		}
+
+		@Override
+		public int dimension() {
+			return 2;
+		}
+
+		@Override
+		public int size() {
+			return _elements.size();
+		}
+
+		@Override
+		public boolean add(final T element) {
+			// The ceiling element has the best second objective of all
+			// elements which are at least as good in the first objective.
+			final T ceiling = _elements.ceiling(element);
+			if (ceiling != null && _comparator.compare(ceiling, element, 1) >= 0) {
+				return false;
+			}
+
+			final Iterator<T> it = _elements
+				.headSet(element, true)
+				.descendingIterator();
+			while (it.hasNext()) {
+				if (_comparator.compare(it.next(), element, 1) <= 0) {
+					it.remove();
+				} else {
+					break;
+				}
+			}
+
+			return _elements.add(element);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T find(final Object object) {
+			try {
+				final T element = (T)object;
+				final T ceiling = _elements.ceiling(element);
+				return ceiling != null &&
+					_comparator.compare(ceiling, element, 0) == 0 &&
+					_comparator.compare(ceiling, element, 1) == 0
+						? ceiling
+						: null;
+			} catch (ClassCastException | NullPointerException e) {
+				return null;
+			}
+		}
+
+		@Override
+		public boolean remove(final Object object) {
+			final T element = find(object);
+			return element != null && _elements.remove(element);
+		}
+
+		@Override
+		public Index<T> empty() {
+			return new SortedIndex<>(_comparator);
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return _elements.iterator();
+		}
+	}
+
+	/**
+	 * k-d tree index, where every node stores the bounding box of its subtree.
+	 * Removed elements are only marked as deleted and the tree is rebuilt,
+	 * once it contains more deleted than live elements or exceeds the
+	 * maximal depth.
+	 */
+	private static final class KdIndex<T> implements Index<T> {
+
+		private static final class Node<T> {
+			final T element;
+			final int axis;
+			// The elements with the minimal/maximal value for each axis
+			// of this subtree, including the deleted ones.
+			final Object[] min;
+			final Object[] max;
+			Node<T> left;
+			Node<T> right;
+			boolean deleted;
+
+			Node(final T element, final int axis, final int dimension) {
+				this.element = element;
+				this.axis = axis;
+				min = new Object[dimension];
+				max = new Object[dimension];
+				Arrays.fill(min, element);
+				Arrays.fill(max, element);
+			}
+		}
+
+		private final ElementComparator<? super T> _comparator;
+		private final int _dimension;
+
+		private Node<T> _root;
+		private int _size;
+		private int _deleted;
+		private int _maxDepth = 8;
+
+		KdIndex(final ElementComparator<? super T> comparator, final int dimension) {
+			_comparator = comparator;
+			_dimension = dimension;
+		}
+
+		@Override
+		public int dimension() {
+			return _dimension;
+		}
+
+		@Override
+		public int size() {
+			return _size;
+		}
+
+		@Override
+		public boolean add(final T element) {
+			if (covered(_root, element)) {
+				return false;
+			}
+
+			removeCovered(_root, element);
+			final int depth = insert(element);
+			++_size;
+
+			if (_deleted > _size || depth > _maxDepth) {
+				rebuild();
+			}
+			return true;
+		}
+
+		// Tests whether a live element of the subtree covers the element.
+		@SuppressWarnings("unchecked")
+		private boolean covered(final Node<T> node, final T element) {
+			if (node == null) {
+				return false;
+			}
+			for (int i = 0; i < _dimension; ++i) {
+				if (_comparator.compare((T)node.max[i], element, i) < 0) {
+					return false;
+				}
+			}
+
+			return
+				(!node.deleted &&
+					covers(node.element, element, _dimension, _comparator)) ||
+				covered(node.left, element) ||
+				covered(node.right, element);
+		}
+
+		// Deletes all live elements of the subtree covered by the element.
+		@SuppressWarnings("unchecked")
+		private void removeCovered(final Node<T> node, final T element) {
+			if (node == null) {
+				return;
+			}
+			for (int i = 0; i < _dimension; ++i) {
+				if (_comparator.compare((T)node.min[i], element, i) > 0) {
+					return;
+				}
+			}
+
+			if (!node.deleted &&
+				covers(element, node.element, _dimension, _comparator))
+			{
+				delete(node);
+			}
+			removeCovered(node.left, element);
+			removeCovered(node.right, element);
+		}
+
+		private void delete(final Node<T> node) {
+			node.deleted = true;
+			--_size;
+			++_deleted;
+		}
+
+		// Inserts the element and returns the depth of the new node.
+		private int insert(final T element) {
+			if (_root == null) {
+				_root = new Node<>(element, 0, _dimension);
+				return 0;
+			}
+
+			Node<T> node = _root;
+			int depth = 1;
+			while (true) {
+				expand(node, element);
+
+				final boolean left =
+					_comparator.compare(element, node.element, node.axis) < 0;
+				final Node<T> child = left ? node.left : node.right;
+				if (child == null) {
+					final var leaf = new Node<>(
+						element,
+						(node.axis + 1)%_dimension,
+						_dimension
+					);
+					if (left) {
+						node.left = leaf;
+					} else {
+						node.right = leaf;
+					}
+					return depth;
+				}
+
+				node = child;
+				++depth;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void expand(final Node<T> node, final T element) {
+			for (int i = 0; i < _dimension; ++i) {
+				if (_comparator.compare(element, (T)node.min[i], i) < 0) {
+					node.min[i] = element;
+				}
+				if (_comparator.compare(element, (T)node.max[i], i) > 0) {
+					node.max[i] = element;
+				}
+			}
+		}
+
+		private void rebuild() {
+			@SuppressWarnings("unchecked")
+			final T[] elements = (T[])new Object[_size];
+			int i = 0;
+			for (T element : this) {
+				elements[i++] = element;
+			}
+
+			_root = build(elements, 0, elements.length, 0);
+			_deleted = 0;
+
+			// Splits at duplicate axis values can make the rebuilt tree
+			// deeper than log2(size); allow twice its height.
+			final int log2 = 31 - Integer.numberOfLeadingZeros(max(_size, 1));
+			_maxDepth = 2*max(log2 + 4, height(_root));
+		}
+
+		private static int height(final Node<?> node) {
+			return node != null
+				? 1 + max(height(node.left), height(node.right))
+				: 0;
+		}
+
+		private Node<T> build(
+			final T[] elements,
+			final int from,
+			final int until,
+			final int axis
+		) {
+			if (from >= until) {
+				return null;
+			}
+
+			Arrays.sort(
+				elements, from, until,
+				(a, b) -> _comparator.compare(a, b, axis)
+			);
+
+			// Equal values of the split axis must go to the right subtree,
+			// which is also where the insertion looks for them.
+			int mid = (from + until) >>> 1;
+			while (mid > from &&
+				_comparator.compare(elements[mid - 1], elements[mid], axis) == 0)
+			{
+				--mid;
+			}
+
+			final Node<T> node = new Node<>(elements[mid], axis, _dimension);
+			final int next = (axis + 1)%_dimension;
+			node.left = build(elements, from, mid, next);
+			node.right = build(elements, mid + 1, until, next);
+			for (int i = from; i < until; ++i) {
+				expand(node, elements[i]);
+			}
+
+			return node;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T find(final Object object) {
+			try {
+				final Node<T> node = find(_root, (T)object);
+				return node != null ? node.element : null;
+			} catch (ClassCastException | NullPointerException e) {
+				return null;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Node<T> find(final Node<T> node, final T element) {
+			if (node == null) {
+				return null;
+			}
+			for (int i = 0; i < _dimension; ++i) {
+				if (_comparator.compare((T)node.min[i], element, i) > 0 ||
+					_comparator.compare((T)node.max[i], element, i) < 0)
+				{
+					return null;
+				}
+			}
+
+			if (!node.deleted &&
+				covers(node.element, element, _dimension, _comparator) &&
+				covers(element, node.element, _dimension, _comparator))
+			{
+				return node;
+			}
+
+			final Node<T> left = find(node.left, element);
+			return left != null ? left : find(node.right, element);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean remove(final Object object) {
+			try {
+				final Node<T> node = find(_root, (T)object);
+				if (node != null) {
+					delete(node);
+					return true;
+				}
+			} catch (ClassCastException | NullPointerException e) {
+				// The object can't be part of the index.
+			}
+			return false;
+		}
+
+		@Override
+		public Index<T> empty() {
+			return new KdIndex<>(_comparator, _dimension);
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			final List<T> elements = new ArrayList<>(_size);
+			collect(_root, elements);
+			return elements.iterator();
+		}
+
+		private static <T> void collect(final Node<T> node, final List<T> elements) {
+			if (node != null) {
+				collect(node.left, elements);
+				if (!node.deleted) {
+					elements.add(node.element);
+				}
+				collect(node.right, elements);
+			}
+		}
+	}
+
+}
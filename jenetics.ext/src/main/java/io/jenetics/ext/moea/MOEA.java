@@ -25,6 +25,7 @@ import static io.jenetics.ext.moea.Pareto.front;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 
@@ -37,7 +38,8 @@ import io.jenetics.util.IntRange;
 
 /**
  * Collectors for collecting final <em>pareto-set</em> for multi-objective
- * optimization.
+ * optimization, and limits for truncating multi-objective evolution
+ * streams.
  *
  * {@snippet lang="java":
  *  final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
@@ -62,7 +64,7 @@ import io.jenetics.util.IntRange;
  * }
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 8.2
  * @since 4.1
  */
 public final class MOEA {
@@ -175,6 +177,44 @@ public final class MOEA {
 		);
 	}
 
+	/**
+	 * Return a predicate, which will truncate the evolution stream if the
+	 * hypervolume of the population doesn't improve for the given number of
+	 * {@code generations}. The hypervolume of a generation is an improvement,
+	 * if it is greater than the best hypervolume so far, multiplied by
+	 * {@code 1 + epsilon}.
+	 * {@snippet lang="java":
+	 * final ISeq<Phenotype<DoubleGene, Vec<double[]>>> result = engine.stream()
+	 *      // Truncate the evolution stream after 10 "steady" generations.
+	 *     .limit(MOEA.byHypervolumeStagnation(Vec.of(0.0, 0.0), 10, 0.001))
+	 *     .collect(MOEA.toParetoSet());
+	 * }
+	 *
+	 * @since 8.2
+	 *
+	 * @see Hypervolume
+	 *
+	 * @param reference the reference point of the hypervolume calculation
+	 * @param generations the number of generations without improvement, after
+	 *        which the evolution stream is truncated
+	 * @param epsilon the minimal relative improvement of the hypervolume
+	 * @param <V> the multi object result type vector
+	 * @return a predicate which truncates the evolution stream, if the
+	 *         hypervolume stagnates
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1} or
+	 *         {@code epsilon} is negative
+	 */
+	public static <V extends Vec<double[]>> Predicate<EvolutionResult<?, V>>
+	byHypervolumeStagnation(
+		final Vec<double[]> reference,
+		final int generations,
+		final double epsilon
+	) {
+		return new HypervolumeLimit<>(reference, generations, epsilon);
+	}
+
 	private static final class Front<
 		G extends Gene<?, G>,
 		C extends Comparable<? super C>
@@ -48,7 +48,7 @@ import io.jenetics.util.Seq;
  *          10.1109/4235.996017</a></em>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.2
  * @since 4.1
  */
 public class NSGA2Selector<
@@ -58,11 +58,17 @@ public class NSGA2Selector<
 	implements Selector<G, C>
 {
 
+	// The dominance comparator, or null for the Pareto dominance of the
+	// element comparator. Vectors created by Vec.of(...) always use the
+	// Pareto dominance, if the selector is created by ofVec().
 	private final Comparator<Phenotype<G, C>> _dominance;
 	private final ElementComparator<Phenotype<G, C>> _comparator;
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
 
+	// Calculate ranks and distances on the objective matrix, if possible.
+	private final boolean _vectorized;
+
 	/**
 	 * Creates a new {@code NSGA2Selector} with the functions needed for
 	 * handling the multi-objective result type {@code C}. For the {@link Vec}
@@ -98,6 +104,51 @@ public class NSGA2Selector<
 		_comparator = comparator.map(Phenotype::fitness);
 		_distance = distance.map(Phenotype::fitness);
 		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_vectorized = false;
+	}
+
+	/**
+	 * Creates a new {@code NSGA2Selector} with the functions needed for
+	 * handling the multi-objective result type {@code C}. The dominance of
+	 * the result vectors is the <em>Pareto dominance</em>, defined by the
+	 * given element {@code comparator}. This allows a much faster calculation
+	 * of the non-domination ranks, than with an arbitrary dominance
+	 * comparator.
+	 *
+	 * @since 8.2
+	 *
+	 * @see Pareto#rank(io.jenetics.util.BaseSeq, ElementComparator, ToIntFunction)
+	 *
+	 * @param comparator the vector element comparator
+	 * @param distance the vector element distance
+	 * @param dimension the dimensionality of vector type {@code C}
+	 */
+	public NSGA2Selector(
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension
+	) {
+		this(null, comparator, distance, dimension, false);
+	}
+
+	private NSGA2Selector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean vectorized
+	) {
+		requireNonNull(comparator);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+
+		_dominance = dominance != null
+			? (a, b) -> dominance.compare(a.fitness(), b.fitness())
+			: null;
+		_comparator = comparator.map(Phenotype::fitness);
+		_distance = distance.map(Phenotype::fitness);
+		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_vectorized = vectorized;
 	}
 
 	@Override
@@ -106,13 +157,14 @@ public class NSGA2Selector<
 		final int count,
 		final Optimize opt
 	) {
-		final CrowdedComparator<Phenotype<G, C>> cc = new CrowdedComparator<>(
+		final CrowdedComparator<Phenotype<G, C>> cc = CrowdedComparator.of(
 			population,
 			opt,
 			_dominance,
 			_comparator,
 			_distance,
-			_dimension
+			_dimension,
+			_vectorized
 		);
 
 		final int[] idx = ProxySorter.sort(
@@ -148,6 +200,25 @@ public class NSGA2Selector<
 	 *     Vec<T>::length
 	 * );
 	 * }
+	 * The custom {@link Vec#dominance(Vec)} of the result vectors is
+	 * respected. If all vectors are created with the {@code Vec.of(...)}
+	 * factory methods, which use the Pareto dominance, the non-domination
+	 * ranks are calculated with the faster
+	 * {@link Pareto#rank(io.jenetics.util.BaseSeq, ElementComparator, ToIntFunction)}
+	 * method. If the vectors are created with the {@link Vec#of(double...)},
+	 * {@link Vec#of(int...)} or {@link Vec#of(long...)} factory methods, the
+	 * non-domination ranks and crowding distances are calculated on a
+	 * contiguous objective matrix, extracted once from the population. This
+	 * is considerably faster for big populations and gives the same result
+	 * as the element-wise calculation, with one exception: the matrix
+	 * treats {@code -0.0} and {@code 0.0} as equal objective values, while
+	 * the element-wise calculation orders {@code -0.0} before {@code 0.0},
+	 * like {@link Double#compare(double, double)}. Populations containing
+	 * both signed zeros in the same objective may therefore be ranked
+	 * differently.
+	 *
+	 * @see Pareto#rank(double[], int)
+	 * @see Pareto#crowdingDistance(double[], int)
 	 *
 	 * @param <G> the gene type
 	 * @param <T> the array type, e.g. {@code double[]}
@@ -160,7 +231,8 @@ public class NSGA2Selector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			true
 		);
 	}
 
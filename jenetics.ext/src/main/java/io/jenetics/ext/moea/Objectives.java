@@ -0,0 +1,161 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.BaseSeq;
+
+/**
+ * Helper methods for extracting the objective values of a population into a
+ * contiguous, row-major {@code double[N*M]} matrix, where {@code N} is the
+ * population size and {@code M} the number of objectives.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class Objectives {
+
+	// Greatest long value which can be represented exactly as double.
+	private static final long MAX_EXACT_LONG = 1L << 53;
+
+	private Objectives() {
+	}
+
+	/**
+	 * Return the objective matrix of the given {@code population}. The
+	 * objective values are negated for {@link Optimize#MINIMUM}, so that
+	 * greater values are always better. {@code null} is returned if the
+	 * fitness values of the population can't be represented by such a
+	 * matrix without changing the ordering of the objective values. This is
+	 * the case if not all fitness values are simple {@code double},
+	 * {@code int} or {@code long} vectors of the same length, or if one of
+	 * the values is {@code NaN} or a {@code long} value which has no exact
+	 * {@code double} representation. Signed zeros are normalized, the
+	 * matrix never contains {@code -0.0}.
+	 *
+	 * @param population the population
+	 * @param opt the optimization strategy
+	 * @return the objective matrix, or {@code null} if the population can't
+	 *         be represented as objective matrix
+	 */
+	static double[] of(
+		final BaseSeq<? extends Phenotype<?, ?>> population,
+		final Optimize opt
+	) {
+		final int n = population.length();
+		if (n == 0) {
+			return null;
+		}
+
+		final int d = dimension(population.get(0).fitness());
+		if (d <= 0) {
+			return null;
+		}
+
+		final double sign = opt == Optimize.MAXIMUM ? 1.0 : -1.0;
+		final double[] objectives = new double[n*d];
+		for (int i = 0; i < n; ++i) {
+			final Object fitness = population.get(i).fitness();
+			if (dimension(fitness) != d || !copy(fitness, objectives, i*d, sign)) {
+				return null;
+			}
+		}
+
+		return objectives;
+	}
+
+	/**
+	 * Test whether the fitness values of the given {@code population} are
+	 * all vectors, created by the {@code Vec.of(...)} factory methods. The
+	 * dominance of these vectors is the Pareto dominance of the
+	 * {@link Vec#compare(Vec, int)} method, which allows the faster,
+	 * element-wise calculation of the non-domination ranks.
+	 *
+	 * @param population the population
+	 * @return {@code true} if the dominance of all fitness values is the
+	 *         Pareto dominance of its element comparator
+	 */
+	static boolean isPareto(final BaseSeq<? extends Phenotype<?, ?>> population) {
+		for (int i = 0, n = population.length(); i < n; ++i) {
+			if (!isPareto(population.get(i).fitness())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isPareto(final Object fitness) {
+		return fitness instanceof SimpleDoubleVec ||
+			fitness instanceof SimpleIntVec ||
+			fitness instanceof SimpleLongVec ||
+			fitness instanceof SimpleObjectVec<?>;
+	}
+
+	private static int dimension(final Object fitness) {
+		return switch (fitness) {
+			case SimpleDoubleVec vec -> vec.length();
+			case SimpleIntVec vec -> vec.length();
+			case SimpleLongVec vec -> vec.length();
+			case null, default -> -1;
+		};
+	}
+
+	// Adding 0.0 turns -0.0, e.g. the negated 0.0 objective value, into 0.0.
+	private static boolean copy(
+		final Object fitness,
+		final double[] objectives,
+		final int offset,
+		final double sign
+	) {
+		switch (fitness) {
+			case SimpleDoubleVec vec -> {
+				final double[] data = vec.data();
+				for (int m = 0; m < data.length; ++m) {
+					if (Double.isNaN(data[m])) {
+						return false;
+					}
+					objectives[offset + m] = sign*data[m] + 0.0;
+				}
+			}
+			case SimpleIntVec vec -> {
+				final int[] data = vec.data();
+				for (int m = 0; m < data.length; ++m) {
+					objectives[offset + m] = sign*data[m] + 0.0;
+				}
+			}
+			case SimpleLongVec vec -> {
+				final long[] data = vec.data();
+				for (int m = 0; m < data.length; ++m) {
+					if (data[m] > MAX_EXACT_LONG || data[m] < -MAX_EXACT_LONG) {
+						return false;
+					}
+					objectives[offset + m] = sign*data[m] + 0.0;
+				}
+			}
+			default -> {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
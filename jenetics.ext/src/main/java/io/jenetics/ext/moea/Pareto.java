@@ -41,7 +41,7 @@ import io.jenetics.ext.internal.util.IntList;
  * are mostly for users who want to extend the existing <em>MOEA</em> classes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.2
  * @since 4.1
  */
 public final class Pareto {
@@ -129,7 +129,8 @@ public final class Pareto {
 
 				final T max = set.get(idx[0]);
 				final T min = set.get(idx[set.length() - 1]);
-				final double dm = distance.distance(max, min, m);
+				// The distances are negative for reversed comparators.
+				final double dm = Math.abs(distance.distance(max, min, m));
 
 				if (Double.compare(dm, 0) > 0) {
 					for (int i = 1, n = set.length() - 1; i < n; ++i) {
@@ -139,7 +140,7 @@ public final class Pareto {
 							m
 						);
 
-						result[idx[i]] += dist/dm;
+						result[idx[i]] += Math.abs(dist)/dm;
 					}
 				}
 			}
@@ -148,6 +149,81 @@ public final class Pareto {
 		return result;
 	}
 
+	/**
+	 * Calculates the crowding distance of the points of the given objective
+	 * matrix. The matrix contains the {@code dimension} objective values of
+	 * every point in row-major order: the objectives of point {@code i} are
+	 * stored in {@code objectives[i*dimension]} to
+	 * {@code objectives[(i + 1)*dimension - 1]}.
+	 *
+	 * @apiNote
+	 * This method calculates the same distances as the
+	 * {@link #crowdingDistance(BaseSeq)} method for
+	 * {@link Vec#of(double...)} points, but without the element comparator
+	 * and element distance indirections. The objective values are copied
+	 * column wise into a contiguous array before sorting.
+	 *
+	 * @since 8.2
+	 *
+	 * @param objectives the objective matrix
+	 * @param dimension the number of objectives of a point
+	 * @return the crowded distances of the points
+	 * @throws NullPointerException if the {@code objectives} are {@code null}
+	 * @throws IllegalArgumentException if {@code dimension < 1} or the
+	 *         matrix length is not a multiple of the {@code dimension}
+	 */
+	public static double[] crowdingDistance(
+		final double[] objectives,
+		final int dimension
+	) {
+		final int n = rows(objectives, dimension);
+
+		final double[] result = new double[n];
+		if (n < 3) {
+			Arrays.fill(result, POSITIVE_INFINITY);
+		} else {
+			final double[] column = new double[n];
+			for (int m = 0; m < dimension; ++m) {
+				for (int i = 0; i < n; ++i) {
+					column[i] = objectives[i*dimension + m];
+				}
+				final int[] idx = ProxySorter.sort(
+					column, n,
+					(a, i, j) -> Double.compare(a[j], a[i])
+				);
+
+				result[idx[0]] = POSITIVE_INFINITY;
+				result[idx[n - 1]] = POSITIVE_INFINITY;
+
+				final double dm = column[idx[0]] - column[idx[n - 1]];
+				if (dm > 0) {
+					for (int i = 1; i < n - 1; ++i) {
+						result[idx[i]] +=
+							(column[idx[i - 1]] - column[idx[i + 1]])/dm;
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private static int rows(final double[] objectives, final int dimension) {
+		requireNonNull(objectives);
+		if (dimension < 1) {
+			throw new IllegalArgumentException(
+				"Dimension must be positive: " + dimension
+			);
+		}
+		if (objectives.length%dimension != 0) {
+			throw new IllegalArgumentException(format(
+				"Matrix length %d is not a multiple of the dimension %d.",
+				objectives.length, dimension
+			));
+		}
+		return objectives.length/dimension;
+	}
+
 	/* *************************************************************************
 	 * Pareto ranks methods.
 	 * ************************************************************************/
@@ -158,23 +234,247 @@ public final class Pareto {
 	 * measure.
 	 *
 	 * @apiNote
-	 * Calculating the rank has a time complexity of {@code O(n^2}, where
-	 * {@code n} the {@code set} size.
+	 * The rank is calculated with the <em>efficient non-dominated sort</em>,
+	 * see {@link #rank(BaseSeq, ElementComparator, ToIntFunction)}.
+	 *
+	 * @param set the input set
+	 * @param <T> the element type
+	 * @return the <em>non-domination</em> rank of the given input {@code set}
+	 */
+	public static <T> int[] rank(final BaseSeq<? extends Vec<T>> set) {
+		return rank(set, Vec::compare, Vec::length);
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the given input
+	 * {@code set}. The <em>Pareto dominance</em> is defined by the given
+	 * vector element {@code comparator}.
+	 *
+	 * @apiNote
+	 * The elements are sorted lexicographically, which guarantees that no
+	 * element is dominated by a succeeding one. Then every element is
+	 * inserted into the first front, which contains no dominating element,
+	 * using a binary search over the fronts. For up to two dimensions, only the
+	 * last element of a front must be checked, which results in a time
+	 * complexity of {@code O(n*log(n))}. For higher dimensions, the elements
+	 * of a front are checked in reversed insertion order, with a worst-case
+	 * time complexity of {@code O(d*n^2)} and a much better average
+	 * complexity. The space complexity is {@code O(n)}.
 	 *
 	 * <p>
 	 *  <b>Reference:</b><em>
-	 *      Kalyanmoy Deb, Associate Member, IEEE, Amrit Pratap,
-	 *      Sameer Agarwal, and T. Meyarivan.
-	 *      A Fast and Elitist Multiobjective Genetic Algorithm: NSGA-II,
-	 *      IEEE TRANSACTIONS ON EVOLUTIONARY COMPUTATION, VOL. 6, NO. 2,
-	 *      APRIL 2002.</em>
+	 *      X. Zhang, Y. Tian, R. Cheng and Y. Jin.
+	 *      An Efficient Approach to Nondominated Sorting for Evolutionary
+	 *      Multiobjective Optimization,
+	 *      IEEE Transactions on Evolutionary Computation, vol. 19, no. 2,
+	 *      pp. 201-213, 2015.</em>
+	 *
+	 * @since 8.2
 	 *
 	 * @param set the input set
+	 * @param comparator the comparator which defines the (total) order of the
+	 *        vector elements of {@code T}
+	 * @param dimension the dimension of vector type {@code T}
 	 * @param <T> the element type
 	 * @return the <em>non-domination</em> rank of the given input {@code set}
+	 * @throws NullPointerException if one of the arguments is {@code null}
 	 */
-	public static <T> int[] rank(final BaseSeq<? extends Vec<T>> set) {
-		return rank(set, Vec::dominance);
+	public static <T> int[] rank(
+		final BaseSeq<? extends T> set,
+		final ElementComparator<? super T> comparator,
+		final ToIntFunction<? super T> dimension
+	) {
+		requireNonNull(set);
+		requireNonNull(comparator);
+		requireNonNull(dimension);
+
+		final int[] ranks = new int[set.length()];
+		if (set.length() < 2) {
+			return ranks;
+		}
+
+		final int d = dimension.applyAsInt(set.get(0));
+		final int[] idx = ProxySorter.sort(set, (u, v) -> {
+			for (int m = 0; m < d; ++m) {
+				final int cmp = comparator.compare(v, u, m);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return 0;
+		});
+
+		final List<IntList> fronts = new ArrayList<>();
+		for (final int s : idx) {
+			final T element = set.get(s);
+
+			// Binary search for the first front without dominating element.
+			int low = 0;
+			int high = fronts.size();
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominated(set, fronts.get(mid), element, d, comparator)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			if (low == fronts.size()) {
+				fronts.add(new IntList());
+			}
+			fronts.get(low).add(s);
+			ranks[s] = low;
+		}
+
+		return ranks;
+	}
+
+	// Tests whether the given element is dominated by an element of the front.
+	// All front elements precede the element in lexicographical order.
+	private static <T> boolean dominated(
+		final BaseSeq<? extends T> set,
+		final IntList front,
+		final T element,
+		final int d,
+		final ElementComparator<? super T> comparator
+	) {
+		if (d <= 2) {
+			final T last = set.get(front.get(front.size() - 1));
+			return dominates(last, element, d, comparator);
+		}
+		for (int i = front.size(); --i >= 0;) {
+			if (dominates(set.get(front.get(i)), element, d, comparator)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// Tests whether u dominates v, if u precedes v in lexicographical order.
+	private static <T> boolean dominates(
+		final T u,
+		final T v,
+		final int d,
+		final ElementComparator<? super T> comparator
+	) {
+		boolean strict = comparator.compare(u, v, 0) > 0;
+		for (int m = 1; m < d; ++m) {
+			final int cmp = comparator.compare(u, v, m);
+			if (cmp < 0) {
+				return false;
+			}
+			strict |= cmp > 0;
+		}
+		return strict;
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the points of the given
+	 * objective matrix, where greater objective values are better. The
+	 * matrix contains the {@code dimension} objective values of every point
+	 * in row-major order.
+	 *
+	 * @apiNote
+	 * This method uses the same <em>efficient non-dominated sort</em> as
+	 * {@link #rank(BaseSeq, ElementComparator, ToIntFunction)}, but the
+	 * dominance checks are tight loops over the contiguous rows of the
+	 * matrix. {@code NaN} values are not allowed and {@code -0.0} is
+	 * treated as {@code 0.0}.
+	 *
+	 * @since 8.2
+	 *
+	 * @see #crowdingDistance(double[], int)
+	 *
+	 * @param objectives the objective matrix
+	 * @param dimension the number of objectives of a point
+	 * @return the <em>non-domination</em> rank of the points
+	 * @throws NullPointerException if the {@code objectives} are {@code null}
+	 * @throws IllegalArgumentException if {@code dimension < 1} or the
+	 *         matrix length is not a multiple of the {@code dimension}
+	 */
+	public static int[] rank(final double[] objectives, final int dimension) {
+		final int n = rows(objectives, dimension);
+
+		final int[] ranks = new int[n];
+		if (n < 2) {
+			return ranks;
+		}
+
+		final int d = dimension;
+		final int[] idx = ProxySorter.sort(objectives, n, (a, i, j) -> {
+			for (int m = 0, oi = i*d, oj = j*d; m < d; ++m) {
+				final double x = a[oi + m];
+				final double y = a[oj + m];
+				if (x != y) {
+					return x < y ? 1 : -1;
+				}
+			}
+			return 0;
+		});
+
+		final List<IntList> fronts = new ArrayList<>();
+		for (final int s : idx) {
+			int low = 0;
+			int high = fronts.size();
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominated(objectives, d, fronts.get(mid), s)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			if (low == fronts.size()) {
+				fronts.add(new IntList());
+			}
+			fronts.get(low).add(s);
+			ranks[s] = low;
+		}
+
+		return ranks;
+	}
+
+	// Tests whether the point v is dominated by a point of the front.
+	private static boolean dominated(
+		final double[] objectives,
+		final int d,
+		final IntList front,
+		final int v
+	) {
+		if (d <= 2) {
+			return dominates(objectives, d, front.get(front.size() - 1), v);
+		}
+		for (int i = front.size(); --i >= 0;) {
+			if (dominates(objectives, d, front.get(i), v)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// Tests whether point u dominates point v, if u precedes v in
+	// lexicographical order.
+	private static boolean dominates(
+		final double[] objectives,
+		final int d,
+		final int u,
+		final int v
+	) {
+		final int ou = u*d;
+		final int ov = v*d;
+
+		boolean strict = objectives[ou] > objectives[ov];
+		for (int m = 1; m < d; ++m) {
+			final double x = objectives[ou + m];
+			final double y = objectives[ov + m];
+			if (x < y) {
+				return false;
+			}
+			strict |= x > y;
+		}
+		return strict;
 	}
 
 	/**
@@ -183,7 +483,10 @@ public final class Pareto {
 	 *
 	 * @apiNote
 	 * Calculating the rank has a time and space complexity of {@code O(n^2},
-	 * where {@code n} the {@code set} size.
+	 * where {@code n} the {@code set} size. If the dominance is the
+	 * <em>Pareto dominance</em> of the vector elements, the
+	 * {@link #rank(BaseSeq, ElementComparator, ToIntFunction)} method is
+	 * much faster.
 	 *
 	 * <p>
 	 *  <b>Reference:</b><em>
@@ -412,9 +715,18 @@ public final class Pareto {
 	public static int dominance(final int[] u, final int[] v) {
 		checkLength(u.length, v.length);
 
-		return dominance(
-			u, v, u.length, (a, b, i) -> Integer.compare(a[i], b[i])
-		);
+		boolean greater = false;
+		boolean less = false;
+		for (int i = 0; i < u.length; ++i) {
+			final int cmp = Integer.compare(u[i], v[i]);
+			greater |= cmp > 0;
+			less |= cmp < 0;
+			if (greater && less) {
+				return 0;
+			}
+		}
+
+		return dominance(greater, less);
 	}
 
 	/**
@@ -433,9 +745,18 @@ public final class Pareto {
 	public static int dominance(final long[] u, final long[] v) {
 		checkLength(u.length, v.length);
 
-		return dominance(
-			u, v, u.length, (a, b, i) -> Long.compare(a[i], b[i])
-		);
+		boolean greater = false;
+		boolean less = false;
+		for (int i = 0; i < u.length; ++i) {
+			final int cmp = Long.compare(u[i], v[i]);
+			greater |= cmp > 0;
+			less |= cmp < 0;
+			if (greater && less) {
+				return 0;
+			}
+		}
+
+		return dominance(greater, less);
 	}
 
 	/**
@@ -454,9 +775,26 @@ public final class Pareto {
 	public static int dominance(final double[] u, final double[] v) {
 		checkLength(u.length, v.length);
 
-		return dominance(
-			u, v, u.length, (a, b, i) -> Double.compare(a[i], b[i])
-		);
+		boolean greater = false;
+		boolean less = false;
+		for (int i = 0; i < u.length; ++i) {
+			final int cmp = Double.compare(u[i], v[i]);
+			greater |= cmp > 0;
+			less |= cmp < 0;
+			if (greater && less) {
+				return 0;
+			}
+		}
+
+		return dominance(greater, less);
+	}
+
+	private static int dominance(final boolean greater, final boolean less) {
+		if (greater == less) {
+			return 0;
+		} else {
+			return greater ? 1 : -1;
+		}
 	}
 
 	private static void checkLength(final int i, final int j) {
@@ -21,10 +21,12 @@ package io.jenetics.ext.moea;
 
 import static java.lang.Math.min;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.groupingBy;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.ToIntFunction;
 
 import io.jenetics.Gene;
@@ -56,7 +58,7 @@ import io.jenetics.util.Seq;
  *
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.2
  * @since 4.1
  */
 public class UFTournamentSelector<
@@ -65,11 +67,17 @@ public class UFTournamentSelector<
 >
 	implements Selector<G, C>
 {
+	// The dominance comparator, or null for the Pareto dominance of the
+	// element comparator. Vectors created by Vec.of(...) always use the
+	// Pareto dominance, if the selector is created by ofVec().
 	private final Comparator<Phenotype<G, C>> _dominance;
 	private final ElementComparator<Phenotype<G, C>> _comparator;
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
 
+	// Calculate ranks and distances on the objective matrix, if possible.
+	private final boolean _vectorized;
+
 	/**
 	 * Creates a new {@code UFTournamentSelector} with the functions needed for
 	 * handling the multi-objective result type {@code C}. For the {@link Vec}
@@ -105,6 +113,51 @@ public class UFTournamentSelector<
 		_comparator = comparator.map(Phenotype::fitness);
 		_distance = distance.map(Phenotype::fitness);
 		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_vectorized = false;
+	}
+
+	/**
+	 * Creates a new {@code UFTournamentSelector} with the functions needed for
+	 * handling the multi-objective result type {@code C}. The dominance of
+	 * the result vectors is the <em>Pareto dominance</em>, defined by the
+	 * given element {@code comparator}. This allows a much faster calculation
+	 * of the non-domination ranks, than with an arbitrary dominance
+	 * comparator.
+	 *
+	 * @since 8.2
+	 *
+	 * @see Pareto#rank(io.jenetics.util.BaseSeq, ElementComparator, ToIntFunction)
+	 *
+	 * @param comparator the vector element comparator
+	 * @param distance the vector element distance
+	 * @param dimension the dimensionality of vector type {@code C}
+	 */
+	public UFTournamentSelector(
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension
+	) {
+		this(null, comparator, distance, dimension, false);
+	}
+
+	private UFTournamentSelector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean vectorized
+	) {
+		requireNonNull(comparator);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+
+		_dominance = dominance != null
+			? (a, b) -> dominance.compare(a.fitness(), b.fitness())
+			: null;
+		_comparator = comparator.map(Phenotype::fitness);
+		_distance = distance.map(Phenotype::fitness);
+		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_vectorized = vectorized;
 	}
 
 	@Override
@@ -115,15 +168,20 @@ public class UFTournamentSelector<
 	) {
 		final var random = RandomRegistry.random();
 
-		final CrowdedComparator<Phenotype<G, C>> cc = new CrowdedComparator<>(
+		final CrowdedComparator<Phenotype<G, C>> cc = CrowdedComparator.of(
 			population,
 			opt,
 			_dominance,
 			_comparator,
 			_distance,
-			_dimension
+			_dimension,
+			_vectorized
 		);
 
+		// The individuals of the population, grouped by its fitness.
+		final Map<C, List<Phenotype<G, C>>> unique = population.stream()
+			.collect(groupingBy(Phenotype::fitness));
+
 		final List<Phenotype<G, C>> S = new ArrayList<>();
 		while (S.size() < count) {
 			final int k = min(2*count - S.size(), population.size());
@@ -140,10 +198,8 @@ public class UFTournamentSelector<
 					p = random.nextBoolean() ? G[j] : G[j + 1];
 				}
 
-				final C fitness = population.get(p).fitness();
-				final List<Phenotype<G, C>> list = population.stream()
-					.filter(pt -> pt.fitness().equals(fitness))
-					.toList();
+				final List<Phenotype<G, C>> list =
+					unique.get(population.get(p).fitness());
 
 				S.add(list.get(random.nextInt(list.size())));
 			}
@@ -163,6 +219,25 @@ public class UFTournamentSelector<
 	 *     Vec<T>::length
 	 * );
 	 * }
+	 * The custom {@link Vec#dominance(Vec)} of the result vectors is
+	 * respected. If all vectors are created with the {@code Vec.of(...)}
+	 * factory methods, which use the Pareto dominance, the non-domination
+	 * ranks are calculated with the faster
+	 * {@link Pareto#rank(io.jenetics.util.BaseSeq, ElementComparator, ToIntFunction)}
+	 * method. If the vectors are created with the {@link Vec#of(double...)},
+	 * {@link Vec#of(int...)} or {@link Vec#of(long...)} factory methods, the
+	 * non-domination ranks and crowding distances are calculated on a
+	 * contiguous objective matrix, extracted once from the population. This
+	 * is considerably faster for big populations and gives the same result
+	 * as the element-wise calculation, with one exception: the matrix
+	 * treats {@code -0.0} and {@code 0.0} as equal objective values, while
+	 * the element-wise calculation orders {@code -0.0} before {@code 0.0},
+	 * like {@link Double#compare(double, double)}. Populations containing
+	 * both signed zeros in the same objective may therefore be ranked
+	 * differently.
+	 *
+	 * @see Pareto#rank(double[], int)
+	 * @see Pareto#crowdingDistance(double[], int)
 	 *
 	 * @param <G> the gene type
 	 * @param <T> the array type, e.g. {@code double[]}
@@ -175,7 +250,8 @@ public class UFTournamentSelector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			true
 		);
 	}
 
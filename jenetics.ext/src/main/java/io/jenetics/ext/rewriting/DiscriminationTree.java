@@ -0,0 +1,148 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jenetics.ext.internal.util.IntList;
+import io.jenetics.ext.rewriting.TreePattern.Decl;
+import io.jenetics.ext.rewriting.TreePattern.Val;
+import io.jenetics.ext.rewriting.TreePattern.Var;
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Index of tree patterns, which allows retrieving the patterns that may
+ * match a given tree without testing every pattern. The patterns are stored
+ * by the pre-order sequence of their symbols, where a symbol consists of the
+ * node value and the number of children. All pattern variables are mapped to
+ * the same wildcard symbol.
+ * <pre>{@code
+ * add($x,0)  ->  (add,2) * (0,0)
+ * add(0,$x)  ->  (add,2) (0,0) *
+ * }</pre>
+ * The retrieval is an over-approximation, since the wildcard ignores
+ * repeated variables, like in {@code sub($x,$x)}. The candidates must be
+ * verified with {@link TreePattern#match(Tree)}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class DiscriminationTree<V> {
+
+	private record Symbol(Object value, int arity) {}
+
+	private static final class Node {
+		final Map<Symbol, Node> children = new HashMap<>();
+		final IntList patterns = new IntList();
+		Node wildcard;
+	}
+
+	private final Node _root = new Node();
+
+	/**
+	 * Adds the given {@code pattern} with the given {@code id} to the index.
+	 *
+	 * @param pattern the pattern to add
+	 * @param id the id of the pattern, which is returned by the retrieval
+	 */
+	void add(final TreePattern<V> pattern, final int id) {
+		Node node = _root;
+
+		final var stack = new ArrayDeque<Tree<Decl<V>, ?>>();
+		stack.push(pattern.pattern());
+		while (!stack.isEmpty()) {
+			final Tree<Decl<V>, ?> decl = stack.pop();
+
+			if (decl.value() instanceof Var<V>) {
+				if (node.wildcard == null) {
+					node.wildcard = new Node();
+				}
+				node = node.wildcard;
+			} else {
+				final var symbol = new Symbol(
+					((Val<V>)decl.value()).value(),
+					decl.childCount()
+				);
+				node = node.children.computeIfAbsent(symbol, s -> new Node());
+
+				for (int i = decl.childCount(); --i >= 0;) {
+					stack.push(decl.childAt(i));
+				}
+			}
+		}
+
+		node.patterns.add(id);
+	}
+
+	/**
+	 * Sets the ids of all patterns which may match the given {@code tree}.
+	 *
+	 * @param tree the tree to match
+	 * @param candidates the resulting candidate pattern ids
+	 */
+	void candidates(final Tree<V, ?> tree, final BitSet candidates) {
+		final var pending = new ArrayList<Tree<V, ?>>();
+		pending.add(tree);
+		candidates(_root, pending, candidates);
+	}
+
+	// The pending trees are the not yet visited subtrees, in reversed
+	// pre-order. Every call restores the pending list before returning.
+	private static <V> void candidates(
+		final Node node,
+		final List<Tree<V, ?>> pending,
+		final BitSet candidates
+	) {
+		if (pending.isEmpty()) {
+			for (int i = 0; i < node.patterns.size(); ++i) {
+				candidates.set(node.patterns.get(i));
+			}
+			return;
+		}
+
+		final Tree<V, ?> tree = pending.removeLast();
+
+		if (node.wildcard != null) {
+			candidates(node.wildcard, pending, candidates);
+		}
+
+		final Node child = node.children
+			.get(new Symbol(tree.value(), tree.childCount()));
+		if (child != null) {
+			final int size = pending.size();
+			for (int i = tree.childCount(); --i >= 0;) {
+				pending.add(tree.childAt(i));
+			}
+			candidates(child, pending, candidates);
+			while (pending.size() > size) {
+				pending.removeLast();
+			}
+		}
+
+		pending.add(tree);
+	}
+
+}
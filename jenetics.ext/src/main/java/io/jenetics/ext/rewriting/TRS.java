@@ -19,6 +19,8 @@
  */
 package io.jenetics.ext.rewriting;
 
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
 
@@ -29,13 +31,26 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 
+import io.jenetics.ext.rewriting.TreePattern.Decl;
+import io.jenetics.ext.rewriting.TreePattern.Val;
+import io.jenetics.ext.rewriting.TreePattern.Var;
+import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -54,12 +69,17 @@ import io.jenetics.ext.util.TreeNode;
  * trs.rewrite(tree);
  * assert tree.equals(TreeNode.parse("S(S(S(S(0))))"));
  * }
+ * <p>
+ * The rules of the TRS are applied one after another, each one on the whole
+ * tree, until the tree stays unchanged. If the rule set is large or the trees
+ * are deep, the {@link #innermost()} rewriter, which converts a tree into
+ * its normal form with a single bottom-up traversal, is usually much faster.
  *
  * @see TreeRewriteRule
  * @see <a href="https://en.wikipedia.org/wiki/Rewriting">TRS</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 8.2
  * @since 5.0
  */
 public final class TRS<V> implements TreeRewriter<V>, Serializable {
@@ -68,6 +88,7 @@ public final class TRS<V> implements TreeRewriter<V>, Serializable {
 	private static final long serialVersionUID = 1L;
 
 	private final ISeq<TreeRewriteRule<V>> _rules;
+	private final DiscriminationTree<V> _index = new DiscriminationTree<>();
 
 	/**
 	 * Create a new TRS from the given rewrite rules.
@@ -82,6 +103,9 @@ public final class TRS<V> implements TreeRewriter<V>, Serializable {
 			throw new IllegalArgumentException("Rewrite rules must not be empty.");
 		}
 		_rules = rules;
+		for (int i = 0; i < _rules.length(); ++i) {
+			_index.add(_rules.get(i).left(), i);
+		}
 	}
 
 	@Override
@@ -89,6 +113,197 @@ public final class TRS<V> implements TreeRewriter<V>, Serializable {
 		return TreeRewriter.rewrite(tree, limit, _rules);
 	}
 
+	/**
+	 * Return a tree rewriter, which rewrites a given tree bottom-up, with
+	 * the <em>innermost</em> rewrite strategy. A node is matched after its
+	 * children are in normal form, and the first matching rule, in the given
+	 * rule order, is applied. After a rewrite, only the new nodes of the
+	 * substituted pattern are matched again; the subtrees bound to the
+	 * pattern variables are already in normal form. The left sides of the
+	 * rules are indexed in a discrimination tree, which only returns the
+	 * rules whose pattern can match a given node. So a single traversal
+	 * converts the tree into its normal form, and deep trees don't overflow
+	 * the call stack.
+	 * {@snippet lang="java":
+	 * final TRS<String> trs = TRS.parse(
+	 *     "add(0,$x) -> $x",
+	 *     "mul(1,$x) -> $x"
+	 * );
+	 * final TreeRewriter<String> rewriter = trs.innermost();
+	 *
+	 * final TreeNode<String> tree = TreeNode.parse("add(0,mul(1,add(0,x)))");
+	 * rewriter.rewrite(tree);
+	 * assert tree.equals(TreeNode.parse("x"));
+	 * }
+	 *
+	 * @apiNote
+	 * For confluent rule sets, the normal form of a tree is unique and the
+	 * result of the innermost rewriter is the same as the result of the
+	 * {@link #rewrite(TreeNode, int)} method of {@code this} TRS. If the rule
+	 * set is not confluent, the two strategies may produce different normal
+	 * forms. For example, with the rules {@code div($x,$x) -> 1} and
+	 * {@code div(0,$x) -> 0}, the tree {@code div(0,div(0,x))} is rewritten
+	 * to {@code 1} by the innermost rewriter, but to {@code 0} by the
+	 * {@link #rewrite(TreeNode, int)} method.
+	 *
+	 * @since 8.2
+	 *
+	 * @return a new tree rewriter, which uses the innermost rewrite strategy
+	 */
+	public TreeRewriter<V> innermost() {
+		return this::innermost;
+	}
+
+	private int innermost(final TreeNode<V> tree, final int limit) {
+		requireNonNull(tree);
+		if (limit < 0) {
+			throw new IllegalArgumentException(format(
+				"Limit is smaller then zero: %d", limit
+			));
+		}
+
+		// Roots of the subtrees, which are known to be in normal form.
+		final Set<Tree<V, ?>> normalized =
+			Collections.newSetFromMap(new IdentityHashMap<>());
+		final var candidates = new BitSet(_rules.length());
+
+		// Post-order traversal with an explicit stack of nodes and their
+		// next child index.
+		final var nodes = new ArrayList<TreeNode<V>>();
+		int[] next = new int[16];
+		nodes.add(tree);
+
+		int rewritten = 0;
+		while (!nodes.isEmpty() && rewritten < limit) {
+			final int top = nodes.size() - 1;
+			final TreeNode<V> node = nodes.get(top);
+
+			if (next[top] < node.childCount()) {
+				final TreeNode<V> child = node.childAt(next[top]++);
+				if (!normalized.contains(child)) {
+					if (nodes.size() == next.length) {
+						next = Arrays.copyOf(next, 2*next.length);
+					}
+					next[nodes.size()] = 0;
+					nodes.add(child);
+				}
+			} else {
+				nodes.removeLast();
+
+				final TreeNode<V> result =
+					rewrite(tree, node, candidates, normalized);
+				if (result != null) {
+					++rewritten;
+					if (!normalized.contains(result)) {
+						next[nodes.size()] = 0;
+						nodes.add(result);
+					}
+				}
+			}
+		}
+
+		return rewritten;
+	}
+
+	/*
+	 * Applies the first matching rule to the given node and returns the
+	 * rewritten node, or null if no rule matches.
+	 */
+	private TreeNode<V> rewrite(
+		final TreeNode<V> root,
+		final TreeNode<V> node,
+		final BitSet candidates,
+		final Set<Tree<V, ?>> normalized
+	) {
+		candidates.clear();
+		_index.candidates(node, candidates);
+
+		for (int i = candidates.nextSetBit(0); i >= 0;
+			i = candidates.nextSetBit(i + 1))
+		{
+			final TreeRewriteRule<V> rule = _rules.get(i);
+			final Optional<TreeMatchResult<V>> result = rule.left().match(node);
+
+			if (result.isPresent()) {
+				final TreeNode<V> replacement = expand(
+					rule.right().pattern(),
+					result.orElseThrow().vars(),
+					node,
+					Collections.newSetFromMap(new IdentityHashMap<>()),
+					normalized
+				);
+
+				return replace(root, node, replacement, normalized);
+			}
+		}
+
+		return null;
+	}
+
+	/*
+	 * Expands the given template. The subtrees bound to the variables are
+	 * moved into the expanded tree, and only copied if the variable is used
+	 * more than once.
+	 */
+	private static <V> TreeNode<V> expand(
+		final Tree<Decl<V>, ?> template,
+		final Map<Var<V>, Tree<V, ?>> vars,
+		final TreeNode<V> node,
+		final Set<Tree<?, ?>> used,
+		final Set<Tree<V, ?>> normalized
+	) {
+		if (template.value() instanceof Var<V> var) {
+			final Tree<V, ?> binding = vars.get(var);
+			if (binding == node) {
+				return TreeNode.ofTree(binding);
+			}
+
+			@SuppressWarnings("unchecked")
+			final TreeNode<V> tree =
+				binding instanceof TreeNode<?> tn && used.add(tn)
+					? (TreeNode<V>)tn
+					: TreeNode.ofTree(binding);
+			normalized.add(tree);
+			return tree;
+		} else {
+			final var tree = TreeNode.of(((Val<V>)template.value()).value());
+			for (int i = 0; i < template.childCount(); ++i) {
+				tree.attach(expand(
+					template.childAt(i), vars, node, used, normalized
+				));
+			}
+			return tree;
+		}
+	}
+
+	/*
+	 * Replaces the given node with the replacement. The root node is
+	 * rewritten in place.
+	 */
+	private static <V> TreeNode<V> replace(
+		final TreeNode<V> root,
+		final TreeNode<V> node,
+		final TreeNode<V> replacement,
+		final Set<Tree<V, ?>> normalized
+	) {
+		if (node == root) {
+			final List<TreeNode<V>> children = new ArrayList<>();
+			replacement.childIterator().forEachRemaining(children::add);
+
+			root.removeAllChildren();
+			root.value(replacement.value());
+			children.forEach(root::attach);
+			if (normalized.contains(replacement)) {
+				normalized.add(root);
+			}
+			return root;
+		} else {
+			final TreeNode<V> parent = node.parent().orElseThrow();
+			parent.replace(parent.indexOf(node), replacement);
+			return replacement;
+		}
+	}
+
 	/**
 	 * Maps {@code this} TRS from type {@code V} to type {@code B}.
 	 *
@@ -43,6 +43,8 @@ import java.util.stream.Stream;
 
 import io.jenetics.util.ISeq;
 
+import io.jenetics.ext.util.Tree.Path;
+
 /**
  * Default implementation of the {@link FlatTree} interface. Beside the
  * flattened and dense layout it is also an <em>immutable</em> implementation of
@@ -52,10 +54,14 @@ import io.jenetics.util.ISeq;
  * }
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The parent index, the level and
+ * the subtree size of every node are computed once, when the tree is
+ * created. This makes the structural queries, like {@link #parent()},
+ * {@link #level()}, {@link #size()} and {@link #indexOf(Tree)}, O(1)
+ * operations.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 7.1
+ * @version 8.2
  * @since 3.9
  */
 public final class FlatTreeNode<V>
@@ -65,11 +71,47 @@ public final class FlatTreeNode<V>
 {
 
 	/**
-	 * The flattened tree nodes.
+	 * The flattened tree nodes. The nodes are stored in breadth-first order,
+	 * which means that the index of a parent node is always smaller than the
+	 * indexes of its children. The {@code parents}, {@code levels} and
+	 * {@code sizes} arrays are derived from the child offsets and counts.
 	 */
-	private record Nodes(Object[] values, int[] childOffsets, int[] childCounts) {
-		Nodes(final int size) {
-			this(new Object[size], new int[size], new int[size]);
+	private record Nodes(
+		Object[] values,
+		int[] childOffsets,
+		int[] childCounts,
+		int[] parents,
+		int[] levels,
+		int[] sizes
+	) {
+		Nodes(
+			final Object[] values,
+			final int[] childOffsets,
+			final int[] childCounts
+		) {
+			this(
+				values,
+				childOffsets,
+				childCounts,
+				new int[values.length],
+				new int[values.length],
+				new int[values.length]
+			);
+
+			if (values.length > 0) {
+				parents[0] = NULL_INDEX;
+			}
+			for (int i = 0; i < values.length; ++i) {
+				sizes[i] = 1;
+				for (int j = 0; j < childCounts[i]; ++j) {
+					final int child = childOffsets[i] + j;
+					parents[child] = i;
+					levels[child] = levels[i] + 1;
+				}
+			}
+			for (int i = values.length; --i > 0;) {
+				sizes[parents[i]] += sizes[i];
+			}
 		}
 	}
 
@@ -117,24 +159,69 @@ public final class FlatTreeNode<V>
 		return (V)_nodes.values[_index];
 	}
 
+	/**
+	 * Return the parent node of {@code this} node. This implementation has
+	 * a runtime complexity of O(1).
+	 *
+	 * @return the parent node, or {@code Optional.empty()} if this node is
+	 *         the root of the tree
+	 */
 	@Override
 	public Optional<FlatTreeNode<V>> parent() {
-		int index = NULL_INDEX;
-		for (int i = _index; --i >= 0 && index == NULL_INDEX;) {
-			if (isParent(i)) {
-				index = i;
-			}
-		}
-
+		final int index = _nodes.parents[_index];
 		return index != NULL_INDEX
 			? Optional.of(nodeAt(index))
 			: Optional.empty();
 	}
 
-	private boolean isParent(final int index) {
-		return _nodes.childCounts[index] > 0 &&
-			_nodes.childOffsets[index] <= _index &&
-			_nodes.childOffsets[index] + _nodes.childCounts[index] > _index;
+	/**
+	 * Returns the number of levels above this node. This implementation has
+	 * a runtime complexity of O(1).
+	 *
+	 * @return the number of levels above this node
+	 */
+	@Override
+	public int level() {
+		return _nodes.levels[_index];
+	}
+
+	@Override
+	public int depth() {
+		return isRoot()
+			? _nodes.levels[_nodes.levels.length - 1]
+			: FlatTree.super.depth();
+	}
+
+	/**
+	 * Returns the index of the specified child in this node's child array,
+	 * or {@code -1} if {@code this} node doesn't contain the given
+	 * {@code child}. This implementation has a runtime complexity of O(1)
+	 * for child nodes of the same tree.
+	 *
+	 * @param child the child node to search for
+	 * @return the index of the node in this node's child array, or {@code -1}
+	 *         if the node could not be found
+	 * @throws NullPointerException if the given {@code child} is {@code null}
+	 */
+	@Override
+	public int indexOf(final Tree<?, ?> child) {
+		if (child instanceof FlatTreeNode<?> node && node._nodes == _nodes) {
+			return _nodes.parents[node._index] == _index
+				? node._index - childOffset()
+				: NULL_INDEX;
+		}
+
+		return FlatTree.super.indexOf(child);
+	}
+
+	@Override
+	public Path childPath() {
+		final int[] path = new int[level()];
+		for (int i = _index, level = path.length; i > 0; i = _nodes.parents[i]) {
+			path[--level] = i - _nodes.childOffsets[_nodes.parents[i]];
+		}
+
+		return Path.of(path);
 	}
 
 	@Override
@@ -266,17 +353,7 @@ public final class FlatTreeNode<V>
 
 	@Override
 	public int size() {
-		return isRoot()
-			? _nodes.values.length
-			: countChildren(_index) + 1;
-	}
-
-	private int countChildren(final int index) {
-		int count = _nodes.childCounts[index];
-		for (int i = 0; i < _nodes.childCounts[index]; ++i) {
-			count += countChildren(_nodes.childOffsets[index] + i);
-		}
-		return count;
+		return _nodes.sizes[_index];
 	}
 
 	/* *************************************************************************
@@ -303,22 +380,24 @@ public final class FlatTreeNode<V>
 		final int size = tree.size();
 		assert size >= 1;
 
-		final var nodes = new Nodes(size);
+		final var values = new Object[size];
+		final var childOffsets = new int[size];
+		final var childCounts = new int[size];
 
 		int childOffset = 1;
 		int index = 0;
 
 		for (var node : tree) {
-			nodes.values[index] = node.value();
-			nodes.childCounts[index] = node.childCount();
-			nodes.childOffsets[index] = node.isLeaf() ? NULL_INDEX : childOffset;
+			values[index] = node.value();
+			childCounts[index] = node.childCount();
+			childOffsets[index] = node.isLeaf() ? NULL_INDEX : childOffset;
 
 			childOffset += node.childCount();
 			++index;
 		}
 		assert index == size;
 
-		return new FlatTreeNode<>(nodes);
+		return new FlatTreeNode<>(new Nodes(values, childOffsets, childCounts));
 	}
 
 	/**
@@ -0,0 +1,81 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.jenetics.ext.TreeGenesTest.chromosome;
+import static io.jenetics.ext.TreeGenesTest.genes;
+import static io.jenetics.ext.TreeGenesTest.newTree;
+
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Chromosome;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeCrossoverTest {
+
+	@Test(dataProvider = "treeLevels")
+	public void crossover(final int level1, final int level2) {
+		for (int seed = 0; seed < 20; ++seed) {
+			final var random = new Random(seed);
+			final TreeNode<Integer> tree1 = newTree(level1, random);
+			final TreeNode<Integer> tree2 = newTree(level2, random);
+
+			final MSeq<Chromosome<IntTreeGene>> c1 = MSeq.of(List.of(chromosome(tree1)));
+			final MSeq<Chromosome<IntTreeGene>> c2 = MSeq.of(List.of(chromosome(tree2)));
+			final int size = c1.get(0).length() + c2.get(0).length();
+
+			final int changed = SubtreeCrossover.swap(c1, c2, 0, new Random(seed));
+			final int expected = RandomRegistry.with(
+				new Random(seed),
+				r -> SingleNodeCrossover.swap(tree1, tree2)
+			);
+
+			assertThat(changed).isEqualTo(expected);
+			assertThat(c1.get(0).length() + c2.get(0).length()).isEqualTo(size);
+			assertThat(genes(c1.get(0))).isEqualTo(genes(chromosome(tree1)));
+			assertThat(genes(c2.get(0))).isEqualTo(genes(chromosome(tree2)));
+		}
+	}
+
+	@DataProvider(name = "treeLevels")
+	public Object[][] treeLevels() {
+		return new Object[][] {
+			{0, 0},
+			{1, 0},
+			{0, 1},
+			{1, 1},
+			{2, 1},
+			{10, 5},
+			{15, 11}
+		};
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.jenetics.ext.TreeGenesTest.chromosome;
+import static io.jenetics.ext.TreeGenesTest.genes;
+import static io.jenetics.ext.TreeGenesTest.newTree;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.Chromosome;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeMutatorTest {
+
+	@Test
+	public void mutate() {
+		final var random = new Random(123);
+
+		RandomRegistry.using(random, r -> {
+			for (int i = 0; i < 100; ++i) {
+				final var chromosome = chromosome(newTree(5, random));
+				final Chromosome<IntTreeGene> mutated =
+					SubtreeMutator.mutate(chromosome, random);
+
+				assertThat(mutated.length()).isEqualTo(mutated.gene().size());
+				assertThat(genes(mutated))
+					.isEqualTo(genes(chromosome(mutated.gene())));
+			}
+		});
+	}
+
+	@Test
+	public void mutateWithProbability() {
+		final var mutator = new SubtreeMutator<IntTreeGene, Integer>(1.0);
+		final var chromosome = chromosome(newTree(5, new Random(123)));
+
+		final var result = mutator.mutate(chromosome, 1.0, new Random(123));
+		assertThat(result.mutations()).isEqualTo(1);
+		assertThat(result.result()).isNotSameAs(chromosome);
+
+		final var unchanged = mutator.mutate(chromosome, 0.0, new Random(123));
+		assertThat(unchanged.mutations()).isEqualTo(0);
+		assertThat(unchanged.result()).isSameAs(chromosome);
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class TreeGenesTest {
+
+	static TreeNode<Integer> newTree(final int levels, final RandomGenerator random) {
+		final TreeNode<Integer> root = TreeNode.of(random.nextInt(1000));
+		fill(root, levels, random);
+		return root;
+	}
+
+	private static void fill(
+		final TreeNode<Integer> node,
+		final int level,
+		final RandomGenerator random
+	) {
+		if (level > 0) {
+			for (int i = 0, n = random.nextInt(5); i < n; ++i) {
+				final TreeNode<Integer> child = TreeNode.of(random.nextInt(1000));
+				if (random.nextDouble() < 0.8) {
+					fill(child, level - 1, random);
+				}
+				node.attach(child);
+			}
+		}
+	}
+
+	static IntTreeChromosome chromosome(final Tree<Integer, ?> tree) {
+		final ISeq<IntTreeGene> genes = FlatTreeNode.ofTree(tree).stream()
+			.map(n -> new IntTreeGene(n.value(), n.childOffset(), n.childCount()))
+			.collect(ISeq.toISeq());
+
+		return new IntTreeChromosome(genes);
+	}
+
+	static List<IntTreeGene> genes(final Iterable<IntTreeGene> genes) {
+		return ISeq.of(genes).asList();
+	}
+
+	@Test(dataProvider = "treeLevels")
+	public void splice(final int level1, final int level2) {
+		final var random = new Random(level1*31L + level2);
+		final var target = chromosome(newTree(level1, random));
+		final var source = chromosome(newTree(level2, random));
+
+		for (int i = 0; i < target.length(); ++i) {
+			for (int j = 0; j < source.length(); ++j) {
+				final ISeq<IntTreeGene> spliced =
+					TreeGenes.splice(target, i, source, j);
+
+				assertThat(genes(spliced))
+					.isEqualTo(genes(chromosome(replace(target, i, source, j))));
+			}
+		}
+	}
+
+	private static TreeNode<Integer> replace(
+		final IntTreeChromosome target,
+		final int index,
+		final IntTreeChromosome source,
+		final int sourceIndex
+	) {
+		final TreeNode<Integer> tree = TreeNode.ofTree(target.root());
+		final TreeNode<Integer> subtree = TreeNode.ofTree(source.root())
+			.breadthFirstStream()
+			.skip(sourceIndex)
+			.findFirst()
+			.orElseThrow()
+			.detach();
+
+		if (index == 0) {
+			return subtree;
+		} else {
+			final TreeNode<Integer> node = tree.breadthFirstStream()
+				.skip(index)
+				.findFirst()
+				.orElseThrow();
+			final TreeNode<Integer> parent = node.parent().orElseThrow();
+			parent.replace(parent.indexOf(node), subtree);
+			return tree;
+		}
+	}
+
+	@Test
+	public void spliceIsValidChromosome() {
+		final var random = new Random(123);
+		final var target = chromosome(newTree(6, random));
+		final var source = chromosome(newTree(6, random));
+
+		final var chromosome = target.newInstance(
+			TreeGenes.splice(target, target.length() - 1, source, 0)
+		);
+
+		assertThat(chromosome.length())
+			.isEqualTo(target.length() - 1 + source.length());
+		assertThat(genes(chromosome(chromosome.gene())))
+			.isEqualTo(genes(chromosome));
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void spliceInvalidIndex() {
+		final var random = new Random(123);
+		final var target = chromosome(newTree(3, random));
+		final var source = chromosome(newTree(3, random));
+
+		TreeGenes.splice(target, target.length(), source, 0);
+	}
+
+	@DataProvider(name = "treeLevels")
+	public Object[][] treeLevels() {
+		return new Object[][] {
+			{0, 0},
+			{1, 0},
+			{0, 1},
+			{1, 1},
+			{2, 1},
+			{4, 3},
+			{5, 5}
+		};
+	}
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IslandEngineTest {
+
+	private static Engine<IntegerGene, Integer> island(final int min) {
+		return Engine
+			.builder(
+				gt -> gt.gene().intValue(),
+				Genotype.of(IntegerChromosome.of(min, min + 10))
+			)
+			.populationSize(20)
+			.alterers(new Mutator<>(0.0))
+			.executor(Runnable::run)
+			.build();
+	}
+
+	@Test
+	public void mergedPopulation() {
+		final var engine = IslandEngine
+			.builder(island(0), island(100), island(200))
+			.build();
+
+		final List<EvolutionResult<IntegerGene, Integer>> results = engine
+			.stream()
+			.limit(5)
+			.toList();
+
+		Assert.assertEquals(results.size(), 5);
+		for (int i = 0; i < results.size(); ++i) {
+			final var result = results.get(i);
+			Assert.assertEquals(result.population().size(), 60);
+			Assert.assertEquals(result.generation(), i + 1);
+			Assert.assertEquals(result.totalGenerations(), i + 1);
+		}
+	}
+
+	@Test
+	public void migration() {
+		final var engine = IslandEngine
+			.builder(island(0), island(100))
+			.topology(IslandEngine.Topology.ring())
+			.migrationInterval(1)
+			.migrants(5)
+			.build();
+
+		final EvolutionResult<IntegerGene, Integer> result = engine
+			.stream()
+			.limit(3)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+
+		// The first island receives the better individuals of the second one.
+		final boolean migrated = result.population().subSeq(0, 20).stream()
+			.anyMatch(pt -> pt.fitness() >= 100);
+		Assert.assertTrue(migrated);
+	}
+
+	@Test
+	public void noMigration() {
+		final var engine = IslandEngine
+			.builder(island(0), island(100))
+			.migrants(0)
+			.migrationInterval(1)
+			.build();
+
+		final EvolutionResult<IntegerGene, Integer> result = engine
+			.stream()
+			.limit(5)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+
+		Assert.assertTrue(
+			result.population().subSeq(0, 20).stream()
+				.allMatch(pt -> pt.fitness() < 100)
+		);
+		Assert.assertTrue(
+			result.population().subSeq(20, 40).stream()
+				.allMatch(pt -> pt.fitness() >= 100)
+		);
+	}
+
+	@Test
+	public void reproducibleIslands() {
+		try {
+			RandomRegistry.reproducible(123);
+			final var island = island(0);
+			final var engine = IslandEngine
+				.builder(island, island)
+				.migrationInterval(1)
+				.build();
+
+			final EvolutionResult<IntegerGene, Integer> result = engine
+				.stream()
+				.limit(2)
+				.reduce((a, b) -> b)
+				.orElseThrow();
+
+			// Islands with the same engine must not evolve identically.
+			Assert.assertNotEquals(
+				result.genotypes().subSeq(0, 20),
+				result.genotypes().subSeq(20, 40)
+			);
+
+			RandomRegistry.reproducible(123);
+			Assert.assertEquals(
+				engine.stream()
+					.limit(2)
+					.reduce((a, b) -> b)
+					.orElseThrow()
+					.population(),
+				result.population()
+			);
+		} finally {
+			RandomRegistry.reset();
+		}
+	}
+
+	@Test
+	public void bestIsFound() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final var engine = IslandEngine
+				.builder(island(0), island(0), island(0), island(0))
+				.topology(IslandEngine.Topology.fullyConnected())
+				.migrationInterval(2)
+				.executor(executor)
+				.build();
+
+			final Genotype<IntegerGene> best = engine
+				.stream()
+				.limit(20)
+				.collect(EvolutionResult.toBestGenotype());
+
+			Assert.assertEquals(best.gene().intValue(), 9);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void ringTopology() {
+		final var topology = IslandEngine.Topology.ring();
+		final var random = new Random(123);
+
+		Assert.assertEquals(topology.targets(0, 4, random), new int[]{1});
+		Assert.assertEquals(topology.targets(3, 4, random), new int[]{0});
+		Assert.assertEquals(topology.targets(0, 1, random), new int[0]);
+	}
+
+	@Test
+	public void fullyConnectedTopology() {
+		final var topology = IslandEngine.Topology.fullyConnected();
+		final var random = new Random(123);
+
+		Assert.assertEquals(topology.targets(0, 4, random), new int[]{1, 2, 3});
+		Assert.assertEquals(topology.targets(2, 4, random), new int[]{0, 1, 3});
+	}
+
+	@Test(dataProvider = "randomTopologies")
+	public void randomTopology(final int island, final int islands, final int degree) {
+		final var topology = IslandEngine.Topology.random(degree);
+		final var random = new Random(123);
+
+		for (int i = 0; i < 100; ++i) {
+			final int[] targets = topology.targets(island, islands, random);
+			Assert.assertEquals(targets.length, Math.min(degree, islands - 1));
+			Assert.assertEquals(Arrays.stream(targets).distinct().count(), targets.length);
+			Assert.assertTrue(Arrays.stream(targets).noneMatch(t -> t == island));
+			Assert.assertTrue(Arrays.stream(targets).allMatch(t -> t >= 0 && t < islands));
+		}
+	}
+
+	@DataProvider
+	public Object[][] randomTopologies() {
+		return new Object[][] {
+			{0, 1, 1},
+			{0, 2, 1},
+			{3, 10, 2},
+			{9, 10, 5},
+			{5, 10, 20}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void noEngines() {
+		IslandEngine.<IntegerGene, Integer>builder(List.of());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentOptimize() {
+		final Engine<IntegerGene, Integer> minimizing = island(0).toBuilder()
+			.optimize(Optimize.MINIMUM)
+			.build();
+
+		IslandEngine.builder(island(0), minimizing);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMigrationInterval() {
+		IslandEngine.builder(island(0)).migrationInterval(0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMigrants() {
+		IslandEngine.builder(island(0)).migrants(-1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidDegree() {
+		IslandEngine.Topology.random(0);
+	}
+
+}
@@ -0,0 +1,370 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Mutator;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+
+import io.jenetics.ext.engine.ProcessIslandEngine.Launcher;
+import io.jenetics.ext.engine.ProcessIslandEngine.Transport;
+import io.jenetics.ext.engine.ProcessIslandEngine.Worker;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ProcessIslandEngineTest {
+
+	public static final class Islands
+		implements IntFunction<Engine<IntegerGene, Integer>>
+	{
+		@Override
+		public Engine<IntegerGene, Integer> apply(final int island) {
+			final int min = island*100;
+			return Engine
+				.builder(
+					gt -> gt.gene().intValue(),
+					Genotype.of(IntegerChromosome.of(min, min + 10))
+				)
+				.populationSize(20)
+				.alterers(new Mutator<>(0.0))
+				.executor(Runnable::run)
+				.build();
+		}
+	}
+
+	/*
+	 * Runs the island workers in threads of the test JVM.
+	 */
+	private static final class ThreadLauncher implements Launcher {
+		final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+		@Override
+		public Worker launch(
+			final SocketAddress address,
+			final int island,
+			final String token
+		) {
+			final var engine = new Islands().apply(island);
+			final Thread thread = Thread.ofPlatform().daemon().start(() -> {
+				try {
+					IslandWorker.serve(address, token, engine);
+				} catch (IOException ignore) {
+				}
+			});
+			threads.add(thread);
+
+			return new Worker() {
+				@Override
+				public boolean isAlive() {
+					return thread.isAlive();
+				}
+				@Override
+				public void destroy() {
+					thread.interrupt();
+				}
+			};
+		}
+	}
+
+	private static ProcessIslandEngine.Builder<IntegerGene, Integer>
+	builder(final int islands, final Launcher launcher) {
+		return ProcessIslandEngine.builder(Islands.class, islands)
+			.launcher(launcher);
+	}
+
+	@Test(dataProvider = "transports")
+	public void evolve(final Transport transport) {
+		final var launcher = new ThreadLauncher();
+		try (var engine = builder(3, launcher).transport(transport).build()) {
+			final List<EvolutionResult<IntegerGene, Integer>> results = engine
+				.stream()
+				.limit(5)
+				.toList();
+
+			Assert.assertEquals(results.size(), 5);
+			for (int i = 0; i < results.size(); ++i) {
+				final var result = results.get(i);
+				Assert.assertEquals(result.population().size(), 60);
+				Assert.assertEquals(result.generation(), i + 1);
+				Assert.assertTrue(result.population().forAll(pt -> pt.isEvaluated()));
+			}
+			Assert.assertEquals(launcher.threads.size(), 3);
+		}
+	}
+
+	@DataProvider
+	public Object[][] transports() {
+		return new Object[][] {
+			{Transport.TCP},
+			{Transport.UNIX}
+		};
+	}
+
+	@Test
+	public void migration() {
+		try (var engine = builder(2, new ThreadLauncher())
+				.migrationInterval(1)
+				.migrants(5)
+				.build())
+		{
+			final EvolutionResult<IntegerGene, Integer> result = engine
+				.stream()
+				.limit(3)
+				.reduce((a, b) -> b)
+				.orElseThrow();
+
+			// The first island receives the better individuals of the second one.
+			Assert.assertTrue(
+				result.population().subSeq(0, 20).stream()
+					.anyMatch(pt -> pt.fitness() >= 100)
+			);
+		}
+	}
+
+	@Test
+	public void restart() {
+		final var launcher = new ThreadLauncher();
+		try (var engine = builder(2, launcher).build()) {
+			final long[] generations = engine.stream()
+				.limit(6)
+				.peek(result -> {
+					if (result.generation() == 3) {
+						// Simulates crashing workers.
+						launcher.threads.forEach(Thread::interrupt);
+					}
+				})
+				.mapToLong(EvolutionResult::generation)
+				.toArray();
+
+			Assert.assertEquals(generations, new long[]{1, 2, 3, 4, 5, 6});
+			Assert.assertEquals(launcher.threads.size(), 4);
+		}
+	}
+
+	@Test
+	public void failedStartup() {
+		final var launcher = new ThreadLauncher();
+		final Launcher failing = (address, island, token) ->
+			launcher.threads.size() < 2
+			? launcher.launch(address, island, token)
+			: new Worker() {
+				@Override public boolean isAlive() { return false; }
+				@Override public void destroy() { }
+			};
+
+		try (var engine = builder(2, failing).maxRestarts(2).build()) {
+			final var result = engine.stream()
+				.limit(5)
+				.peek(r -> {
+					if (r.generation() == 2) {
+						launcher.threads.forEach(Thread::interrupt);
+					}
+				})
+				.toList();
+
+			Assert.fail("Expected failing stream: " + result);
+		} catch (UncheckedIOException expected) {
+		}
+	}
+
+	@Test(dataProvider = "transports")
+	public void rejectUnauthenticatedConnection(final Transport transport)
+		throws IOException
+	{
+		final var launcher = new ThreadLauncher();
+		final List<SocketChannel> intruders = new CopyOnWriteArrayList<>();
+		final Launcher intruding = (address, island, token) -> {
+			// Connects before the worker, with a wrong token.
+			final var intruder = SocketChannel.open(address);
+			intruder.write(ByteBuffer.allocate(4 + 32).putInt(0, 32));
+			intruders.add(intruder);
+			return launcher.launch(address, island, token);
+		};
+
+		try (var engine = builder(2, intruding).transport(transport).build()) {
+			final long[] generations = engine.stream()
+				.limit(3)
+				.mapToLong(EvolutionResult::generation)
+				.toArray();
+
+			Assert.assertEquals(generations, new long[]{1, 2, 3});
+		}
+
+		Assert.assertEquals(intruders.size(), 2);
+		for (var intruder : intruders) {
+			// The coordinator closed the connection without sending data.
+			Assert.assertEquals(intruder.read(ByteBuffer.allocate(1)), -1);
+			intruder.close();
+		}
+	}
+
+	@Test
+	public void interrupt() {
+		final var launches = new AtomicInteger();
+		final Launcher hanging = (address, island, token) -> {
+			launches.incrementAndGet();
+			return new Worker() {
+				@Override public boolean isAlive() { return true; }
+				@Override public void destroy() { }
+			};
+		};
+
+		try (var engine = builder(1, hanging).executor(Runnable::run).build()) {
+			Thread.currentThread().interrupt();
+			engine.stream().limit(1).toList();
+
+			Assert.fail("Expected cancelled stream.");
+		} catch (CancellationException e) {
+			Assert.assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+
+		Assert.assertEquals(launches.get(), 1);
+	}
+
+	@Test
+	public void interruptDefaultExecutor() throws InterruptedException {
+		final var launched = new CountDownLatch(2);
+		final var destroyed = new CountDownLatch(2);
+		final Launcher hanging = (address, island, token) -> {
+			launched.countDown();
+			return new Worker() {
+				@Override public boolean isAlive() { return true; }
+				@Override public void destroy() { destroyed.countDown(); }
+			};
+		};
+
+		final var error = new AtomicReference<Throwable>();
+		final var interrupted = new AtomicBoolean();
+		try (var engine = builder(2, hanging).build()) {
+			final Thread consumer = Thread.ofPlatform().start(() -> {
+				try {
+					engine.stream().limit(1).toList();
+				} catch (Throwable e) {
+					error.set(e);
+				}
+				interrupted.set(Thread.currentThread().isInterrupted());
+			});
+
+			// Interrupts the consumer while it waits for the hanging workers.
+			Assert.assertTrue(launched.await(10, TimeUnit.SECONDS));
+			consumer.interrupt();
+			consumer.join(10_000);
+
+			Assert.assertFalse(consumer.isAlive());
+			Assert.assertTrue(error.get() instanceof CancellationException, "" + error.get());
+			Assert.assertTrue(interrupted.get());
+			Assert.assertTrue(destroyed.await(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void closeStream() throws InterruptedException {
+		final var launcher = new ThreadLauncher();
+		try (var engine = builder(2, launcher).build()) {
+			try (var stream = engine.stream()) {
+				final long[] generations = stream
+					.limit(r -> r.generation() < 3)
+					.mapToLong(EvolutionResult::generation)
+					.toArray();
+				Assert.assertEquals(generations, new long[]{1, 2});
+			}
+
+			// The workers are terminated before the engine is closed.
+			for (Thread thread : launcher.threads) {
+				thread.join(10_000);
+				Assert.assertFalse(thread.isAlive());
+			}
+		}
+	}
+
+	@Test
+	public void recycle() {
+		final var launcher = new ThreadLauncher();
+		try (var engine = builder(2, launcher).recycleInterval(2).build()) {
+			final long[] generations = engine.stream()
+				.limit(6)
+				.mapToLong(EvolutionResult::generation)
+				.toArray();
+
+			Assert.assertEquals(generations, new long[]{1, 2, 3, 4, 5, 6});
+			Assert.assertEquals(launcher.threads.size(), 6);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void closed() {
+		final var engine = builder(2, new ThreadLauncher()).build();
+		engine.close();
+		engine.stream().limit(1).toList();
+	}
+
+	@Test
+	public void address() {
+		final var tcp = new InetSocketAddress("127.0.0.1", 4711);
+		Assert.assertEquals(
+			IslandWorker.address(IslandWorker.argument(tcp)),
+			tcp
+		);
+
+		final var unix = UnixDomainSocketAddress.of("/tmp/island.sock");
+		Assert.assertEquals(
+			IslandWorker.address(IslandWorker.argument(unix)),
+			unix
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidIslands() {
+		ProcessIslandEngine.builder(Islands.class, 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidRecycleInterval() {
+		ProcessIslandEngine.builder(Islands.class, 1).recycleInterval(0);
+	}
+
+}
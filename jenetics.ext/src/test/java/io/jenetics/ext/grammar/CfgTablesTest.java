@@ -0,0 +1,73 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.grammar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.jenetics.ext.grammar.SentenceGeneratorTest.CFG;
+
+import java.util.ArrayList;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.grammar.Cfg.NonTerminal;
+import io.jenetics.ext.grammar.Cfg.Symbol;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CfgTablesTest {
+
+	@Test
+	public void tables() {
+		final CfgTables<String> tables = CFG.tables();
+		assertThat(tables.size()).isEqualTo(CFG.nonTerminals().size());
+		assertThat(tables.rule(tables.start())).isEqualTo(CFG.rules().getFirst());
+
+		for (var rule : CFG.rules()) {
+			final int id = tables.id(rule.start());
+			assertThat(tables.rule(id)).isSameAs(rule);
+			assertThat(tables.alternatives(id)).isEqualTo(rule.alternatives().size());
+
+			for (int i = 0; i < rule.alternatives().size(); ++i) {
+				final int alternative = i;
+				final int expression = tables.select(id, (r, bound) -> alternative);
+				final var symbols = rule.alternatives().get(i).symbols();
+				assertThat(tables.symbols(expression)).isEqualTo(symbols);
+
+				final var decoded = new ArrayList<Symbol<String>>();
+				for (int p = tables.begin(expression); p < tables.end(expression); ++p) {
+					final int code = tables.code(p);
+					if (code == CfgTables.TERMINAL) {
+						assertThat(tables.symbol(p) instanceof Cfg.Terminal<?>)
+							.isEqualTo(true);
+					} else {
+						assertThat(tables.rule(code).start().name())
+							.isEqualTo(tables.symbol(p).name());
+					}
+					decoded.add(tables.symbol(p));
+				}
+				assertThat(decoded).isEqualTo(symbols);
+			}
+		}
+
+		assertThat(tables.id(new NonTerminal<>("unknown"))).isEqualTo(-1);
+	}
+
+}
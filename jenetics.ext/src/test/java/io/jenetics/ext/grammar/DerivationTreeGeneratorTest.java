@@ -23,10 +23,12 @@ import static java.lang.Integer.MAX_VALUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static io.jenetics.ext.grammar.SentenceGeneratorTest.CFG;
 
+import java.util.Optional;
 import java.util.Random;
 
 import org.testng.annotations.Test;
 
+import io.jenetics.ext.grammar.Cfg.NonTerminal;
 import io.jenetics.ext.grammar.Cfg.Symbol;
 import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
@@ -62,4 +64,65 @@ public class DerivationTreeGeneratorTest {
 		);
 	}
 
+	@Test
+	public void equivalentToLeafSearchGeneration() {
+		final var random = new Random(123);
+		for (int i = 0; i < 200; ++i) {
+			final Cfg<String> cfg = i%2 == 0 ? CFG : RandomCfg.next(random);
+			final long seed = random.nextLong();
+
+			final var generator = new DerivationTreeGenerator<String>(
+				SymbolIndex.of(new Random(seed)),
+				1_000
+			);
+			final var expected = generate(
+				cfg,
+				SymbolIndex.of(new Random(seed)),
+				1_000
+			);
+
+			assertThat(generator.generate(cfg)).isEqualTo(expected);
+		}
+	}
+
+	// Reference implementation, which expands the first leaf in breadth-first order.
+	private static Tree<Symbol<String>, ?> generate(
+		final Cfg<String> cfg,
+		final SymbolIndex index,
+		final int limit
+	) {
+		final TreeNode<Symbol<String>> symbols = TreeNode.of(cfg.start());
+
+		int count = 1;
+		boolean expanded = true;
+		while (expanded) {
+			final Optional<TreeNode<Symbol<String>>> tree = symbols.leaves()
+				.filter(leave ->
+					leave.value() instanceof NonTerminal<String> nt &&
+					cfg.rule(nt).isPresent()
+				)
+				.findFirst();
+
+			if (tree.isPresent()) {
+				final var t = tree.orElseThrow();
+				final var selection = Generator.select(
+					(NonTerminal<String>)t.value(),
+					cfg,
+					index
+				);
+				count += selection.size();
+
+				if (count > limit) {
+					return TreeNode.of();
+				}
+
+				selection.forEach(t::attach);
+			}
+
+			expanded = tree.isPresent();
+		}
+
+		return symbols;
+	}
+
 }
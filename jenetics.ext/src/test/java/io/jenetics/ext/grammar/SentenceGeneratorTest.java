@@ -82,6 +82,64 @@ public class SentenceGeneratorTest {
 			.isEqualTo("FUN1(y,FUN1(x,FUN1((3/y),(((FUN1(FUN1(y,9),y)+(4/x))-FUN2(y,x))*y))))");
 	}
 
+	@Test(dataProvider = "expansions")
+	public void equivalentToListGeneration(final Expansion expansion) {
+		for (int seed = 0; seed < 500; ++seed) {
+			for (int limit : new int[] {1, 10, 50, MAX_VALUE}) {
+				final var generator = new SentenceGenerator<String>(
+					SymbolIndex.of(new Random(seed)),
+					expansion,
+					limit
+				);
+				final var reference = new SentenceGenerator<String>(
+					SymbolIndex.of(new Random(seed)),
+					expansion,
+					limit
+				);
+
+				final var expected = new ArrayList<Symbol<String>>();
+				reference.generate(CFG, expected);
+
+				assertThat(generator.generate(CFG)).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test(dataProvider = "expansions")
+	public void equivalentToListGenerationForRandomGrammars(
+		final Expansion expansion
+	) {
+		final var random = new Random(123);
+		for (int i = 0; i < 200; ++i) {
+			final Cfg<String> cfg = RandomCfg.next(random);
+			final long seed = random.nextLong();
+
+			final var generator = new SentenceGenerator<String>(
+				SymbolIndex.of(new Random(seed)),
+				expansion,
+				1_000
+			);
+			final var reference = new SentenceGenerator<String>(
+				SymbolIndex.of(new Random(seed)),
+				expansion,
+				1_000
+			);
+
+			final var expected = new ArrayList<Symbol<String>>();
+			reference.generate(cfg, expected);
+
+			assertThat(generator.generate(cfg)).isEqualTo(expected);
+		}
+	}
+
+	@DataProvider
+	public Object[][] expansions() {
+		return new Object[][] {
+			{Expansion.LEFT_MOST},
+			{Expansion.LEFT_TO_RIGHT}
+		};
+	}
+
 	@Test(dataProvider = "sentencesLeftToRight")
 	public void compatibleLeftToRightSentenceGeneration(
 		final long seed,
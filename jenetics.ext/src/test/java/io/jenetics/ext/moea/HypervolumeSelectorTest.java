@@ -0,0 +1,187 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HypervolumeSelectorTest {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(new double[]{v[0]*cos(v[1]), v[0]*sin(v[1])}),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+	@Test
+	public void selectFronts() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			phenotype(1, 4), phenotype(2, 3), phenotype(3, 2), phenotype(4, 1),
+			phenotype(1, 1), phenotype(2, 2), phenotype(0, 0)
+		);
+
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			new HypervolumeSelector<>();
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 5, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected, population.subSeq(0, 4).append(population.get(5)));
+	}
+
+	@Test
+	public void reduceFront() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			phenotype(0, 10), phenotype(1, 9), phenotype(5, 5),
+			phenotype(9, 1), phenotype(10, 0)
+		);
+
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			new HypervolumeSelector<>();
+
+		final Set<Vec<double[]>> selected = selector
+			.select(population, 3, Optimize.MAXIMUM).stream()
+			.map(Phenotype::fitness)
+			.collect(Collectors.toSet());
+
+		Assert.assertEquals(
+			selected,
+			Set.of(Vec.of(1.0, 9.0), Vec.of(5.0, 5.0), Vec.of(9.0, 1.0))
+		);
+	}
+
+	@Test
+	public void reduceFrontMin() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			phenotype(0, -10), phenotype(-1, -9), phenotype(-5, -5),
+			phenotype(-9, -1), phenotype(-10, 0)
+		);
+
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			new HypervolumeSelector<>(Vec.of(1.0, 1.0));
+
+		final Set<Vec<double[]>> selected = selector
+			.select(population, 3, Optimize.MINIMUM).stream()
+			.map(Phenotype::fitness)
+			.collect(Collectors.toSet());
+
+		Assert.assertEquals(
+			selected,
+			Set.of(Vec.of(-1.0, -9.0), Vec.of(-5.0, -5.0), Vec.of(-9.0, -1.0))
+		);
+	}
+
+	@Test
+	public void selectMax() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			new HypervolumeSelector<>();
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(500)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 50, Optimize.MAXIMUM);
+		Assert.assertEquals(selected.size(), 50);
+
+		final double mean = selected.stream()
+			.map(Phenotype::fitness)
+			.mapToDouble(NSGA2SelectorTest::dist)
+			.sum()/selected.size();
+		Assert.assertTrue(mean > 0.8, "Expect mean > 0.8: " + mean);
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			phenotype(1, 2), phenotype(2, 1)
+		);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			new HypervolumeSelector<DoubleGene, Vec<double[]>>()
+				.select(population, 5, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected.size(), 5);
+	}
+
+	@Test
+	public void selectEmpty() {
+		Assert.assertTrue(
+			new HypervolumeSelector<DoubleGene, Vec<double[]>>()
+				.select(ISeq.empty(), 5, Optimize.MAXIMUM)
+				.isEmpty()
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeCount() {
+		new HypervolumeSelector<DoubleGene, Vec<double[]>>()
+			.select(ISeq.of(phenotype(1, 2)), -1, Optimize.MAXIMUM);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidOffset() {
+		new HypervolumeSelector<DoubleGene, Vec<double[]>>(0);
+	}
+
+	private static Phenotype<DoubleGene, Vec<double[]>>
+	phenotype(final double x, final double y) {
+		return Phenotype.of(
+			PROBLEM.codec().encoding().newInstance(),
+			1L,
+			Vec.of(x, y)
+		);
+	}
+
+	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
+		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
+		return Phenotype.of(
+			gt,
+			1L,
+			PROBLEM.fitness().apply(PROBLEM.codec().decode(gt))
+		);
+	}
+
+}
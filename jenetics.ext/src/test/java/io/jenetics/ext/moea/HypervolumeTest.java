@@ -0,0 +1,222 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Optimize;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HypervolumeTest {
+
+	@Test(dataProvider = "volumeParameters")
+	public void volume(final Integer dimension, final Integer range) {
+		final var random = new Random(123 + dimension*range);
+		for (int n : new int[]{0, 1, 2, 5, 20, 50}) {
+			final ISeq<Vec<double[]>> points = points(n, dimension, range, random);
+
+			Assert.assertEquals(
+				Hypervolume.of(points, origin(dimension), Optimize.MAXIMUM),
+				cells(points, dimension, range),
+				1e-9
+			);
+		}
+	}
+
+	@Test(dataProvider = "volumeParameters")
+	public void minimizedVolume(final Integer dimension, final Integer range) {
+		final var random = new Random(456 + dimension*range);
+		final ISeq<Vec<double[]>> points = points(30, dimension, range, random);
+		final ISeq<Vec<double[]>> mirrored = points
+			.map(p -> Vec.of(IntStream.range(0, dimension)
+				.mapToDouble(i -> range - p.data()[i])
+				.toArray()));
+
+		Assert.assertEquals(
+			Hypervolume.of(
+				mirrored,
+				Vec.of(IntStream.range(0, dimension)
+					.mapToDouble(i -> range)
+					.toArray()),
+				Optimize.MINIMUM
+			),
+			Hypervolume.of(points, origin(dimension), Optimize.MAXIMUM),
+			1e-9
+		);
+	}
+
+	@Test(dataProvider = "volumeParameters")
+	public void contributions(final Integer dimension, final Integer range) {
+		final var random = new Random(789 + dimension*range);
+		final ISeq<Vec<double[]>> points = points(30, dimension, range, random);
+		final Vec<double[]> reference = origin(dimension);
+
+		final double volume = Hypervolume.of(points, reference, Optimize.MAXIMUM);
+		final double[] contributions =
+			Hypervolume.contributions(points, reference, Optimize.MAXIMUM);
+
+		Assert.assertEquals(contributions.length, points.size());
+		for (int i = 0; i < points.size(); ++i) {
+			final int index = i;
+			final ISeq<Vec<double[]>> others = IntStream.range(0, points.size())
+				.filter(j -> j != index)
+				.mapToObj(points)
+				.collect(ISeq.toISeq());
+
+			Assert.assertEquals(
+				contributions[i],
+				volume - Hypervolume.of(others, reference, Optimize.MAXIMUM),
+				1e-9
+			);
+		}
+	}
+
+	@Test(dataProvider = "volumeParameters")
+	public void sharedContributions(final Integer dimension, final Integer range) {
+		final var random = new Random(321 + dimension*range);
+		final double[][] points = points(30, dimension, range, random).stream()
+			.map(Vec::data)
+			.toArray(double[][]::new);
+		final double[] contributions =
+			Hypervolume.contributions(points, dimension);
+
+		for (int j = 0; j < points.length; ++j) {
+			final int removed = j;
+			final double[][] others = IntStream.range(0, points.length)
+				.filter(i -> i != removed)
+				.mapToObj(i -> points[i])
+				.toArray(double[][]::new);
+			final double[] expected = Hypervolume.contributions(others, dimension);
+
+			for (int i = 0, k = 0; i < points.length; ++i) {
+				if (i != j) {
+					Assert.assertEquals(
+						contributions[i] +
+							Hypervolume.shared(points, points.length, i, j, dimension),
+						expected[k++],
+						1e-9
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void duplicateContributions() {
+		final ISeq<Vec<double[]>> points = ISeq.of(
+			Vec.of(1.0, 3.0), Vec.of(2.0, 2.0), Vec.of(2.0, 2.0), Vec.of(3.0, 1.0)
+		);
+
+		Assert.assertEquals(
+			Hypervolume.contributions(points, Vec.of(0.0, 0.0), Optimize.MAXIMUM),
+			new double[]{1.0, 0.0, 0.0, 1.0}
+		);
+	}
+
+	@Test
+	public void pointsOutsideReference() {
+		final ISeq<Vec<double[]>> points = ISeq.of(
+			Vec.of(2.0, 2.0, 2.0), Vec.of(-1.0, 5.0, 5.0), Vec.of(5.0, 0.0, 5.0)
+		);
+
+		Assert.assertEquals(
+			Hypervolume.of(points, Vec.of(0.0, 0.0, 0.0), Optimize.MAXIMUM),
+			8.0
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidDimension() {
+		Hypervolume.of(
+			ISeq.of(Vec.of(1.0, 2.0)),
+			Vec.of(0.0, 0.0, 0.0),
+			Optimize.MAXIMUM
+		);
+	}
+
+	@DataProvider(name = "volumeParameters")
+	public Object[][] volumeParameters() {
+		return new Object[][] {
+			{1, 10}, {2, 10}, {3, 8}, {4, 6}, {5, 5}, {6, 4}
+		};
+	}
+
+	private static ISeq<Vec<double[]>> points(
+		final int count,
+		final int dimension,
+		final int range,
+		final Random random
+	) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> Vec.of(
+				IntStream.range(0, dimension)
+					.mapToDouble(j -> random.nextInt(range + 1))
+					.toArray()
+			))
+			.collect(ISeq.toISeq());
+	}
+
+	private static Vec<double[]> origin(final int dimension) {
+		return Vec.of(new double[dimension]);
+	}
+
+	// Counts the unit cells of the grid, which are dominated by the points.
+	private static double cells(
+		final ISeq<Vec<double[]>> points,
+		final int dimension,
+		final int range
+	) {
+		final int[] cell = new int[dimension];
+		int count = 0;
+		do {
+			for (Vec<double[]> point : points) {
+				boolean covered = true;
+				for (int m = 0; m < dimension && covered; ++m) {
+					covered = point.data()[m] >= cell[m] + 1;
+				}
+				if (covered) {
+					++count;
+					break;
+				}
+			}
+		} while (next(cell, range));
+
+		return count;
+	}
+
+	private static boolean next(final int[] cell, final int range) {
+		for (int m = 0; m < cell.length; ++m) {
+			if (++cell[m] < range) {
+				return true;
+			}
+			cell[m] = 0;
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IndexedParetoFrontTest {
+
+	@Test(dataProvider = "dimensions")
+	public void add(final int dimension) {
+		final Random random = new Random(dimension);
+
+		final List<Vec<double[]>> elements = new ArrayList<>();
+		final IndexedParetoFront<Vec<double[]>> front = IndexedParetoFront.ofVec();
+
+		for (int i = 0; i < 500; ++i) {
+			final Vec<double[]> point = point(random, dimension);
+			elements.add(point);
+			front.add(point);
+
+			Assert.assertEquals(
+				new HashSet<>(front),
+				new HashSet<>(Pareto.front(ISeq.of(elements)).asList())
+			);
+		}
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void addDiscrete(final int dimension) {
+		final Random random = new Random(dimension);
+
+		final List<Vec<int[]>> elements = new ArrayList<>();
+		final IndexedParetoFront<Vec<int[]>> front = IndexedParetoFront.ofVec();
+
+		for (int i = 0; i < 1000; ++i) {
+			final Vec<int[]> point = Vec.of(
+				random.ints(dimension, 0, 10).toArray()
+			);
+			elements.add(point);
+			front.add(point);
+		}
+
+		Assert.assertEquals(
+			new HashSet<>(front),
+			new HashSet<>(Pareto.front(ISeq.of(elements)).asList())
+		);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void addReverse(final int dimension) {
+		final Random random = new Random(dimension);
+
+		final List<Vec<double[]>> elements = IntStream.range(0, 2000)
+			.mapToObj(i -> point(random, dimension))
+			.toList();
+
+		final IndexedParetoFront<Vec<double[]>> front = new IndexedParetoFront<>(
+			(u, v, i) -> v.compare(u, i),
+			Vec::length
+		);
+		front.addAll(elements);
+
+		Assert.assertEquals(
+			new HashSet<>(front),
+			new HashSet<>(
+				Pareto.front(ISeq.of(elements), (a, b) -> b.dominance(a)).asList()
+			)
+		);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void remove(final int dimension) {
+		final Random random = new Random(dimension);
+
+		final IndexedParetoFront<Vec<double[]>> front = IntStream.range(0, 2000)
+			.mapToObj(i -> point(random, dimension))
+			.collect(IndexedParetoFront.toParetoFront());
+
+		final List<Vec<double[]>> elements = new ArrayList<>(front);
+		for (int i = 0; i < elements.size(); i += 2) {
+			Assert.assertTrue(front.contains(elements.get(i)));
+			Assert.assertTrue(front.remove(elements.get(i)));
+			Assert.assertFalse(front.contains(elements.get(i)));
+			Assert.assertFalse(front.remove(elements.get(i)));
+		}
+
+		Assert.assertEquals(front.size(), elements.size()/2);
+		for (int i = 1; i < elements.size(); i += 2) {
+			Assert.assertTrue(front.contains(elements.get(i)));
+		}
+	}
+
+	@Test
+	public void addDuplicate() {
+		final IndexedParetoFront<Vec<int[]>> front = IndexedParetoFront.ofVec();
+		Assert.assertTrue(front.add(Vec.of(1, 2, 3)));
+		Assert.assertFalse(front.add(Vec.of(1, 2, 3)));
+		Assert.assertTrue(front.add(Vec.of(1, 2, 4)));
+		Assert.assertFalse(front.add(Vec.of(1, 2, 3)));
+
+		Assert.assertEquals(front.size(), 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void addDifferentDimension() {
+		final IndexedParetoFront<Vec<int[]>> front = IndexedParetoFront.ofVec();
+		front.add(Vec.of(1, 2, 3));
+		front.add(Vec.of(1, 2));
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void bounded(final int dimension) {
+		final Random random = new Random(dimension);
+		final int maxSize = 50;
+
+		final IndexedParetoFront<Vec<double[]>> front =
+			IndexedParetoFront.ofVec(maxSize);
+
+		for (int i = 0; i < 10_000; ++i) {
+			front.add(point(random, dimension));
+			Assert.assertTrue(front.size() <= maxSize + 16);
+		}
+
+		front.trim();
+		Assert.assertEquals(front.size(), dimension == 1 ? 1 : maxSize);
+		Assert.assertEquals(
+			new HashSet<>(front),
+			new HashSet<>(Pareto.front(front.toISeq()).asList())
+		);
+	}
+
+	@DataProvider
+	public Object[][] dimensions() {
+		return new Object[][] {{1}, {2}, {3}, {4}, {6}};
+	}
+
+	private static Vec<double[]> point(final Random random, final int dimension) {
+		// Points inside the unit sphere, which have a rather big pareto front.
+		final double[] point = random.doubles(dimension, -1, 1).toArray();
+		final double norm = Math.sqrt(
+			Arrays.stream(point).map(v -> v*v).sum()
+		);
+		final double radius = Math.pow(random.nextDouble(), 1.0/dimension);
+		for (int i = 0; i < point.length; ++i) {
+			point[i] = point[i]/norm*radius;
+		}
+		return Vec.of(point);
+	}
+
+}
@@ -100,4 +100,37 @@ public class MOEATest {
 		Assert.assertTrue(missing.size() < 10, "Expected < 10, got " + missing.size());
 	}
 
+	@Test
+	public void hypervolumeStagnation() {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1])),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 0.5*PI)
+			)
+		);
+
+		final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+			.populationSize(50)
+			.alterers(
+				new Mutator<>(0.1),
+				new MeanAlterer<>())
+			.offspringSelector(new TournamentSelector<>(2))
+			.survivorsSelector(new HypervolumeSelector<>())
+			.build();
+
+		final long generations = engine.stream()
+			.limit(MOEA.byHypervolumeStagnation(Vec.of(0.0, 0.0), 5, 0.001))
+			.limit(1000)
+			.count();
+
+		Assert.assertTrue(generations > 5, "Expected > 5, got " + generations);
+		Assert.assertTrue(generations < 1000, "Expected < 1000, got " + generations);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidHypervolumeStagnation() {
+		MOEA.byHypervolumeStagnation(Vec.of(0.0, 0.0), 0, 0.001);
+	}
+
 }
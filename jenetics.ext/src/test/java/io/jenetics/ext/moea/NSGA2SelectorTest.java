@@ -24,7 +24,10 @@ import static java.lang.Math.cos;
 import static java.lang.Math.sin;
 import static java.lang.String.format;
 
+import java.util.Comparator;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.testng.Assert;
@@ -118,6 +121,89 @@ public class NSGA2SelectorTest {
 		);
 	}
 
+	@Test
+	public void vectorizedSelection() {
+		final Selector<DoubleGene, Vec<double[]>> vectorized =
+			NSGA2Selector.ofVec();
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			new NSGA2Selector<>(Vec::compare, Vec::distance, Vec::length);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(1000)
+				.collect(ISeq.toISeq());
+
+		for (Optimize opt : Optimize.values()) {
+			Assert.assertEquals(
+				vectorized.select(population, 100, opt),
+				selector.select(population, 100, opt)
+			);
+		}
+	}
+
+	@Test
+	public void objectiveMatrixNormalizesSignedZeros() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = Stream
+			.of(Vec.of(0.0, -0.0), Vec.of(-0.0, 1.0), Vec.of(1.0, 0.0))
+			.map(v -> Phenotype.<DoubleGene, Vec<double[]>>of(
+				PROBLEM.codec().encoding().newInstance(), 1L, v))
+			.collect(ISeq.toISeq());
+
+		for (Optimize opt : Optimize.values()) {
+			final double[] objectives = Objectives.of(population, opt);
+			Assert.assertNotNull(objectives);
+			for (double value : objectives) {
+				Assert.assertNotEquals(
+					Double.doubleToRawLongBits(value),
+					Double.doubleToRawLongBits(-0.0)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void customDominance() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA2Selector.ofVec();
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			IntStream.rangeClosed(0, 10)
+				.mapToObj(i -> new FirstObjectiveVec(new double[]{i, 10 - i}))
+				.map(v -> Phenotype.<DoubleGene, Vec<double[]>>of(
+					PROBLEM.codec().encoding().newInstance(), 1L, v))
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 3, Optimize.MAXIMUM);
+
+		Assert.assertEquals(
+			selected.stream()
+				.map(pt -> pt.fitness().data()[0])
+				.collect(Collectors.toSet()),
+			Set.of(8.0, 9.0, 10.0)
+		);
+	}
+
+	// Vector, which is only dominated by vectors with a greater first element.
+	private record FirstObjectiveVec(double[] data) implements Vec<double[]> {
+		@Override
+		public int length() {
+			return data.length;
+		}
+		@Override
+		public ElementComparator<double[]> comparator() {
+			return (u, v, i) -> Double.compare(u[i], v[i]);
+		}
+		@Override
+		public ElementDistance<double[]> distance() {
+			return (u, v, i) -> u[i] - v[i];
+		}
+		@Override
+		public Comparator<double[]> dominance() {
+			return (u, v) -> Double.compare(u[0], v[0]);
+		}
+	}
+
 	static double dist(final Vec<double[]> vec) {
 		double dist = 0;
 		for (int i = 0; i < vec.length(); ++i) {
@@ -24,6 +24,7 @@ import static java.lang.Math.PI;
 import static java.lang.Math.cos;
 import static java.lang.Math.sin;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Random;
 import java.util.random.RandomGenerator;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -186,6 +188,115 @@ public class ParetoTest {
 		);
 	}
 
+	@Test(dataProvider = "rankParameters")
+	public void fastRank(final Integer dimension, final Integer range) {
+		final var random = new Random(1234 + dimension*range);
+		for (int n : new int[]{0, 1, 2, 10, 100, 500}) {
+			final ISeq<Vec<int[]>> points = IntStream.range(0, n)
+				.mapToObj(i -> Vec.of(
+					IntStream.range(0, dimension)
+						.map(j -> random.nextInt(range))
+						.toArray()
+				))
+				.collect(ISeq.toISeq());
+
+			Assert.assertEquals(
+				Pareto.rank(points),
+				Pareto.rank(points, Vec::dominance)
+			);
+			Assert.assertEquals(
+				Pareto.rank(points, Vec::compare, Vec::length),
+				Pareto.rank(points, Vec::dominance)
+			);
+			Assert.assertEquals(
+				Pareto.<Vec<int[]>>rank(
+					points,
+					(u, v, i) -> v.compare(u, i),
+					Vec::length
+				),
+				Pareto.rank(points, (u, v) -> v.dominance(u))
+			);
+		}
+	}
+
+	@Test(dataProvider = "rankParameters")
+	public void matrixRank(final Integer dimension, final Integer range) {
+		final var random = new Random(4321 + dimension*range);
+		for (int n : new int[]{0, 1, 2, 10, 100, 500}) {
+			final ISeq<Vec<double[]>> points = points(n, dimension, range, random);
+
+			Assert.assertEquals(
+				Pareto.rank(matrix(points, 1), dimension),
+				Pareto.rank(points, Vec::dominance)
+			);
+			Assert.assertEquals(
+				Pareto.rank(matrix(points, -1), dimension),
+				Pareto.rank(points, (u, v) -> v.dominance(u))
+			);
+		}
+	}
+
+	@Test(dataProvider = "rankParameters")
+	public void matrixCrowdingDistance(final Integer dimension, final Integer range) {
+		final var random = new Random(5432 + dimension*range);
+		for (int n : new int[]{0, 1, 2, 3, 10, 100, 500}) {
+			final ISeq<Vec<double[]>> points = points(n, dimension, range, random);
+
+			Assert.assertEquals(
+				Pareto.crowdingDistance(matrix(points, 1), dimension),
+				Pareto.crowdingDistance(points)
+			);
+			Assert.assertEquals(
+				Pareto.crowdingDistance(matrix(points, -1), dimension),
+				Pareto.<Vec<double[]>>crowdingDistance(
+					points,
+					(u, v, i) -> v.compare(u, i),
+					Vec::distance,
+					Vec::length
+				)
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void matrixRankInvalidDimension() {
+		Pareto.rank(new double[5], 2);
+	}
+
+	private static ISeq<Vec<double[]>> points(
+		final int count,
+		final int dimension,
+		final int range,
+		final Random random
+	) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> Vec.of(
+				IntStream.range(0, dimension)
+					.mapToDouble(j -> random.nextInt(range))
+					.toArray()
+			))
+			.collect(ISeq.toISeq());
+	}
+
+	private static double[] matrix(
+		final ISeq<Vec<double[]>> points,
+		final double sign
+	) {
+		return points.stream()
+			.flatMapToDouble(p -> Arrays.stream(p.data()).map(v -> sign*v))
+			.toArray();
+	}
+
+	@DataProvider(name = "rankParameters")
+	public Object[][] rankParameters() {
+		return new Object[][] {
+			{1, 5}, {1, 1000},
+			{2, 5}, {2, 1000},
+			{3, 5}, {3, 1000},
+			{5, 3}, {5, 1000}
+		};
+	}
+
 	@Test
 	public void dominance() {
 		final ISeq<Vec<double[]>> outline = circle(1000, new Random(234));
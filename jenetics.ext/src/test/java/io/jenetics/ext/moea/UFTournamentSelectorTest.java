@@ -24,6 +24,7 @@ import static java.lang.Math.cos;
 import static java.lang.Math.sin;
 import static java.lang.String.format;
 
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,6 +42,7 @@ import io.jenetics.engine.Codecs;
 import io.jenetics.engine.Problem;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -127,6 +129,28 @@ public class UFTournamentSelectorTest {
 		);
 	}
 
+	@Test
+	public void vectorizedSelection() {
+		final Selector<DoubleGene, Vec<double[]>> vectorized =
+			UFTournamentSelector.ofVec();
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			new UFTournamentSelector<>(Vec::compare, Vec::distance, Vec::length);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(1000)
+				.collect(ISeq.toISeq());
+
+		for (Optimize opt : Optimize.values()) {
+			Assert.assertEquals(
+				RandomRegistry.with(new Random(123), r ->
+					vectorized.select(population, 100, opt)),
+				RandomRegistry.with(new Random(123), r ->
+					selector.select(population, 100, opt))
+			);
+		}
+	}
+
 	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
 		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
 		return Phenotype.of(
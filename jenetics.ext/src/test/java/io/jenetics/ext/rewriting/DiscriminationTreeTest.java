@@ -0,0 +1,97 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DiscriminationTreeTest {
+
+	private static final List<String> PATTERNS = List.of(
+		"add($x,0)",
+		"add(0,$x)",
+		"add($x,$x)",
+		"add(mul($x,$y),$z)",
+		"mul($x,1)",
+		"$x",
+		"sin(add($x,0))"
+	);
+
+	@Test(dataProvider = "trees")
+	public void candidates(final String tree, final List<Integer> expected) {
+		final var index = new DiscriminationTree<String>();
+		for (int i = 0; i < PATTERNS.size(); ++i) {
+			index.add(TreePattern.compile(PATTERNS.get(i)), i);
+		}
+
+		final var candidates = new BitSet();
+		index.candidates(TreeNode.parse(tree), candidates);
+		assertThat(candidates.stream().boxed().toList()).isEqualTo(expected);
+	}
+
+	@DataProvider
+	public Object[][] trees() {
+		return new Object[][] {
+			{"add(x,0)", List.of(0, 2, 5)},
+			{"add(0,0)", List.of(0, 1, 2, 5)},
+			{"add(0,y)", List.of(1, 2, 5)},
+			{"add(mul(a,b),0)", List.of(0, 2, 3, 5)},
+			{"mul(x,1)", List.of(4, 5)},
+			{"mul(x,2)", List.of(5)},
+			{"sin(add(sin(x),0))", List.of(5, 6)},
+			{"sin(add(x,1))", List.of(5)},
+			{"x", List.of(5)}
+		};
+	}
+
+	@Test
+	public void candidatesMatch() {
+		final var index = new DiscriminationTree<String>();
+		for (int i = 0; i < PATTERNS.size(); ++i) {
+			index.add(TreePattern.compile(PATTERNS.get(i)), i);
+		}
+
+		final var tree = TreeNode.parse("add(mul(a,b),mul(0,add(x,0)))");
+		for (var node : tree) {
+			final var candidates = new BitSet();
+			index.candidates(node, candidates);
+
+			final var matching = IntStream.range(0, PATTERNS.size())
+				.filter(i -> TreePattern.compile(PATTERNS.get(i)).matches(node))
+				.boxed()
+				.toList();
+			for (int i : matching) {
+				assertThat(candidates.get(i)).isEqualTo(true);
+			}
+		}
+	}
+
+}
@@ -19,13 +19,18 @@
  */
 package io.jenetics.ext.rewriting;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.io.IOException;
+import java.util.Random;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
 
+import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -47,6 +52,132 @@ public class TRSTest {
 		Assert.assertEquals(tree, TreeNode.parse("S(S(S(S(0))))"));
 	}
 
+	@Test
+	public void innermostNormalFormOfRandomTrees() {
+		final ISeq<TreeRewriteRule<String>> rules = ISeq.of(
+			"add(0,$x) -> $x",
+			"add(S($x),$y) -> S(add($x,$y))",
+			"mul(0,$x) -> 0",
+			"mul(S($x),$y) -> add(mul($x,$y),$y)"
+		).map(TreeRewriteRule::parse);
+		final TRS<String> trs = new TRS<>(rules);
+
+		final var random = new Random(123);
+		for (int i = 0; i < 100; ++i) {
+			final TreeNode<String> tree = peano(random, 4);
+			final TreeNode<String> expected = tree.copy();
+			TreeRewriter.rewrite(expected, rules);
+
+			trs.innermost().rewrite(tree);
+			Assert.assertEquals(tree, expected);
+		}
+	}
+
+	private static TreeNode<String> peano(final Random random, final int depth) {
+		return switch (depth == 0 ? 0 : random.nextInt(4)) {
+			case 0 -> TreeNode.of("0");
+			case 1 -> TreeNode.of("S").attach(peano(random, depth - 1));
+			default -> TreeNode.of(random.nextBoolean() ? "add" : "mul")
+				.attach(peano(random, depth - 1))
+				.attach(peano(random, depth - 1));
+		};
+	}
+
+	@Test
+	public void innermostRuleOrder() {
+		final TRS<String> trs = TRS.parse(
+			"f($x,$x) -> same",
+			"f($x,$y) -> other"
+		);
+
+		final TreeNode<String> tree = TreeNode.parse("g(f(a,a),f(a,b))");
+		assertThat(trs.innermost().rewrite(tree)).isEqualTo(2);
+		Assert.assertEquals(tree, TreeNode.parse("g(same,other)"));
+	}
+
+	@Test
+	public void innermostLimit() {
+		final TRS<String> trs = TRS.parse("add(0,$x) -> $x");
+
+		final TreeNode<String> tree = TreeNode.parse("add(0,add(0,add(0,x)))");
+		assertThat(trs.innermost().rewrite(tree, 2)).isEqualTo(2);
+		Assert.assertEquals(tree, TreeNode.parse("add(0,x)"));
+		assertThat(trs.innermost().rewrite(tree, 0)).isEqualTo(0);
+		assertThat(trs.innermost().rewrite(tree)).isEqualTo(1);
+		Assert.assertEquals(tree, TreeNode.parse("x"));
+	}
+
+	@Test
+	public void innermostRoot() {
+		final TRS<String> trs = TRS.parse(
+			"add(0,$x) -> $x",
+			"dup($x) -> pair($x,$x)"
+		);
+
+		final TreeNode<String> tree = TreeNode.parse("dup(add(0,f(a,b)))");
+		final TreeNode<String> root = tree;
+		assertThat(trs.innermost().rewrite(tree)).isEqualTo(2);
+		assertThat(tree).isSameAs(root);
+		Assert.assertEquals(tree, TreeNode.parse("pair(f(a,b),f(a,b))"));
+		assertThat(tree.childAt(0)).isNotSameAs(tree.childAt(1));
+	}
+
+	@Test
+	public void innermostDeepTree() {
+		final TRS<String> trs = TRS.parse("add(0,$x) -> $x");
+
+		final int depth = 50_000;
+		TreeNode<String> tree = TreeNode.of("x");
+		for (int i = 0; i < depth; ++i) {
+			tree = TreeNode.of("add").attach(TreeNode.of("0")).attach(tree);
+		}
+
+		assertThat(trs.innermost().rewrite(tree)).isEqualTo(depth);
+		assertThat(tree.value()).isEqualTo("x");
+		assertThat(tree.childCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void innermostUnchangedTree() {
+		final TRS<String> trs = TRS.parse("add(0,$x) -> $x");
+
+		final TreeNode<String> tree = TreeNode.parse("add(1,mul(x,add(y,0)))");
+		final Tree<String, ?> expected = tree.copy();
+		assertThat(trs.innermost().rewrite(tree)).isEqualTo(0);
+		Assert.assertEquals(tree, expected);
+	}
+
+	@Test
+	public void rewriteRuleByRule() {
+		final ISeq<TreeRewriteRule<String>> rules = ISeq.of(
+			"div($x,$x) -> 1",
+			"div(0,$x) -> 0"
+		).map(TreeRewriteRule::parse);
+		final TRS<String> trs = new TRS<>(rules);
+
+		final TreeNode<String> tree = TreeNode.parse("div(0,div(0,x))");
+		final TreeNode<String> expected = tree.copy();
+		TreeRewriter.rewrite(expected, rules);
+
+		trs.rewrite(tree);
+		Assert.assertEquals(tree, expected);
+		Assert.assertEquals(tree, TreeNode.parse("0"));
+	}
+
+	@Test
+	public void innermostNonConfluentRules() {
+		final TRS<String> trs = TRS.parse(
+			"div($x,$x) -> 1",
+			"div(0,$x) -> 0"
+		);
+
+		// The rule set is not confluent and the innermost strategy leads to
+		// a different normal form than the rule by rule rewriting.
+		final TreeNode<String> tree = TreeNode.parse("div(0,div(0,x))");
+		trs.innermost().rewrite(tree);
+		Assert.assertEquals(tree, TreeNode.parse("1"));
+	}
+
 	@Test
 	public void serialize() throws IOException {
 		final TRS<String> trs = TRS.parse(
@@ -98,10 +98,27 @@ public class FlatTreeNodeTest extends TreeTestBase<Integer, FlatTreeNode<Integer
 			{(Function<Tree<?, ?>, Object>)Tree::childPath},
 			{(Function<Tree<?, ?>, Object>)Tree::isLeaf},
 			{(Function<Tree<?, ?>, Object>)t -> t.root().value()},
-			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(Tree::value).orElse(null)}
+			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(Tree::value).orElse(null)},
+			{(Function<Tree<?, ?>, Object>)Tree::size},
+			{(Function<Tree<?, ?>, Object>)Tree::depth},
+			{(Function<Tree<?, ?>, Object>)Tree::path},
+			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(p -> p.indexOf(t)).orElse(-1)},
+			{(Function<Tree<?, ?>, Object>)t -> t.nextSibling().map(Tree::value).orElse(null)},
+			{(Function<Tree<?, ?>, Object>)t -> t.previousSibling().map(Tree::value).orElse(null)}
 		};
 	}
 
+	@Test
+	public void indexOfForeignNode() {
+		final FlatTreeNode<Integer> tree = newTree(3, new Random(123));
+		final FlatTreeNode<Integer> other = newTree(3, new Random(123));
+
+		Assert.assertEquals(tree.indexOf(tree.childAt(0)), 0);
+		Assert.assertEquals(tree.indexOf(other.childAt(0)), -1);
+		Assert.assertEquals(tree.indexOf(tree), -1);
+		Assert.assertEquals(tree.childAt(0).indexOf(tree.childAt(0)), -1);
+	}
+
 	@Test
 	public void serialize() throws IOException {
 		final FlatTreeNode<Integer> tree = newTree(6, new Random());
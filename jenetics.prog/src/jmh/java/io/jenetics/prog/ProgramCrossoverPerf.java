@@ -0,0 +1,111 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.SingleNodeCrossover;
+import io.jenetics.ext.SubtreeCrossover;
+
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Compares the crossover of program chromosomes, performed on mutable tree
+ * nodes, with the crossover performed directly on the flattened genes.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProgramCrossoverPerf {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(
+		MathOp.ADD,
+		MathOp.SUB,
+		MathOp.MUL,
+		MathOp.SIN
+	);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1)
+	);
+
+	private static final Alterer<ProgramGene<Double>, Double> TREE_NODE_CROSSOVER =
+		new SingleNodeCrossover<>(1.0);
+
+	private static final Alterer<ProgramGene<Double>, Double> FLAT_CROSSOVER =
+		new SubtreeCrossover<>(1.0);
+
+	@Param({"4", "7"})
+	public int depth;
+
+	private ISeq<Phenotype<ProgramGene<Double>, Double>> population;
+
+	@Setup
+	public void setup() {
+		population = RandomRegistry.with(new Random(123), random ->
+			Genotype.of(ProgramChromosome.of(depth, OPERATIONS, TERMINALS))
+				.instances()
+				.limit(100)
+				.map(gt -> Phenotype.<ProgramGene<Double>, Double>of(gt, 1))
+				.collect(ISeq.toISeq())
+		);
+	}
+
+	@Benchmark
+	public AltererResult<ProgramGene<Double>, Double> treeNodeCrossover() {
+		return TREE_NODE_CROSSOVER.alter(population, 1);
+	}
+
+	@Benchmark
+	public AltererResult<ProgramGene<Double>, Double> flatCrossover() {
+		return FLAT_CROSSOVER.alter(population, 1);
+	}
+
+}
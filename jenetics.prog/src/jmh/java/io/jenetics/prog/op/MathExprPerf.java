@@ -34,6 +34,7 @@ import static java.lang.Math.tan;
 
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -62,6 +63,9 @@ public class MathExprPerf {
 			"hypot(y, 1.0))), signum(tan(ceil(ceil(y)))))))))))))))"
 	);
 
+	private static final ToDoubleFunction<double[]> COMPILED_EXPR =
+		MathExprCompiler.compile(MATH_EXPR);
+
 	private static double expr(final double x, final double y) {
 		return cos(signum(tan(sqrt(asin(rint(sinh(log(floor(log(hypot(cosh(sinh(log(y)%
 				hypot(y, 1.0))), signum(tan(ceil(ceil(y)))))))))))))));
@@ -82,6 +86,11 @@ public class MathExprPerf {
 		return MATH_EXPR.eval(x, y);
 	}
 
+	@Benchmark
+	public double compiledMathExpr() {
+		return COMPILED_EXPR.applyAsDouble(new double[]{x, y});
+	}
+
 	@Benchmark
 	public double exprSin() {
 		return MathOp.SIN.eval(x);
@@ -0,0 +1,123 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.ext.rewriting.TRS;
+import io.jenetics.ext.rewriting.TreeRewriter;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MathExprSimplifyPerf {
+
+	// The arithmetic rules, rewritten with the innermost strategy. Since the
+	// rules are not confluent, the result may differ from the default
+	// simplification.
+	private static final TreeRewriter<Op<Double>> INNERMOST_REWRITER =
+		TreeRewriter.concat(
+			TRS.parse(
+				MathOp::toMathOp,
+				"sub($x,$x) -> 0",
+				"sub($x,0) -> $x",
+				"add($x,0) -> $x",
+				"add(0,$x) -> $x",
+				"add($x,$x) -> mul(2,$x)",
+				"div($x,$x) -> 1",
+				"div(0,$x) -> 0",
+				"mul($x,0) -> 0",
+				"mul(0,$x) -> 0",
+				"mul($x,1) -> $x",
+				"mul(1,$x) -> $x",
+				"mul($x,$x) -> pow($x,2)",
+				"pow($x,0) -> 1",
+				"pow(0,$x) -> 0",
+				"pow($x,1) -> $x",
+				"pow(1,$x) -> 1"
+			).innermost(),
+			MathExpr.CONST_REWRITER
+		);
+
+	private static final Op<Double>[] OPS = new Op[] {
+		MathOp.ADD, MathOp.SUB, MathOp.MUL, MathOp.DIV, MathOp.POW
+	};
+
+	private static final Op<Double>[] TERMINALS = new Op[] {
+		Var.of("x", 0), Var.of("y", 1),
+		Const.of(0.0), Const.of(1.0), Const.of(2.0)
+	};
+
+	@Param({"6", "10", "14"})
+	public int depth;
+
+	private MathExpr expr;
+
+	@Setup
+	public void setup() {
+		expr = new MathExpr(tree(new Random(123), depth));
+	}
+
+	private static TreeNode<Op<Double>> tree(final Random random, final int depth) {
+		if (depth == 0 || random.nextInt(8) == 0) {
+			return TreeNode.of(TERMINALS[random.nextInt(TERMINALS.length)]);
+		} else {
+			final Op<Double> op = OPS[random.nextInt(OPS.length)];
+			final TreeNode<Op<Double>> node = TreeNode.of(op);
+			for (int i = 0; i < op.arity(); ++i) {
+				node.attach(tree(random, depth - 1));
+			}
+			return node;
+		}
+	}
+
+	@Benchmark
+	public Object simplify() {
+		return expr.simplify();
+	}
+
+	@Benchmark
+	public Object innermostSimplify() {
+		return expr.simplify(INNERMOST_REWRITER);
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Compares the row-wise program evaluation with the columnar evaluation,
+ * and the evaluation of a population, whose programs share common subtrees,
+ * with and without subtree cache.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SamplingPerf {
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private final Tree<Op<Double>, ?> program = MathExpr
+		.parse("4*x^3 - 3*x^2 + sin(x*y) - y/(x*x + 1)")
+		.tree();
+
+	private SampleList<Double> samples;
+	private SampleList<Double> cachedSamples;
+	private List<TreeNode<Op<Double>>> population;
+
+	@Setup
+	public void setup() {
+		final var random = new Random(123);
+		final List<Sample<Double>> points = IntStream.range(0, size)
+			.mapToObj(i -> Sample.ofDouble(
+				random.nextDouble()*2 - 1,
+				random.nextDouble()*2 - 1,
+				random.nextDouble()
+			))
+			.toList();
+
+		samples = new SampleList<>(points);
+		cachedSamples = new SampleList<>(points, 256L << 20);
+
+		// Population of programs, which are combined from a small set of
+		// subtrees, like after several crossover steps.
+		final ISeq<Op<Double>> operations =
+			ISeq.of(MathOp.ADD, MathOp.SUB, MathOp.MUL, MathOp.SIN, MathOp.EXP);
+		final ISeq<Op<Double>> terminals = ISeq.of(Var.of("x", 0), Var.of("y", 1));
+		final List<TreeNode<Op<Double>>> subtrees = IntStream.range(0, 20)
+			.mapToObj(i -> Program.of(4, operations, terminals, random))
+			.toList();
+
+		population = IntStream.range(0, 200)
+			.mapToObj(i -> TreeNode.<Op<Double>>of(MathOp.ADD)
+				.attach(subtrees.get(random.nextInt(subtrees.size())).copy())
+				.attach(subtrees.get(random.nextInt(subtrees.size())).copy()))
+			.toList();
+	}
+
+	@Benchmark
+	public Object rows() {
+		return samples.eval(args -> Program.eval(program, args));
+	}
+
+	@Benchmark
+	public Object columns() {
+		return samples.eval(program);
+	}
+
+	@Benchmark
+	public Object primitiveColumns() {
+		return samples.columns().eval(program);
+	}
+
+	@Benchmark
+	public double population() {
+		return eval(samples);
+	}
+
+	@Benchmark
+	public double cachedPopulation() {
+		return eval(cachedSamples);
+	}
+
+	private double eval(final SampleList<Double> samples) {
+		double sum = 0;
+		for (var program : population) {
+			sum += samples.eval(program).calculated()[0];
+		}
+		return sum;
+	}
+
+}
@@ -62,7 +62,7 @@ import io.jenetics.prog.op.Program;
  * }
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.2
  * @since 3.9
  */
 public class ProgramChromosome<A>
@@ -391,8 +391,56 @@ public class ProgramChromosome<A>
 		final ISeq<? extends Op<A>> operations,
 		final ISeq<? extends Op<A>> terminals
 	) {
-		final TreeNode<Op<A>> program = Program.toTree(genes, terminals);
-		return create(program, validator, operations, terminals);
+		// If the genes already form a complete program tree in breadth-first
+		// order, no repairing is necessary. The new genes can then be created
+		// directly, without building the intermediate program tree.
+		if (isComplete(genes)) {
+			final MSeq<ProgramGene<A>> program = MSeq.ofLength(genes.length());
+
+			int childOffset = 1;
+			for (int i = 0; i < genes.length(); ++i) {
+				final Op<A> op = genes.get(i).value();
+				program.set(i, new ProgramGene<>(
+					op,
+					op.isTerminal() ? -1 : childOffset,
+					operations,
+					terminals
+				));
+				childOffset += op.arity();
+			}
+
+			return new ProgramChromosome<>(
+				program.toISeq(),
+				validator,
+				operations,
+				terminals
+			);
+		} else {
+			final TreeNode<Op<A>> program = Program.toTree(genes, terminals);
+			return create(program, validator, operations, terminals);
+		}
+	}
+
+	/*
+	 * Tests whether the given genes form exactly one complete program tree in
+	 * breadth-first order. After processing the gene at index i, the number
+	 * of reachable nodes is 1 + Σ_{j≤i} arity_j. This count must be greater
+	 * than i + 1 for every gene but the last one, otherwise the remaining
+	 * genes are not reachable from the root, and it must be equal to the
+	 * number of genes at the end.
+	 */
+	private static boolean isComplete(final ISeq<? extends ProgramGene<?>> genes) {
+		final int length = genes.length();
+
+		int reachable = 1;
+		for (int i = 0; i < length; ++i) {
+			reachable += genes.get(i).value().arity();
+			if (i < length - 1 && reachable <= i + 1) {
+				return false;
+			}
+		}
+
+		return reachable == length;
 	}
 
 	public static <A> ProgramChromosome<A> of(
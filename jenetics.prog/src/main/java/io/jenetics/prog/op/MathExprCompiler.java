@@ -0,0 +1,530 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodHandles.Lookup.ClassOption.NESTMATE;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * Compiles {@code double} operation trees into byte code. The compiled
+ * function evaluates the tree without boxing the intermediate values and
+ * without allocating argument arrays. This makes it the preferred way for
+ * evaluating the same program tree many times, e.g., for every sample of a
+ * symbolic regression problem.
+ *
+ * {@snippet lang="java":
+ * final MathExpr expr = MathExpr.parse("2*z + 3*x - y");
+ * final ToDoubleFunction<double[]> function = MathExprCompiler.compile(expr);
+ * final double result = function.applyAsDouble(new double[]{3, 2, 1});
+ * assert result == 9.0;
+ * }
+ *
+ * The tree is compiled into a <em>hidden class</em>. Only trees consisting
+ * of {@link MathOp}, {@link Var} and {@link Val} operations are translated
+ * into byte code. Trees containing other operations, or trees which are too
+ * big for a single method, are evaluated with
+ * {@link Program#eval(Tree, Object[])} instead. The compiled functions are
+ * cached by tree, so compiling a structurally equal tree again is cheap.
+ * <p>
+ * The cache holds strong references to the last 1024 compiled functions.
+ * A hidden class can only be unloaded after its function has been evicted
+ * from the cache and is no longer reachable otherwise. Up to 1024 compiled
+ * classes, with their trees, therefore stay in memory, even if the
+ * functions are no longer used.
+ *
+ * @apiNote
+ * Unlike {@link MathExpr#eval(double...)}, the compiled function doesn't
+ * normalize negative zero results.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class MathExprCompiler {
+	private MathExprCompiler() {}
+
+	// Maximal number of cached functions.
+	private static final int CACHE_SIZE = 1024;
+
+	// The maximal method size of the JVM is 64k. Every tree node generates at
+	// most 5 bytes of code, the overhead of the method is negligible.
+	private static final int MAX_NODES = 60_000/5;
+
+	// LRU cache of the compiled functions. The cache keeps the hidden classes
+	// of its functions alive; evicted classes can be unloaded.
+	private static final Map<Key, ToDoubleFunction<double[]>> CACHE =
+		new LinkedHashMap<>(16, 0.75F, true) {
+			@Override
+			protected boolean removeEldestEntry(
+				final Map.Entry<Key, ToDoubleFunction<double[]>> eldest
+			) {
+				return size() > CACHE_SIZE;
+			}
+		};
+
+	private record Key(int hash, Tree<Op<Double>, ?> tree) {
+		Key(final Tree<Op<Double>, ?> tree) {
+			this(tree.hashCode(), tree);
+		}
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		@Override
+		public boolean equals(final Object obj) {
+			return obj == this ||
+				obj instanceof Key other &&
+				hash == other.hash &&
+				tree.equals(other.tree);
+		}
+	}
+
+	/**
+	 * Compiles the given math expression.
+	 *
+	 * @see #compile(Tree)
+	 *
+	 * @param expr the math expression to compile
+	 * @return the compiled expression
+	 * @throws NullPointerException if the given {@code expr} is {@code null}
+	 */
+	public static ToDoubleFunction<double[]> compile(final MathExpr expr) {
+		return compile(expr.tree());
+	}
+
+	/**
+	 * Compiles the given operation tree. The returned function throws an
+	 * {@link IllegalArgumentException} if the length of the argument array
+	 * is smaller than the arity of the program, like
+	 * {@link Program#eval(Tree, Object[])}.
+	 *
+	 * @param tree the operation tree to compile
+	 * @return the compiled tree
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 */
+	public static ToDoubleFunction<double[]>
+	compile(final Tree<? extends Op<Double>, ?> tree) {
+		final var key = new Key(TreeNode.<Op<Double>>ofTree(tree));
+
+		synchronized (CACHE) {
+			final var function = CACHE.get(key);
+			if (function != null) {
+				return function;
+			}
+		}
+
+		// Compiling outside the lock; concurrent compilation of the same tree
+		// is harmless.
+		final var function = translate(key.tree());
+		synchronized (CACHE) {
+			CACHE.putIfAbsent(key, function);
+		}
+		return function;
+	}
+
+	private static ToDoubleFunction<double[]>
+	translate(final Tree<Op<Double>, ?> tree) {
+		final boolean compilable = tree.size() <= MAX_NODES &&
+			tree.stream().allMatch(node ->
+				node.value() instanceof MathOp ||
+				node.value() instanceof Var<?> ||
+				node.value() instanceof Val<?> val &&
+					val.value() instanceof Double
+			);
+
+		return compilable ? define(tree) : interpreted(tree);
+	}
+
+	private static ToDoubleFunction<double[]>
+	interpreted(final Tree<Op<Double>, ?> tree) {
+		return args -> {
+			final var values = new Double[args.length];
+			for (int i = 0; i < args.length; ++i) {
+				values[i] = args[i];
+			}
+			return Program.eval(tree, values);
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ToDoubleFunction<double[]>
+	define(final Tree<Op<Double>, ?> tree) {
+		try {
+			final var lookup = MethodHandles.lookup()
+				.defineHiddenClass(new Assembler(tree).assemble(), true, NESTMATE);
+
+			return (ToDoubleFunction<double[]>)lookup
+				.findConstructor(lookup.lookupClass(), methodType(void.class))
+				.invoke();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(
+				"Can't compile expression: " + MathExpr.format(tree), e
+			);
+		}
+	}
+
+	/**
+	 * Argument check, called by the generated code.
+	 */
+	private static double[] args(final Object args, final int arity) {
+		final var values = (double[])requireNonNull(args);
+		if (values.length < arity) {
+			throw new IllegalArgumentException(format(
+				"Expected %d arguments, but got %d.", arity, values.length
+			));
+		}
+		return values;
+	}
+
+	/**
+	 * Greater-than operation, called by the generated code.
+	 */
+	private static double gt(final double a, final double b) {
+		return a > b ? 1.0 : -1.0;
+	}
+
+
+	/* *************************************************************************
+	 * Byte code generation.
+	 * ************************************************************************/
+
+	/**
+	 * Writes the class file of a class, which implements the
+	 * {@link ToDoubleFunction} interface for the given operation tree.
+	 */
+	private static final class Assembler {
+		private static final String MATH = "java/lang/Math";
+		private static final String COMPILER = "io/jenetics/prog/op/MathExprCompiler";
+
+		private static final int ACC_PUBLIC = 0x0001;
+		private static final int ACC_FINAL = 0x0010;
+		private static final int ACC_SUPER = 0x0020;
+
+		private static final int ALOAD_0 = 0x2a;
+		private static final int ALOAD_1 = 0x2b;
+		private static final int ASTORE_1 = 0x4c;
+		private static final int SIPUSH = 0x11;
+		private static final int LDC_W = 0x13;
+		private static final int LDC2_W = 0x14;
+		private static final int DALOAD = 0x31;
+		private static final int DUP2 = 0x5c;
+		private static final int DADD = 0x63;
+		private static final int DSUB = 0x67;
+		private static final int DMUL = 0x6b;
+		private static final int DDIV = 0x6f;
+		private static final int DREM = 0x73;
+		private static final int DNEG = 0x77;
+		private static final int DRETURN = 0xaf;
+		private static final int RETURN = 0xb1;
+		private static final int INVOKESPECIAL = 0xb7;
+		private static final int INVOKESTATIC = 0xb8;
+
+		private final Tree<Op<Double>, ?> _tree;
+
+		// Constant pool.
+		private final ByteArrayOutputStream _poolBytes = new ByteArrayOutputStream();
+		private final DataOutputStream _pool = new DataOutputStream(_poolBytes);
+		private final Map<Object, Integer> _entries = new HashMap<>();
+		private int _poolSize = 1;
+
+		// Code of the evaluation method.
+		private final ByteArrayOutputStream _code = new ByteArrayOutputStream();
+		private int _stack = 0;
+		private int _maxStack = 0;
+
+		Assembler(final Tree<Op<Double>, ?> tree) {
+			_tree = tree;
+		}
+
+		byte[] assemble() throws IOException {
+			final int arity = _tree.stream()
+				.mapToInt(node -> node.value() instanceof Var<?> var
+					? var.index() + 1
+					: 0)
+				.max()
+				.orElse(0);
+
+			final int thisClass = type(COMPILER + "$Function");
+			final int superClass = type("java/lang/Object");
+			final int function = type("java/util/function/ToDoubleFunction");
+			final int init = method("java/lang/Object", "<init>", "()V");
+			final int code = utf8("Code");
+			final int initName = utf8("<init>");
+			final int initType = utf8("()V");
+			final int applyName = utf8("applyAsDouble");
+			final int applyType = utf8("(Ljava/lang/Object;)D");
+
+			// args = MathExprCompiler.args(args, arity)
+			_code.write(ALOAD_1);
+			push(1);
+			integer(arity);
+			push(1);
+			invoke(COMPILER, "args", "(Ljava/lang/Object;I)[D", 2);
+			push(1);
+			_code.write(ASTORE_1);
+			pop(1);
+
+			emit(_tree);
+			_code.write(DRETURN);
+
+			final var bytes = new ByteArrayOutputStream();
+			final var out = new DataOutputStream(bytes);
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(61);
+			out.writeShort(_poolSize);
+			_pool.flush();
+			out.write(_poolBytes.toByteArray());
+			out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+			out.writeShort(thisClass);
+			out.writeShort(superClass);
+			out.writeShort(1);
+			out.writeShort(function);
+			out.writeShort(0);
+
+			out.writeShort(2);
+
+			// public <init>() { super(); }
+			out.writeShort(ACC_PUBLIC);
+			out.writeShort(initName);
+			out.writeShort(initType);
+			out.writeShort(1);
+			out.writeShort(code);
+			out.writeInt(12 + 5);
+			out.writeShort(1);
+			out.writeShort(1);
+			out.writeInt(5);
+			out.write(ALOAD_0);
+			out.write(INVOKESPECIAL);
+			out.writeShort(init);
+			out.write(RETURN);
+			out.writeShort(0);
+			out.writeShort(0);
+
+			// public double applyAsDouble(Object args) { ... }
+			out.writeShort(ACC_PUBLIC | ACC_FINAL);
+			out.writeShort(applyName);
+			out.writeShort(applyType);
+			out.writeShort(1);
+			out.writeShort(code);
+			out.writeInt(12 + _code.size());
+			out.writeShort(_maxStack);
+			out.writeShort(2);
+			out.writeInt(_code.size());
+			out.write(_code.toByteArray());
+			out.writeShort(0);
+			out.writeShort(0);
+
+			out.writeShort(0);
+			out.flush();
+
+			return bytes.toByteArray();
+		}
+
+		private void emit(final Tree<Op<Double>, ?> node) {
+			final Op<Double> op = node.value();
+			switch (op) {
+				case Var<?> var -> {
+					_code.write(ALOAD_1);
+					push(1);
+					integer(var.index());
+					push(1);
+					_code.write(DALOAD);
+					pop(2);
+					push(2);
+				}
+				case Val<?> val -> {
+					_code.write(LDC2_W);
+					u2(constant((Double)val.value()));
+					push(2);
+				}
+				case MathOp math -> {
+					for (int i = 0; i < node.childCount(); ++i) {
+						emit(node.childAt(i));
+					}
+					operation(math);
+				}
+				default -> throw new AssertionError("Unexpected op: " + op);
+			}
+		}
+
+		private void operation(final MathOp op) {
+			switch (op) {
+				case ID -> {}
+				case NEG -> _code.write(DNEG);
+				case ADD -> binary(DADD);
+				case SUB -> binary(DSUB);
+				case MUL -> binary(DMUL);
+				case DIV -> binary(DDIV);
+				case MOD -> binary(DREM);
+				case SQR -> {
+					_code.write(DUP2);
+					push(2);
+					binary(DMUL);
+				}
+				case GT -> invoke(COMPILER, "gt", "(DD)D", 4);
+				case MIN, MAX, POW, HYPOT ->
+					invoke(MATH, op.toString(), "(DD)D", 4);
+				default -> invoke(MATH, op.toString(), "(D)D", 2);
+			}
+		}
+
+		private void binary(final int instruction) {
+			_code.write(instruction);
+			pop(2);
+		}
+
+		private void invoke(
+			final String owner,
+			final String name,
+			final String descriptor,
+			final int argSlots
+		) {
+			_code.write(INVOKESTATIC);
+			u2(method(owner, name, descriptor));
+			pop(argSlots);
+			push(descriptor.endsWith("D") ? 2 : 1);
+		}
+
+		private void integer(final int value) {
+			if (value <= Short.MAX_VALUE) {
+				_code.write(SIPUSH);
+				u2(value);
+			} else {
+				_code.write(LDC_W);
+				u2(constant(value));
+			}
+		}
+
+		private void push(final int slots) {
+			_stack += slots;
+			_maxStack = Math.max(_maxStack, _stack);
+		}
+
+		private void pop(final int slots) {
+			_stack -= slots;
+		}
+
+		private void u2(final int value) {
+			_code.write(value >>> 8);
+			_code.write(value);
+		}
+
+		/* *********************************************************************
+		 * Constant pool entries.
+		 * ********************************************************************/
+
+		private int utf8(final String value) {
+			return entry("utf8:" + value, 1, out -> {
+				out.writeByte(1);
+				out.writeUTF(value);
+			});
+		}
+
+		private int type(final String name) {
+			final int index = utf8(name);
+			return entry("class:" + name, 1, out -> {
+				out.writeByte(7);
+				out.writeShort(index);
+			});
+		}
+
+		private int method(
+			final String owner,
+			final String name,
+			final String descriptor
+		) {
+			final int clazz = type(owner);
+			final int nameIndex = utf8(name);
+			final int typeIndex = utf8(descriptor);
+			final int nameAndType = entry(
+				"nat:" + name + descriptor, 1,
+				out -> {
+					out.writeByte(12);
+					out.writeShort(nameIndex);
+					out.writeShort(typeIndex);
+				}
+			);
+			return entry(
+				"method:" + owner + "." + name + descriptor, 1,
+				out -> {
+					out.writeByte(10);
+					out.writeShort(clazz);
+					out.writeShort(nameAndType);
+				}
+			);
+		}
+
+		private int constant(final int value) {
+			return entry(value, 1, out -> {
+				out.writeByte(3);
+				out.writeInt(value);
+			});
+		}
+
+		private int constant(final double value) {
+			// Key with the bit pattern, for distinguishing -0.0 and 0.0.
+			return entry(Double.doubleToRawLongBits(value), 2, out -> {
+				out.writeByte(6);
+				out.writeDouble(value);
+			});
+		}
+
+		@FunctionalInterface
+		private interface Writer {
+			void write(final DataOutputStream out) throws IOException;
+		}
+
+		private int entry(final Object key, final int slots, final Writer writer) {
+			final Integer existing = _entries.get(key);
+			if (existing != null) {
+				return existing;
+			}
+
+			final int index = _poolSize;
+			try {
+				writer.write(_pool);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			_poolSize += slots;
+			_entries.put(key, index);
+			return index;
+		}
+	}
+
+}
@@ -0,0 +1,369 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Val;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Columnar representation of {@code double} sample points. The sample
+ * arguments are stored as one {@code double[]} column per argument, and a
+ * program is evaluated by applying every operation node to whole columns,
+ * instead of walking the program tree once per sample point. {@link MathOp}
+ * nodes are applied with tight primitive loops. Other operations are still
+ * applied row by row, but without evaluating the whole program tree for
+ * every row.
+ * <p>
+ * The intermediate results are stored in scratch buffers, which are reused
+ * for all programs evaluated with the same columns. Since a new column
+ * object is created for every published sample set, the buffers are shared
+ * by the programs of one generation. The same is true for the optional
+ * {@link SubtreeCache}, which stores the values of common subtrees.
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class DoubleColumns {
+
+	private final double[][] _columns;
+	private final double[] _expected;
+	private final int _size;
+
+	private final Queue<double[]> _buffers = new ConcurrentLinkedQueue<>();
+
+	// Cache for common subtree values, or null if disabled.
+	private final SubtreeCache _cache;
+
+	private DoubleColumns(
+		final double[][] columns,
+		final double[] expected,
+		final SubtreeCache cache
+	) {
+		_columns = columns;
+		_expected = expected;
+		_size = expected.length;
+		_cache = cache;
+	}
+
+	/**
+	 * Return the subtree cache of this columns, or {@code null} if subtree
+	 * caching is disabled.
+	 *
+	 * @return the subtree cache, or {@code null}
+	 */
+	SubtreeCache cache() {
+		return _cache;
+	}
+
+	/**
+	 * Return the number of sample points.
+	 *
+	 * @return the number of sample points
+	 */
+	int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the expected sample results.
+	 *
+	 * @return the expected sample results
+	 */
+	double[] expected() {
+		return _expected.clone();
+	}
+
+	/**
+	 * Evaluates the given {@code program} for all sample points.
+	 *
+	 * @param program the program to evaluate
+	 * @return the calculated values of the sample points
+	 */
+	double[] eval(final Tree<? extends Op<Double>, ?> program) {
+		final double[] values = column(program);
+		final double[] result = values.clone();
+		release(values);
+		return result;
+	}
+
+	/**
+	 * Evaluates the given {@code program} for all sample points and returns
+	 * the boxed sampling result.
+	 *
+	 * @param program the program to evaluate
+	 * @return the sampling result
+	 */
+	Sampling.Result<Double> result(final Tree<? extends Op<Double>, ?> program) {
+		final double[] values = column(program);
+		final Double[] calculated = new Double[_size];
+		final Double[] expected = new Double[_size];
+		for (int i = 0; i < _size; ++i) {
+			calculated[i] = values[i];
+			expected[i] = _expected[i];
+		}
+		release(values);
+
+		return new Sampling.Result<>(calculated, expected);
+	}
+
+	// Evaluates the given node. The returned column must not be changed, if
+	// it is one of the sample columns.
+	private double[] column(final Tree<? extends Op<Double>, ?> node) {
+		final Op<Double> op = node.value();
+
+		if (node.isLeaf()) {
+			return switch (op) {
+				case Var<Double> var -> _columns[var.index()];
+				case Val<Double> val -> fill(val.value());
+				default -> rows(op);
+			};
+		}
+
+		if (_cache != null) {
+			final SubtreeCache.Key key = SubtreeCache.key(node);
+			if (key != null) {
+				final double[] cached = _cache.get(key);
+				if (cached != null) {
+					final double[] result = acquire();
+					System.arraycopy(cached, 0, result, 0, _size);
+					return result;
+				}
+
+				final double[] result = operation(op, node);
+				_cache.put(key, result);
+				return result;
+			}
+		}
+
+		return operation(op, node);
+	}
+
+	private double[] operation(
+		final Op<Double> op,
+		final Tree<? extends Op<Double>, ?> node
+	) {
+		if (op instanceof MathOp mop) {
+			if (mop.arity() == 1) {
+				return unary(mop, column(node.childAt(0)));
+			} else if (mop.arity() == 2) {
+				return binary(
+					mop,
+					column(node.childAt(0)),
+					column(node.childAt(1))
+				);
+			}
+		}
+
+		return rows(op, node);
+	}
+
+	private double[] fill(final double value) {
+		final double[] result = acquire();
+		Arrays.fill(result, value);
+		return result;
+	}
+
+	// Applies the leaf operation to the (boxed) arguments of every row.
+	private double[] rows(final Op<Double> op) {
+		final double[] result = acquire();
+		final Double[] args = new Double[_columns.length];
+		for (int i = 0; i < _size; ++i) {
+			for (int j = 0; j < args.length; ++j) {
+				args[j] = _columns[j][i];
+			}
+			result[i] = op.apply(args);
+		}
+		return result;
+	}
+
+	// Applies the operation to the (boxed) child values of every row.
+	private double[] rows(
+		final Op<Double> op,
+		final Tree<? extends Op<Double>, ?> node
+	) {
+		final double[][] children = new double[node.childCount()][];
+		for (int j = 0; j < children.length; ++j) {
+			children[j] = column(node.childAt(j));
+		}
+
+		final double[] result = acquire();
+		final Double[] args = new Double[children.length];
+		for (int i = 0; i < _size; ++i) {
+			for (int j = 0; j < args.length; ++j) {
+				args[j] = children[j][i];
+			}
+			result[i] = op.apply(args);
+		}
+
+		for (double[] child : children) {
+			release(child);
+		}
+		return result;
+	}
+
+	private double[] unary(final MathOp op, final double[] a) {
+		if (op == MathOp.ID) {
+			return a;
+		}
+
+		final double[] r = owned(a) ? a : acquire();
+		switch (op) {
+			case NEG -> { for (int i = 0; i < _size; ++i) r[i] = -a[i]; }
+			case SQR -> { for (int i = 0; i < _size; ++i) r[i] = a[i]*a[i]; }
+			case ABS -> { for (int i = 0; i < _size; ++i) r[i] = Math.abs(a[i]); }
+			default -> {
+				final DoubleUnaryOperator f = unary(op);
+				for (int i = 0; i < _size; ++i) r[i] = f.applyAsDouble(a[i]);
+			}
+		}
+		return r;
+	}
+
+	private double[] binary(final MathOp op, final double[] a, final double[] b) {
+		final double[] r = owned(a) ? a : owned(b) ? b : acquire();
+		switch (op) {
+			case ADD -> { for (int i = 0; i < _size; ++i) r[i] = a[i] + b[i]; }
+			case SUB -> { for (int i = 0; i < _size; ++i) r[i] = a[i] - b[i]; }
+			case MUL -> { for (int i = 0; i < _size; ++i) r[i] = a[i]*b[i]; }
+			case DIV -> { for (int i = 0; i < _size; ++i) r[i] = a[i]/b[i]; }
+			default -> {
+				final DoubleBinaryOperator f = binary(op);
+				for (int i = 0; i < _size; ++i) r[i] = f.applyAsDouble(a[i], b[i]);
+			}
+		}
+
+		if (r != a) release(a);
+		if (r != b) release(b);
+		return r;
+	}
+
+	private static DoubleUnaryOperator unary(final MathOp op) {
+		return switch (op) {
+			case CEIL -> Math::ceil;
+			case FLOOR -> Math::floor;
+			case SIGNUM -> Math::signum;
+			case RINT -> Math::rint;
+			case SQRT -> Math::sqrt;
+			case CBRT -> Math::cbrt;
+			case EXP -> Math::exp;
+			case LOG -> Math::log;
+			case LOG10 -> Math::log10;
+			case SIN -> Math::sin;
+			case COS -> Math::cos;
+			case TAN -> Math::tan;
+			case ACOS -> Math::acos;
+			case ASIN -> Math::asin;
+			case ATAN -> Math::atan;
+			case COSH -> Math::cosh;
+			case SINH -> Math::sinh;
+			case TANH -> Math::tanh;
+			default -> v -> op.eval(v);
+		};
+	}
+
+	private static DoubleBinaryOperator binary(final MathOp op) {
+		return switch (op) {
+			case MIN -> Math::min;
+			case MAX -> Math::max;
+			case MOD -> (u, v) -> u%v;
+			case POW -> Math::pow;
+			case HYPOT -> Math::hypot;
+			case GT -> (u, v) -> u > v ? 1.0 : -1.0;
+			default -> (u, v) -> op.eval(u, v);
+		};
+	}
+
+	private boolean owned(final double[] column) {
+		for (double[] c : _columns) {
+			if (c == column) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private double[] acquire() {
+		final double[] buffer = _buffers.poll();
+		return buffer != null ? buffer : new double[_size];
+	}
+
+	private void release(final double[] column) {
+		if (owned(column)) {
+			_buffers.offer(column);
+		}
+	}
+
+	/**
+	 * Create a new columnar representation of the given sample points, or
+	 * {@code null} if one of the sample values is {@code null}.
+	 *
+	 * @param samples the sample points
+	 * @param cacheSize the capacity of the subtree cache in bytes. If zero,
+	 *        no subtree values are cached.
+	 * @return the columnar sample representation, or {@code null}
+	 */
+	static DoubleColumns of(
+		final List<? extends Sample<? extends Double>> samples,
+		final long cacheSize
+	) {
+		final int arity = samples.getFirst().arity();
+		final double[][] columns = new double[arity][samples.size()];
+		final double[] expected = new double[samples.size()];
+
+		for (int i = 0; i < samples.size(); ++i) {
+			final Sample<? extends Double> sample = samples.get(i);
+			for (int j = 0; j < arity; ++j) {
+				final Double value = sample.argAt(j);
+				if (value == null) {
+					return null;
+				}
+				columns[j][i] = value;
+			}
+
+			final Double result = sample.result();
+			if (result == null) {
+				return null;
+			}
+			expected[i] = result;
+		}
+
+		return new DoubleColumns(
+			columns,
+			expected,
+			cacheSize > 0 ? new SubtreeCache(cacheSize) : null
+		);
+	}
+
+}
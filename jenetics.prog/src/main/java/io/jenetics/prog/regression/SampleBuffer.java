@@ -39,21 +39,56 @@ import io.jenetics.prog.op.Op;
  * These values will be made available for evaluation after an explicit call of
  * the {@link #publish()} method.
  *
+ * <p>
+ * For {@code Double} samples, the buffer can cache the evaluated values of
+ * program subtrees, which are shared by many programs of the population,
+ * e.g. after a crossover. The cache is bound to the published sample points
+ * and is discarded if {@link #publish()} changes the sample set.
+ * {@snippet lang="java":
+ * // Sample buffer with 64 MiB subtree cache.
+ * final SampleBuffer<Double> buffer = new SampleBuffer<>(10_000, 64L << 20);
+ * }
+ *
  * @implNote
  * This class is thread-safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 8.2
  * @since 6.0
  */
 public final class SampleBuffer<T> implements Sampling<T> {
 
 	private final RingBuffer _buffer;
 
+	private final long _cacheSize;
+
 	private volatile SampleList<T> _snapshot = null;
 
-	public SampleBuffer(final int capacity) {
+	/**
+	 * Create a new sample buffer with the given {@code capacity} and a
+	 * subtree cache of the given size. The cache stores the evaluated
+	 * values of common program subtrees of {@code Double} samples.
+	 *
+	 * @since 8.2
+	 *
+	 * @param capacity the maximal number of sample points of the buffer
+	 * @param cacheSize the capacity of the subtree cache in bytes. If zero,
+	 *        no subtree values are cached.
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller
+	 *         than one or the {@code cacheSize} is negative
+	 */
+	public SampleBuffer(final int capacity, final long cacheSize) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException(
+				"Cache size must not be negative: " + cacheSize
+			);
+		}
 		_buffer = new RingBuffer(capacity);
+		_cacheSize = cacheSize;
+	}
+
+	public SampleBuffer(final int capacity) {
+		this(capacity, 0);
 	}
 
 	/**
@@ -95,7 +130,9 @@ public final class SampleBuffer<T> implements Sampling<T> {
 		SampleList<T> snapshot = null;
 		if (values != null && values.length > 0) {
 			final List samples = Arrays.asList(values);
-			snapshot = new SampleList(samples);
+			snapshot = unchanged(samples)
+				? _snapshot
+				: new SampleList(samples, _cacheSize);
 		}
 
 		try {
@@ -105,6 +142,21 @@ public final class SampleBuffer<T> implements Sampling<T> {
 		}
 	}
 
+	// Test whether the current snapshot contains the same sample points.
+	// The snapshot, and its subtree cache, is kept in this case.
+	private boolean unchanged(final List<?> samples) {
+		final SampleList<T> snapshot = _snapshot;
+		if (snapshot == null || snapshot.size() != samples.size()) {
+			return false;
+		}
+		for (int i = 0; i < samples.size(); ++i) {
+			if (snapshot.get(i) != samples.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Return the currently <em>published</em> sample points.
 	 *
@@ -37,7 +37,7 @@ import io.jenetics.prog.op.Program;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 7.1
+ * @version 8.2
  * @since 5.0
  */
 final class SampleList<T>
@@ -55,8 +55,34 @@ final class SampleList<T>
 	private final T[][] _arguments;
 	private final T[] _results;
 
-	@SuppressWarnings("unchecked")
+	// Columnar sample representation, for double samples. Created lazily.
+	private transient volatile DoubleColumns _columns;
+	private transient volatile boolean _columnar;
+
+	// The capacity of the subtree cache, in bytes.
+	private final long _cacheSize;
+
 	SampleList(final List<? extends Sample<? extends T>> samples) {
+		this(samples, 0);
+	}
+
+	/**
+	 * Create a new sample list.
+	 *
+	 * @param samples the sample points
+	 * @param cacheSize the capacity of the subtree cache in bytes, used for
+	 *        {@code Double} samples. If zero, no subtree values are cached.
+	 */
+	@SuppressWarnings("unchecked")
+	SampleList(
+		final List<? extends Sample<? extends T>> samples,
+		final long cacheSize
+	) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException(
+				"Cache size must not be negative: " + cacheSize
+			);
+		}
 		if (samples.isEmpty()) {
 			throw new IllegalArgumentException("Sample list must not be empty.");
 		}
@@ -89,6 +115,8 @@ final class SampleList<T>
 		_results = _samples.stream()
 			.map(Sample::result)
 			.toArray(size -> (T[])Array.newInstance(_type, size));
+
+		_cacheSize = cacheSize;
 	}
 
 	private static <T> T[] args(final Sample<? extends T> sample) {
@@ -103,9 +131,29 @@ final class SampleList<T>
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
 		requireNonNull(program);
-		return eval(args -> Program.eval(program, args));
+
+		final DoubleColumns columns = columns();
+		return columns != null
+			? (Result<T>)columns.result((Tree<? extends Op<Double>, ?>)program)
+			: eval(args -> Program.eval(program, args));
+	}
+
+	/**
+	 * Return the columnar representation of the sample points, or
+	 * {@code null} if the samples are not (non-null) {@code Double} values.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	DoubleColumns columns() {
+		if (!_columnar) {
+			if (_type == Double.class) {
+				_columns = DoubleColumns.of((List)_samples, _cacheSize);
+			}
+			_columnar = true;
+		}
+		return _columns;
 	}
 
 	@Override
@@ -31,7 +31,7 @@ import io.jenetics.prog.op.Op;
  * a given evolved <em>program</em>.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 7.1
+ * @version 8.2
  * @since 6.0
  */
 @FunctionalInterface
@@ -85,6 +85,12 @@ public interface Sampling<T> {
 	/**
 	 * Create a new sampling object from the given sample points.
 	 *
+	 * @implNote
+	 * The program trees of {@code Double} samples are evaluated column-wise.
+	 * Every operation node is applied to the values of all sample points at
+	 * once, instead of evaluating the whole program tree for every sample
+	 * point.
+	 *
 	 * @since 7.1
 	 *
 	 * @param samples the sample points
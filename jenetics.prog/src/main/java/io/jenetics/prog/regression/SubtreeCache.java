@@ -0,0 +1,276 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Val;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Cache for the evaluated values of common program subtrees. After a
+ * crossover, many programs of a population share identical subtrees, which
+ * then only have to be evaluated once for all sample points. Only subtrees
+ * which consist of {@link MathOp}, {@link Var} and {@link Val} nodes are
+ * cached, since these operations are known to be deterministic.
+ * <p>
+ * A subtree result is only stored when the subtree has been seen before,
+ * which keeps one-off subtrees out of the cache. The memory of the cached
+ * values is bounded by the given capacity in bytes. If the capacity is
+ * exceeded, the entries with the smallest benefit per byte are evicted,
+ * where the benefit is the number of saved operation evaluations.
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class SubtreeCache {
+
+	// Minimal number of operation nodes of a cached subtree.
+	private static final int MIN_OPERATIONS = 2;
+
+	// Approximate memory overhead of a cache entry.
+	private static final long ENTRY_OVERHEAD = 128;
+
+	/**
+	 * The structural key of a program subtree. It contains the subtree nodes
+	 * in pre-order: the {@link MathOp} of operation nodes, the variable index
+	 * of {@link Var} nodes and the {@code Double} value of {@link Val} nodes.
+	 */
+	static final class Key {
+		private final Object[] _nodes;
+		private final int _operations;
+		private final int _hash;
+
+		private Key(final Object[] nodes, final int operations) {
+			_nodes = nodes;
+			_operations = operations;
+			_hash = Arrays.hashCode(nodes);
+		}
+
+		int operations() {
+			return _operations;
+		}
+
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj == this ||
+				obj instanceof Key other &&
+				_hash == other._hash &&
+				Arrays.equals(_nodes, other._nodes);
+		}
+	}
+
+	private static final class Entry {
+		final double[] values;
+		final long bytes;
+		final int operations;
+
+		// Approximate hit counter, halved on every eviction.
+		volatile int hits;
+
+		Entry(final double[] values, final int operations) {
+			this.values = values;
+			this.operations = operations;
+			bytes = Double.BYTES*(long)values.length + ENTRY_OVERHEAD;
+		}
+
+		double benefit() {
+			return (hits + 1.0)*operations/bytes;
+		}
+	}
+
+	private final long _capacity;
+
+	private final Map<Key, Entry> _entries = new ConcurrentHashMap<>();
+	private final AtomicLong _bytes = new AtomicLong();
+	private final ReentrantLock _eviction = new ReentrantLock();
+
+	// Hashes of the recently seen subtrees, used for the cache admission.
+	private final AtomicLongArray _seen;
+
+	/**
+	 * Create a new subtree cache with the given capacity.
+	 *
+	 * @param capacity the maximal number of bytes of the cached values
+	 * @throws IllegalArgumentException if the {@code capacity} is not
+	 *         positive
+	 */
+	SubtreeCache(final long capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(
+				"Cache capacity must be positive: " + capacity
+			);
+		}
+		_capacity = capacity;
+		_seen = new AtomicLongArray(4096);
+	}
+
+	/**
+	 * Return the cached values of the subtree with the given {@code key}.
+	 * The returned array must not be changed.
+	 *
+	 * @param key the subtree key
+	 * @return the cached values, or {@code null} if not cached
+	 */
+	double[] get(final Key key) {
+		final Entry entry = _entries.get(key);
+		if (entry != null) {
+			entry.hits = entry.hits + 1;
+			return entry.values;
+		}
+		return null;
+	}
+
+	/**
+	 * Stores a copy of the evaluated subtree {@code values}, if the subtree
+	 * has been seen before.
+	 *
+	 * @param key the subtree key
+	 * @param values the evaluated subtree values
+	 */
+	void put(final Key key, final double[] values) {
+		if (!admit(key)) {
+			return;
+		}
+
+		final Entry entry = new Entry(values.clone(), key.operations());
+		if (entry.bytes <= _capacity && _entries.putIfAbsent(key, entry) == null) {
+			if (_bytes.addAndGet(entry.bytes) > _capacity) {
+				evict();
+			}
+		}
+	}
+
+	private boolean admit(final Key key) {
+		final int slot = key.hashCode() & (_seen.length() - 1);
+		final long mark = key.hashCode() | 1L << 32;
+		return _seen.getAndSet(slot, mark) == mark;
+	}
+
+	// Evicts the entries with the smallest benefit, until a quarter of the
+	// capacity is free again.
+	private void evict() {
+		if (!_eviction.tryLock()) {
+			return;
+		}
+		try {
+			final List<Map.Entry<Key, Entry>> entries =
+				new ArrayList<>(_entries.entrySet());
+			entries.sort(Comparator.comparingDouble(e -> e.getValue().benefit()));
+
+			final long limit = _capacity - _capacity/4;
+			for (var e : entries) {
+				if (_bytes.get() <= limit) {
+					e.getValue().hits = e.getValue().hits/2;
+				} else if (_entries.remove(e.getKey(), e.getValue())) {
+					_bytes.addAndGet(-e.getValue().bytes);
+				}
+			}
+		} finally {
+			_eviction.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of cached subtrees.
+	 *
+	 * @return the number of cached subtrees
+	 */
+	int size() {
+		return _entries.size();
+	}
+
+	/**
+	 * Return the number of bytes of the cached values.
+	 *
+	 * @return the number of bytes of the cached values
+	 */
+	long bytes() {
+		return _bytes.get();
+	}
+
+	/**
+	 * Return the structural key of the given subtree, or {@code null} if the
+	 * subtree is not cacheable. This is the case if it contains other
+	 * operations than {@link MathOp}, {@link Var} and {@link Val}, or if it
+	 * is too small.
+	 *
+	 * @param node the subtree
+	 * @return the subtree key, or {@code null}
+	 */
+	static Key key(final Tree<? extends Op<Double>, ?> node) {
+		final List<Object> nodes = new ArrayList<>();
+		final int operations = append(node, nodes);
+
+		return operations >= MIN_OPERATIONS
+			? new Key(nodes.toArray(), operations)
+			: null;
+	}
+
+	// Appends the subtree nodes in pre-order and returns the number of
+	// operation nodes, or -1 if the subtree is not cacheable.
+	private static int append(
+		final Tree<? extends Op<Double>, ?> node,
+		final List<Object> nodes
+	) {
+		return switch (node.value()) {
+			case MathOp op when op.arity() == node.childCount() -> {
+				nodes.add(op);
+				int operations = 1;
+				for (int i = 0; i < node.childCount() && operations > 0; ++i) {
+					final int count = append(node.childAt(i), nodes);
+					operations = count >= 0 ? operations + count : -1;
+				}
+				yield operations;
+			}
+			case Var<Double> var when node.isLeaf() -> {
+				nodes.add(var.index());
+				yield 0;
+			}
+			case Val<Double> val when node.isLeaf() && val.value() != null -> {
+				nodes.add(val.value());
+				yield 0;
+			}
+			case null, default -> -1;
+		};
+	}
+
+}
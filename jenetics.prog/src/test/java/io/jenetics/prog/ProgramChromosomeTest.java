@@ -110,6 +110,60 @@ public class ProgramChromosomeTest {
 		Assert.assertEquals(ch2, ch1);
 	}
 
+	@Test(invocationCount = 10)
+	public void newInstanceFromSeq() {
+		final ProgramChromosome<Double> ch1 =
+			ProgramChromosome.of(6, OPERATIONS, TERMINALS);
+
+		final ISeq<ProgramGene<Double>> genes = ISeq.of(ch1);
+		final ProgramChromosome<Double> ch2 = ch1.newInstance(genes);
+		final ProgramChromosome<Double> ch3 = ProgramChromosome.of(
+			Program.toTree(genes, TERMINALS),
+			OPERATIONS,
+			TERMINALS
+		);
+
+		Assert.assertEquals(ch2, ch1);
+		Assert.assertEquals(ch2, ch3);
+		for (int i = 0; i < ch1.length(); ++i) {
+			Assert.assertNotSame(ch2.get(i), ch1.get(i));
+			Assert.assertSame(ch1.get(i).root(), ch1.root());
+			Assert.assertSame(ch2.get(i).root(), ch2.root());
+		}
+	}
+
+	@Test
+	public void newInstanceFromIncompleteSeq() {
+		final ProgramChromosome<Double> ch1 =
+			ProgramChromosome.of(4, OPERATIONS, TERMINALS);
+
+		final ISeq<ProgramGene<Double>> genes = ISeq.of(ch1)
+			.subSeq(0, ch1.length() - 1);
+		final ProgramChromosome<Double> ch2 = ch1.newInstance(genes);
+
+		Assert.assertEquals(ch2.length(), ch1.length());
+		Assert.assertEquals(ch2.root().size(), ch2.length());
+		Assert.assertTrue(ch2.get(ch2.length() - 1).isLeaf());
+	}
+
+	@Test
+	public void newInstanceFromSeqWithUnreachableGenes() {
+		final ProgramChromosome<Double> ch1 =
+			ProgramChromosome.of(3, OPERATIONS, TERMINALS);
+
+		final ProgramGene<Double> terminal = ch1.get(ch1.length() - 1);
+		final ProgramGene<Double> add = ch1.gene().newInstance(MathOp.ADD, 1, 2);
+		Assert.assertTrue(terminal.isLeaf());
+
+		final ProgramChromosome<Double> ch2 =
+			ch1.newInstance(ISeq.of(terminal, add, terminal));
+
+		Assert.assertEquals(ch2.length(), 1);
+		Assert.assertEquals(ch2.root().value(), terminal.value());
+		Assert.assertEquals(ch2.root().size(), 1);
+		Assert.assertTrue(ch2.isValid());
+	}
+
 	@Test
 	public void createTreeFromChromosome() {
 		final TreeNode<Op<Double>> tree = Program.of(
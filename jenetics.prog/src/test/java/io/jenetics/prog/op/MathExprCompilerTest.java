@@ -0,0 +1,167 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static io.jenetics.prog.op.MathExprTestData.EXPRESSIONS;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MathExprCompilerTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(MathOp.values());
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("u", 0),
+		Var.of("v", 1),
+		Var.of("w", 2),
+		Var.of("x", 3),
+		Var.of("y", 4),
+		Var.of("z", 5),
+		Const.of(1.0),
+		Const.of(-2.5)
+	);
+
+	@Test(dataProvider = "expressions")
+	public void compileExpression(final String expression) {
+		final var expr = MathExpr.parse(expression);
+		final var function = MathExprCompiler.compile(expr);
+
+		final var random = new Random(expression.hashCode());
+		for (int i = 0; i < 20; ++i) {
+			final double[] args = random.doubles(3, -10, 10).toArray();
+			assertEquals(function, expr.tree(), args);
+		}
+	}
+
+	@DataProvider
+	public Object[][] expressions() {
+		return EXPRESSIONS.stream()
+			.map(expr -> new Object[]{expr})
+			.toArray(Object[][]::new);
+	}
+
+	@Test
+	public void compileRandomTrees() {
+		final var random = new Random(123);
+		for (int i = 0; i < 200; ++i) {
+			final TreeNode<Op<Double>> tree =
+				Program.of(random.nextInt(1, 8), OPERATIONS, TERMINALS, random);
+			final var function = MathExprCompiler.compile(tree);
+
+			for (int j = 0; j < 10; ++j) {
+				final double[] args = random.doubles(6, -5, 5).toArray();
+				assertEquals(function, tree, args);
+			}
+		}
+	}
+
+	@Test
+	public void compileAllOperations() {
+		final var random = new Random(456);
+		for (MathOp op : MathOp.values()) {
+			final TreeNode<Op<Double>> tree = TreeNode.of(op);
+			for (int i = 0; i < op.arity(); ++i) {
+				tree.attach(Var.of("x" + i, i));
+			}
+
+			final var function = MathExprCompiler.compile(tree);
+			for (int i = 0; i < 100; ++i) {
+				final double[] args = random.doubles(2, -2, 2).toArray();
+				assertEquals(function, tree, args);
+			}
+			assertEquals(function, tree, new double[]{1, 1});
+			assertEquals(function, tree, new double[]{Double.NaN, 0});
+		}
+	}
+
+	@Test
+	public void compileConstants() {
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.ADD)
+			.attach(MathOp.PI)
+			.attach(Const.of(-0.0));
+
+		Assert.assertEquals(
+			MathExprCompiler.compile(tree).applyAsDouble(new double[0]),
+			Math.PI
+		);
+	}
+
+	@Test
+	public void compileCustomOperation() {
+		final Op<Double> twice = Op.of("twice", 1, v -> v[0]*2);
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.ADD)
+			.attach(TreeNode.of(twice).attach(Var.of("x", 0)))
+			.attach(Const.of(1.0));
+
+		final var function = MathExprCompiler.compile(tree);
+		Assert.assertEquals(function.applyAsDouble(new double[]{3}), 7.0);
+	}
+
+	@Test
+	public void compileIsCached() {
+		final var expr1 = MathExpr.parse("x*y + sin(z)");
+		final var expr2 = MathExpr.parse("x*y + sin(z)");
+		Assert.assertSame(
+			MathExprCompiler.compile(expr1),
+			MathExprCompiler.compile(expr2)
+		);
+		Assert.assertNotSame(
+			MathExprCompiler.compile(expr1),
+			MathExprCompiler.compile(MathExpr.parse("y*x + sin(z)"))
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void compileMissingArguments() {
+		MathExprCompiler
+			.compile(MathExpr.parse("x*y + z"))
+			.applyAsDouble(new double[]{1, 2});
+	}
+
+	private static void assertEquals(
+		final ToDoubleFunction<double[]> function,
+		final Tree<? extends Op<Double>, ?> tree,
+		final double[] args
+	) {
+		final Double[] values = DoubleStream.of(args).boxed().toArray(Double[]::new);
+
+		Assert.assertEquals(
+			Double.doubleToLongBits(function.applyAsDouble(args)),
+			Double.doubleToLongBits(Program.eval(tree, values)),
+			MathExpr.format(tree) + " " + Arrays.toString(args)
+		);
+	}
+
+}
@@ -47,6 +47,22 @@ public class MathExprRewriterTest {
 		rewriter.rewrite(tree);
 	}
 
+	@Test
+	public void arithmeticRewriterNormalForm() {
+		// The arithmetic rules are not confluent. The rules are applied one
+		// after another on the whole tree, which determines the normal form.
+		final TreeNode<Op<Double>> tree = TreeNode.parse(
+			"sub(div(0,div(div(0,sub(div(0,x),2)),pow(1,0))),add(2,x))",
+			MathOp::toMathOp
+		);
+
+		MathExpr.ARITHMETIC_REWRITER.rewrite(tree);
+		Assert.assertEquals(
+			tree,
+			TreeNode.parse("sub(0,add(2,x))", MathOp::toMathOp)
+		);
+	}
+
 	@Test(dataProvider = "expressions")
 	public void rewrite(final String expr, final String simplified) {
 		Assert.assertEquals(
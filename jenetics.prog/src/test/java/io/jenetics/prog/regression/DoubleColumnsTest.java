@@ -0,0 +1,139 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.Const;
+import io.jenetics.prog.op.EphemeralConst;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleColumnsTest {
+
+	private static final Op<Double> AVG = Op.of("avg", 3, v -> (v[0] + v[1] + v[2])/3);
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.<Op<Double>>of(MathOp.values())
+		.append(AVG);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		Const.of(2.5),
+		EphemeralConst.of(() -> 1.5)
+	);
+
+	@Test
+	public void evalRandomPrograms() {
+		final var random = new Random(123);
+		final List<Sample<Double>> samples = samples(random, 100);
+		final DoubleColumns columns = DoubleColumns.of(samples, 0);
+		assert columns != null;
+
+		for (int i = 0; i < 500; ++i) {
+			final TreeNode<Op<Double>> program =
+				Program.of(random.nextInt(6), OPERATIONS, TERMINALS, random);
+
+			final double[] expected = samples.stream()
+				.mapToDouble(s -> Program.eval(program, s.argAt(0), s.argAt(1)))
+				.toArray();
+
+			Assert.assertTrue(
+				Arrays.equals(columns.eval(program), expected),
+				program.toParenthesesString()
+			);
+		}
+	}
+
+	@Test
+	public void evalSamplingResult() {
+		final var random = new Random(456);
+		final List<Sample<Double>> samples = samples(random, 50);
+		final var program = MathExpr.parse("sin(x)*y + x/y - 3").tree();
+
+		final var columnar = new SampleList<>(samples).eval(program);
+		final var rows = new SampleList<>(samples)
+			.eval(args -> Program.eval(program, args));
+
+		Assert.assertEquals(columnar.calculated(), rows.calculated());
+		Assert.assertEquals(columnar.expected(), rows.expected());
+	}
+
+	@Test
+	public void evalVariable() {
+		final List<Sample<Double>> samples = List.of(
+			Sample.ofDouble(1, 2, 3),
+			Sample.ofDouble(4, 5, 6)
+		);
+		final DoubleColumns columns = DoubleColumns.of(samples, 0);
+		assert columns != null;
+
+		final double[] values = columns.eval(TreeNode.of(Var.of("y", 1)));
+		Assert.assertEquals(values, new double[]{2, 5});
+
+		// Changing the result must not change the sample columns.
+		values[0] = 10;
+		Assert.assertEquals(
+			columns.eval(TreeNode.of(Var.of("y", 1))),
+			new double[]{2, 5}
+		);
+		Assert.assertEquals(columns.expected(), new double[]{3, 6});
+	}
+
+	@Test
+	public void reuseBuffers() {
+		final var random = new Random(789);
+		final DoubleColumns columns = DoubleColumns.of(samples(random, 20), 0);
+		assert columns != null;
+
+		final var program = MathExpr.parse("x*x + y*y").tree();
+		final double[] first = columns.eval(program);
+		for (int i = 0; i < 10; ++i) {
+			Assert.assertEquals(columns.eval(program), first);
+		}
+	}
+
+	private static List<Sample<Double>> samples(final Random random, final int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> Sample.ofDouble(
+				random.nextDouble()*10 - 5,
+				random.nextDouble()*10 - 5,
+				random.nextDouble()
+			))
+			.toList();
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeCacheTest {
+
+	@Test
+	public void structuralKey() {
+		final var key1 = SubtreeCache.key(MathExpr.parse("sin(x*y) + 2").tree());
+		final var key2 = SubtreeCache.key(MathExpr.parse("sin(x*y) + 2").tree());
+		final var key3 = SubtreeCache.key(MathExpr.parse("sin(x*y) + 3").tree());
+
+		Assert.assertNotNull(key1);
+		Assert.assertEquals(key1, key2);
+		Assert.assertEquals(key1.hashCode(), key2.hashCode());
+		Assert.assertNotEquals(key1, key3);
+	}
+
+	@Test
+	public void variableIndexKey() {
+		final TreeNode<Op<Double>> tree1 = TreeNode.<Op<Double>>of(MathOp.SIN)
+			.attach(TreeNode.<Op<Double>>of(MathOp.NEG).attach(Var.of("x", 0)));
+		final TreeNode<Op<Double>> tree2 = TreeNode.<Op<Double>>of(MathOp.SIN)
+			.attach(TreeNode.<Op<Double>>of(MathOp.NEG).attach(Var.of("x", 1)));
+
+		Assert.assertNotEquals(SubtreeCache.key(tree1), SubtreeCache.key(tree2));
+	}
+
+	@Test
+	public void notCacheable() {
+		final Op<Double> op = Op.of("f", 1, v -> v[0]);
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.ADD)
+			.attach(TreeNode.<Op<Double>>of(op).attach(Var.of("x", 0)))
+			.attach(TreeNode.<Op<Double>>of(MathOp.NEG).attach(Var.of("x", 0)));
+
+		Assert.assertNull(SubtreeCache.key(tree));
+		Assert.assertNull(SubtreeCache.key(MathExpr.parse("x + y").tree()));
+	}
+
+	@Test
+	public void admission() {
+		final var cache = new SubtreeCache(1 << 20);
+		final var key = SubtreeCache.key(MathExpr.parse("sin(x*y)").tree());
+		final double[] values = {1, 2, 3};
+
+		cache.put(key, values);
+		Assert.assertNull(cache.get(key));
+
+		cache.put(key, values);
+		Assert.assertEquals(cache.get(key), values);
+		Assert.assertNotSame(cache.get(key), values);
+	}
+
+	@Test
+	public void boundedMemory() {
+		final long capacity = 16*1024;
+		final var cache = new SubtreeCache(capacity);
+		for (int i = 0; i < 1000; ++i) {
+			final var key = SubtreeCache.key(
+				MathExpr.parse("sin(x*" + i + ")").tree()
+			);
+			cache.put(key, new double[100]);
+			cache.put(key, new double[100]);
+			Assert.assertTrue(cache.bytes() <= capacity, "" + cache.bytes());
+		}
+		Assert.assertTrue(cache.size() > 0);
+	}
+
+	@Test
+	public void cachedEvaluation() {
+		final var random = new Random(123);
+		final List<Sample<Double>> samples = IntStream.range(0, 100)
+			.mapToObj(i -> Sample.ofDouble(
+				random.nextDouble()*10 - 5,
+				random.nextDouble()*10 - 5,
+				random.nextDouble()
+			))
+			.toList();
+
+		final DoubleColumns cached = DoubleColumns.of(samples, 1 << 20);
+		final DoubleColumns uncached = DoubleColumns.of(samples, 0);
+		assert cached != null && uncached != null;
+
+		final ISeq<Op<Double>> operations = ISeq.of(MathOp.values());
+		final ISeq<Op<Double>> terminals = ISeq.of(Var.of("x", 0), Var.of("y", 1));
+		final List<TreeNode<Op<Double>>> programs = IntStream.range(0, 50)
+			.mapToObj(i -> Program.of(3, operations, terminals, random))
+			.toList();
+
+		for (int round = 0; round < 3; ++round) {
+			for (var program : programs) {
+				Assert.assertEquals(cached.eval(program), uncached.eval(program));
+			}
+		}
+		Assert.assertTrue(cached.cache().size() > 0);
+	}
+
+	@Test
+	public void publishInvalidatesCache() {
+		final SampleBuffer<Double> buffer = new SampleBuffer<>(100, 1 << 20);
+		for (int i = 0; i < 10; ++i) {
+			buffer.add(Sample.ofDouble(i, 2*i));
+		}
+		buffer.publish();
+		final SubtreeCache cache = cache(buffer);
+		Assert.assertNotNull(cache);
+
+		buffer.publish();
+		Assert.assertSame(cache(buffer), cache);
+
+		buffer.add(Sample.ofDouble(10, 20));
+		buffer.publish();
+		Assert.assertNotSame(cache(buffer), cache);
+	}
+
+	private static SubtreeCache cache(final SampleBuffer<Double> buffer) {
+		return ((SampleList<Double>)buffer.samples()).columns().cache();
+	}
+
+}
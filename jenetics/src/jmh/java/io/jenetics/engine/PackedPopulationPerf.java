@@ -0,0 +1,118 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.SinglePointCrossover;
+
+/**
+ * Compares the generation throughput of the default, object-per-gene
+ * population layout with the packed (columnar) layout. The allocation rate
+ * is measured by running the benchmark with the GC profiler:
+ * {@code -prof gc}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PackedPopulationPerf {
+
+	@Param({"1000", "10000"})
+	public int populationSize;
+
+	@Param({"500"})
+	public int chromosomeLength;
+
+	private Engine<DoubleGene, Double> objectEngine;
+	private Engine<DoubleGene, Double> packedEngine;
+
+	private EvolutionStart<DoubleGene, Double> objectStart;
+	private EvolutionStart<DoubleGene, Double> packedStart;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				PackedPopulationPerf::fitness,
+				Genotype.of(DoubleChromosome.of(0, 1, chromosomeLength)))
+			.populationSize(populationSize)
+			.alterers(
+				new SinglePointCrossover<>(0.2),
+				new Mutator<>(0.01))
+			.build();
+
+		objectEngine = engine;
+		packedEngine = engine.toBuilder()
+			.interceptor(EvolutionResult.toPackedPopulation())
+			.build();
+
+		objectStart = objectEngine.evolve(EvolutionStart.empty()).next();
+		packedStart = packedEngine.evolve(EvolutionStart.empty()).next();
+	}
+
+	private static double fitness(final Genotype<DoubleGene> gt) {
+		final double[] values = gt.chromosome()
+			.as(DoubleChromosome.class)
+			.toArray();
+
+		double sum = 0;
+		for (double value : values) {
+			sum += value*value;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public EvolutionResult<DoubleGene, Double> objectPopulation() {
+		final var result = objectEngine.evolve(objectStart);
+		objectStart = result.next();
+		return result;
+	}
+
+	@Benchmark
+	public EvolutionResult<DoubleGene, Double> packedPopulation() {
+		final var result = packedEngine.evolve(packedStart);
+		packedStart = result.next();
+		return result;
+	}
+
+}
@@ -79,8 +79,8 @@ public abstract class Crossover<
 
 		final var c1 = MSeq.of(gt1);
 		final var c2 = MSeq.of(gt2);
-		final var genes1 = MSeq.of(c1.get(chIndex));
-		final var genes2 = MSeq.of(c2.get(chIndex));
+		final var genes1 = genes(c1.get(chIndex));
+		final var genes2 = genes(c2.get(chIndex));
 
 		crossover(genes1, genes2);
 
@@ -100,6 +100,14 @@ public abstract class Crossover<
 		return order();
 	}
 
+	// Copying the gene store directly keeps the storage of packed chromosomes.
+	private static <G extends Gene<?, G>> MSeq<G>
+	genes(final Chromosome<G> chromosome) {
+		return chromosome instanceof AbstractChromosome<G> ac
+			? ac._genes.copy()
+			: MSeq.of(chromosome);
+	}
+
 	/**
 	 * Template method which performs the crossover. The arguments given are
 	 * mutable non-null arrays of the same length.
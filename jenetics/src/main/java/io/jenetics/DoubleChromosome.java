@@ -50,7 +50,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 6.1
+ * @version 8.2
  */
 public class DoubleChromosome
 	extends AbstractBoundedChromosome<Double, DoubleGene>
@@ -160,8 +160,12 @@ public class DoubleChromosome
 			? array
 			: new double[length()];
 
-		for (int i = length(); --i >= 0;) {
-			a[i] = doubleValue(i);
+		if (PackedStore.of(_genes) instanceof PackedStore.OfDouble store) {
+			store.copyTo(a, 0);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = doubleValue(i);
+			}
 		}
 
 		return a;
@@ -48,7 +48,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz  Wilhelmstötter</a>
  * @since 2.0
- * @version 7.0
+ * @version 8.2
  */
 public class IntegerChromosome
 	extends AbstractBoundedChromosome<Integer, IntegerGene>
@@ -155,8 +155,12 @@ public class IntegerChromosome
 	 */
 	public int[] toArray(final int[] array) {
 		final int[] a = array.length >= length() ? array : new int[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = intValue(i);
+		if (PackedStore.of(_genes) instanceof PackedStore.OfInteger store) {
+			store.copyTo(a, 0);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = intValue(i);
+			}
 		}
 
 		return a;
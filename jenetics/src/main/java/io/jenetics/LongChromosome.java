@@ -52,7 +52,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 6.1
+ * @version 8.2
  */
 public class LongChromosome
 	extends AbstractBoundedChromosome<Long, LongGene>
@@ -159,8 +159,12 @@ public class LongChromosome
 	 */
 	public long[] toArray(final long[] array) {
 		final long[] a = array.length >= length() ? array : new long[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = longValue(i);
+		if (PackedStore.of(_genes) instanceof PackedStore.OfLong store) {
+			store.copyTo(a, 0);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = longValue(i);
+			}
 		}
 
 		return a;
@@ -19,13 +19,16 @@
  */
 package io.jenetics;
 
+import static java.lang.Math.log1p;
 import static java.lang.Math.pow;
 import static java.lang.String.format;
+import static io.jenetics.internal.math.Randoms.nextSkip;
 
 import java.util.random.RandomGenerator;
 
 import io.jenetics.internal.math.Probabilities;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -63,9 +66,16 @@ import io.jenetics.util.Seq;
  * <img src="doc-files/mutator-mean_m.svg" alt="\hat{\mu}=N_{P}N_{g}\cdot P(m)" >
  * </p>
  *
+ * @implNote
+ * The genes of {@link NumericChromosome}s are mutated via a sparse fast path.
+ * The indexes of the mutated genes are drawn by geometric skipping, and only
+ * the mutated genes are copied into the newly created chromosome. This makes
+ * the mutation cost proportional to the number of mutated genes instead of
+ * the chromosome length.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 8.2
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -196,6 +206,10 @@ public class Mutator<
 		final double p,
 		final RandomGenerator random
 	) {
+		if (chromosome instanceof NumericChromosome<?, ?>) {
+			return sparseMutate(chromosome, p, random);
+		}
+
 		final int P = Probabilities.toInt(p);
 		final ISeq<MutatorResult<G>> result = chromosome.stream()
 			.map(gene -> random.nextInt() < P
@@ -209,6 +223,44 @@ public class Mutator<
 		);
 	}
 
+	// Draws the mutated gene indexes by geometric skipping and copies only
+	// the mutated genes. No objects are created for untouched genes, and the
+	// chromosome itself is returned if no gene has been mutated.
+	private MutatorResult<Chromosome<G>> sparseMutate(
+		final Chromosome<G> chromosome,
+		final double p,
+		final RandomGenerator random
+	) {
+		if (Probabilities.isZero(p)) {
+			return new MutatorResult<>(chromosome, 0);
+		}
+
+		final double logq = log1p(-p);
+		final int length = chromosome.length();
+
+		MSeq<G> genes = null;
+		int mutations = 0;
+
+		long index = nextSkip(random, logq);
+		while (index < length) {
+			if (genes == null) {
+				genes = chromosome instanceof AbstractChromosome<G> ac
+					? ac._genes.copy()
+					: MSeq.of(chromosome);
+			}
+
+			final int i = (int)index;
+			genes.set(i, mutate(genes.get(i), random));
+			++mutations;
+
+			index += 1L + nextSkip(random, logq);
+		}
+
+		return genes != null
+			? new MutatorResult<>(chromosome.newInstance(genes.toISeq()), mutations)
+			: new MutatorResult<>(chromosome, 0);
+	}
+
 	/**
 	 * Mutates the given gene.
 	 *
@@ -0,0 +1,278 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Creates <em>packed</em> (columnar) representations of whole populations.
+ * The alleles of the {@link DoubleChromosome}, {@link IntegerChromosome} and
+ * {@link LongChromosome} of a population are copied into one flat
+ * {@code double[]}, {@code int[]} or {@code long[]} column per chromosome
+ * index. The chromosomes of the returned population are <em>views</em> on
+ * these columns and create their genes lazily on access. This reduces the
+ * number of (long living) objects of a population from
+ * <em>O(population-size &times; chromosome-length)</em> to
+ * <em>O(population-size)</em>, which lowers the GC pressure considerably for
+ * big populations with long chromosomes.
+ * <p>
+ * The packed individuals are ordinary {@link Phenotype}, {@link Genotype} and
+ * {@link Chromosome} objects and can be used everywhere an unpacked object is
+ * expected. The {@link Mutator} and {@link Crossover} alterers write the
+ * changed alleles of a packed chromosome into a primitive copy of its column
+ * section, so that the unchanged genes are never created as objects.
+ * The easiest way for using packed populations is the evolution interceptor
+ * returned by {@link io.jenetics.engine.EvolutionResult#toPackedPopulation()},
+ * which packs the population after every generation.
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .interceptor(EvolutionResult.toPackedPopulation())
+ *     .build();
+ * }
+ *
+ * @see io.jenetics.engine.EvolutionResult#toPackedPopulation()
+ *
+ * @implNote
+ * Chromosomes which are not of type {@link DoubleChromosome},
+ * {@link IntegerChromosome} or {@link LongChromosome} are left untouched.
+ * A chromosome index is only packed if all individuals have a chromosome of
+ * the same packable type at this index. The packed columns are always created
+ * newly, so that the columns of previous generations are not retained by
+ * surviving individuals.
+ * <p>
+ * Packing is not free: every packed generation copies all alleles into new
+ * columns, and every gene access creates a new gene object. The
+ * allocation rate is only reduced, if a small part of the population is
+ * altered and the genes are accessed rarely, compared to the number of
+ * genes, which are kept alive between the generations. For small
+ * populations, short chromosomes or high alteration probabilities, the
+ * unpacked population is usually faster.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class PackedPopulation {
+	private PackedPopulation() {}
+
+	/**
+	 * Return a new population, where the numeric chromosomes of the given
+	 * {@code population} are stored in packed, primitive columns. The
+	 * generation and fitness values of the phenotypes are preserved.
+	 *
+	 * @param population the population to pack
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new, packed population, which is equal to the given one
+	 * @throws NullPointerException if the given {@code population} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> pack(final Seq<Phenotype<G, C>> population) {
+		final ISeq<Genotype<G>> genotypes = packGenotypes(
+			population.map(Phenotype::genotype)
+		);
+
+		final MSeq<Phenotype<G, C>> packed = MSeq.ofLength(population.size());
+		for (int i = 0; i < population.size(); ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			packed.set(i, pt.isEvaluated()
+				? Phenotype.of(genotypes.get(i), pt.generation(), pt.fitness())
+				: Phenotype.of(genotypes.get(i), pt.generation())
+			);
+		}
+
+		return packed.toISeq();
+	}
+
+	/**
+	 * Return a new sequence of genotypes, where the numeric chromosomes of the
+	 * given {@code genotypes} are stored in packed, primitive columns.
+	 *
+	 * @param genotypes the genotypes to pack
+	 * @param <G> the gene type
+	 * @return a new sequence of packed genotypes, which are equal to the
+	 *         given ones
+	 * @throws NullPointerException if the given {@code genotypes} are
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>> ISeq<Genotype<G>>
+	packGenotypes(final Seq<Genotype<G>> genotypes) {
+		requireNonNull(genotypes);
+		if (genotypes.isEmpty()) {
+			return ISeq.empty();
+		}
+
+		final int count = genotypes.stream()
+			.mapToInt(Genotype::length)
+			.min()
+			.orElse(0);
+
+		// Chromosome matrix: chromosomes[i][j] is the j-th chromosome of the
+		// i-th genotype.
+		@SuppressWarnings("unchecked")
+		final Chromosome<G>[][] chromosomes = genotypes.stream()
+			.map(gt -> gt.stream().toArray(Chromosome[]::new))
+			.toArray(Chromosome[][]::new);
+
+		for (int j = 0; j < count; ++j) {
+			packColumn(chromosomes, j);
+		}
+
+		final MSeq<Genotype<G>> packed = MSeq.ofLength(chromosomes.length);
+		for (int i = 0; i < chromosomes.length; ++i) {
+			packed.set(i, Genotype.of(ISeq.of(chromosomes[i])));
+		}
+
+		return packed.toISeq();
+	}
+
+	/**
+	 * Test whether the alleles of the given {@code chromosome} are stored in
+	 * a packed, primitive column.
+	 *
+	 * @param chromosome the chromosome to test
+	 * @return {@code true} if the given {@code chromosome} is packed,
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if the given {@code chromosome} is
+	 *         {@code null}
+	 */
+	public static boolean isPacked(final Chromosome<?> chromosome) {
+		requireNonNull(chromosome);
+		return chromosome instanceof AbstractChromosome<?> ch &&
+			PackedStore.of(ch._genes) != null;
+	}
+
+	private static void
+	packColumn(final Chromosome<?>[][] chromosomes, final int index) {
+		final Class<?> type = typeOf(chromosomes[0][index]);
+		if (type == null) {
+			return;
+		}
+
+		int length = 0;
+		for (var row : chromosomes) {
+			if (typeOf(row[index]) != type) {
+				return;
+			}
+			length += row[index].length();
+		}
+
+		if (type == DoubleChromosome.class) {
+			packDoubles(chromosomes, index, length);
+		} else if (type == IntegerChromosome.class) {
+			packIntegers(chromosomes, index, length);
+		} else {
+			packLongs(chromosomes, index, length);
+		}
+	}
+
+	private static Class<?> typeOf(final Chromosome<?> chromosome) {
+		return switch (chromosome) {
+			case DoubleChromosome ch -> DoubleChromosome.class;
+			case IntegerChromosome ch -> IntegerChromosome.class;
+			case LongChromosome ch -> LongChromosome.class;
+			default -> null;
+		};
+	}
+
+	private static void packDoubles(
+		final Chromosome<?>[][] chromosomes,
+		final int index,
+		final int length
+	) {
+		final double[] column = new double[length];
+
+		int offset = 0;
+		for (var row : chromosomes) {
+			final var ch = (DoubleChromosome)row[index];
+			if (PackedStore.of(ch._genes) instanceof PackedStore.OfDouble store) {
+				store.copyTo(column, offset);
+			} else {
+				for (int i = 0, n = ch.length(); i < n; ++i) {
+					column[offset + i] = ch.get(i).doubleValue();
+				}
+			}
+
+			final var store = new PackedStore.OfDouble(
+				column, offset, ch.length(), ch.min(), ch.max()
+			);
+			row[index] = ch.newInstance(store.toISeq());
+			offset += ch.length();
+		}
+	}
+
+	private static void packIntegers(
+		final Chromosome<?>[][] chromosomes,
+		final int index,
+		final int length
+	) {
+		final int[] column = new int[length];
+
+		int offset = 0;
+		for (var row : chromosomes) {
+			final var ch = (IntegerChromosome)row[index];
+			if (PackedStore.of(ch._genes) instanceof PackedStore.OfInteger store) {
+				store.copyTo(column, offset);
+			} else {
+				for (int i = 0, n = ch.length(); i < n; ++i) {
+					column[offset + i] = ch.get(i).intValue();
+				}
+			}
+
+			final var store = new PackedStore.OfInteger(
+				column, offset, ch.length(), ch.min(), ch.max()
+			);
+			row[index] = ch.newInstance(store.toISeq());
+			offset += ch.length();
+		}
+	}
+
+	private static void packLongs(
+		final Chromosome<?>[][] chromosomes,
+		final int index,
+		final int length
+	) {
+		final long[] column = new long[length];
+
+		int offset = 0;
+		for (var row : chromosomes) {
+			final var ch = (LongChromosome)row[index];
+			if (PackedStore.of(ch._genes) instanceof PackedStore.OfLong store) {
+				store.copyTo(column, offset);
+			} else {
+				for (int i = 0, n = ch.length(); i < n; ++i) {
+					column[offset + i] = ch.get(i).longValue();
+				}
+			}
+
+			final var store = new PackedStore.OfLong(
+				column, offset, ch.length(), ch.min(), ch.max()
+			);
+			row[index] = ch.newInstance(store.toISeq());
+			offset += ch.length();
+		}
+	}
+
+}
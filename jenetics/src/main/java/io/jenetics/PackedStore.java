@@ -0,0 +1,418 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ObjectStore;
+import io.jenetics.util.ISeq;
+
+/**
+ * Array store, which keeps the alleles of its genes in a section of a
+ * primitive column. The genes are created lazily on access.
+ * <p>
+ * A packed store is either a read-only <em>view</em> on a shared column,
+ * created by {@link PackedPopulation}, or a writable <em>copy</em> with its
+ * own column. The copy is created by the sealed {@link Array} wrapping the
+ * view, when an alterer changes the genes of a packed chromosome. Changed
+ * genes with the same bounds are written back into the column of the copy,
+ * and unchanged genes are never created as objects. If a gene with different
+ * bounds is set or the store is sorted, the copy falls back to an object
+ * array.
+ *
+ * @see PackedPopulation
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+abstract sealed class PackedStore<G>
+	implements Array.Store<G>, Serializable
+{
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	final int _offset;
+	final int _length;
+	private final boolean _writable;
+
+	// The genes of a writable store, which can't be stored in the column.
+	private Object[] _objects;
+
+	private PackedStore(
+		final int offset,
+		final int length,
+		final boolean writable
+	) {
+		_offset = offset;
+		_length = length;
+		_writable = writable;
+	}
+
+	/**
+	 * Create the gene at the given index from the column value.
+	 *
+	 * @param index the gene index
+	 * @return the gene at the given index
+	 */
+	abstract G gene(final int index);
+
+	/**
+	 * Writes the allele of the given gene into the column, if the gene has
+	 * the bounds of this store.
+	 *
+	 * @param index the gene index
+	 * @param gene the gene to write
+	 * @return {@code true} if the allele has been written, {@code false} if
+	 *         the gene has different bounds
+	 */
+	abstract boolean put(final int index, final G gene);
+
+	/**
+	 * Return a writable copy of the given column section.
+	 *
+	 * @param from the start index of the copy
+	 * @param until the end index of the copy
+	 * @return a writable packed store copy
+	 */
+	abstract PackedStore<G> column(final int from, final int until);
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public final G get(final int index) {
+		return _objects != null ? (G)_objects[index] : gene(index);
+	}
+
+	@Override
+	public final void set(final int index, final G value) {
+		checkWritable();
+		if (_objects != null) {
+			_objects[index] = value;
+		} else if (!put(index, requireNonNull(value))) {
+			materialize()[index] = value;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void sort(
+		final int from,
+		final int until,
+		final Comparator<? super G> comparator
+	) {
+		checkWritable();
+		Arrays.sort((G[])materialize(), from, until, comparator);
+	}
+
+	private void checkWritable() {
+		if (!_writable) {
+			throw new UnsupportedOperationException(
+				"Packed store views are read-only."
+			);
+		}
+	}
+
+	private Object[] materialize() {
+		if (_objects == null) {
+			_objects = new Object[_length];
+			for (int i = 0; i < _length; ++i) {
+				_objects[i] = gene(i);
+			}
+		}
+		return _objects;
+	}
+
+	@Override
+	public final int length() {
+		return _length;
+	}
+
+	@Override
+	public final Array.Store<G> copy(final int from, final int until) {
+		return _objects != null
+			? ObjectStore.of(Arrays.copyOfRange(_objects, from, until))
+			: column(from, until);
+	}
+
+	@Override
+	public final ObjectStore<G> newInstance(final int length) {
+		return ObjectStore.ofLength(length);
+	}
+
+	/**
+	 * Wraps {@code this} store into an immutable gene sequence.
+	 *
+	 * @return a new gene sequence, backed by {@code this} store
+	 */
+	final ISeq<G> toISeq() {
+		return new ArrayISeq<>(Array.of(this).seal());
+	}
+
+	/**
+	 * Return the packed store of the given gene sequence, or {@code null} if
+	 * the alleles of the sequence are not (completely) stored in a primitive
+	 * column.
+	 *
+	 * @param genes the gene sequence to test
+	 * @param <G> the gene type
+	 * @return the packed store of the given gene sequence or {@code null}
+	 */
+	static <G> PackedStore<G> of(final ISeq<G> genes) {
+		return genes instanceof ArrayISeq<G> seq &&
+			seq.array.store() instanceof PackedStore<G> store &&
+			store._objects == null &&
+			seq.array.length() == store._length
+				? store
+				: null;
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	// Packed stores are serialized as ordinary object stores. This keeps the
+	// serial format unchanged and avoids writing the whole allele column.
+	@Serial
+	final Object writeReplace() {
+		final Object[] genes = new Object[_length];
+		for (int i = 0; i < _length; ++i) {
+			genes[i] = get(i);
+		}
+		return ObjectStore.of(genes);
+	}
+
+
+	/* *************************************************************************
+	 *  Store implementations.
+	 * ************************************************************************/
+
+	/**
+	 * Packed store view for {@link DoubleGene}s.
+	 */
+	static final class OfDouble extends PackedStore<DoubleGene> {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final double[] _column;
+		private final double _min;
+		private final double _max;
+
+		OfDouble(
+			final double[] column,
+			final int offset,
+			final int length,
+			final double min,
+			final double max
+		) {
+			this(column, offset, length, min, max, false);
+		}
+
+		private OfDouble(
+			final double[] column,
+			final int offset,
+			final int length,
+			final double min,
+			final double max,
+			final boolean writable
+		) {
+			super(offset, length, writable);
+			_column = requireNonNull(column);
+			_min = min;
+			_max = max;
+		}
+
+		@Override
+		DoubleGene gene(final int index) {
+			return DoubleGene.of(_column[_offset + index], _min, _max);
+		}
+
+		@Override
+		boolean put(final int index, final DoubleGene gene) {
+			if (gene.min() == _min && gene.max() == _max) {
+				_column[_offset + index] = gene.doubleValue();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		OfDouble column(final int from, final int until) {
+			return new OfDouble(
+				Arrays.copyOfRange(_column, _offset + from, _offset + until),
+				0,
+				until - from,
+				_min,
+				_max,
+				true
+			);
+		}
+
+		void copyTo(final double[] column, final int offset) {
+			System.arraycopy(_column, _offset, column, offset, _length);
+		}
+	}
+
+	/**
+	 * Packed store view for {@link IntegerGene}s.
+	 */
+	static final class OfInteger extends PackedStore<IntegerGene> {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final int[] _column;
+		private final int _min;
+		private final int _max;
+
+		OfInteger(
+			final int[] column,
+			final int offset,
+			final int length,
+			final int min,
+			final int max
+		) {
+			this(column, offset, length, min, max, false);
+		}
+
+		private OfInteger(
+			final int[] column,
+			final int offset,
+			final int length,
+			final int min,
+			final int max,
+			final boolean writable
+		) {
+			super(offset, length, writable);
+			_column = requireNonNull(column);
+			_min = min;
+			_max = max;
+		}
+
+		@Override
+		IntegerGene gene(final int index) {
+			return IntegerGene.of(_column[_offset + index], _min, _max);
+		}
+
+		@Override
+		boolean put(final int index, final IntegerGene gene) {
+			if (gene.min() == _min && gene.max() == _max) {
+				_column[_offset + index] = gene.intValue();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		OfInteger column(final int from, final int until) {
+			return new OfInteger(
+				Arrays.copyOfRange(_column, _offset + from, _offset + until),
+				0,
+				until - from,
+				_min,
+				_max,
+				true
+			);
+		}
+
+		void copyTo(final int[] column, final int offset) {
+			System.arraycopy(_column, _offset, column, offset, _length);
+		}
+	}
+
+	/**
+	 * Packed store view for {@link LongGene}s.
+	 */
+	static final class OfLong extends PackedStore<LongGene> {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final long[] _column;
+		private final long _min;
+		private final long _max;
+
+		OfLong(
+			final long[] column,
+			final int offset,
+			final int length,
+			final long min,
+			final long max
+		) {
+			this(column, offset, length, min, max, false);
+		}
+
+		private OfLong(
+			final long[] column,
+			final int offset,
+			final int length,
+			final long min,
+			final long max,
+			final boolean writable
+		) {
+			super(offset, length, writable);
+			_column = requireNonNull(column);
+			_min = min;
+			_max = max;
+		}
+
+		@Override
+		LongGene gene(final int index) {
+			return LongGene.of(_column[_offset + index], _min, _max);
+		}
+
+		@Override
+		boolean put(final int index, final LongGene gene) {
+			if (gene.min() == _min && gene.max() == _max) {
+				_column[_offset + index] = gene.longValue();
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		OfLong column(final int from, final int until) {
+			return new OfLong(
+				Arrays.copyOfRange(_column, _offset + from, _offset + until),
+				0,
+				until - from,
+				_min,
+				_max,
+				true
+			);
+		}
+
+		void copyTo(final long[] column, final int offset) {
+			System.arraycopy(_column, _offset, column, offset, _length);
+		}
+	}
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator decorator, which memoizes the fitness values of already evaluated
+ * genotypes. Not evaluated phenotypes, whose genotype is (structurally) equal
+ * to a recently evaluated one, get the cached fitness value assigned. Only
+ * the remaining phenotypes are evaluated by the decorated evaluator, where
+ * equal genotypes of one population are evaluated only once. The cache holds
+ * at most {@link #maxSize()} entries and evicts the <em>least recently
+ * used</em> entries first.
+ * {@snippet lang="java":
+ * final CachingEvaluator<DoubleGene, Double> evaluator =
+ *     Evaluators.cachedFitness(fitness, 10_000);
+ *
+ * final Engine<DoubleGene, Double> engine =
+ *     new Engine.Builder<>(evaluator, genotypeFactory)
+ *         .build();
+ * }
+ *
+ * @apiNote
+ * Caching pays off for expensive fitness functions, where the same genotypes
+ * are evaluated repeatedly, e.g., with low mutation rates or crossovers of
+ * identical parents. The fitness function must be deterministic.
+ *
+ * @see Evaluators#cached(Evaluator, int)
+ * @see Evaluators#cachedFitness(java.util.function.Function, int)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class CachingEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	/**
+	 * Cache key, which stores the structural hash value of the genotype, so
+	 * that it is calculated only once per lookup.
+	 */
+	private record Key(Genotype<?> genotype, int hash) {
+		Key(final Genotype<?> genotype) {
+			this(genotype, genotype.hashCode());
+		}
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key key &&
+				key.hash == hash &&
+				key.genotype.equals(genotype);
+		}
+	}
+
+	private final Evaluator<G, C> _evaluator;
+	private final int _maxSize;
+
+	private final ReentrantLock _lock = new ReentrantLock();
+	private final LinkedHashMap<Key, C> _cache;
+
+	private final LongAdder _hits = new LongAdder();
+	private final LongAdder _misses = new LongAdder();
+	private final LongAdder _evictions = new LongAdder();
+
+	/**
+	 * Create a new caching evaluator.
+	 *
+	 * @param evaluator the decorated evaluator
+	 * @param maxSize the maximal number of cached fitness values
+	 * @throws NullPointerException if the given {@code evaluator} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code maxSize} is smaller
+	 *         than one
+	 */
+	CachingEvaluator(final Evaluator<G, C> evaluator, final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Cache size must be greater than zero, but was %d.", maxSize
+			));
+		}
+
+		_evaluator = requireNonNull(evaluator);
+		_maxSize = maxSize;
+		_cache = new LinkedHashMap<>(16, 0.75F, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Key, C> eldest) {
+				final boolean remove = size() > _maxSize;
+				if (remove) {
+					_evictions.increment();
+				}
+				return remove;
+			}
+		};
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+
+		// Unique, not cached genotypes and the population indexes of the
+		// phenotypes which share this genotype.
+		final Map<Key, List<Integer>> pending = new HashMap<>();
+		final List<Phenotype<G, C>> unevaluated = new ArrayList<>();
+
+		_lock.lock();
+		try {
+			for (int i = 0; i < result.size(); ++i) {
+				final Phenotype<G, C> pt = result.get(i);
+				if (pt.nonEvaluated()) {
+					final var key = new Key(pt.genotype());
+					final C fitness = _cache.get(key);
+
+					if (fitness != null) {
+						result.set(i, pt.withFitness(fitness));
+						_hits.increment();
+					} else {
+						final var indexes = pending.get(key);
+						if (indexes == null) {
+							pending.put(key, new ArrayList<>(List.of(i)));
+							unevaluated.add(pt);
+							_misses.increment();
+						} else {
+							indexes.add(i);
+							_hits.increment();
+						}
+					}
+				}
+			}
+		} finally {
+			_lock.unlock();
+		}
+
+		if (!unevaluated.isEmpty()) {
+			final ISeq<Phenotype<G, C>> evaluated =
+				_evaluator.eval(ISeq.of(unevaluated));
+
+			_lock.lock();
+			try {
+				for (var pt : evaluated) {
+					final var key = new Key(pt.genotype());
+					final var indexes = pending.get(key);
+					if (indexes != null) {
+						for (int i : indexes) {
+							result.set(i, result.get(i).withFitness(pt.fitness()));
+						}
+					}
+					_cache.put(key, pt.fitness());
+				}
+			} finally {
+				_lock.unlock();
+			}
+		}
+
+		return result.toISeq();
+	}
+
+	/**
+	 * Return the maximal number of cached fitness values.
+	 *
+	 * @return the maximal number of cached fitness values
+	 */
+	public int maxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Return the current number of cached fitness values.
+	 *
+	 * @return the current number of cached fitness values
+	 */
+	public int size() {
+		_lock.lock();
+		try {
+			return _cache.size();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of phenotypes, whose fitness value has been taken
+	 * from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long hits() {
+		return _hits.sum();
+	}
+
+	/**
+	 * Return the number of phenotypes, which have been evaluated by the
+	 * decorated evaluator.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long misses() {
+		return _misses.sum();
+	}
+
+	/**
+	 * Return the number of cache entries which have been evicted.
+	 *
+	 * @return the number of evicted cache entries
+	 */
+	public long evictions() {
+		return _evictions.sum();
+	}
+
+	/**
+	 * Return the ratio of cache hits to all cache lookups. If no lookups has
+	 * been performed yet, {@link Double#NaN} is returned.
+	 *
+	 * @return the cache hit ratio
+	 */
+	public double hitRatio() {
+		final long hits = hits();
+		final long lookups = hits + misses();
+		return lookups > 0 ? (double)hits/lookups : Double.NaN;
+	}
+
+	/**
+	 * Removes all cached fitness values. The hit, miss and eviction counters
+	 * are not reset.
+	 */
+	public void clear() {
+		_lock.lock();
+		try {
+			_cache.clear();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"CachingEvaluator[size=%d, maxSize=%d, hits=%d, misses=%d, evictions=%d]",
+			size(), _maxSize, hits(), misses(), evictions()
+		);
+	}
+
+}
@@ -0,0 +1,417 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import io.jenetics.Gene;
+
+/**
+ * Evolution interceptor, which periodically writes the {@link EvolutionResult}
+ * of a running evolution as checkpoint file, using the {@link Checkpoints}
+ * format. A checkpoint is written every given number of generations and/or
+ * after a given time interval. The checkpoints are written by a background
+ * thread and the evolution never waits for the file system. If the writing
+ * of a checkpoint is slower than the evolution, only the latest pending
+ * result is written.
+ * <p>
+ * A checkpoint is first written to a temporary file, which is atomically
+ * renamed, once it has been completely written. Only the given number of
+ * most recent checkpoint files is kept in the checkpoint directory.
+ *
+ * {@snippet lang="java":
+ * final Path directory = Path.of("checkpoints");
+ * try (var checkpoints = CheckpointInterceptor.<DoubleGene, Double>of(directory, 100)) {
+ *     final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *         .interceptor(checkpoints)
+ *         .build();
+ *
+ *     // Resume from the latest valid checkpoint, if available.
+ *     final EvolutionStart<DoubleGene, Double> start = CheckpointInterceptor
+ *         .<DoubleGene, Double>latest(directory)
+ *         .orElse(EvolutionStart.empty());
+ *
+ *     final EvolutionResult<DoubleGene, Double> result = engine.stream(start)
+ *         .limit(1_000_000)
+ *         .collect(EvolutionResult.toBestEvolutionResult());
+ * }
+ * }
+ *
+ * @implNote
+ * Failures of the background writes don't stop the evolution. The last
+ * failure is re-thrown by the {@link #close()} method, and the temporary file
+ * of the failed checkpoint is removed.
+ *
+ * @see Checkpoints
+ * @see Engine.Builder#interceptor(EvolutionInterceptor)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class CheckpointInterceptor<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionInterceptor<G, C>, Closeable
+{
+
+	/**
+	 * The default number of checkpoint files kept in the checkpoint directory.
+	 */
+	public static final int DEFAULT_KEEP = 3;
+
+	private static final String PREFIX = "checkpoint-";
+	private static final String SUFFIX = ".ckpt";
+	private static final Pattern FILE_NAME =
+		Pattern.compile(Pattern.quote(PREFIX) + "(\\d{1,19})" + Pattern.quote(SUFFIX));
+
+	private final Path _directory;
+	private final long _generations;
+	private final Duration _interval;
+	private final int _keep;
+
+	private final AtomicReference<EvolutionResult<G, C>> _pending =
+		new AtomicReference<>();
+	private final AtomicReference<IOException> _failure =
+		new AtomicReference<>();
+	private final ExecutorService _executor;
+
+	// Only accessed by the evolution thread.
+	private long _lastNanos = System.nanoTime();
+
+	private CheckpointInterceptor(
+		final Path directory,
+		final long generations,
+		final Duration interval,
+		final int keep
+	) {
+		_directory = requireNonNull(directory);
+		if (generations < 0) {
+			throw new IllegalArgumentException(
+				"Generations must not be negative: " + generations
+			);
+		}
+		if (interval != null && (interval.isNegative() || interval.isZero())) {
+			throw new IllegalArgumentException(
+				"Interval must be positive: " + interval
+			);
+		}
+		if (generations == 0 && interval == null) {
+			throw new IllegalArgumentException(
+				"Either generations or interval must be given."
+			);
+		}
+		if (keep < 1) {
+			throw new IllegalArgumentException(
+				"Number of kept checkpoints must be positive: " + keep
+			);
+		}
+
+		_generations = generations;
+		_interval = interval;
+		_keep = keep;
+		_executor = Executors.newSingleThreadExecutor(
+			Thread.ofPlatform()
+				.name("jenetics-checkpoint-", 0)
+				.daemon(true)
+				.factory()
+		);
+	}
+
+	/**
+	 * Return the checkpoint directory.
+	 *
+	 * @return the checkpoint directory
+	 */
+	public Path directory() {
+		return _directory;
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		final long now = System.nanoTime();
+		final boolean due =
+			(_generations > 0 && result.totalGenerations()%_generations == 0) ||
+			(_interval != null && now - _lastNanos >= _interval.toNanos());
+
+		if (due && !_executor.isShutdown()) {
+			_lastNanos = now;
+			if (_pending.getAndSet(result) == null) {
+				_executor.execute(this::drain);
+			}
+		}
+
+		return result;
+	}
+
+	private void drain() {
+		EvolutionResult<G, C> result;
+		while ((result = _pending.getAndSet(null)) != null) {
+			try {
+				write(result);
+			} catch (IOException e) {
+				_failure.set(e);
+			} catch (RuntimeException e) {
+				_failure.set(new IOException("Writing checkpoint failed.", e));
+			}
+		}
+	}
+
+	private void write(final EvolutionResult<G, C> result) throws IOException {
+		Files.createDirectories(_directory);
+
+		final Path file = _directory.resolve(fileName(result.totalGenerations()));
+		final Path temp = _directory.resolve(file.getFileName() + ".tmp");
+		try {
+			try (var channel = FileChannel.open(temp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+				Checkpoints.write(result, Channels.newOutputStream(channel));
+				channel.force(true);
+			}
+
+			try {
+				Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, REPLACE_EXISTING);
+			}
+		} catch (IOException | RuntimeException e) {
+			// Don't leave partially written checkpoints behind.
+			try {
+				Files.deleteIfExists(temp);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw e;
+		}
+
+		final List<Path> files = checkpoints(_directory);
+		for (Path old : files.subList(Math.min(_keep, files.size()), files.size())) {
+			Files.deleteIfExists(old);
+		}
+	}
+
+	/**
+	 * Waits until all pending checkpoints have been written and stops the
+	 * background thread. Results passed to the interceptor after it has
+	 * been closed are no longer written.
+	 *
+	 * @throws IOException if writing of the last failed checkpoint failed
+	 * @throws InterruptedIOException if the current thread has been
+	 *         interrupted while waiting for the pending checkpoints
+	 */
+	@Override
+	public void close() throws IOException {
+		_executor.shutdown();
+		try {
+			while (!_executor.awaitTermination(1, TimeUnit.SECONDS)) {
+				// Wait for the pending checkpoint.
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			final var ioe = new InterruptedIOException(e.getMessage());
+			ioe.initCause(e);
+			throw ioe;
+		}
+
+		final IOException failure = _failure.getAndSet(null);
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"CheckpointInterceptor[directory=%s, generations=%d, interval=%s, keep=%d]",
+			_directory, _generations, _interval, _keep
+		);
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new checkpoint interceptor.
+	 *
+	 * @param directory the checkpoint directory, which is created if it
+	 *        doesn't exist
+	 * @param generations the number of generations between two checkpoints,
+	 *        or zero, if checkpoints should only be written time-based
+	 * @param interval the minimal time between two checkpoints, or
+	 *        {@code null}, if checkpoints should only be written every given
+	 *        number of generations
+	 * @param keep the number of most recent checkpoint files to keep
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 0},
+	 *         {@code keep < 1}, the {@code interval} is not positive or
+	 *         neither {@code generations} nor {@code interval} is given
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointInterceptor<G, C> of(
+		final Path directory,
+		final long generations,
+		final Duration interval,
+		final int keep
+	) {
+		return new CheckpointInterceptor<>(directory, generations, interval, keep);
+	}
+
+	/**
+	 * Create a new checkpoint interceptor, which writes a checkpoint every
+	 * given number of {@code generations} and keeps the
+	 * {@link #DEFAULT_KEEP} most recent checkpoint files.
+	 *
+	 * @param directory the checkpoint directory, which is created if it
+	 *        doesn't exist
+	 * @param generations the number of generations between two checkpoints
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointInterceptor<G, C> of(final Path directory, final long generations) {
+		if (generations < 1) {
+			throw new IllegalArgumentException(
+				"Generations must be positive: " + generations
+			);
+		}
+		return of(directory, generations, null, DEFAULT_KEEP);
+	}
+
+	/**
+	 * Create a new checkpoint interceptor, which writes a checkpoint after
+	 * the given time {@code interval} and keeps the {@link #DEFAULT_KEEP}
+	 * most recent checkpoint files.
+	 *
+	 * @param directory the checkpoint directory, which is created if it
+	 *        doesn't exist
+	 * @param interval the minimal time between two checkpoints
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code interval} is not positive
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointInterceptor<G, C> of(final Path directory, final Duration interval) {
+		return of(directory, 0, requireNonNull(interval), DEFAULT_KEEP);
+	}
+
+	/* *************************************************************************
+	 * Loading checkpoints.
+	 * ************************************************************************/
+
+	/**
+	 * Reads the latest valid checkpoint from the given checkpoint
+	 * {@code directory}. Checkpoint files which can't be read, e.g., because
+	 * the process crashed while writing it, are skipped. The returned
+	 * evolution start object continues the evolution with the generation
+	 * <em>after</em> the checkpoint.
+	 *
+	 * @see Checkpoints#readStart(Path)
+	 * @see EvolutionStreamable#stream(EvolutionStart)
+	 *
+	 * @param directory the checkpoint directory
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return the evolution start object of the latest valid checkpoint, or
+	 *         {@link Optional#empty()} if the directory doesn't contain any
+	 * @throws UncheckedIOException if the checkpoint directory can't be read
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<EvolutionStart<G, C>> latest(final Path directory) {
+		if (!Files.isDirectory(directory)) {
+			return Optional.empty();
+		}
+
+		try {
+			for (Path file : checkpoints(directory)) {
+				try {
+					return Optional.of(Checkpoints.readStart(file));
+				} catch (IOException | RuntimeException e) {
+					// Invalid checkpoint, try the previous one.
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return Optional.empty();
+	}
+
+	static String fileName(final long generation) {
+		return format("%s%019d%s", PREFIX, generation, SUFFIX);
+	}
+
+	/**
+	 * Return the checkpoint files of the given directory, newest first.
+	 */
+	static List<Path> checkpoints(final Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.filter(file -> FILE_NAME.matcher(file.getFileName().toString()).matches())
+				.sorted(Comparator.comparingLong((Path file) -> generation(file)).reversed())
+				.toList();
+		}
+	}
+
+	private static long generation(final Path file) {
+		final Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+		return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+	}
+
+}
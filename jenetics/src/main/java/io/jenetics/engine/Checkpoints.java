@@ -0,0 +1,935 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeBytes;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
+
+/**
+ * Reads and writes {@link EvolutionStart} and {@link EvolutionResult} objects
+ * in a compact, versioned binary <em>checkpoint</em> format. Compared to the
+ * Java serialization, the format is much smaller and faster to read and
+ * write, which makes it suitable for persisting the state of long-running
+ * evolutions with big populations.
+ *
+ * {@snippet lang="java":
+ * final Path file = Path.of("evolution.ckpt");
+ * final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *     .limit(1000)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ * Checkpoints.write(result, file);
+ *
+ * // Resume the evolution after a crash.
+ * final EvolutionStart<DoubleGene, Double> start = Checkpoints.readStart(file);
+ * final EvolutionResult<DoubleGene, Double> next = engine.stream(start)
+ *     .limit(1000)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ * }
+ *
+ * The population is stored column-wise: the genes of the <i>k</i>-th
+ * chromosome of all individuals are written as one block, followed by the
+ * phenotype generations and the fitness values. {@link DoubleChromosome},
+ * {@link IntegerChromosome}, {@link LongChromosome} and {@link BitChromosome}
+ * columns, with the same bounds for all individuals, and {@link Double},
+ * {@link Integer} and {@link Long} fitness values are written as raw
+ * primitive blocks. All other chromosome and fitness types are written with
+ * the Java serialization. Header values are written with the variable length
+ * integer encoding of the {@link io.jenetics.util.IO} serialization.
+ * <p>
+ * Checkpoint files are read via a memory mapped {@link FileChannel}.
+ *
+ * @apiNote
+ * The checkpoint format contains a format version, and files written by an
+ * unsupported version are rejected. It isn't meant as a long term archive
+ * format for evolution results.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class Checkpoints {
+	private Checkpoints() {}
+
+	/**
+	 * The current version of the checkpoint format.
+	 */
+	public static final int VERSION = 1;
+
+	// The file magic, "JCKP".
+	private static final int MAGIC = 0x4A434B50;
+
+	// Checkpoint kinds.
+	private static final byte EVOLUTION_START = 1;
+	private static final byte EVOLUTION_RESULT = 2;
+
+	// Population layouts.
+	private static final byte COLUMNS = 1;
+	private static final byte SERIALIZED = 2;
+
+	// Column types.
+	private static final byte NONE = 0;
+	private static final byte OBJECT = 1;
+	private static final byte DOUBLE = 2;
+	private static final byte INTEGER = 3;
+	private static final byte LONG = 4;
+	private static final byte BIT = 5;
+
+
+	/* *************************************************************************
+	 * Writing checkpoints.
+	 * ************************************************************************/
+
+	/**
+	 * Writes the given evolution {@code start} object to the given
+	 * {@code path}. An existing file is overwritten.
+	 *
+	 * @param start the evolution start object to write
+	 * @param path the checkpoint file
+	 * @throws IOException if writing the checkpoint fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static void write(final EvolutionStart<?, ?> start, final Path path)
+		throws IOException
+	{
+		requireNonNull(start);
+		try (var out = Files.newOutputStream(path)) {
+			write(start, out);
+		}
+	}
+
+	/**
+	 * Writes the given evolution {@code result} object to the given
+	 * {@code path}. An existing file is overwritten.
+	 *
+	 * @param result the evolution result object to write
+	 * @param path the checkpoint file
+	 * @throws IOException if writing the checkpoint fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static void write(final EvolutionResult<?, ?> result, final Path path)
+		throws IOException
+	{
+		requireNonNull(result);
+		try (var out = Files.newOutputStream(path)) {
+			write(result, out);
+		}
+	}
+
+	/**
+	 * Writes the given evolution {@code start} object to the given output
+	 * stream. The stream is flushed, but not closed.
+	 *
+	 * @param start the evolution start object to write
+	 * @param out the output stream
+	 * @throws IOException if writing the checkpoint fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static void write(final EvolutionStart<?, ?> start, final OutputStream out)
+		throws IOException
+	{
+		requireNonNull(start);
+		final var data = output(out);
+		writeHeader(EVOLUTION_START, data);
+		writeLong(start.generation(), data);
+		writePopulation(start.population(), data);
+		data.flush();
+	}
+
+	/**
+	 * Writes the given evolution {@code result} object to the given output
+	 * stream. The stream is flushed, but not closed.
+	 *
+	 * @param result the evolution result object to write
+	 * @param out the output stream
+	 * @throws IOException if writing the checkpoint fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static void write(final EvolutionResult<?, ?> result, final OutputStream out)
+		throws IOException
+	{
+		requireNonNull(result);
+		final var data = output(out);
+		writeHeader(EVOLUTION_RESULT, data);
+		data.writeByte(result.optimize().ordinal());
+		writeLong(result.generation(), data);
+		writeLong(result.totalGenerations(), data);
+		writeDurations(result.durations(), data);
+		writeInt(result.killCount(), data);
+		writeInt(result.invalidCount(), data);
+		writeInt(result.alterCount(), data);
+		writePopulation(result.population(), data);
+		data.flush();
+	}
+
+	private static DataOutputStream output(final OutputStream out) {
+		return new DataOutputStream(
+			new BufferedOutputStream(requireNonNull(out), 1 << 16)
+		);
+	}
+
+	private static void writeHeader(final byte kind, final DataOutput out)
+		throws IOException
+	{
+		out.writeInt(MAGIC);
+		writeInt(VERSION, out);
+		out.writeByte(kind);
+	}
+
+	private static void writeDurations(
+		final EvolutionDurations durations,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		writeDuration(durations.offspringSelectionDuration(), out);
+		writeDuration(durations.survivorsSelectionDuration(), out);
+		writeDuration(durations.offspringAlterDuration(), out);
+		writeDuration(durations.offspringFilterDuration(), out);
+		writeDuration(durations.survivorFilterDuration(), out);
+		writeDuration(durations.evaluationDuration(), out);
+		writeDuration(durations.evolveDuration(), out);
+	}
+
+	private static void writeDuration(final Duration duration, final DataOutput out)
+		throws IOException
+	{
+		writeLong(duration.getSeconds(), out);
+		writeInt(duration.getNano(), out);
+	}
+
+	private static void writePopulation(
+		final ISeq<? extends Phenotype<?, ?>> population,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		writeInt(population.size(), out);
+		if (population.isEmpty()) {
+			return;
+		}
+
+		final int length = population.get(0).genotype().length();
+		if (population.forAll(pt -> pt.genotype().length() == length)) {
+			out.writeByte(COLUMNS);
+			writeInt(length, out);
+			for (int i = 0; i < length; ++i) {
+				final int index = i;
+				writeColumn(population.map(pt -> pt.genotype().get(index)), out);
+			}
+		} else {
+			out.writeByte(SERIALIZED);
+			writeObjects(population.map(Phenotype::genotype), out);
+		}
+
+		for (var pt : population) {
+			out.writeLong(pt.generation());
+		}
+		writeFitness(population.map(pt -> pt.isEvaluated() ? pt.fitness() : null), out);
+	}
+
+	private static void writeColumn(
+		final ISeq<? extends Chromosome<?>> column,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		final Chromosome<?> first = column.get(0);
+
+		if (first instanceof DoubleChromosome ch && uniform(column, ch)) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(ch.min());
+			out.writeDouble(ch.max());
+			writeLengths(column, ch.lengthRange(), out);
+			for (var c : column) {
+				final var chromosome = (DoubleChromosome)c;
+				for (int i = 0, n = chromosome.length(); i < n; ++i) {
+					out.writeDouble(chromosome.doubleValue(i));
+				}
+			}
+		} else if (first instanceof IntegerChromosome ch && uniform(column, ch)) {
+			out.writeByte(INTEGER);
+			out.writeInt(ch.min());
+			out.writeInt(ch.max());
+			writeLengths(column, ch.lengthRange(), out);
+			for (var c : column) {
+				final var chromosome = (IntegerChromosome)c;
+				for (int i = 0, n = chromosome.length(); i < n; ++i) {
+					out.writeInt(chromosome.intValue(i));
+				}
+			}
+		} else if (first instanceof LongChromosome ch && uniform(column, ch)) {
+			out.writeByte(LONG);
+			out.writeLong(ch.min());
+			out.writeLong(ch.max());
+			writeLengths(column, ch.lengthRange(), out);
+			for (var c : column) {
+				final var chromosome = (LongChromosome)c;
+				for (int i = 0, n = chromosome.length(); i < n; ++i) {
+					out.writeLong(chromosome.longValue(i));
+				}
+			}
+		} else if (first instanceof BitChromosome ch && uniform(column, ch)) {
+			out.writeByte(BIT);
+			out.writeDouble(ch.oneProbability());
+			writeLengths(column, null, out);
+			for (var c : column) {
+				final byte[] bytes = ((BitChromosome)c).toByteArray();
+				out.write(bytes, 0, bytes(c.length()));
+			}
+		} else {
+			out.writeByte(OBJECT);
+			writeObjects(column, out);
+		}
+	}
+
+	private static boolean uniform(
+		final ISeq<? extends Chromosome<?>> column,
+		final DoubleChromosome first
+	) {
+		return column.forAll(c ->
+			c.getClass() == DoubleChromosome.class &&
+			((DoubleChromosome)c).min().equals(first.min()) &&
+			((DoubleChromosome)c).max().equals(first.max()) &&
+			((DoubleChromosome)c).lengthRange().equals(first.lengthRange())
+		);
+	}
+
+	private static boolean uniform(
+		final ISeq<? extends Chromosome<?>> column,
+		final IntegerChromosome first
+	) {
+		return column.forAll(c ->
+			c.getClass() == IntegerChromosome.class &&
+			((IntegerChromosome)c).min().equals(first.min()) &&
+			((IntegerChromosome)c).max().equals(first.max()) &&
+			((IntegerChromosome)c).lengthRange().equals(first.lengthRange())
+		);
+	}
+
+	private static boolean uniform(
+		final ISeq<? extends Chromosome<?>> column,
+		final LongChromosome first
+	) {
+		return column.forAll(c ->
+			c.getClass() == LongChromosome.class &&
+			((LongChromosome)c).min().equals(first.min()) &&
+			((LongChromosome)c).max().equals(first.max()) &&
+			((LongChromosome)c).lengthRange().equals(first.lengthRange())
+		);
+	}
+
+	private static boolean uniform(
+		final ISeq<? extends Chromosome<?>> column,
+		final BitChromosome first
+	) {
+		return column.forAll(c ->
+			c.getClass() == BitChromosome.class &&
+			((BitChromosome)c).oneProbability() == first.oneProbability()
+		);
+	}
+
+	/*
+	 * The length range of the chromosomes, followed by their lengths. If all
+	 * chromosomes have the same length, only this length is written,
+	 * otherwise zero followed by one length per chromosome.
+	 */
+	private static void writeLengths(
+		final ISeq<? extends Chromosome<?>> column,
+		final IntRange lengthRange,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		if (lengthRange != null) {
+			writeInt(lengthRange.min(), out);
+			writeInt(lengthRange.max(), out);
+		}
+
+		final int length = column.get(0).length();
+		if (column.forAll(c -> c.length() == length)) {
+			writeInt(length, out);
+		} else {
+			writeInt(0, out);
+			for (var c : column) {
+				out.writeInt(c.length());
+			}
+		}
+	}
+
+	private static void writeFitness(
+		final ISeq<?> fitness,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		if (fitness.forAll(Objects::isNull)) {
+			out.writeByte(NONE);
+		} else if (fitness.forAll(f -> f != null && f.getClass() == Double.class)) {
+			out.writeByte(DOUBLE);
+			for (var f : fitness) {
+				out.writeDouble((Double)f);
+			}
+		} else if (fitness.forAll(f -> f != null && f.getClass() == Integer.class)) {
+			out.writeByte(INTEGER);
+			for (var f : fitness) {
+				out.writeInt((Integer)f);
+			}
+		} else if (fitness.forAll(f -> f != null && f.getClass() == Long.class)) {
+			out.writeByte(LONG);
+			for (var f : fitness) {
+				out.writeLong((Long)f);
+			}
+		} else {
+			out.writeByte(OBJECT);
+			writeObjects(fitness, out);
+		}
+	}
+
+	private static void writeObjects(final ISeq<?> objects, final DataOutput out)
+		throws IOException
+	{
+		final var bytes = new ByteArrayOutputStream();
+		try (var oout = new ObjectOutputStream(bytes)) {
+			oout.writeObject(objects.toArray());
+		}
+		writeBytes(bytes.toByteArray(), out);
+	}
+
+	private static int bytes(final int bits) {
+		return (bits + Byte.SIZE - 1)/Byte.SIZE;
+	}
+
+
+	/* *************************************************************************
+	 * Reading checkpoints.
+	 * ************************************************************************/
+
+	/**
+	 * Reads an evolution start object from the given checkpoint file. If the
+	 * file contains an evolution result, the evolution start object for the
+	 * <em>next</em> generation is returned, which is the natural way of
+	 * resuming the evolution.
+	 *
+	 * @see EvolutionResult#next()
+	 *
+	 * @param path the checkpoint file
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the evolution start object read from the given file
+	 * @throws IOException if the file can't be read or is not a valid
+	 *         checkpoint file
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> readStart(final Path path) throws IOException {
+		return read(path, Checkpoints::readStart);
+	}
+
+	/**
+	 * Reads an evolution result object from the given checkpoint file.
+	 *
+	 * @param path the checkpoint file
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the evolution result object read from the given file
+	 * @throws IOException if the file can't be read or doesn't contain a
+	 *         valid evolution result
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> readResult(final Path path) throws IOException {
+		return read(path, Checkpoints::readResult);
+	}
+
+	@FunctionalInterface
+	private interface Reader<T> {
+		T read(final ByteBuffer buffer) throws IOException;
+	}
+
+	private static <T> T read(final Path path, final Reader<T> reader)
+		throws IOException
+	{
+		try (var channel = FileChannel.open(path, READ)) {
+			final long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException(format(
+					"Checkpoint file too big for memory mapping: %d bytes.",
+					size
+				));
+			}
+
+			return reader.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		}
+	}
+
+	/**
+	 * Reads an evolution start object from the given byte buffer, starting
+	 * at its current position. The buffer position is advanced to the end of
+	 * the read checkpoint. If the buffer contains an evolution result, the
+	 * evolution start object for the <em>next</em> generation is returned.
+	 *
+	 * @param buffer the byte buffer to read the checkpoint from
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the evolution start object read from the given buffer
+	 * @throws IOException if the buffer doesn't contain a valid checkpoint
+	 * @throws NullPointerException if the given {@code buffer} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> readStart(final ByteBuffer buffer) throws IOException {
+		return read(buffer, (kind, in) -> switch (kind) {
+			case EVOLUTION_START -> {
+				final long generation = readLong(in);
+				yield EvolutionStart.<G, C>of(readPopulation(in), generation);
+			}
+			case EVOLUTION_RESULT -> Checkpoints.<G, C>readResultBody(in).next();
+			default -> throw new StreamCorruptedException(
+				"Unknown checkpoint type: " + kind
+			);
+		});
+	}
+
+	/**
+	 * Reads an evolution result object from the given byte buffer, starting
+	 * at its current position. The buffer position is advanced to the end of
+	 * the read checkpoint.
+	 *
+	 * @param buffer the byte buffer to read the checkpoint from
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the evolution result object read from the given buffer
+	 * @throws IOException if the buffer doesn't contain a valid evolution
+	 *         result checkpoint
+	 * @throws NullPointerException if the given {@code buffer} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> readResult(final ByteBuffer buffer) throws IOException {
+		return read(buffer, (kind, in) -> {
+			if (kind != EVOLUTION_RESULT) {
+				throw new InvalidObjectException(
+					"Checkpoint doesn't contain an evolution result."
+				);
+			}
+			return readResultBody(in);
+		});
+	}
+
+	@FunctionalInterface
+	private interface BodyReader<T> {
+		T read(final byte kind, final Input in) throws IOException;
+	}
+
+	private static <T> T read(final ByteBuffer buffer, final BodyReader<T> reader)
+		throws IOException
+	{
+		final Input in = new Input(buffer.slice().order(ByteOrder.BIG_ENDIAN));
+		try {
+			if (in.buffer.getInt() != MAGIC) {
+				throw new StreamCorruptedException("Invalid checkpoint header.");
+			}
+			final int version = readInt(in);
+			if (version != VERSION) {
+				throw new InvalidObjectException(format(
+					"Unsupported checkpoint version %d, expected %d.",
+					version, VERSION
+				));
+			}
+
+			final T result = reader.read(in.readByte(), in);
+			buffer.position(buffer.position() + in.buffer.position());
+			return result;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			final var ioe = new StreamCorruptedException("Truncated checkpoint.");
+			ioe.initCause(e);
+			throw ioe;
+		} catch (RuntimeException e) {
+			// Invalid values, which are rejected by the created objects.
+			final var ioe = new StreamCorruptedException(
+				"Invalid checkpoint: " + e.getMessage()
+			);
+			ioe.initCause(e);
+			throw ioe;
+		}
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> readResultBody(final Input in) throws IOException {
+		final Optimize[] optimizes = Optimize.values();
+		final int optimize = in.readByte();
+		if (optimize < 0 || optimize >= optimizes.length) {
+			throw new StreamCorruptedException("Invalid optimize: " + optimize);
+		}
+
+		final long generation = readLong(in);
+		final long totalGenerations = readLong(in);
+		final EvolutionDurations durations = readDurations(in);
+		final int killCount = readInt(in);
+		final int invalidCount = readInt(in);
+		final int alterCount = readInt(in);
+
+		return EvolutionResult.<G, C>of(
+			optimizes[optimize],
+			readPopulation(in),
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount
+		);
+	}
+
+	private static EvolutionDurations readDurations(final DataInput in)
+		throws IOException
+	{
+		return new EvolutionDurations(
+			readDuration(in),
+			readDuration(in),
+			readDuration(in),
+			readDuration(in),
+			readDuration(in),
+			readDuration(in),
+			readDuration(in)
+		);
+	}
+
+	private static Duration readDuration(final DataInput in) throws IOException {
+		final long seconds = readLong(in);
+		final int nanos = readInt(in);
+		return Duration.ofSeconds(seconds, nanos);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> readPopulation(final Input in) throws IOException {
+		// Every individual stores at least its generation.
+		final int size = readCount(in, Long.BYTES);
+		if (size == 0) {
+			return ISeq.empty();
+		}
+
+		final ISeq<Genotype<G>> genotypes;
+		final byte layout = in.readByte();
+		if (layout == COLUMNS) {
+			final int length = readCount(in, 1);
+			final List<ISeq<Chromosome<G>>> columns = new ArrayList<>(length);
+			for (int i = 0; i < length; ++i) {
+				columns.add((ISeq)readColumn(size, in));
+			}
+
+			final MSeq<Genotype<G>> gts = MSeq.ofLength(size);
+			final MSeq<Chromosome<G>> chromosomes = MSeq.ofLength(length);
+			for (int i = 0; i < size; ++i) {
+				for (int j = 0; j < length; ++j) {
+					chromosomes.set(j, columns.get(j).get(i));
+				}
+				gts.set(i, Genotype.of(chromosomes));
+			}
+			genotypes = gts.toISeq();
+		} else if (layout == SERIALIZED) {
+			genotypes = (ISeq)readObjects(size, in);
+		} else {
+			throw new StreamCorruptedException("Unknown layout: " + layout);
+		}
+
+		final long[] generations = new long[size];
+		in.buffer.asLongBuffer().get(generations);
+		in.skip(size*Long.BYTES);
+
+		final ISeq<C> fitness = (ISeq)readFitness(size, in);
+
+		final MSeq<Phenotype<G, C>> population = MSeq.ofLength(size);
+		for (int i = 0; i < size; ++i) {
+			final C value = fitness.get(i);
+			population.set(i, value != null
+				? Phenotype.of(genotypes.get(i), generations[i], value)
+				: Phenotype.of(genotypes.get(i), generations[i]));
+		}
+		return population.toISeq();
+	}
+
+	private static ISeq<? extends Chromosome<?>>
+	readColumn(final int size, final Input in) throws IOException {
+		final byte type = in.readByte();
+		return switch (type) {
+			case DOUBLE -> {
+				final double min = in.readDouble();
+				final double max = in.readDouble();
+				final var prototype = DoubleChromosome.of(min, max, readRange(in));
+				final int[] lengths = readLengths(size, in);
+
+				final MSeq<DoubleChromosome> column = MSeq.ofLength(size);
+				for (int i = 0; i < size; ++i) {
+					in.require((long)lengths[i]*Double.BYTES);
+					final MSeq<DoubleGene> genes = MSeq.ofLength(lengths[i]);
+					for (int j = 0; j < lengths[i]; ++j) {
+						genes.set(j, DoubleGene.of(in.buffer.getDouble(), min, max));
+					}
+					column.set(i, prototype.newInstance(genes.toISeq()));
+				}
+				yield column.toISeq();
+			}
+			case INTEGER -> {
+				final int min = in.readInt();
+				final int max = in.readInt();
+				final var prototype = IntegerChromosome.of(min, max, readRange(in));
+				final int[] lengths = readLengths(size, in);
+
+				final MSeq<IntegerChromosome> column = MSeq.ofLength(size);
+				for (int i = 0; i < size; ++i) {
+					in.require((long)lengths[i]*Integer.BYTES);
+					final MSeq<IntegerGene> genes = MSeq.ofLength(lengths[i]);
+					for (int j = 0; j < lengths[i]; ++j) {
+						genes.set(j, IntegerGene.of(in.buffer.getInt(), min, max));
+					}
+					column.set(i, prototype.newInstance(genes.toISeq()));
+				}
+				yield column.toISeq();
+			}
+			case LONG -> {
+				final long min = in.readLong();
+				final long max = in.readLong();
+				final var prototype = LongChromosome.of(min, max, readRange(in));
+				final int[] lengths = readLengths(size, in);
+
+				final MSeq<LongChromosome> column = MSeq.ofLength(size);
+				for (int i = 0; i < size; ++i) {
+					in.require((long)lengths[i]*Long.BYTES);
+					final MSeq<LongGene> genes = MSeq.ofLength(lengths[i]);
+					for (int j = 0; j < lengths[i]; ++j) {
+						genes.set(j, LongGene.of(in.buffer.getLong(), min, max));
+					}
+					column.set(i, prototype.newInstance(genes.toISeq()));
+				}
+				yield column.toISeq();
+			}
+			case BIT -> {
+				final double p = in.readDouble();
+				final int[] lengths = readLengths(size, in);
+
+				final MSeq<BitChromosome> column = MSeq.ofLength(size);
+				for (int i = 0; i < size; ++i) {
+					in.require(bytes(lengths[i]));
+					final byte[] bits = new byte[bytes(lengths[i])];
+					in.buffer.get(bits);
+					column.set(i, new BitChromosome(bits, 0, lengths[i], p));
+				}
+				yield column.toISeq();
+			}
+			case OBJECT -> readChromosomes(size, in);
+			default -> throw new StreamCorruptedException(
+				"Unknown column type: " + type
+			);
+		};
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static ISeq<? extends Chromosome<?>>
+	readChromosomes(final int size, final Input in) throws IOException {
+		final ISeq objects = readObjects(size, in);
+		if (!objects.forAll(Chromosome.class::isInstance)) {
+			throw new InvalidObjectException("Invalid chromosome column.");
+		}
+		return objects;
+	}
+
+	private static IntRange readRange(final DataInput in) throws IOException {
+		final int min = readInt(in);
+		final int max = readInt(in);
+		if (min < 0 || max < min) {
+			throw new StreamCorruptedException(format(
+				"Invalid length range: [%d, %d).", min, max
+			));
+		}
+		return IntRange.of(min, max);
+	}
+
+	private static int[] readLengths(final int size, final Input in)
+		throws IOException
+	{
+		final int[] lengths = new int[size];
+		final int length = readInt(in);
+		if (length > 0) {
+			Arrays.fill(lengths, length);
+		} else {
+			in.require((long)size*Integer.BYTES);
+			in.buffer.asIntBuffer().get(lengths);
+			in.skip(size*Integer.BYTES);
+			for (int l : lengths) {
+				if (l < 0) {
+					throw new StreamCorruptedException(
+						"Invalid chromosome length: " + l
+					);
+				}
+			}
+		}
+		return lengths;
+	}
+
+	private static ISeq<?> readFitness(final int size, final Input in)
+		throws IOException
+	{
+		final byte type = in.readByte();
+		if (type == OBJECT) {
+			return readObjects(size, in);
+		}
+
+		final Object[] fitness = new Object[size];
+		for (int i = 0; i < size; ++i) {
+			fitness[i] = switch (type) {
+				case NONE -> null;
+				case DOUBLE -> in.buffer.getDouble();
+				case INTEGER -> in.buffer.getInt();
+				case LONG -> in.buffer.getLong();
+				default -> throw new StreamCorruptedException(
+					"Unknown fitness type: " + type
+				);
+			};
+		}
+		return ISeq.of(fitness);
+	}
+
+	private static ISeq<?> readObjects(final int size, final Input in)
+		throws IOException
+	{
+		final byte[] bytes = new byte[readCount(in, 1)];
+		in.readFully(bytes);
+		try (var oin = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			final Object[] objects = (Object[])oin.readObject();
+			if (objects.length != size) {
+				throw new StreamCorruptedException(format(
+					"Expected %d objects, but got %d.", size, objects.length
+				));
+			}
+			return ISeq.of(objects);
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new InvalidObjectException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Reads a count value and checks that the buffer contains at least
+	 * {@code count*bytes} more bytes, before the count is used for allocating
+	 * arrays.
+	 */
+	private static int readCount(final Input in, final int bytes)
+		throws IOException
+	{
+		final int count = readInt(in);
+		if (count < 0) {
+			throw new StreamCorruptedException("Invalid count: " + count);
+		}
+		in.require((long)count*bytes);
+		return count;
+	}
+
+	/**
+	 * Data input view of a byte buffer. Since the stream doesn't buffer, the
+	 * primitive blocks can be read directly from the byte buffer.
+	 */
+	private static final class Input extends DataInputStream {
+		final ByteBuffer buffer;
+
+		Input(final ByteBuffer buffer) {
+			super(new InputStream() {
+				@Override
+				public int read() {
+					return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+				}
+				@Override
+				public int read(final byte[] bytes, final int offset, final int length) {
+					if (length == 0) {
+						return 0;
+					}
+					if (!buffer.hasRemaining()) {
+						return -1;
+					}
+					final int n = Math.min(length, buffer.remaining());
+					buffer.get(bytes, offset, n);
+					return n;
+				}
+			});
+			this.buffer = buffer;
+		}
+
+		void require(final long bytes) throws StreamCorruptedException {
+			if (bytes > buffer.remaining()) {
+				throw new StreamCorruptedException("Truncated checkpoint.");
+			}
+		}
+
+		void skip(final int bytes) throws StreamCorruptedException {
+			if (bytes < 0) {
+				throw new StreamCorruptedException("Invalid skip: " + bytes);
+			}
+			require(bytes);
+			buffer.position(buffer.position() + bytes);
+		}
+	}
+
+}
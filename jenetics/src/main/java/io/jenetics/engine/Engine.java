@@ -40,12 +40,14 @@ import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.Selector;
+import io.jenetics.internal.util.Requires;
 import io.jenetics.util.BatchExecutor;
 import io.jenetics.util.Copyable;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.NanoClock;
+import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
 /**
@@ -125,7 +127,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 7.0
+ * @version 8.2
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -137,6 +139,15 @@ public final class Engine<
 		Evaluator<G, C>
 {
 
+	// Task indexes of the evolution phases, for reproducible random generators.
+	private static final int EVOLVE_TASK = 0;
+	private static final int INIT_TASK = 1;
+	private static final int OFFSPRING_SELECTION_TASK = 2;
+	private static final int SURVIVORS_SELECTION_TASK = 3;
+	private static final int OFFSPRING_ALTER_TASK = 4;
+	private static final int SURVIVOR_FILTER_TASK = 5;
+	private static final int OFFSPRING_FILTER_TASK = 6;
+
 	// Problem definition.
 	private final Evaluator<G, C> _evaluator;
 	private final Factory<Genotype<G>> _genotypeFactory;
@@ -150,7 +161,9 @@ public final class Engine<
 	private final Executor _executor;
 	private final InstantSource _clock;
 	private final EvolutionInterceptor<G, C> _interceptor;
-
+	private final EvolutionMetrics _metrics;
+	private final int _alterPartitions;
+	private final Alterer<G, C> _alterer;
 
 	/**
 	 * Create a new GA engine with the given parameters.
@@ -167,6 +180,9 @@ public final class Engine<
 	 * @param clock the clock used for calculating the timing results
 	 * @param interceptor the evolution interceptor, which gives additional
 	 *        possibilities to influence the actual evolution
+	 * @param metrics the sink of the per-generation evolution metrics
+	 * @param alterPartitions the number of partitions the offspring
+	 *        population is split into for concurrent alteration
 	 * @throws NullPointerException if one of the arguments is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
@@ -179,7 +195,9 @@ public final class Engine<
 		final EvolutionParams<G, C> evolutionParams,
 		final Executor executor,
 		final InstantSource clock,
-		final EvolutionInterceptor<G, C> interceptor
+		final EvolutionInterceptor<G, C> interceptor,
+		final EvolutionMetrics metrics,
+		final int alterPartitions
 	) {
 		_evaluator = requireNonNull(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
@@ -189,13 +207,28 @@ public final class Engine<
 		_executor = requireNonNull(executor);
 		_clock = requireNonNull(clock);
 		_interceptor = requireNonNull(interceptor);
+		_metrics = requireNonNull(metrics);
+		_alterPartitions = Requires.positive(alterPartitions);
+		_alterer = alterPartitions > 1
+			? new PartitionAlterer<>(
+				evolutionParams.alterer(), alterPartitions, executor)
+			: evolutionParams.alterer();
 	}
 
 	@Override
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		return RandomRegistry
+			.task(start.generation(), EVOLVE_TASK, () -> evolve0(start))
+			.get();
+	}
+
+	private EvolutionResult<G, C> evolve0(final EvolutionStart<G, C> start) {
 		final EvolutionTiming timing = new EvolutionTiming(_clock);
 		timing.evolve.start();
 
+		final long cacheHits = cacheHits();
+		final long cacheMisses = cacheMisses();
+
 		final EvolutionStart<G, C> interceptedStart = _interceptor.before(start);
 
 		// Create initial population if `start` is empty.
@@ -209,46 +242,57 @@ public final class Engine<
 			: es.population();
 
 		// Select the offspring population.
+		final long generation = es.generation();
 		final CompletableFuture<ISeq<Phenotype<G, C>>> offspring =
-			supplyAsync(() ->
-				timing.offspringSelection.timing(() ->
-					selectOffspring(population)
+			supplyAsync(
+				RandomRegistry.task(generation, OFFSPRING_SELECTION_TASK, () ->
+					timing.offspringSelection.timing(() ->
+						selectOffspring(population)
+					)
 				),
 				_executor
 			);
 
 		// Select the survivor population.
 		final CompletableFuture<ISeq<Phenotype<G, C>>> survivors =
-			supplyAsync(() ->
-				timing.survivorsSelection.timing(() ->
-					selectSurvivors(population)
+			supplyAsync(
+				RandomRegistry.task(generation, SURVIVORS_SELECTION_TASK, () ->
+					timing.survivorsSelection.timing(() ->
+						selectSurvivors(population)
+					)
 				),
 				_executor
 			);
 
 		// Altering the offspring population.
 		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
-			offspring.thenApplyAsync(off ->
-				timing.offspringAlter.timing(() ->
-					_evolutionParams.alterer().alter(off, es.generation())
+			offspring.thenApplyAsync(
+				RandomRegistry.task(generation, OFFSPRING_ALTER_TASK, off ->
+					timing.offspringAlter.timing(() ->
+						_alterer.alter(off, generation)
+					)
 				),
 				_executor
 			);
 
 		// Filter and replace invalid and old survivor individuals.
 		final CompletableFuture<FilterResult<G, C>> filteredSurvivors =
-			survivors.thenApplyAsync(sur ->
-				timing.survivorFilter.timing(() ->
-					filter(sur, es.generation())
+			survivors.thenApplyAsync(
+				RandomRegistry.task(generation, SURVIVOR_FILTER_TASK, sur ->
+					timing.survivorFilter.timing(() ->
+						filter(sur, generation)
+					)
 				),
 				_executor
 			);
 
 		// Filter and replace invalid and old offspring individuals.
 		final CompletableFuture<FilterResult<G, C>> filteredOffspring =
-			alteredOffspring.thenApplyAsync(off ->
-				timing.offspringFilter.timing(() ->
-					filter(off.population(), es.generation())
+			alteredOffspring.thenApplyAsync(
+				RandomRegistry.task(generation, OFFSPRING_FILTER_TASK, off ->
+					timing.offspringFilter.timing(() ->
+						filter(off.population(), generation)
+					)
 				),
 				_executor
 			);
@@ -297,9 +341,40 @@ public final class Engine<
 
 		timing.evolve.stop();
 
-		return er
+		final EvolutionResult<G, C> evolved = er
 			.withDurations(timing.toDurations())
 			.clean();
+
+		record(evolved, cacheHits() - cacheHits, cacheMisses() - cacheMisses);
+		return evolved;
+	}
+
+	// Records the metrics of the given evolution result.
+	void record(
+		final EvolutionResult<G, C> result,
+		final long cacheHits,
+		final long cacheMisses
+	) {
+		_metrics.record(new EvolutionMetrics.Sample(
+			result.generation(),
+			result.durations(),
+			result.population().size(),
+			result.killCount(),
+			result.invalidCount(),
+			result.alterCount(),
+			cacheHits,
+			cacheMisses
+		));
+	}
+
+	// Return the number of cache hits, if a caching evaluator is used.
+	long cacheHits() {
+		return _evaluator instanceof CachingEvaluator<G, C> ce ? ce.hits() : 0;
+	}
+
+	// Return the number of cache misses, if a caching evaluator is used.
+	long cacheMisses() {
+		return _evaluator instanceof CachingEvaluator<G, C> ce ? ce.misses() : 0;
 	}
 
 	// Selects the survivor population. A new population object is returned.
@@ -321,7 +396,7 @@ public final class Engine<
 	}
 
 	// Filters out invalid and old individuals. Filtering is done in place.
-	private FilterResult<G, C> filter(
+	FilterResult<G, C> filter(
 		final Seq<Phenotype<G, C>> population,
 		final long generation
 	) {
@@ -408,7 +483,7 @@ public final class Engine<
 		return stream(evolutionStart(init));
 	}
 
-	private EvolutionStart<G, C>
+	EvolutionStart<G, C>
 	evolutionStart(final EvolutionStart<G, C> start) {
 		final ISeq<Phenotype<G, C>> population = start.population();
 		final long gen = start.generation();
@@ -419,14 +494,18 @@ public final class Engine<
 				.map(gt -> Phenotype.of(gt, gen))
 		);
 
-		final ISeq<Phenotype<G, C>> pop = stream
-			.limit(populationSize())
-			.collect(ISeq.toISeq());
+		final ISeq<Phenotype<G, C>> pop = RandomRegistry
+			.task(gen, INIT_TASK, () ->
+				stream
+					.limit(populationSize())
+					.collect(ISeq.<Phenotype<G, C>>toISeq())
+			)
+			.get();
 
 		return EvolutionStart.of(pop, gen);
 	}
 
-	private EvolutionStart<G, C>
+	EvolutionStart<G, C>
 	evolutionStart(final EvolutionInit<G> init) {
 		final ISeq<Genotype<G>> pop = init.population();
 		final long gen = init.generation();
@@ -568,6 +647,34 @@ public final class Engine<
 		return _interceptor;
 	}
 
+	/**
+	 * Return the sink of the per-generation evolution metrics.
+	 *
+	 * @since 8.2
+	 *
+	 * @return the evolution metrics sink
+	 */
+	public EvolutionMetrics metrics() {
+		return _metrics;
+	}
+
+	/**
+	 * Return the number of partitions the offspring population is split
+	 * into for concurrent alteration.
+	 *
+	 * @since 8.2
+	 *
+	 * @return the number of alteration partitions
+	 */
+	public int alterPartitions() {
+		return _alterPartitions;
+	}
+
+	// Return the evaluator, used by the steady-state engine.
+	Evaluator<G, C> evaluator() {
+		return _evaluator;
+	}
+
 	/**
 	 * Create a new evolution {@code Engine.Builder} initialized with the values
 	 * of the current evolution {@code Engine}. With this method, the evolution
@@ -582,7 +689,9 @@ public final class Engine<
 			.optimize(_optimize)
 			.constraint(_constraint)
 			.evolutionParams(_evolutionParams)
-			.interceptor(_interceptor);
+			.interceptor(_interceptor)
+			.metrics(_metrics)
+			.alterPartitions(_alterPartitions);
 	}
 
 
@@ -694,7 +803,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 6.0
+	 * @version 8.2
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -721,6 +830,8 @@ public final class Engine<
 
 		private EvolutionInterceptor<G, C> _interceptor =
 			EvolutionInterceptor.identity();
+		private EvolutionMetrics _metrics = EvolutionMetrics.noop();
+		private int _alterPartitions = 1;
 
 		/**
 		 * Create a new evolution {@code Engine.Builder} with the given fitness
@@ -1061,6 +1172,50 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * The sink, which receives the phase durations and counters of every
+		 * evolved generation.
+		 *
+		 * @since 8.2
+		 * @see EvolutionMetrics#ofHistograms()
+		 *
+		 * @param metrics the evolution metrics sink
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code metrics} is
+		 *         {@code null}
+		 */
+		public Builder<G, C> metrics(final EvolutionMetrics metrics) {
+			_metrics = requireNonNull(metrics);
+			return this;
+		}
+
+		/**
+		 * The number of partitions the offspring population is split into
+		 * for altering it concurrently with the engine {@link #executor()}.
+		 * Every partition is altered with its own random generator, split
+		 * from the random generator of the engine thread, which keeps the
+		 * alteration reproducible. Since recombination pairs are only formed
+		 * within a partition, the alteration differs from the sequential
+		 * one. <i>Default value is set to 1, which alters the offspring
+		 * sequentially.</i>
+		 * <p>
+		 * Every partition contains at least 16 individuals. The number of
+		 * used partitions is therefore limited to {@code offspringSize/16}.
+		 * Offspring populations with less than 32 individuals are always
+		 * altered sequentially, whatever number of partitions is given.
+		 *
+		 * @since 8.2
+		 *
+		 * @param partitions the number of alteration partitions
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code partitions}
+		 *         is smaller than one
+		 */
+		public Builder<G, C> alterPartitions(final int partitions) {
+			_alterPartitions = Requires.positive(partitions);
+			return this;
+		}
+
 		/**
 		 * Builds a new {@code Engine} instance from the set properties.
 		 *
@@ -1075,7 +1230,9 @@ public final class Engine<
 				_evolutionParams.build(),
 				_executor,
 				_clock,
-				_interceptor
+				_interceptor,
+				_metrics,
+				_alterPartitions
 			);
 		}
 
@@ -1251,6 +1408,29 @@ public final class Engine<
 			return _interceptor;
 		}
 
+		/**
+		 * Return the evolution metrics sink.
+		 *
+		 * @since 8.2
+		 *
+		 * @return the evolution metrics sink
+		 */
+		public EvolutionMetrics metrics() {
+			return _metrics;
+		}
+
+		/**
+		 * Return the number of partitions the offspring population is split
+		 * into for concurrent alteration.
+		 *
+		 * @since 8.2
+		 *
+		 * @return the number of alteration partitions
+		 */
+		public int alterPartitions() {
+			return _alterPartitions;
+		}
+
 		/**
 		 * Create a new builder, with the current configuration.
 		 *
@@ -1266,7 +1446,9 @@ public final class Engine<
 				.constraint(_constraint)
 				.optimize(_optimize)
 				.evolutionParams(_evolutionParams.build())
-				.interceptor(_interceptor);
+				.interceptor(_interceptor)
+				.metrics(_metrics)
+				.alterPartitions(_alterPartitions);
 		}
 
 	}
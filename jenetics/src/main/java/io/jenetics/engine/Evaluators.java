@@ -19,12 +19,18 @@
  */
 package io.jenetics.engine;
 
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.ForkJoinPool.commonPool;
+
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
+import io.jenetics.util.BatchExecutor;
 
 /**
  * This class contains factory methods for creating commonly usable
@@ -33,7 +39,7 @@ import io.jenetics.Genotype;
  * @see Evaluator
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 8.0
+ * @version 8.2
  * @since 5.0
  */
 public final class Evaluators {
@@ -163,4 +169,151 @@ public final class Evaluators {
 		return completable(fitness, codec.decoder());
 	}
 
+	/**
+	 * Return a new evaluator, which caches the fitness values of the
+	 * evaluated genotypes. Not evaluated phenotypes, with a genotype equal to
+	 * an already evaluated one, get the cached fitness value assigned, instead
+	 * of being evaluated by the given {@code evaluator}.
+	 * {@snippet lang="java":
+	 * final CachingEvaluator<DoubleGene, Double> evaluator =
+	 *     Evaluators.cached(new SimulationEvaluator(), 10_000);
+	 *
+	 * final Engine<DoubleGene, Double> engine =
+	 *     new Engine.Builder<>(evaluator, genotypeFactory)
+	 *         .build();
+	 *
+	 * // Print the cache statistics after the evolution.
+	 * System.out.println(evaluator.hitRatio());
+	 * }
+	 *
+	 * @since 8.2
+	 *
+	 * @see CachingEvaluator
+	 *
+	 * @param evaluator the evaluator to decorate
+	 * @param maxSize the maximal number of cached fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new caching evaluator
+	 * @throws NullPointerException if the given {@code evaluator} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code maxSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CachingEvaluator<G, C>
+	cached(final Evaluator<G, C> evaluator, final int maxSize) {
+		return new CachingEvaluator<>(evaluator, maxSize);
+	}
+
+	/**
+	 * Return a new evaluator, which caches the values of the given fitness
+	 * function. The fitness function is evaluated concurrently with the
+	 * {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @since 8.2
+	 *
+	 * @see CachingEvaluator
+	 *
+	 * @param fitness the fitness function
+	 * @param maxSize the maximal number of cached fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new caching evaluator
+	 * @throws NullPointerException if the given {@code fitness} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code maxSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CachingEvaluator<G, C> cachedFitness(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final int maxSize
+	) {
+		return cached(
+			new FitnessEvaluator<>(fitness, BatchExecutor.of(commonPool())),
+			maxSize
+		);
+	}
+
+	/**
+	 * Return a new evaluator, which evaluates every fitness function call in
+	 * its own <em>virtual</em> thread. At most {@code maxConcurrency}
+	 * evaluations are running at the same time. If this limit is reached, the
+	 * submission of further evaluations blocks until a running evaluation has
+	 * finished. The limit is shared by all populations and generations
+	 * evaluated with the returned evaluator, which makes it well suited for
+	 * I/O-bound fitness functions, calling a service with limited capacity.
+	 * {@snippet lang="java":
+	 * final Evaluator<DoubleGene, Double> evaluator =
+	 *     Evaluators.ofVirtualThreads(gt -> service.score(gt), 64);
+	 *
+	 * final Engine<DoubleGene, Double> engine =
+	 *     new Engine.Builder<>(evaluator, genotypeFactory)
+	 *         .build();
+	 * }
+	 *
+	 * @since 8.2
+	 *
+	 * @see BatchExecutor#ofVirtualThreads(int)
+	 *
+	 * @param fitness the fitness function
+	 * @param maxConcurrency the maximal number of concurrent evaluations
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new virtual thread evaluator
+	 * @throws NullPointerException if the given {@code fitness} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code maxConcurrency} is
+	 *         smaller than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> ofVirtualThreads(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final int maxConcurrency
+	) {
+		return completable(
+			new VirtualThreadFitness<G, C>(fitness, maxConcurrency, null, null)
+		);
+	}
+
+	/**
+	 * Return a new evaluator, which evaluates every fitness function call in
+	 * its own <em>virtual</em> thread, with at most {@code maxConcurrency}
+	 * concurrent evaluations. Evaluations, which are running longer than the
+	 * given {@code timeout}, get the {@code fallback} fitness value assigned
+	 * and their evaluation thread is interrupted.
+	 *
+	 * @since 8.2
+	 *
+	 * @see #ofVirtualThreads(Function, int)
+	 *
+	 * @param fitness the fitness function
+	 * @param maxConcurrency the maximal number of concurrent evaluations
+	 * @param timeout the maximal evaluation time of one individual
+	 * @param fallback the fitness value of timed out evaluations
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new virtual thread evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code maxConcurrency} is
+	 *         smaller than one or the {@code timeout} is not positive
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> ofVirtualThreads(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final int maxConcurrency,
+		final Duration timeout,
+		final C fallback
+	) {
+		return completable(
+			new VirtualThreadFitness<G, C>(
+				fitness,
+				maxConcurrency,
+				requireNonNull(timeout),
+				requireNonNull(fallback)
+			)
+		);
+	}
+
 }
@@ -0,0 +1,213 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/**
+ * Instrumentation interface, which receives the phase durations and counters
+ * of every evolved generation. This allows exporting the timing information,
+ * collected by the evolution {@link Engine}, into an external monitoring
+ * system.
+ * {@snippet lang="java":
+ * final HistogramMetrics metrics = EvolutionMetrics.ofHistograms();
+ * final Engine<DoubleGene, Double> engine = Engine.builder(fitness, codec)
+ *     .metrics(metrics)
+ *     .build();
+ *
+ * final var result = engine.stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ *
+ * final long p99 = metrics.histogram(EvolutionMetrics.Phase.EVALUATION)
+ *     .quantile(0.99);
+ * }
+ *
+ * @implSpec
+ * Implementations must be thread-safe and should return quickly, since the
+ * {@link #record(Sample)} method is called synchronously at the end of
+ * every evolution step.
+ *
+ * @see Engine.Builder#metrics(EvolutionMetrics)
+ * @see HistogramMetrics
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 8.2
+ * @version 8.2
+ */
+@FunctionalInterface
+public interface EvolutionMetrics {
+
+	/**
+	 * The timed phases of an evolution step.
+	 */
+	enum Phase {
+
+		/**
+		 * The selection of the offspring population.
+		 */
+		OFFSPRING_SELECTION,
+
+		/**
+		 * The selection of the survivors population.
+		 */
+		SURVIVORS_SELECTION,
+
+		/**
+		 * The alteration of the offspring population.
+		 */
+		OFFSPRING_ALTER,
+
+		/**
+		 * The filtering of the offspring population.
+		 */
+		OFFSPRING_FILTER,
+
+		/**
+		 * The filtering of the survivors population.
+		 */
+		SURVIVOR_FILTER,
+
+		/**
+		 * The fitness evaluation.
+		 */
+		EVALUATION,
+
+		/**
+		 * The whole evolution step.
+		 */
+		EVOLVE;
+
+		/**
+		 * Return the duration of {@code this} phase from the given
+		 * {@code durations}.
+		 *
+		 * @param durations the evolution durations
+		 * @return the duration of {@code this} phase
+		 * @throws NullPointerException if the given {@code durations} are
+		 *         {@code null}
+		 */
+		public Duration duration(final EvolutionDurations durations) {
+			return switch (this) {
+				case OFFSPRING_SELECTION -> durations.offspringSelectionDuration();
+				case SURVIVORS_SELECTION -> durations.survivorsSelectionDuration();
+				case OFFSPRING_ALTER -> durations.offspringAlterDuration();
+				case OFFSPRING_FILTER -> durations.offspringFilterDuration();
+				case SURVIVOR_FILTER -> durations.survivorFilterDuration();
+				case EVALUATION -> durations.evaluationDuration();
+				case EVOLVE -> durations.evolveDuration();
+			};
+		}
+	}
+
+	/**
+	 * The metrics of one evolved generation.
+	 *
+	 * @param generation the generation of the evolution step
+	 * @param durations the phase durations of the evolution step
+	 * @param populationSize the size of the evolved population
+	 * @param killCount the number of killed individuals
+	 * @param invalidCount the number of invalid individuals
+	 * @param alterCount the number of altered individuals
+	 * @param cacheHits the number of fitness values taken from the cache of a
+	 *        {@link CachingEvaluator}, zero if no caching evaluator is used
+	 * @param cacheMisses the number of fitness values not found in the cache
+	 *        of a {@link CachingEvaluator}, zero if no caching evaluator is
+	 *        used
+	 */
+	record Sample(
+		long generation,
+		EvolutionDurations durations,
+		int populationSize,
+		int killCount,
+		int invalidCount,
+		int alterCount,
+		long cacheHits,
+		long cacheMisses
+	) {
+
+		/**
+		 * Create a new metrics sample.
+		 *
+		 * @throws NullPointerException if the given {@code durations} are
+		 *         {@code null}
+		 */
+		public Sample {
+			requireNonNull(durations);
+		}
+
+		/**
+		 * Return the duration of the given evolution {@code phase}.
+		 *
+		 * @param phase the evolution phase
+		 * @return the duration of the given {@code phase}
+		 */
+		public Duration duration(final Phase phase) {
+			return phase.duration(durations);
+		}
+
+	}
+
+	/**
+	 * Records the metrics of one evolved generation.
+	 *
+	 * @param sample the metrics of one evolved generation
+	 */
+	void record(final Sample sample);
+
+	/**
+	 * Return a new metrics sink, which forwards the samples to {@code this}
+	 * and the {@code other} sink.
+	 *
+	 * @param other the other metrics sink
+	 * @return a new, composed metrics sink
+	 * @throws NullPointerException if the {@code other} sink is {@code null}
+	 */
+	default EvolutionMetrics andThen(final EvolutionMetrics other) {
+		requireNonNull(other);
+		return sample -> {
+			record(sample);
+			other.record(sample);
+		};
+	}
+
+	/**
+	 * Return a metrics sink, which ignores all samples.
+	 *
+	 * @return a metrics sink, which ignores all samples
+	 */
+	static EvolutionMetrics noop() {
+		return sample -> {};
+	}
+
+	/**
+	 * Return a new, in-memory metrics sink, which records the phase
+	 * durations into histograms with two significant digits.
+	 *
+	 * @return a new histogram metrics sink
+	 */
+	static HistogramMetrics ofHistograms() {
+		return new HistogramMetrics(2);
+	}
+
+}
+
@@ -44,6 +44,7 @@ import java.util.stream.Stream;
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Optimize;
+import io.jenetics.PackedPopulation;
 import io.jenetics.Phenotype;
 import io.jenetics.internal.util.Lazy;
 import io.jenetics.stat.MinMax;
@@ -94,7 +95,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 8.2
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -738,6 +739,38 @@ public final class EvolutionResult<
 		));
 	}
 
+	/**
+	 * Return an interceptor, which stores the numeric chromosomes of the
+	 * population in packed, primitive columns after every generation. This
+	 * reduces the number of gene objects, which must be kept alive between
+	 * two generations, and lowers the GC pressure for big populations of
+	 * long {@link io.jenetics.DoubleChromosome},
+	 * {@link io.jenetics.IntegerChromosome} or
+	 * {@link io.jenetics.LongChromosome} genotypes. Since all alleles are
+	 * copied into new columns every generation, this only pays off if little
+	 * of the population is altered per generation.
+	 * {@snippet lang="java":
+	 * final Problem<double[], DoubleGene, Double> problem = null; // @replace substring='null' replacement="..."
+	 * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+	 *     .interceptor(EvolutionResult.toPackedPopulation())
+	 *     .build();
+	 * }
+	 *
+	 * @since 8.2
+	 * @see PackedPopulation
+	 * @see Engine.Builder#interceptor(EvolutionInterceptor)
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness function result type
+	 * @return an interceptor, which packs the population of every generation
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionInterceptor<G, C> toPackedPopulation() {
+		return ofAfter(result ->
+			result.withPopulation(PackedPopulation.pack(result.population()))
+		);
+	}
+
 	/**
 	 * Return a new {@code EvolutionResult} object with the given values.
 	 *
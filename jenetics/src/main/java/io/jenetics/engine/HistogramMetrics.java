@@ -0,0 +1,191 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jenetics.stat.LogHistogram;
+
+/**
+ * In-memory metrics sink, which records the phase durations of the evolved
+ * generations, in nanoseconds, into {@link LogHistogram}s and sums up the
+ * evolution counters. It has no external dependencies and can be used for
+ * finding performance regressions or as source for an external monitoring
+ * system.
+ *
+ * @see EvolutionMetrics#ofHistograms()
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 8.2
+ * @version 8.2
+ */
+public final class HistogramMetrics implements EvolutionMetrics {
+
+	private final Map<Phase, LogHistogram> _durations =
+		new EnumMap<>(Phase.class);
+	private final LogHistogram _populationSizes;
+
+	private final LongAdder _generations = new LongAdder();
+	private final LongAdder _killCount = new LongAdder();
+	private final LongAdder _invalidCount = new LongAdder();
+	private final LongAdder _alterCount = new LongAdder();
+	private final LongAdder _cacheHits = new LongAdder();
+	private final LongAdder _cacheMisses = new LongAdder();
+
+	/**
+	 * Create a new histogram metrics sink.
+	 *
+	 * @param digits the number of significant decimal digits of the recorded
+	 *        durations, in the range {@code [1, 3]}
+	 * @throws IllegalArgumentException if the given {@code digits} are not
+	 *         within the range {@code [1, 3]}
+	 */
+	public HistogramMetrics(final int digits) {
+		for (var phase : Phase.values()) {
+			_durations.put(phase, new LogHistogram(digits));
+		}
+		_populationSizes = new LogHistogram(digits);
+	}
+
+	@Override
+	public void record(final Sample sample) {
+		for (var phase : Phase.values()) {
+			_durations.get(phase).accept(sample.duration(phase).toNanos());
+		}
+		_populationSizes.accept(sample.populationSize());
+
+		_generations.increment();
+		_killCount.add(sample.killCount());
+		_invalidCount.add(sample.invalidCount());
+		_alterCount.add(sample.alterCount());
+		_cacheHits.add(sample.cacheHits());
+		_cacheMisses.add(sample.cacheMisses());
+	}
+
+	/**
+	 * Return the histogram of the durations, in nanoseconds, of the given
+	 * evolution {@code phase}.
+	 *
+	 * @param phase the evolution phase
+	 * @return the duration histogram of the given {@code phase}
+	 * @throws NullPointerException if the given {@code phase} is {@code null}
+	 */
+	public LogHistogram histogram(final Phase phase) {
+		return _durations.get(requireNonNull(phase));
+	}
+
+	/**
+	 * Return the histogram of the recorded population sizes.
+	 *
+	 * @return the histogram of the recorded population sizes
+	 */
+	public LogHistogram populationSizes() {
+		return _populationSizes;
+	}
+
+	/**
+	 * Return the number of recorded generations.
+	 *
+	 * @return the number of recorded generations
+	 */
+	public long generations() {
+		return _generations.sum();
+	}
+
+	/**
+	 * Return the overall number of killed individuals.
+	 *
+	 * @return the overall number of killed individuals
+	 */
+	public long killCount() {
+		return _killCount.sum();
+	}
+
+	/**
+	 * Return the overall number of invalid individuals.
+	 *
+	 * @return the overall number of invalid individuals
+	 */
+	public long invalidCount() {
+		return _invalidCount.sum();
+	}
+
+	/**
+	 * Return the overall number of altered individuals.
+	 *
+	 * @return the overall number of altered individuals
+	 */
+	public long alterCount() {
+		return _alterCount.sum();
+	}
+
+	/**
+	 * Return the overall number of fitness cache hits.
+	 *
+	 * @return the overall number of fitness cache hits
+	 */
+	public long cacheHits() {
+		return _cacheHits.sum();
+	}
+
+	/**
+	 * Return the overall number of fitness cache misses.
+	 *
+	 * @return the overall number of fitness cache misses
+	 */
+	public long cacheMisses() {
+		return _cacheMisses.sum();
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public void reset() {
+		_durations.values().forEach(LogHistogram::reset);
+		_populationSizes.reset();
+		_generations.reset();
+		_killCount.reset();
+		_invalidCount.reset();
+		_alterCount.reset();
+		_cacheHits.reset();
+		_cacheMisses.reset();
+	}
+
+	@Override
+	public String toString() {
+		final var out = new StringBuilder();
+		out.append(format(
+			"Generations: %d, killed: %d, invalid: %d, altered: %d, " +
+				"cache hits: %d, cache misses: %d%n",
+			generations(), killCount(), invalidCount(), alterCount(),
+			cacheHits(), cacheMisses()
+		));
+		for (var phase : Phase.values()) {
+			out.append(format("%-20s %s%n", phase, histogram(phase)));
+		}
+		return out.toString();
+	}
+
+}
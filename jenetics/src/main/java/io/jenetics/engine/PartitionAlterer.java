@@ -0,0 +1,216 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Alterer which splits the population into partitions and alters the
+ * partitions concurrently with the given executor. Partition {@code j}
+ * contains the individuals with the indexes {@code j, j + n, j + 2n, ...},
+ * where {@code n} is the number of partitions. Every partition is altered
+ * with its own random generator, split from the random generator of the
+ * calling thread, which makes the alteration reproducible. Since the
+ * partitions are disjoint, recombination pairs are only formed within a
+ * partition and no locking is needed.
+ * <p>
+ * The calling thread takes part in altering the partitions. This prevents
+ * dead-locks, if the executor has no free threads.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class PartitionAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Alterer<G, C>
+{
+
+	/**
+	 * The minimal number of individuals of one partition. Smaller partitions
+	 * don't pay off the concurrency overhead. This value is documented in
+	 * {@link Engine.Builder#alterPartitions(int)}.
+	 */
+	static final int MIN_PARTITION_SIZE = 16;
+
+	private final Alterer<G, C> _alterer;
+	private final int _partitions;
+	private final Executor _executor;
+
+	PartitionAlterer(
+		final Alterer<G, C> alterer,
+		final int partitions,
+		final Executor executor
+	) {
+		_alterer = requireNonNull(alterer);
+		_partitions = partitions;
+		_executor = requireNonNull(executor);
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		final int partitions = Math.min(
+			_partitions,
+			population.size()/MIN_PARTITION_SIZE
+		);
+		if (partitions < 2) {
+			return _alterer.alter(population, generation);
+		}
+
+		final var alteration = new Alteration(
+			population,
+			generation,
+			split(RandomRegistry.random(), partitions)
+		);
+		for (int i = 1; i < partitions; ++i) {
+			_executor.execute(alteration::run);
+		}
+		alteration.run();
+
+		return alteration.result();
+	}
+
+	/*
+	 * Splits the given random generator into the given number of
+	 * independent random generators.
+	 */
+	static RandomGenerator[] split(final RandomGenerator random, final int n) {
+		final var randoms = new RandomGenerator[n];
+		for (int i = 0; i < n; ++i) {
+			randoms[i] = random instanceof SplittableGenerator sg
+				? sg.split()
+				: new SplittableRandom(random.nextLong());
+		}
+		return randoms;
+	}
+
+	/**
+	 * The state of one partitioned alteration. The partitions are claimed by
+	 * the executing threads via an atomic counter.
+	 */
+	private final class Alteration {
+		private final Seq<Phenotype<G, C>> _population;
+		private final long _generation;
+		private final RandomGenerator[] _randoms;
+
+		private final AtomicInteger _next = new AtomicInteger();
+		private final CountDownLatch _done;
+		private final AltererResult<G, C>[] _results;
+		private volatile Throwable _failure;
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Alteration(
+			final Seq<Phenotype<G, C>> population,
+			final long generation,
+			final RandomGenerator[] randoms
+		) {
+			_population = population;
+			_generation = generation;
+			_randoms = randoms;
+			_done = new CountDownLatch(randoms.length);
+			_results = new AltererResult[randoms.length];
+		}
+
+		void run() {
+			int partition;
+			while ((partition = _next.getAndIncrement()) < _randoms.length) {
+				try {
+					final int index = partition;
+					_results[index] = RandomRegistry.with(
+						_randoms[index],
+						r -> _alterer.alter(partition(index), _generation)
+					);
+				} catch (Throwable e) {
+					_failure = e;
+				} finally {
+					_done.countDown();
+				}
+			}
+		}
+
+		private Seq<Phenotype<G, C>> partition(final int index) {
+			final int n = _randoms.length;
+			final int size = (_population.size() - index + n - 1)/n;
+
+			final MSeq<Phenotype<G, C>> partition = MSeq.ofLength(size);
+			for (int i = 0; i < size; ++i) {
+				partition.set(i, _population.get(i*n + index));
+			}
+			return partition;
+		}
+
+		AltererResult<G, C> result() {
+			try {
+				_done.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				final var ce = new CancellationException(e.getMessage());
+				ce.initCause(e);
+				throw ce;
+			}
+			if (_failure != null) {
+				throw new CompletionException(_failure);
+			}
+
+			final int n = _randoms.length;
+			final MSeq<Phenotype<G, C>> population =
+				MSeq.ofLength(_population.size());
+
+			int alterations = 0;
+			for (int j = 0; j < n; ++j) {
+				final Seq<Phenotype<G, C>> altered = _results[j].population();
+				if (altered.size() != (population.size() - j + n - 1)/n) {
+					throw new IllegalStateException(
+						"Alterer must not change the size of the population."
+					);
+				}
+				for (int i = 0; i < altered.size(); ++i) {
+					population.set(i*n + j, altered.get(i));
+				}
+				alterations += _results[j].alterations();
+			}
+
+			return new AltererResult<>(population.toISeq(), alterations);
+		}
+	}
+
+}
@@ -0,0 +1,454 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * Steady-state (asynchronous) variant of the evolution {@link Engine}. Unlike
+ * the generational engine, which waits for the slowest fitness evaluation of
+ * every generation, this engine keeps up to {@link #concurrency()} fitness
+ * evaluations in flight on the {@link Engine#executor()} of the underlying
+ * engine. Every individual is inserted into the population as soon as its
+ * evaluation has finished, replacing the worst individual of the population.
+ * New offspring are bred with the offspring {@link Selector}, the
+ * {@link io.jenetics.Alterer} and the {@link Constraint} of the underlying
+ * engine. Offspring, which are not changed by the alterer, are discarded
+ * instead of being inserted, since they are copies of individuals already
+ * in the population. Each discarded offspring counts as one (no-op)
+ * insertion step. This keeps the diversity of the population, even for low
+ * alter probabilities.
+ * <p>
+ * The created {@link EvolutionStream} emits a snapshot of the current
+ * population after every {@link #interval()} insertion steps. The
+ * {@link EvolutionResult#generation()} of such a snapshot counts the emitted
+ * snapshots. The {@link Engine#metrics()} sink of the underlying engine
+ * receives the metrics of every emitted snapshot.
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(fitness, codec)
+ *     .populationSize(500)
+ *     .executor(executor)
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> best = SteadyStateEngine.of(engine, 16)
+ *     .stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }
+ *
+ * @apiNote
+ * The steady-state engine pays off if the evaluation time of the fitness
+ * function varies strongly between individuals. Since the order of the
+ * finished evaluations depends on the thread scheduling, evolution streams
+ * of this engine are not reproducible, even with a fixed random seed.
+ *
+ * @implNote
+ * Every created evolution stream has its own population state and must be
+ * consumed by one thread. Evaluations, which are still running when the
+ * stream is no longer consumed, are completed and discarded.
+ *
+ * @see Engine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class SteadyStateEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionStreamable<G, C>
+{
+
+	private final Engine<G, C> _engine;
+	private final int _concurrency;
+	private final int _interval;
+
+	private final Function<Phenotype<G, C>, Phenotype<G, C>> _evaluate;
+
+	private SteadyStateEngine(
+		final Engine<G, C> engine,
+		final int concurrency,
+		final int interval
+	) {
+		if (concurrency < 1) {
+			throw new IllegalArgumentException(format(
+				"Concurrency must be greater than zero, but was %d.",
+				concurrency
+			));
+		}
+		if (interval < 1) {
+			throw new IllegalArgumentException(format(
+				"Snapshot interval must be greater than zero, but was %d.",
+				interval
+			));
+		}
+
+		_engine = requireNonNull(engine);
+		_concurrency = concurrency;
+		_interval = interval;
+
+		// Avoid the batch overhead of the configured fitness executor, since
+		// the individuals are already evaluated concurrently.
+		if (engine.evaluator() instanceof FitnessEvaluator<G, C> fe) {
+			final var function = fe.function();
+			_evaluate = pt -> pt.withFitness(function.apply(pt.genotype()));
+		} else {
+			_evaluate = pt -> engine.eval(ISeq.of(pt)).get(0);
+		}
+	}
+
+	/**
+	 * Return the underlying evolution engine.
+	 *
+	 * @return the underlying evolution engine
+	 */
+	public Engine<G, C> engine() {
+		return _engine;
+	}
+
+	/**
+	 * Return the maximal number of fitness evaluations in flight.
+	 *
+	 * @return the maximal number of fitness evaluations in flight
+	 */
+	public int concurrency() {
+		return _concurrency;
+	}
+
+	/**
+	 * Return the number of inserted individuals between two emitted
+	 * evolution results.
+	 *
+	 * @return the number of insertions between two evolution results
+	 */
+	public int interval() {
+		return _interval;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+
+		return EvolutionStream.ofEvolution(
+			() -> _engine.evolutionStart(start.get()),
+			new SteadyStateEvolution()
+		);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		return stream(_engine.evolutionStart(init));
+	}
+
+	/**
+	 * The stateful evolution function of one evolution stream. The population
+	 * is stored in a priority queue with the worst individual at its head.
+	 */
+	private final class SteadyStateEvolution implements Evolution<G, C> {
+
+		private final PriorityQueue<Phenotype<G, C>> _population =
+			new PriorityQueue<>(
+				max(_engine.populationSize(), 1) + 1,
+				(a, b) -> _engine.optimize().compare(a.fitness(), b.fitness())
+			);
+
+		private final Deque<Phenotype<G, C>> _offspring = new ArrayDeque<>();
+		private final BlockingQueue<CompletableFuture<Phenotype<G, C>>>
+			_finished = new LinkedBlockingQueue<>();
+
+		private boolean _initialized = false;
+		private int _inFlight = 0;
+
+		private int _killCount = 0;
+		private int _invalidCount = 0;
+		private int _alterCount = 0;
+
+		@Override
+		public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+			final EvolutionTiming timing = new EvolutionTiming(_engine.clock());
+			timing.evolve.start();
+
+			final long cacheHits = _engine.cacheHits();
+			final long cacheMisses = _engine.cacheMisses();
+
+			final long generation = start.generation();
+			if (!_initialized) {
+				init(start, timing);
+				_initialized = true;
+			}
+
+			for (int insertions = 0; insertions < _interval; ++insertions) {
+				final Phenotype<G, C> individual = next(generation, timing);
+				if (individual != null) {
+					insert(individual);
+				}
+			}
+			filterSurvivors(generation, timing);
+
+			EvolutionResult<G, C> er = EvolutionResult.of(
+				_engine.optimize(),
+				ISeq.of(_population),
+				generation,
+				timing.toDurations(),
+				_killCount,
+				_invalidCount,
+				_alterCount
+			);
+			_killCount = 0;
+			_invalidCount = 0;
+			_alterCount = 0;
+
+			final EvolutionResult<G, C> interceptedResult =
+				_engine.interceptor().after(er);
+			if (er != interceptedResult) {
+				er = interceptedResult.withPopulation(
+					timing.evaluation.timing(() ->
+						_engine.eval(interceptedResult.population())
+					)
+				);
+				_population.clear();
+				er.population().forEach(_population::add);
+			}
+
+			timing.evolve.stop();
+
+			final EvolutionResult<G, C> evolved = er
+				.withDurations(timing.toDurations())
+				.clean();
+
+			_engine.record(
+				evolved,
+				_engine.cacheHits() - cacheHits,
+				_engine.cacheMisses() - cacheMisses
+			);
+			return evolved;
+		}
+
+		private void init(
+			final EvolutionStart<G, C> start,
+			final EvolutionTiming timing
+		) {
+			final EvolutionStart<G, C> es = _engine.interceptor().before(start);
+			final ISeq<Phenotype<G, C>> population = es.isDirty()
+				? timing.evaluation.timing(() -> _engine.eval(es.population()))
+				: es.population();
+
+			population.forEach(_population::add);
+		}
+
+		// Returns the next evaluated individual. New evaluations are
+		// started until the maximal number of evaluations is in flight.
+		// Returns null for an unaltered offspring, which is discarded.
+		private Phenotype<G, C> next(
+			final long generation,
+			final EvolutionTiming timing
+		) {
+			while (_inFlight < _concurrency) {
+				if (_offspring.isEmpty()) {
+					breed(generation, timing);
+				}
+
+				final Phenotype<G, C> individual = _offspring.removeFirst();
+				if (individual.isEvaluated()) {
+					// The alterer didn't change the selected individual, and
+					// inserting it again would only duplicate it.
+					return null;
+				}
+
+				final var future = CompletableFuture.supplyAsync(
+					() -> _evaluate.apply(individual),
+					_engine.executor()
+				);
+				future.whenComplete((r, e) -> _finished.add(future));
+				++_inFlight;
+			}
+
+			return take(timing);
+		}
+
+		private Phenotype<G, C> take(final EvolutionTiming timing) {
+			final CompletableFuture<Phenotype<G, C>> future;
+			try {
+				future = timing.evaluation.timing(_finished::take);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				final var ce = new CancellationException(e.getMessage());
+				ce.initCause(e);
+				throw ce;
+			}
+
+			--_inFlight;
+			return future.join();
+		}
+
+		// Creates a new batch of (possibly not evaluated) offspring.
+		private void breed(final long generation, final EvolutionTiming timing) {
+			final ISeq<Phenotype<G, C>> population = ISeq.of(_population);
+
+			final ISeq<Phenotype<G, C>> selected =
+				timing.offspringSelection.timing(() ->
+					_engine.offspringSelector().select(
+						population,
+						max(_concurrency, 2),
+						_engine.optimize()
+					)
+				);
+
+			final AltererResult<G, C> altered =
+				timing.offspringAlter.timing(() ->
+					_engine.alterer().alter(selected, generation)
+				);
+
+			final FilterResult<G, C> filtered =
+				timing.offspringFilter.timing(() ->
+					_engine.filter(altered.population(), generation)
+				);
+
+			_alterCount += altered.alterations();
+			_killCount += filtered.killCount();
+			_invalidCount += filtered.invalidCount();
+			filtered.population().forEach(_offspring::addLast);
+		}
+
+		// Inserts the given individual and removes the worst one, if the
+		// population is full.
+		private void insert(final Phenotype<G, C> individual) {
+			_population.add(individual);
+			if (_population.size() > _engine.populationSize()) {
+				_population.poll();
+			}
+		}
+
+		// Removes invalid and too old individuals from the population. Their
+		// replacements are evaluated and inserted like new offspring.
+		private void filterSurvivors(
+			final long generation,
+			final EvolutionTiming timing
+		) {
+			final ISeq<Phenotype<G, C>> population = ISeq.of(_population);
+			final FilterResult<G, C> filtered =
+				timing.survivorFilter.timing(() ->
+					_engine.filter(population, generation)
+				);
+
+			if (filtered.killCount() + filtered.invalidCount() > 0) {
+				_population.clear();
+				for (int i = 0; i < population.size(); ++i) {
+					final Phenotype<G, C> individual = filtered.population().get(i);
+					if (individual == population.get(i)) {
+						_population.add(individual);
+					} else {
+						_offspring.addFirst(individual);
+					}
+				}
+
+				_killCount += filtered.killCount();
+				_invalidCount += filtered.invalidCount();
+			}
+		}
+
+	}
+
+	/**
+	 * Create a new steady-state engine, which uses the selectors, alterers,
+	 * constraint and executor of the given {@code engine}.
+	 *
+	 * @param engine the underlying evolution engine
+	 * @param concurrency the maximal number of fitness evaluations in flight
+	 * @param interval the number of inserted individuals between two emitted
+	 *        evolution results
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new steady-state engine
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code concurrency} or
+	 *         {@code interval} is smaller than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SteadyStateEngine<G, C> of(
+		final Engine<G, C> engine,
+		final int concurrency,
+		final int interval
+	) {
+		return new SteadyStateEngine<>(engine, concurrency, interval);
+	}
+
+	/**
+	 * Create a new steady-state engine, which uses the selectors, alterers,
+	 * constraint and executor of the given {@code engine}. An evolution result
+	 * is emitted after {@link Engine#populationSize()} insertions.
+	 *
+	 * @param engine the underlying evolution engine
+	 * @param concurrency the maximal number of fitness evaluations in flight
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new steady-state engine
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code concurrency} is
+	 *         smaller than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SteadyStateEngine<G, C>
+	of(final Engine<G, C> engine, final int concurrency) {
+		return of(engine, concurrency, engine.populationSize());
+	}
+
+	/**
+	 * Create a new steady-state engine, which uses the selectors, alterers,
+	 * constraint and executor of the given {@code engine}. The number of
+	 * evaluations in flight is the number of available processors, and an
+	 * evolution result is emitted after {@link Engine#populationSize()}
+	 * insertions.
+	 *
+	 * @param engine the underlying evolution engine
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new steady-state engine
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SteadyStateEngine<G, C> of(final Engine<G, C> engine) {
+		return of(engine, Runtime.getRuntime().availableProcessors());
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+
+/**
+ * Asynchronous fitness function, which evaluates the given fitness function
+ * in its own <em>virtual</em> thread. At most {@code maxConcurrency}
+ * evaluations are running at the same time. If the limit is reached, the
+ * calling thread blocks until a running evaluation has finished. If a
+ * {@code timeout} is given, evaluations which are running longer are
+ * completed with the {@code fallback} fitness value and their thread is
+ * interrupted. The permit of an interrupted evaluation is released when its
+ * thread actually terminates. The timeout task of an evaluation is removed
+ * from the timer queue as soon as the evaluation has finished.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class VirtualThreadFitness<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Function<Genotype<G>, CompletableFuture<C>>
+{
+
+	/**
+	 * Timer for the evaluation timeouts, shared by all instances. Cancelled
+	 * timeout tasks are removed from its queue immediately.
+	 */
+	private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+	private static ScheduledThreadPoolExecutor timer() {
+		final var timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+			final var thread = new Thread(runnable, "jenetics-fitness-timeout");
+			thread.setDaemon(true);
+			return thread;
+		});
+		timer.setRemoveOnCancelPolicy(true);
+		return timer;
+	}
+
+	private final ThreadFactory _threads = Thread.ofVirtual()
+		.name("jenetics-fitness-", 0)
+		.factory();
+
+	private final Function<? super Genotype<G>, ? extends C> _fitness;
+	private final Semaphore _permits;
+	private final Duration _timeout;
+	private final C _fallback;
+	private final ScheduledThreadPoolExecutor _timer;
+
+	/**
+	 * Create a new virtual thread fitness function.
+	 *
+	 * @param fitness the fitness function
+	 * @param maxConcurrency the maximal number of concurrent evaluations
+	 * @param timeout the evaluation timeout, may be {@code null}, if the
+	 *        evaluations never time out
+	 * @param fallback the fitness value of timed out evaluations, may be
+	 *        {@code null}, if no {@code timeout} is given
+	 * @param timer the timer used for the evaluation timeouts
+	 */
+	VirtualThreadFitness(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final int maxConcurrency,
+		final Duration timeout,
+		final C fallback,
+		final ScheduledThreadPoolExecutor timer
+	) {
+		if (maxConcurrency < 1) {
+			throw new IllegalArgumentException(format(
+				"Max concurrency must be greater than zero, but was %d.",
+				maxConcurrency
+			));
+		}
+		if (timeout != null) {
+			requireNonNull(fallback);
+			if (timeout.isNegative() || timeout.isZero()) {
+				throw new IllegalArgumentException(format(
+					"Timeout must be positive, but was %s.", timeout
+				));
+			}
+		}
+
+		_fitness = requireNonNull(fitness);
+		_permits = new Semaphore(maxConcurrency);
+		_timeout = timeout;
+		_fallback = fallback;
+		_timer = requireNonNull(timer);
+	}
+
+	/**
+	 * Create a new virtual thread fitness function, which uses the shared
+	 * timeout timer.
+	 *
+	 * @param fitness the fitness function
+	 * @param maxConcurrency the maximal number of concurrent evaluations
+	 * @param timeout the evaluation timeout, may be {@code null}, if the
+	 *        evaluations never time out
+	 * @param fallback the fitness value of timed out evaluations, may be
+	 *        {@code null}, if no {@code timeout} is given
+	 */
+	VirtualThreadFitness(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final int maxConcurrency,
+		final Duration timeout,
+		final C fallback
+	) {
+		this(fitness, maxConcurrency, timeout, fallback, TIMER);
+	}
+
+	@Override
+	public CompletableFuture<C> apply(final Genotype<G> genotype) {
+		acquire();
+
+		final var result = new CompletableFuture<C>();
+		final Thread thread;
+		try {
+			thread = _threads.newThread(() -> {
+				try {
+					result.complete(_fitness.apply(genotype));
+				} catch (Throwable e) {
+					result.completeExceptionally(e);
+				} finally {
+					_permits.release();
+				}
+			});
+			thread.start();
+		} catch (RuntimeException | Error e) {
+			_permits.release();
+			throw e;
+		}
+
+		if (_timeout != null) {
+			final ScheduledFuture<?> timeout = _timer.schedule(
+				() -> {
+					if (result.complete(_fallback)) {
+						thread.interrupt();
+					}
+				},
+				_timeout.toNanos(),
+				NANOSECONDS
+			);
+
+			// Removes the timeout task from the timer queue, when the
+			// evaluation finishes early. This is done immediately if the
+			// evaluation has already finished.
+			result.whenComplete((value, error) -> timeout.cancel(false));
+		}
+
+		return result;
+	}
+
+	private void acquire() {
+		try {
+			_permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			final var ce = new CancellationException(e.getMessage());
+			ce.initCause(e);
+			throw ce;
+		}
+	}
+
+}
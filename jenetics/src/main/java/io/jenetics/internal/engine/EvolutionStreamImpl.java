@@ -36,7 +36,7 @@ import io.jenetics.internal.util.StreamProxy;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 5.1
+ * @version 8.2
  */
 public final class EvolutionStreamImpl<
 	G extends Gene<?, G>,
@@ -66,10 +66,14 @@ public final class EvolutionStreamImpl<
 	@Override
 	public EvolutionStream<G, C>
 	limit(final Predicate<? super EvolutionResult<G, C>> proceed) {
-		return new EvolutionStreamImpl<>(
+		final var stream = new EvolutionStreamImpl<G, C>(
 			LimitSpliterator.of(_spliterator, proceed),
 			isParallel()
 		);
+
+		// Closing the limited stream must close this stream too.
+		stream.onClose(this::close);
+		return stream;
 	}
 
 	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
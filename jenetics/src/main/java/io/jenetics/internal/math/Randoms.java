@@ -32,7 +32,7 @@ import java.util.stream.IntStream;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 7.0
+ * @version 8.2
  */
 public final class Randoms {
 	private Randoms() {}
@@ -111,6 +111,32 @@ public final class Randoms {
 	}
 
 
+	/**
+	 * Return the number of indexes which are <em>skipped</em> until the next
+	 * index is selected, if every index is selected independently with the
+	 * probability {@code p}. The returned value is geometrically distributed
+	 * and allows iterating over the selected indexes in <em>O(n&middot;p)</em>
+	 * instead of <em>O(n)</em> time.
+	 * {@snippet lang="java":
+	 * final double logq = Math.log1p(-p);
+	 * for (long i = nextSkip(random, logq); i < n; i += 1L + nextSkip(random, logq)) {
+	 *     select((int)i);
+	 * }
+	 * }
+	 *
+	 * @since 8.2
+	 *
+	 * @param random the random engine used for calculating the skip length
+	 * @param logq the logarithm of the complementary selection probability,
+	 *        {@code log(1 - p)}, with {@code p > 0}
+	 * @return the number of indexes to skip. If the skip length exceeds the
+	 *         integer range, {@link Integer#MAX_VALUE} is returned.
+	 */
+	public static int nextSkip(final RandomGenerator random, final double logq) {
+		// 1 - nextDouble() is in the range (0, 1], which avoids log(0).
+		return (int)Math.floor(Math.log(1.0 - random.nextDouble())/logq);
+	}
+
 	/**
 	 * Create an {@code IntStream} which creates random indexes within the
 	 * given range and the index probability.
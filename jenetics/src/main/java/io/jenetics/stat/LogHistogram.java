@@ -0,0 +1,276 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * Histogram of non-negative {@code long} values, with log-linear bucket
+ * boundaries, similar to the <em>HDR histogram</em>. Every power of two is
+ * divided into {@code 2^b} linear sub-buckets, where {@code b} is chosen,
+ * that the relative error of the recorded values is smaller than
+ * {@code 10^-digits}. This allows to record values from one up to
+ * {@link Long#MAX_VALUE}, e.g., latencies in nanoseconds, with constant
+ * memory and constant recording time.
+ * {@snippet lang="java":
+ * final LogHistogram histogram = new LogHistogram(2);
+ * durations.forEach(d -> histogram.accept(d.toNanos()));
+ *
+ * final long median = histogram.quantile(0.5);
+ * final long p99 = histogram.quantile(0.99);
+ * }
+ *
+ * @implNote
+ * This class is thread-safe. Recording values doesn't block and doesn't
+ * allocate objects.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 8.2
+ * @version 8.2
+ */
+public final class LogHistogram implements LongConsumer {
+
+	private final int _digits;
+	private final int _bits;
+	private final AtomicLongArray _counts;
+
+	private final AtomicLong _count = new AtomicLong();
+	private final AtomicLong _sum = new AtomicLong();
+	private final AtomicLong _min = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong _max = new AtomicLong(Long.MIN_VALUE);
+
+	/**
+	 * Create a new histogram with the given precision.
+	 *
+	 * @param digits the number of significant decimal digits of the recorded
+	 *        values, in the range {@code [1, 3]}
+	 * @throws IllegalArgumentException if the given {@code digits} are not
+	 *         within the range {@code [1, 3]}
+	 */
+	public LogHistogram(final int digits) {
+		if (digits < 1 || digits > 3) {
+			throw new IllegalArgumentException(format(
+				"Digits must be within [1, 3], but was %d.", digits
+			));
+		}
+
+		_digits = digits;
+		_bits = 64 - Long.numberOfLeadingZeros((long)Math.pow(10, digits) - 1);
+		_counts = new AtomicLongArray((64 - _bits)*(1 << _bits));
+	}
+
+	/**
+	 * Create a new histogram with two significant decimal digits.
+	 */
+	public LogHistogram() {
+		this(2);
+	}
+
+	/**
+	 * Return the number of significant decimal digits of this histogram.
+	 *
+	 * @return the number of significant decimal digits
+	 */
+	public int digits() {
+		return _digits;
+	}
+
+	/**
+	 * Records the given {@code value}.
+	 *
+	 * @param value the value to record
+	 * @throws IllegalArgumentException if the given {@code value} is negative
+	 */
+	@Override
+	public void accept(final long value) {
+		if (value < 0) {
+			throw new IllegalArgumentException(format(
+				"Value must not be negative, but was %d.", value
+			));
+		}
+
+		_counts.incrementAndGet(index(value));
+		_count.incrementAndGet();
+		_sum.addAndGet(value);
+		_min.accumulateAndGet(value, Math::min);
+		_max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Adds the recorded values of the {@code other} histogram to
+	 * {@code this} one.
+	 *
+	 * @param other the other histogram
+	 * @return {@code this} histogram, for method chaining
+	 * @throws IllegalArgumentException if the {@code other} histogram has a
+	 *         different precision
+	 */
+	public LogHistogram combine(final LogHistogram other) {
+		if (other._digits != _digits) {
+			throw new IllegalArgumentException(format(
+				"Can't combine histograms with %d and %d digits.",
+				_digits, other._digits
+			));
+		}
+
+		for (int i = 0; i < _counts.length(); ++i) {
+			final long count = other._counts.get(i);
+			if (count > 0) {
+				_counts.addAndGet(i, count);
+			}
+		}
+		_count.addAndGet(other._count.get());
+		_sum.addAndGet(other._sum.get());
+		_min.accumulateAndGet(other._min.get(), Math::min);
+		_max.accumulateAndGet(other._max.get(), Math::max);
+
+		return this;
+	}
+
+	/**
+	 * Return the number of recorded values.
+	 *
+	 * @return the number of recorded values
+	 */
+	public long count() {
+		return _count.get();
+	}
+
+	/**
+	 * Return the minimal recorded value, or {@link Long#MAX_VALUE} if no
+	 * value has been recorded yet.
+	 *
+	 * @return the minimal recorded value
+	 */
+	public long min() {
+		return _min.get();
+	}
+
+	/**
+	 * Return the maximal recorded value, or {@link Long#MIN_VALUE} if no
+	 * value has been recorded yet.
+	 *
+	 * @return the maximal recorded value
+	 */
+	public long max() {
+		return _max.get();
+	}
+
+	/**
+	 * Return the arithmetic mean of the recorded values, or
+	 * {@link Double#NaN} if no value has been recorded yet.
+	 *
+	 * @return the arithmetic mean of the recorded values
+	 */
+	public double mean() {
+		final long count = _count.get();
+		return count > 0 ? (double)_sum.get()/count : Double.NaN;
+	}
+
+	/**
+	 * Return the value at the given {@code quantile}. The returned value is
+	 * within the precision of the histogram and is clamped to the recorded
+	 * minimum and maximum.
+	 *
+	 * @param quantile the quantile, in the range {@code [0, 1]}
+	 * @return the value at the given {@code quantile}, or zero if no value
+	 *         has been recorded yet
+	 * @throws IllegalArgumentException if the given {@code quantile} is not
+	 *         within the range {@code [0, 1]}
+	 */
+	public long quantile(final double quantile) {
+		if (!(quantile >= 0 && quantile <= 1)) {
+			throw new IllegalArgumentException(format(
+				"Quantile must be within [0, 1], but was %s.", quantile
+			));
+		}
+
+		final long count = _count.get();
+		if (count == 0) {
+			return 0;
+		}
+
+		final long rank = Math.max(1, (long)Math.ceil(quantile*count));
+		long seen = 0;
+		for (int i = 0; i < _counts.length(); ++i) {
+			seen += _counts.get(i);
+			if (seen >= rank) {
+				return Math.clamp(value(i), _min.get(), _max.get());
+			}
+		}
+
+		return _max.get();
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < _counts.length(); ++i) {
+			_counts.set(i, 0);
+		}
+		_count.set(0);
+		_sum.set(0);
+		_min.set(Long.MAX_VALUE);
+		_max.set(Long.MIN_VALUE);
+	}
+
+	// Return the bucket index of the given (non-negative) value.
+	int index(final long value) {
+		final int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent < _bits) {
+			return (int)value;
+		}
+
+		final int shift = exponent - _bits;
+		final int sub = (int)(value >>> shift) - (1 << _bits);
+		return ((shift + 1) << _bits) + sub;
+	}
+
+	// Return the mid-value of the bucket with the given index.
+	long value(final int index) {
+		final int shift = (index >>> _bits) - 1;
+		if (shift < 0) {
+			return index;
+		}
+
+		final long sub = index & ((1 << _bits) - 1);
+		final long lower = ((1L << _bits) + sub) << shift;
+		return lower + ((1L << shift) >>> 1);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"LogHistogram[count=%d, min=%d, p50=%d, p90=%d, p99=%d, max=%d]",
+			count(),
+			count() > 0 ? min() : 0,
+			quantile(0.5),
+			quantile(0.9),
+			quantile(0.99),
+			count() > 0 ? max() : 0
+		);
+	}
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sqrt;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.jenetics.internal.util.Futures;
+
+/**
+ * Batch executor, which adapts the partitioning of the executed batches to
+ * the measured execution time of the tasks. The execution time of every
+ * partition is measured and used for estimating the mean task time and its
+ * variation, smoothed over the executed batches (generations).
+ * <ul>
+ *     <li>Cheap tasks are combined into fewer, bigger partitions, so that
+ *         every partition runs for at least {@link #MIN_PARTITION_NANOS}.
+ *         Batches, which are cheaper than this, are executed directly in
+ *         the calling thread.</li>
+ *     <li>Tasks with strongly varying execution times are split into more,
+ *         smaller partitions, up to {@link #MAX_OVERSUBSCRIPTION} partitions
+ *         per available thread, which reduces the <em>makespan</em> of the
+ *         batch.</li>
+ * </ul>
+ * The partitioning of the last executed batch is available via
+ * {@link #partitioning()}.
+ * {@snippet lang="java":
+ * final AdaptiveBatchExecutor executor = BatchExecutor.ofAdaptive(pool);
+ * final Engine<DoubleGene, Double> engine = Engine.builder(fitness, codec)
+ *     .fitnessExecutor(executor)
+ *     .build();
+ *
+ * final var result = engine.stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ *
+ * System.out.println(executor.partitioning());
+ * }
+ *
+ * @see BatchExecutor#ofAdaptive(Executor)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+public final class AdaptiveBatchExecutor implements BatchExecutor {
+
+	/**
+	 * The partitioning of an executed batch.
+	 *
+	 * @param batchSize the number of executed tasks
+	 * @param partitions the number of partitions, the batch has been split
+	 *        into
+	 * @param taskNanos the (smoothed) estimated mean execution time of one
+	 *        task, in nanoseconds. The value is {@link Double#NaN} if no
+	 *        estimation is available.
+	 * @param taskVariation the (smoothed) estimated coefficient of variation
+	 *        of the task execution times
+	 * @param makespanNanos the wall clock time needed for executing the
+	 *        batch, in nanoseconds
+	 */
+	public record Partitioning(
+		int batchSize,
+		int partitions,
+		double taskNanos,
+		double taskVariation,
+		long makespanNanos
+	) {
+	}
+
+	/**
+	 * The minimal execution time of one partition, in nanoseconds. Smaller
+	 * partitions are dominated by the scheduling overhead.
+	 */
+	public static final long MIN_PARTITION_NANOS = 50_000;
+
+	/**
+	 * The maximal number of partitions per available thread.
+	 */
+	public static final int MAX_OVERSUBSCRIPTION = 8;
+
+	// Smoothing factor of the exponential moving averages.
+	private static final double ALPHA = 0.3;
+
+	private final Executor _executor;
+	private final int _parallelism;
+
+	private final ReentrantLock _lock = new ReentrantLock();
+	private double _taskNanos = Double.NaN;
+	private double _taskVariation = 0;
+	private Partitioning _partitioning = null;
+
+	AdaptiveBatchExecutor(final Executor executor) {
+		_executor = requireNonNull(executor);
+		_parallelism = executor instanceof ForkJoinPool pool
+			? pool.getParallelism()
+			: Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Return the partitioning of the last executed batch, or {@code null} if
+	 * no batch has been executed yet.
+	 *
+	 * @return the partitioning of the last executed batch
+	 */
+	public Partitioning partitioning() {
+		_lock.lock();
+		try {
+			return _partitioning;
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	@Override
+	public void execute(final BaseSeq<? extends Runnable> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		final int size = batch.length();
+		final int[] parts = PartitionBatchExecutor.partition(size, partitions(size));
+		final long[] nanos = new long[parts.length - 1];
+
+		final long start = System.nanoTime();
+		if (nanos.length == 1) {
+			nanos[0] = timed(batch, 0, size);
+		} else {
+			final var futures = new ArrayList<Future<?>>(nanos.length);
+			for (int i = 0; i < nanos.length; ++i) {
+				final int part = i;
+				execute(
+					() -> nanos[part] = timed(batch, parts[part], parts[part + 1]),
+					futures
+				);
+			}
+			Futures.join(futures);
+		}
+		final long makespan = System.nanoTime() - start;
+
+		update(parts, nanos, makespan);
+	}
+
+	private static long timed(
+		final BaseSeq<? extends Runnable> batch,
+		final int start,
+		final int end
+	) {
+		final long begin = System.nanoTime();
+		new BatchRunnable(batch, start, end).run();
+		return System.nanoTime() - begin;
+	}
+
+	private void execute(final Runnable command, final ArrayList<Future<?>> futures) {
+		if (_executor instanceof ExecutorService service) {
+			futures.add(service.submit(command));
+		} else {
+			final FutureTask<?> task = new FutureTask<>(command, null);
+			futures.add(task);
+			_executor.execute(task);
+		}
+	}
+
+	// Calculates the number of partitions from the current task estimates.
+	private int partitions(final int size) {
+		_lock.lock();
+		try {
+			if (Double.isNaN(_taskNanos)) {
+				return min(size, (_parallelism + 1)*2);
+			}
+
+			final double total = size*_taskNanos;
+			final int overhead = (int)max(1, min(size, total/MIN_PARTITION_NANOS));
+			final int oversubscription =
+				min(MAX_OVERSUBSCRIPTION, 1 + (int)ceil(4*_taskVariation));
+
+			return max(1, min(overhead, _parallelism*oversubscription));
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	// Updates the task estimates with the measured partition times.
+	private void update(final int[] parts, final long[] nanos, final long makespan) {
+		final int size = parts[parts.length - 1];
+
+		long total = 0;
+		for (long n : nanos) {
+			total += n;
+		}
+		final double mean = (double)total/size;
+
+		// The variance of the partition means is the task variance divided
+		// by the partition size.
+		double variance = Double.NaN;
+		if (nanos.length > 1 && mean > 0) {
+			double sum = 0;
+			for (int i = 0; i < nanos.length; ++i) {
+				final int length = parts[i + 1] - parts[i];
+				final double diff = (double)nanos[i]/length - mean;
+				sum += length*diff*diff;
+			}
+			variance = sum/(nanos.length - 1);
+		}
+
+		_lock.lock();
+		try {
+			_taskNanos = Double.isNaN(_taskNanos)
+				? mean
+				: ALPHA*mean + (1 - ALPHA)*_taskNanos;
+
+			if (!Double.isNaN(variance)) {
+				_taskVariation = ALPHA*sqrt(variance)/mean +
+					(1 - ALPHA)*_taskVariation;
+			}
+
+			_partitioning = new Partitioning(
+				size,
+				nanos.length,
+				_taskNanos,
+				_taskVariation,
+				makespan
+			);
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+}
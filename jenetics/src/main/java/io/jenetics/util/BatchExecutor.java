@@ -22,7 +22,6 @@ package io.jenetics.util;
 import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 
 /**
@@ -32,7 +31,7 @@ import java.util.concurrent.ForkJoinPool;
  * been executed.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 8.0
+ * @version 8.2
  * @since 8.0
  */
 @FunctionalInterface
@@ -65,6 +64,24 @@ public interface BatchExecutor {
 		}
 	}
 
+	/**
+	 * Create a batch executor, which adapts the partitioning of the executed
+	 * batches to the measured execution times of the tasks. The returned
+	 * executor should be reused for all generations of an evolution, since
+	 * its estimates improve with every executed batch.
+	 *
+	 * @since 8.2
+	 *
+	 * @see AdaptiveBatchExecutor
+	 *
+	 * @param executor the executor, which is actually executing the tasks
+	 * @return a new adaptive batch executor
+	 * @throws NullPointerException if the given {@code executor} is {@code null}
+	 */
+	static AdaptiveBatchExecutor ofAdaptive(final Executor executor) {
+		return new AdaptiveBatchExecutor(executor);
+	}
+
 	/**
 	 * Return a batch executor, where each task of a given <em>batch</em> is
 	 * executed in its own <em>virtual</em> thread.
@@ -72,11 +89,31 @@ public interface BatchExecutor {
 	 * @return a new <em>virtual</em> thread batch executor object
 	 */
 	static BatchExecutor ofVirtualThreads() {
-		return batch -> {
-			try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
-				batch.forEach(executor::execute);
-			}
-		};
+		return new VirtualThreadBatchExecutor(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return a batch executor, where each task of a given <em>batch</em> is
+	 * executed in its own <em>virtual</em> thread, with at most
+	 * {@code maxConcurrency} tasks running at the same time. If this limit is
+	 * reached, the submission of further tasks blocks until a running task
+	 * has finished. This protects downstream resources, like a local service
+	 * called by an I/O-bound fitness function, from being overwhelmed.
+	 * {@snippet lang="java":
+	 * final Engine<DoubleGene, Double> engine = Engine.builder(fitness, codec)
+	 *     .fitnessExecutor(BatchExecutor.ofVirtualThreads(64))
+	 *     .build();
+	 * }
+	 *
+	 * @since 8.2
+	 *
+	 * @param maxConcurrency the maximal number of concurrently executed tasks
+	 * @return a new <em>virtual</em> thread batch executor object
+	 * @throws IllegalArgumentException if the given {@code maxConcurrency} is
+	 *         smaller than one
+	 */
+	static BatchExecutor ofVirtualThreads(final int maxConcurrency) {
+		return new VirtualThreadBatchExecutor(maxConcurrency);
 	}
 
 }
@@ -35,7 +35,7 @@ import io.jenetics.internal.util.Futures;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 8.0
+ * @version 8.2
  * @since 2.0
  */
 final class PartitionBatchExecutor implements BatchExecutor {
@@ -129,7 +129,7 @@ final class PartitionBatchExecutor implements BatchExecutor {
 	 * @return the partition array with the length of {@code min(size, parts) + 1}.
 	 * @throws IllegalArgumentException if {@code size} or {@code p} is less than one.
 	 */
-	private static int[] partition(final int size, final int parts) {
+	static int[] partition(final int size, final int parts) {
 		if (size < 1) {
 			throw new IllegalArgumentException(
 				"Size must greater than zero: " + size
@@ -128,6 +128,28 @@ import java.util.random.RandomGeneratorFactory;
  * }
  * }
  *
+ * <h2>Reproducible parallel evolution</h2>
+ *
+ * Since the default setup gives every thread its own random generator, an
+ * evolution run, which uses more than one thread, isn't reproducible. In
+ * the <em>reproducible</em> mode, the random generators are derived from a
+ * given seed. Code, which is executed as {@link #task(long, int, Supplier)},
+ * gets a random generator, which only depends on the seed, the generation
+ * and the index of the task, but not on the executing thread. The evolution
+ * {@link io.jenetics.engine.Engine} executes all its evolution phases as
+ * such tasks. This leads to identical results for a given seed, regardless
+ * of the number of threads the engine is using. Engines, which evolve the
+ * same generations concurrently, like the islands of an island model, must
+ * be executed within tasks of different indexes. Otherwise, they get
+ * identical random generators.
+ * {@snippet lang="java":
+ * RandomRegistry.reproducible(1234);
+ * final Engine<DoubleGene, Double> engine = null; // @replace substring='null' replacement="..."
+ * final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *     .limit(100)
+ *     .collect(toBestEvolutionResult());
+ * }
+ *
  * <p>
  * The default random generator used by <em>Jenetics</em> is
  * {@code L64X256MixRandom}. Via the system property
@@ -144,7 +166,7 @@ import java.util.random.RandomGeneratorFactory;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 8.0
+ * @version 8.2
  */
 public final class RandomRegistry {
 	private RandomRegistry() {}
@@ -413,6 +435,181 @@ public final class RandomRegistry {
 		);
 	}
 
+	/**
+	 * Enables the <em>reproducible</em> mode for the <em>global</em> scope.
+	 * The random generators are created by the given {@code factory} and
+	 * are derived from the given {@code seed}. Code executed outside a
+	 * {@link #task(long, int, Supplier)} gets a thread local random
+	 * generator, which is derived from the seed and the thread ID.
+	 *
+	 * @since 8.2
+	 *
+	 * @param factory the factory of the derived random generators
+	 * @param seed the seed of the evolution run
+	 * @throws NullPointerException if the {@code factory} is {@code null}
+	 */
+	public static void reproducible(
+		final RandomGeneratorFactory<? extends RandomGenerator> factory,
+		final long seed
+	) {
+		CONTEXT.set(new Reproducible(factory, seed));
+	}
+
+	/**
+	 * Enables the <em>reproducible</em> mode for the <em>global</em> scope,
+	 * using the default random generator.
+	 *
+	 * @see #reproducible(RandomGeneratorFactory, long)
+	 *
+	 * @since 8.2
+	 *
+	 * @param seed the seed of the evolution run
+	 */
+	public static void reproducible(final long seed) {
+		reproducible(RandomGeneratorFactory.of(Env.defaultRandomGenerator), seed);
+	}
+
+	/**
+	 * Return a supplier, which executes the given {@code supplier} as task
+	 * with the given {@code index} of the given {@code generation}. In the
+	 * <em>reproducible</em> mode, the task is executed within a scope, whose
+	 * random generator only depends on the seed, the generation and the task
+	 * index; nested tasks derive their generators from it. Otherwise, the
+	 * given {@code supplier} is returned unchanged.
+	 * <p>
+	 * This method must be called by the thread which schedules the task,
+	 * since it captures the random scope of the calling thread. The returned
+	 * supplier can then be executed by any thread.
+	 * {@snippet lang="java":
+	 * final CompletableFuture<ISeq<Phenotype<G, C>>> offspring = supplyAsync(
+	 *     RandomRegistry.task(generation, 0, () -> selectOffspring(population)),
+	 *     executor
+	 * );
+	 * }
+	 *
+	 * @since 8.2
+	 *
+	 * @param generation the generation of the task
+	 * @param index the index of the task within the generation
+	 * @param supplier the task to execute
+	 * @param <T> the result type of the task
+	 * @return the task, executed within its own random scope
+	 * @throws NullPointerException if the {@code supplier} is {@code null}
+	 */
+	public static <T> Supplier<T> task(
+		final long generation,
+		final int index,
+		final Supplier<T> supplier
+	) {
+		requireNonNull(supplier);
+
+		if (CONTEXT.get() instanceof Reproducible reproducible) {
+			final long seed = reproducible.seed(generation, index);
+			return () -> CONTEXT.with(
+				reproducible.derive(seed),
+				r -> supplier.get()
+			);
+		} else {
+			return supplier;
+		}
+	}
+
+	/**
+	 * Return a function, which executes the given {@code function} as task
+	 * with the given {@code index} of the given {@code generation}.
+	 *
+	 * @see #task(long, int, Supplier)
+	 *
+	 * @since 8.2
+	 *
+	 * @param generation the generation of the task
+	 * @param index the index of the task within the generation
+	 * @param function the task to execute
+	 * @param <A> the argument type of the task
+	 * @param <T> the result type of the task
+	 * @return the task, executed within its own random scope
+	 * @throws NullPointerException if the {@code function} is {@code null}
+	 */
+	public static <A, T> Function<A, T> task(
+		final long generation,
+		final int index,
+		final Function<A, T> function
+	) {
+		requireNonNull(function);
+
+		if (CONTEXT.get() instanceof Reproducible reproducible) {
+			final long seed = reproducible.seed(generation, index);
+			return arg -> CONTEXT.with(
+				reproducible.derive(seed),
+				r -> function.apply(arg)
+			);
+		} else {
+			return function;
+		}
+	}
+
+	/**
+	 * Random generator supplier of the reproducible mode. The global supplier
+	 * hands out thread local generators; the supplier of a task scope always
+	 * returns the generator of the task, which is only used by the thread
+	 * executing the task.
+	 */
+	private static final class Reproducible
+		implements Supplier<RandomGenerator>
+	{
+		private final RandomGeneratorFactory<? extends RandomGenerator> _factory;
+		private final long _seed;
+		private final Supplier<? extends RandomGenerator> _random;
+
+		private Reproducible(
+			final RandomGeneratorFactory<? extends RandomGenerator> factory,
+			final long seed,
+			final Supplier<? extends RandomGenerator> random
+		) {
+			_factory = requireNonNull(factory);
+			_seed = seed;
+			_random = random;
+		}
+
+		Reproducible(
+			final RandomGeneratorFactory<? extends RandomGenerator> factory,
+			final long seed
+		) {
+			this(
+				factory,
+				seed,
+				new TLR<>(() -> factory.create(
+					mix(seed, Thread.currentThread().threadId())
+				))
+			);
+		}
+
+		@Override
+		public RandomGenerator get() {
+			return _random.get();
+		}
+
+		long seed(final long generation, final int index) {
+			return mix(mix(_seed, generation), index);
+		}
+
+		Reproducible derive(final long seed) {
+			final RandomGenerator random = _factory.create(seed);
+			return new Reproducible(_factory, seed, () -> random);
+		}
+
+		/*
+		 * Mixing function of the SplitMix64 generator. The derived seeds are
+		 * uncorrelated, even for consecutive generations and task indexes.
+		 */
+		private static long mix(final long seed, final long value) {
+			long z = seed + (value + 1)*0x9E3779B97F4A7C15L;
+			z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+			z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+			return z ^ (z >>> 31);
+		}
+	}
+
 	private static final class Env {
 
 		private static final String defaultRandomGenerator = get();
@@ -0,0 +1,101 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Batch executor, which executes every task in its own <em>virtual</em>
+ * thread. The number of concurrently running tasks is limited by the given
+ * number of permits. If all permits are in use, the submitting thread blocks
+ * until a running task has finished. The executor holds no per-batch
+ * resources and can be reused for all generations of an evolution.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.2
+ * @since 8.2
+ */
+final class VirtualThreadBatchExecutor implements BatchExecutor {
+
+	private final ThreadFactory _threads = Thread.ofVirtual()
+		.name("jenetics-batch-", 0)
+		.factory();
+
+	private final Semaphore _permits;
+
+	VirtualThreadBatchExecutor(final int maxConcurrency) {
+		if (maxConcurrency < 1) {
+			throw new IllegalArgumentException(format(
+				"Max concurrency must be greater than zero, but was %d.",
+				maxConcurrency
+			));
+		}
+
+		_permits = new Semaphore(maxConcurrency);
+	}
+
+	@Override
+	public void execute(final BaseSeq<? extends Runnable> batch) {
+		final var latch = new CountDownLatch(batch.length());
+		final var error = new AtomicReference<Throwable>();
+
+		try {
+			for (int i = 0; i < batch.length(); ++i) {
+				final Runnable task = batch.get(i);
+
+				_permits.acquire();
+				try {
+					_threads.newThread(() -> {
+						try {
+							task.run();
+						} catch (Throwable e) {
+							error.compareAndSet(null, e);
+						} finally {
+							_permits.release();
+							latch.countDown();
+						}
+					}).start();
+				} catch (RuntimeException | Error e) {
+					_permits.release();
+					throw e;
+				}
+			}
+
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			final var ce = new CancellationException(e.getMessage());
+			ce.initCause(e);
+			throw ce;
+		}
+
+		if (error.get() != null) {
+			throw new CompletionException(error.get());
+		}
+	}
+
+}
@@ -19,8 +19,14 @@
  */
 package io.jenetics;
 
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.stat.LongMomentStatistics;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -32,4 +38,82 @@ public class MutatorTest extends MutatorTester {
 		return new Mutator<>(p);
 	}
 
+	@Test
+	public void sparseMutateWithZeroProbability() {
+		final var mutator = new Mutator<DoubleGene, Double>();
+		final var chromosome = DoubleChromosome.of(0, 10, 1000);
+
+		final var result = mutator.mutate(chromosome, 0.0, new Random(123));
+		Assert.assertSame(result.result(), chromosome);
+		Assert.assertEquals(result.mutations(), 0);
+	}
+
+	@Test
+	public void sparseMutateWithOneProbability() {
+		final var mutator = new Mutator<DoubleGene, Double>();
+		final var chromosome = DoubleChromosome.of(0, 10, 1000);
+
+		final var result = mutator.mutate(chromosome, 1.0, new Random(123));
+		Assert.assertEquals(result.mutations(), chromosome.length());
+		Assert.assertEquals(diff(chromosome, result.result()), 1000);
+	}
+
+	@Test
+	public void sparseMutateCount() {
+		final var random = new Random(1234);
+		final var mutator = new Mutator<DoubleGene, Double>();
+		final var chromosome = DoubleChromosome.of(0, 10, 1000);
+		final double p = 0.01;
+
+		final var statistics = new LongMomentStatistics();
+		for (int i = 0; i < 2_000; ++i) {
+			final var result = mutator.mutate(chromosome, p, random);
+			Assert.assertEquals(
+				diff(chromosome, result.result()),
+				result.mutations()
+			);
+			statistics.accept(result.mutations());
+		}
+
+		// Binomial distribution: mean = n*p, variance = n*p*(1 - p).
+		Assert.assertEquals(statistics.mean(), 1000*p, 0.25);
+		Assert.assertEquals(statistics.variance(), 1000*p*(1 - p), 1.0);
+	}
+
+	@Test
+	public void sparseMutateWithTinyProbability() {
+		final var mutator = new Mutator<DoubleGene, Double>();
+		final var chromosome = DoubleChromosome.of(0, 10, 1000);
+
+		// The first skip length is zero and all following skip lengths are
+		// saturated at Integer.MAX_VALUE, for the given tiny probability.
+		final var random = new RandomGenerator() {
+			private boolean first = true;
+			@Override
+			public double nextDouble() {
+				final double value = first ? 0.0 : 0.5;
+				first = false;
+				return value;
+			}
+			@Override
+			public long nextLong() {
+				return 0;
+			}
+		};
+
+		final var result = mutator.mutate(chromosome, 1e-15, random);
+		Assert.assertEquals(result.mutations(), 1);
+		Assert.assertEquals(diff(chromosome, result.result()), 1);
+	}
+
+	private static int diff(final Chromosome<?> c1, final Chromosome<?> c2) {
+		int count = 0;
+		for (int i = 0; i < c1.length(); ++i) {
+			if (!c1.get(i).equals(c2.get(i))) {
+				++count;
+			}
+		}
+		return count;
+	}
+
 }
@@ -0,0 +1,274 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PackedPopulationTest {
+
+	private static final Genotype<DoubleGene> DOUBLE_GENOTYPE = Genotype.of(
+		DoubleChromosome.of(0, 10, 20),
+		DoubleChromosome.of(-5, 5, 10)
+	);
+
+	@Test
+	public void packGenotypes() {
+		final ISeq<Genotype<DoubleGene>> genotypes =
+			ISeq.of(DOUBLE_GENOTYPE::newInstance, 50);
+		final ISeq<Genotype<DoubleGene>> packed =
+			PackedPopulation.packGenotypes(genotypes);
+
+		Assert.assertEquals(packed, genotypes);
+		for (var gt : packed) {
+			for (var ch : gt) {
+				Assert.assertTrue(PackedPopulation.isPacked(ch));
+			}
+		}
+		for (var gt : genotypes) {
+			for (var ch : gt) {
+				Assert.assertFalse(PackedPopulation.isPacked(ch));
+			}
+		}
+	}
+
+	@Test
+	public void packIntegerAndLongGenotypes() {
+		final ISeq<Genotype<IntegerGene>> integers = ISeq.of(
+			() -> Genotype.of(IntegerChromosome.of(0, 100, 15)), 20
+		);
+		final ISeq<Genotype<LongGene>> longs = ISeq.of(
+			() -> Genotype.of(LongChromosome.of(0, 1000, 25)), 20
+		);
+
+		final var packedIntegers = PackedPopulation.packGenotypes(integers);
+		final var packedLongs = PackedPopulation.packGenotypes(longs);
+
+		Assert.assertEquals(packedIntegers, integers);
+		Assert.assertEquals(packedLongs, longs);
+		Assert.assertTrue(PackedPopulation.isPacked(packedIntegers.get(3).chromosome()));
+		Assert.assertTrue(PackedPopulation.isPacked(packedLongs.get(3).chromosome()));
+
+		for (int i = 0; i < integers.size(); ++i) {
+			Assert.assertEquals(
+				packedIntegers.get(i).chromosome().as(IntegerChromosome.class).toArray(),
+				integers.get(i).chromosome().as(IntegerChromosome.class).toArray()
+			);
+			Assert.assertEquals(
+				packedLongs.get(i).chromosome().as(LongChromosome.class).toArray(),
+				longs.get(i).chromosome().as(LongChromosome.class).toArray()
+			);
+		}
+	}
+
+	@Test
+	public void packMixedGenotypes() {
+		final Genotype<BitGene> gt = Genotype.of(BitChromosome.of(10));
+		final ISeq<Genotype<BitGene>> genotypes = ISeq.of(gt::newInstance, 10);
+
+		final var packed = PackedPopulation.packGenotypes(genotypes);
+		Assert.assertEquals(packed, genotypes);
+		Assert.assertFalse(PackedPopulation.isPacked(packed.get(0).chromosome()));
+	}
+
+	@Test
+	public void repack() {
+		final ISeq<Genotype<DoubleGene>> genotypes =
+			ISeq.of(DOUBLE_GENOTYPE::newInstance, 10);
+		final var packed = PackedPopulation.packGenotypes(genotypes);
+		final var repacked = PackedPopulation.packGenotypes(packed.subSeq(3));
+
+		Assert.assertEquals(repacked, genotypes.subSeq(3));
+		Assert.assertTrue(PackedPopulation.isPacked(repacked.get(0).chromosome()));
+	}
+
+	@Test
+	public void packPhenotypes() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			() -> Phenotype.of(DOUBLE_GENOTYPE.newInstance(), 3),
+			10
+		);
+		final var evaluated = population.map(pt -> pt.withFitness(1.0));
+
+		final var packed = PackedPopulation.pack(population);
+		Assert.assertEquals(packed, population);
+		Assert.assertTrue(packed.forAll(Phenotype::nonEvaluated));
+
+		final var packedEvaluated = PackedPopulation.pack(evaluated);
+		Assert.assertEquals(packedEvaluated, evaluated);
+		Assert.assertTrue(packedEvaluated.forAll(Phenotype::isEvaluated));
+		Assert.assertTrue(packedEvaluated.forAll(pt -> pt.generation() == 3));
+	}
+
+	@Test
+	public void alterPackedChromosome() {
+		final var packed = PackedPopulation
+			.packGenotypes(ISeq.of(DOUBLE_GENOTYPE::newInstance, 5))
+			.get(2)
+			.chromosome()
+			.as(DoubleChromosome.class);
+
+		final MSeq<DoubleGene> genes = MSeq.of(packed);
+		genes.set(0, DoubleGene.of(5, 0, 10));
+		final DoubleChromosome altered = packed.newInstance(genes.toISeq());
+
+		Assert.assertFalse(PackedPopulation.isPacked(altered));
+		Assert.assertEquals(altered.get(0), DoubleGene.of(5, 0, 10));
+		Assert.assertEquals(altered.length(), packed.length());
+		for (int i = 1; i < packed.length(); ++i) {
+			Assert.assertEquals(altered.get(i), packed.get(i));
+		}
+	}
+
+	@Test
+	public void mutatePackedChromosome() {
+		final var packed = PackedPopulation
+			.packGenotypes(ISeq.of(DOUBLE_GENOTYPE::newInstance, 5))
+			.get(2)
+			.chromosome()
+			.as(DoubleChromosome.class);
+
+		final var altered = new Mutator<DoubleGene, Double>(1.0)
+			.mutate(packed, 1.0, RandomRegistry.random())
+			.result();
+
+		Assert.assertTrue(PackedPopulation.isPacked(altered));
+		Assert.assertEquals(altered.length(), packed.length());
+		for (int i = 0; i < packed.length(); ++i) {
+			Assert.assertNotEquals(altered.get(i), packed.get(i));
+			Assert.assertEquals(altered.get(i).min(), packed.get(i).min());
+			Assert.assertEquals(altered.get(i).max(), packed.get(i).max());
+		}
+	}
+
+	@Test
+	public void crossPackedChromosomes() {
+		final var packed = PackedPopulation
+			.packGenotypes(ISeq.of(DOUBLE_GENOTYPE::newInstance, 5));
+
+		final var population = packed
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.asMSeq();
+		new SinglePointCrossover<DoubleGene, Double>(1.0)
+			.recombine(population, new int[]{0, 1}, 1);
+
+		for (var pt : population) {
+			for (var ch : pt.genotype()) {
+				Assert.assertTrue(PackedPopulation.isPacked(ch));
+			}
+		}
+	}
+
+	@Test
+	public void setGeneWithOtherBounds() {
+		final var packed = PackedPopulation
+			.packGenotypes(ISeq.of(DOUBLE_GENOTYPE::newInstance, 5))
+			.get(2)
+			.chromosome()
+			.as(DoubleChromosome.class);
+
+		final MSeq<DoubleGene> genes = packed._genes.copy();
+		genes.set(0, DoubleGene.of(5, 0, 10));
+		Assert.assertTrue(PackedPopulation.isPacked(packed.newInstance(genes.toISeq())));
+
+		genes.set(1, DoubleGene.of(5, 0, 20));
+		final DoubleChromosome altered = packed.newInstance(genes.toISeq());
+
+		Assert.assertFalse(PackedPopulation.isPacked(altered));
+		Assert.assertEquals(altered.get(0), DoubleGene.of(5, 0, 10));
+		Assert.assertEquals(altered.get(1), DoubleGene.of(5, 0, 20));
+		for (int i = 2; i < packed.length(); ++i) {
+			Assert.assertEquals(altered.get(i), packed.get(i));
+		}
+	}
+
+	@Test
+	public void sortPackedChromosome() {
+		final var packed = PackedPopulation
+			.packGenotypes(ISeq.of(DOUBLE_GENOTYPE::newInstance, 5))
+			.get(2)
+			.chromosome()
+			.as(DoubleChromosome.class);
+
+		final MSeq<DoubleGene> genes = packed._genes.copy();
+		genes.sort();
+
+		for (int i = 1; i < genes.length(); ++i) {
+			Assert.assertTrue(genes.get(i - 1).compareTo(genes.get(i)) <= 0);
+		}
+		Assert.assertTrue(PackedPopulation.isPacked(packed));
+		Assert.assertFalse(PackedPopulation.isPacked(packed.newInstance(genes.toISeq())));
+		Assert.assertEquals(
+			packed.newInstance(genes.toISeq()).stream().toList(),
+			packed.stream().sorted().toList()
+		);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		final ISeq<Genotype<DoubleGene>> genotypes =
+			ISeq.of(DOUBLE_GENOTYPE::newInstance, 10);
+		final var packed = PackedPopulation.packGenotypes(genotypes);
+
+		final var out = new ByteArrayOutputStream();
+		IO.object.write(packed, out);
+		final Object read = IO.object.read(new ByteArrayInputStream(out.toByteArray()));
+
+		Assert.assertEquals(read, genotypes);
+	}
+
+	@Test
+	public void evolvePackedPopulation() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> gt.chromosome().as(DoubleChromosome.class).doubleStream().sum(),
+				DOUBLE_GENOTYPE)
+			.populationSize(50)
+			.interceptor(EvolutionResult.toPackedPopulation())
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.population().size(), 50);
+		Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		Assert.assertTrue(
+			result.genotypes().stream()
+				.flatMap(Genotype::stream)
+				.allMatch(PackedPopulation::isPacked)
+		);
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CachingEvaluatorTest {
+
+	private static Evaluator<IntegerGene, Integer>
+	counting(final AtomicInteger count) {
+		return population -> population
+			.map(pt -> pt.eval(gt -> {
+				count.incrementAndGet();
+				return gt.chromosome().gene().intValue();
+			}))
+			.asISeq();
+	}
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population(
+		final int... values
+	) {
+		return IntStream.of(values)
+			.mapToObj(v -> IntegerChromosome.of(IntegerGene.of(v, 0, 100)))
+			.map(ch -> Phenotype.<IntegerGene, Integer>of(Genotype.of(ch), 1))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void evalDuplicates() {
+		final var count = new AtomicInteger();
+		final var evaluator = Evaluators.cached(counting(count), 100);
+
+		final var result = evaluator.eval(population(1, 2, 1, 3, 2, 1));
+		Assert.assertEquals(result.size(), 6);
+		Assert.assertEquals(
+			result.map(Phenotype::fitness),
+			ISeq.of(1, 2, 1, 3, 2, 1)
+		);
+		Assert.assertEquals(count.get(), 3);
+		Assert.assertEquals(evaluator.misses(), 3);
+		Assert.assertEquals(evaluator.hits(), 3);
+		Assert.assertEquals(evaluator.size(), 3);
+	}
+
+	@Test
+	public void evalCached() {
+		final var count = new AtomicInteger();
+		final var evaluator = Evaluators.cached(counting(count), 100);
+
+		evaluator.eval(population(1, 2, 3));
+		final var result = evaluator.eval(population(3, 4, 1));
+
+		Assert.assertEquals(
+			result.map(Phenotype::fitness),
+			ISeq.of(3, 4, 1)
+		);
+		Assert.assertEquals(count.get(), 4);
+		Assert.assertEquals(evaluator.hits(), 2);
+		Assert.assertEquals(evaluator.misses(), 4);
+		Assert.assertEquals(evaluator.hitRatio(), 2.0/6.0, 0.000001);
+	}
+
+	@Test
+	public void evalEvaluated() {
+		final var count = new AtomicInteger();
+		final var evaluator = Evaluators.cached(counting(count), 100);
+
+		final var population = population(1, 2, 3)
+			.map(pt -> pt.withFitness(42));
+		final var result = evaluator.eval(population);
+
+		Assert.assertEquals(result, population);
+		Assert.assertEquals(count.get(), 0);
+		Assert.assertEquals(evaluator.hits() + evaluator.misses(), 0);
+	}
+
+	@Test
+	public void eviction() {
+		final var count = new AtomicInteger();
+		final var evaluator = Evaluators.cached(counting(count), 2);
+
+		evaluator.eval(population(1, 2, 3));
+		Assert.assertEquals(evaluator.size(), 2);
+		Assert.assertEquals(evaluator.evictions(), 1);
+
+		// The value '1' has been evicted.
+		evaluator.eval(population(1));
+		Assert.assertEquals(count.get(), 4);
+
+		evaluator.clear();
+		Assert.assertEquals(evaluator.size(), 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMaxSize() {
+		Evaluators.cached(counting(new AtomicInteger()), 0);
+	}
+
+	@Test
+	public void evolve() {
+		final var count = new AtomicInteger();
+		final CachingEvaluator<DoubleGene, Double> evaluator = Evaluators.cachedFitness(
+			gt -> {
+				count.incrementAndGet();
+				return gt.gene().doubleValue();
+			},
+			1_000
+		);
+
+		final Engine<DoubleGene, Double> engine = new Engine.Builder<>(
+			evaluator,
+			Genotype.of(DoubleChromosome.of(0, 1))
+		)
+			.populationSize(20)
+			.build();
+
+		final var result = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		Assert.assertEquals(evaluator.misses(), count.get());
+		Assert.assertTrue(evaluator.hits() > 0);
+	}
+
+}
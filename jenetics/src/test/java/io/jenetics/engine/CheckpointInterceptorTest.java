@@ -0,0 +1,240 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CheckpointInterceptorTest {
+
+	private Path directory;
+
+	@BeforeMethod
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("jenetics-checkpoints-");
+	}
+
+	@AfterMethod
+	public void cleanup() throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	private static double fitness(final Genotype<DoubleGene> gt) {
+		return gt.chromosome().gene().doubleValue();
+	}
+
+	private static Engine<DoubleGene, Double> engine(
+		final EvolutionInterceptor<DoubleGene, Double> interceptor
+	) {
+		return Engine
+			.builder(
+				CheckpointInterceptorTest::fitness,
+				DoubleChromosome.of(0, 1000)
+			)
+			.populationSize(20)
+			.interceptor(interceptor)
+			.build();
+	}
+
+	@Test
+	public void writeEveryGenerations() throws IOException {
+		final CheckpointInterceptor<DoubleGene, Double> checkpoints =
+			CheckpointInterceptor.of(directory, 5, null, 3);
+		try (checkpoints) {
+			engine(checkpoints).stream().limit(23).forEach(r -> {});
+		}
+
+		// Pending checkpoints are skipped, if the writer is slower than the
+		// evolution. The last one is always written.
+		final List<String> files = files();
+		Assert.assertTrue(files.size() <= 3, "Files: " + files);
+		Assert.assertEquals(
+			files.get(files.size() - 1),
+			CheckpointInterceptor.fileName(20)
+		);
+		for (String file : files) {
+			Assert.assertTrue(
+				Stream.of(5, 10, 15, 20)
+					.map(CheckpointInterceptor::fileName)
+					.anyMatch(file::equals),
+				"Unexpected file: " + file
+			);
+		}
+	}
+
+	@Test
+	public void writeTimeBased() throws IOException {
+		final CheckpointInterceptor<DoubleGene, Double> checkpoints =
+			CheckpointInterceptor.of(directory, 0, Duration.ofNanos(1), 2);
+		try (checkpoints) {
+			engine(checkpoints).stream().limit(10).forEach(r -> {});
+		}
+
+		final List<String> files = files();
+		Assert.assertEquals(files.size(), 2);
+		Assert.assertEquals(files.get(1), CheckpointInterceptor.fileName(10));
+	}
+
+	@Test
+	public void resumeFromLatest() throws IOException {
+		final CheckpointInterceptor<DoubleGene, Double> checkpoints =
+			CheckpointInterceptor.of(directory, 4);
+		final EvolutionResult<DoubleGene, Double> last;
+		try (checkpoints) {
+			last = engine(checkpoints).stream()
+				.limit(12)
+				.reduce((a, b) -> b)
+				.orElseThrow();
+		}
+
+		final EvolutionStart<DoubleGene, Double> start = CheckpointInterceptor
+			.<DoubleGene, Double>latest(directory)
+			.orElseThrow();
+		Assert.assertEquals(start.generation(), 13);
+		Assert.assertEquals(start.population(), last.population());
+
+		final EvolutionResult<DoubleGene, Double> resumed = engine(EvolutionInterceptor.identity())
+			.stream(start)
+			.limit(1)
+			.findFirst()
+			.orElseThrow();
+		Assert.assertEquals(resumed.generation(), 13);
+	}
+
+	@Test
+	public void skipInvalidCheckpoint() throws IOException {
+		final CheckpointInterceptor<DoubleGene, Double> checkpoints =
+			CheckpointInterceptor.of(directory, 4);
+		try (checkpoints) {
+			engine(checkpoints).stream().limit(12).forEach(r -> {});
+		}
+
+		// Simulates a checkpoint, which has been written partially.
+		final Path latest = directory.resolve(CheckpointInterceptor.fileName(12));
+		final byte[] bytes = Files.readAllBytes(latest);
+		Files.write(latest, Arrays.copyOf(bytes, bytes.length/2));
+
+		final EvolutionStart<DoubleGene, Double> start = CheckpointInterceptor
+			.<DoubleGene, Double>latest(directory)
+			.orElseThrow();
+		Assert.assertEquals(start.generation(), 9);
+	}
+
+	@Test
+	public void failedWriteIsReported() throws IOException {
+		final CheckpointInterceptor<DoubleGene, Unwritable> checkpoints =
+			CheckpointInterceptor.of(directory, 2);
+		final Engine<DoubleGene, Unwritable> engine = Engine
+			.builder(
+				gt -> new Unwritable(fitness(gt)),
+				DoubleChromosome.of(0, 1000)
+			)
+			.populationSize(20)
+			.interceptor(checkpoints)
+			.build();
+
+		engine.stream().limit(5).forEach(r -> {});
+		try {
+			checkpoints.close();
+			Assert.fail("Failed checkpoint write must be reported.");
+		} catch (IOException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+
+		Assert.assertEquals(files(), List.of());
+	}
+
+	// Fitness value, which fails with a runtime exception when serialized.
+	private static final class Unwritable
+		implements Comparable<Unwritable>, Serializable
+	{
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final double value;
+
+		Unwritable(final double value) {
+			this.value = value;
+		}
+
+		@Override
+		public int compareTo(final Unwritable other) {
+			return Double.compare(value, other.value);
+		}
+
+		@Serial
+		private void writeObject(final ObjectOutputStream out) {
+			throw new IllegalStateException("Not writable.");
+		}
+	}
+
+	@Test
+	public void latestOfEmptyDirectory() {
+		Assert.assertTrue(CheckpointInterceptor.latest(directory).isEmpty());
+		Assert.assertTrue(
+			CheckpointInterceptor.latest(directory.resolve("missing")).isEmpty()
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void missingTrigger() {
+		CheckpointInterceptor.of(directory, 0, null, 3);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidKeep() {
+		CheckpointInterceptor.of(directory, 10, null, 0);
+	}
+
+	private List<String> files() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.map(file -> file.getFileName().toString())
+				.sorted()
+				.toList();
+		}
+	}
+
+}
@@ -0,0 +1,373 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.Optimize;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CheckpointsTest {
+
+	@Test(dataProvider = "genotypes")
+	public <G extends Gene<?, G>> void writeReadResult(
+		final Factory<Genotype<G>> factory
+	)
+		throws IOException
+	{
+		final EvolutionResult<G, Double> result = result(factory, gt -> 1.5*gt.length());
+		final EvolutionResult<G, Double> read = Checkpoints.readResult(
+			ByteBuffer.wrap(bytes(result))
+		);
+
+		assertEquals(read, result);
+	}
+
+	@Test(dataProvider = "genotypes")
+	public <G extends Gene<?, G>> void writeReadStart(
+		final Factory<Genotype<G>> factory
+	)
+		throws IOException
+	{
+		final EvolutionStart<G, Double> start =
+			result(factory, gt -> 1.5*gt.length()).next();
+
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(start, out);
+		final EvolutionStart<G, Double> read = Checkpoints.readStart(
+			ByteBuffer.wrap(out.toByteArray())
+		);
+
+		Assert.assertEquals(read.generation(), start.generation());
+		Assert.assertEquals(read.population(), start.population());
+	}
+
+	@DataProvider
+	public Object[][] genotypes() {
+		return new Object[][] {
+			{Genotype.of(DoubleChromosome.of(-5, 5, 10), DoubleChromosome.of(0, 1))},
+			{Genotype.of(DoubleChromosome.of(0, 10, IntRange.of(3, 12)))},
+			{Genotype.of(IntegerChromosome.of(-100, 100, 7))},
+			{Genotype.of(LongChromosome.of(0, Long.MAX_VALUE, IntRange.of(1, 5)), 3)},
+			{Genotype.of(BitChromosome.of(77, 0.3), BitChromosome.of(8))},
+			{Genotype.of(CharacterChromosome.of(20))},
+			{Genotype.of(PermutationChromosome.ofInteger(15))},
+			{(Factory<Genotype<EnumGene<Integer>>>)() -> Genotype.of(
+				PermutationChromosome.ofInteger(
+					RandomRegistry.random().nextInt(2, 10)
+				),
+				RandomRegistry.random().nextInt(1, 4)
+			)}
+		};
+	}
+
+	@Test(dataProvider = "fitness")
+	public void writeReadFitness(final Function<Genotype<DoubleGene>, ?> fitness)
+		throws IOException
+	{
+		final Factory<Genotype<DoubleGene>> factory =
+			Genotype.of(DoubleChromosome.of(0, 1, 3));
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		final EvolutionResult<DoubleGene, ?> result = result(factory, (Function)fitness);
+		final EvolutionResult<DoubleGene, ?> read = Checkpoints.readResult(
+			ByteBuffer.wrap(bytes(result))
+		);
+
+		assertEquals(read, result);
+	}
+
+	@DataProvider
+	public Object[][] fitness() {
+		final Function<Genotype<DoubleGene>, Double> doubles =
+			gt -> gt.gene().allele();
+		final Function<Genotype<DoubleGene>, Integer> ints =
+			gt -> (int)(gt.gene().allele()*1000);
+		final Function<Genotype<DoubleGene>, Long> longs =
+			gt -> (long)(gt.gene().allele()*Long.MAX_VALUE);
+		final Function<Genotype<DoubleGene>, String> strings =
+			gt -> gt.gene().toString();
+
+		return new Object[][] {{doubles}, {ints}, {longs}, {strings}};
+	}
+
+	@Test
+	public void writeReadUnevaluated() throws IOException {
+		final Factory<Genotype<DoubleGene>> factory =
+			Genotype.of(DoubleChromosome.of(0, 1, 3));
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			ISeq.<Phenotype<DoubleGene, Double>>of(
+				() -> Phenotype.of(factory.newInstance(), 3),
+				10
+			)
+			.append(Phenotype.of(factory.newInstance(), 3, 1.0));
+
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(EvolutionStart.of(population, 5), out);
+		final EvolutionStart<DoubleGene, Double> start =
+			Checkpoints.readStart(ByteBuffer.wrap(out.toByteArray()));
+
+		Assert.assertEquals(start.population(), population);
+		Assert.assertFalse(start.population().get(0).isEvaluated());
+		Assert.assertTrue(start.population().get(10).isEvaluated());
+	}
+
+	@Test
+	public void writeReadEmpty() throws IOException {
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(EvolutionStart.of(ISeq.empty(), 7), out);
+		final EvolutionStart<DoubleGene, Double> start =
+			Checkpoints.readStart(ByteBuffer.wrap(out.toByteArray()));
+
+		Assert.assertEquals(start.generation(), 7);
+		Assert.assertTrue(start.population().isEmpty());
+	}
+
+	@Test
+	public void writeReadFile() throws IOException {
+		final Path file = Files.createTempFile("jenetics-", ".ckpt");
+		try {
+			final var result = result(
+				Genotype.of(DoubleChromosome.of(0, 10, 10)),
+				gt -> gt.gene().allele()
+			);
+			Checkpoints.write(result, file);
+
+			assertEquals(Checkpoints.readResult(file), result);
+
+			final EvolutionStart<DoubleGene, Double> start =
+				Checkpoints.readStart(file);
+			Assert.assertEquals(start.generation(), result.next().generation());
+			Assert.assertEquals(start.population(), result.population());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void readConsecutive() throws IOException {
+		final var factory = Genotype.of(IntegerChromosome.of(0, 10, 5));
+		final var result1 = result(factory, gt -> gt.gene().allele());
+		final var result2 = result(factory, gt -> -gt.gene().allele());
+
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(result1, out);
+		Checkpoints.write(result2, out);
+
+		final ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+		assertEquals(Checkpoints.readResult(buffer), result1);
+		assertEquals(Checkpoints.readResult(buffer), result2);
+		Assert.assertFalse(buffer.hasRemaining());
+	}
+
+	@Test
+	public void checkpointSize() throws IOException {
+		final var factory = Genotype.of(DoubleChromosome.of(0, 1, 20));
+		final var result = result(factory, gt -> gt.gene().allele());
+
+		final var serialized = new ByteArrayOutputStream();
+		io.jenetics.util.IO.object.write(result, serialized);
+
+		Assert.assertTrue(
+			bytes(result).length < serialized.size(),
+			bytes(result).length + " >= " + serialized.size()
+		);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void readInvalidMagic() throws IOException {
+		final byte[] bytes = bytes(result(
+			Genotype.of(DoubleChromosome.of(0, 1)),
+			gt -> gt.gene().allele()
+		));
+		bytes[0] = 0;
+		Checkpoints.readResult(ByteBuffer.wrap(bytes));
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void readInvalidVersion() throws IOException {
+		final byte[] bytes = bytes(result(
+			Genotype.of(DoubleChromosome.of(0, 1)),
+			gt -> gt.gene().allele()
+		));
+		bytes[4] = 100;
+		Checkpoints.readResult(ByteBuffer.wrap(bytes));
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void readTruncated() throws IOException {
+		final byte[] bytes = bytes(result(
+			Genotype.of(DoubleChromosome.of(0, 1, 10)),
+			gt -> gt.gene().allele()
+		));
+		Checkpoints.readResult(ByteBuffer.wrap(bytes, 0, bytes.length - 10));
+	}
+
+	@Test(dataProvider = "columns")
+	public <G extends Gene<?, G>> void readTruncatedColumns(
+		final Factory<Genotype<G>> factory
+	)
+		throws IOException
+	{
+		final byte[] bytes = bytes(result(factory, gt -> 1.5*gt.length()));
+		for (int length = 0; length < bytes.length; ++length) {
+			assertReadFails(ByteBuffer.wrap(bytes, 0, length));
+		}
+	}
+
+	@Test(dataProvider = "columns")
+	public <G extends Gene<?, G>> void readCorruptedColumns(
+		final Factory<Genotype<G>> factory
+	)
+		throws IOException
+	{
+		final byte[] bytes = bytes(result(factory, gt -> 1.5*gt.length()));
+		final var random = new Random(123);
+		for (int i = 0; i < 2_000; ++i) {
+			final byte[] corrupted = bytes.clone();
+			final int index = random.nextInt(corrupted.length);
+			corrupted[index] ^= (byte)(1 << random.nextInt(Byte.SIZE));
+
+			// Must either be read successfully or fail with an IOException.
+			try {
+				Checkpoints.readResult(ByteBuffer.wrap(corrupted));
+			} catch (IOException ignore) {
+			}
+		}
+	}
+
+	@DataProvider
+	public Object[][] columns() {
+		return new Object[][] {
+			{Genotype.of(DoubleChromosome.of(-5, 5, 10), DoubleChromosome.of(0, 1))},
+			{Genotype.of(DoubleChromosome.of(0, 10, IntRange.of(3, 12)))},
+			{Genotype.of(IntegerChromosome.of(-100, 100, IntRange.of(1, 7)))},
+			{Genotype.of(LongChromosome.of(0, Long.MAX_VALUE, IntRange.of(1, 5)), 3)},
+			{Genotype.of(BitChromosome.of(77, 0.3), BitChromosome.of(8))}
+		};
+	}
+
+	private static void assertReadFails(final ByteBuffer buffer) {
+		try {
+			Checkpoints.readResult(buffer);
+			Assert.fail("Reading an invalid checkpoint must fail.");
+		} catch (IOException expected) {
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void readResultFromStart() throws IOException {
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(EvolutionStart.of(ISeq.empty(), 7), out);
+		Checkpoints.readResult(ByteBuffer.wrap(out.toByteArray()));
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> result(
+		final Factory<Genotype<G>> factory,
+		final Function<Genotype<G>, C> fitness
+	) {
+		final var random = new Random(123);
+		final ISeq<Phenotype<G, C>> population = ISeq.of(
+			() -> {
+				final var gt = factory.newInstance();
+				return Phenotype.of(gt, random.nextInt(1, 50), fitness.apply(gt));
+			},
+			100
+		);
+
+		return EvolutionResult.of(
+			Optimize.MINIMUM,
+			population,
+			53,
+			123,
+			new EvolutionDurations(
+				Duration.ofMillis(1),
+				Duration.ofMillis(2),
+				Duration.ofMillis(3),
+				Duration.ofNanos(4),
+				Duration.ofSeconds(5, 6),
+				Duration.ofMillis(7),
+				Duration.ofMinutes(8)
+			),
+			12,
+			13,
+			14
+		);
+	}
+
+	private static byte[] bytes(final EvolutionResult<?, ?> result)
+		throws IOException
+	{
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(result, out);
+		return out.toByteArray();
+	}
+
+	private static void assertEquals(
+		final EvolutionResult<?, ?> actual,
+		final EvolutionResult<?, ?> expected
+	) {
+		Assert.assertEquals(actual.optimize(), expected.optimize());
+		Assert.assertEquals(actual.generation(), expected.generation());
+		Assert.assertEquals(actual.totalGenerations(), expected.totalGenerations());
+		Assert.assertEquals(actual.durations(), expected.durations());
+		Assert.assertEquals(actual.killCount(), expected.killCount());
+		Assert.assertEquals(actual.invalidCount(), expected.invalidCount());
+		Assert.assertEquals(actual.alterCount(), expected.alterCount());
+		Assert.assertEquals(actual.population(), expected.population());
+		for (int i = 0; i < actual.population().size(); ++i) {
+			Assert.assertEquals(
+				actual.population().get(i).generation(),
+				expected.population().get(i).generation()
+			);
+		}
+		Assert.assertEquals(actual, expected);
+	}
+
+}
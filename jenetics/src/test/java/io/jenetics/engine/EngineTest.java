@@ -34,6 +34,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -51,6 +52,7 @@ import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
+import io.jenetics.MeanAlterer;
 import io.jenetics.Mutator;
 import io.jenetics.Optimize;
 import io.jenetics.RouletteWheelSelector;
@@ -62,6 +64,7 @@ import io.jenetics.util.DoubleRange;
 import io.jenetics.util.IO;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -521,6 +524,75 @@ public class EngineTest {
 			.collect(EvolutionResult.toBestEvolutionResult());
 	}
 
+	@Test(dataProvider = "reproducibleExecutors")
+	public void reproducibleEvolution(
+		final Supplier<ExecutorService> executors,
+		final int partitions
+	) {
+		final Function<Executor, ISeq<Genotype<DoubleGene>>> evolve = exec -> {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> sin(gt.gene().doubleValue())*cos(gt.get(0).get(1).doubleValue()),
+					DoubleChromosome.of(0, 2*PI, 2)
+				)
+				.alterers(new Mutator<>(0.2), new MeanAlterer<>(0.3))
+				.survivorsSelector(new RouletteWheelSelector<>())
+				.offspringSelector(new TournamentSelector<>())
+				.maximalPhenotypeAge(5)
+				.populationSize(100)
+				.alterPartitions(partitions)
+				.executor(exec)
+				.build();
+
+			return engine.stream()
+				.limit(20)
+				.reduce((a, b) -> b)
+				.orElseThrow()
+				.genotypes();
+		};
+
+		final ExecutorService executor = executors.get();
+		try {
+			RandomRegistry.reproducible(1234);
+			final ISeq<Genotype<DoubleGene>> expected = evolve.apply(Runnable::run);
+			final ISeq<Genotype<DoubleGene>> actual = evolve.apply(executor);
+
+			Assert.assertEquals(actual, expected);
+
+			RandomRegistry.reproducible(4321);
+			Assert.assertNotEquals(evolve.apply(executor), expected);
+		} finally {
+			RandomRegistry.reset();
+			executor.shutdown();
+		}
+	}
+
+	@DataProvider
+	public Object[][] reproducibleExecutors() {
+		final Supplier<ExecutorService> pool = () -> new ForkJoinPool(5);
+		final Supplier<ExecutorService> fixed = () -> Executors.newFixedThreadPool(7);
+		final Supplier<ExecutorService> virtual = Executors::newVirtualThreadPerTaskExecutor;
+
+		return new Object[][] {
+			{pool, 1},
+			{pool, 4},
+			{fixed, 1},
+			{fixed, 4},
+			{virtual, 4}
+		};
+	}
+
+	@Test
+	public void copyAlterPartitions() {
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.alterPartitions(4);
+
+		Assert.assertEquals(builder.copy().alterPartitions(), 4);
+		Assert.assertEquals(builder.copy().build().alterPartitions(), 4);
+		Assert.assertEquals(builder.build().toBuilder().alterPartitions(), 4);
+	}
+
 	@Test
 	public void foo() {
 	}
@@ -0,0 +1,113 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.engine.EvolutionMetrics.Phase;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HistogramMetricsTest {
+
+	private static double fitness(final Genotype<DoubleGene> gt) {
+		return gt.chromosome().gene().doubleValue();
+	}
+
+	@Test
+	public void engineMetrics() {
+		final HistogramMetrics metrics = EvolutionMetrics.ofHistograms();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(HistogramMetricsTest::fitness, DoubleChromosome.of(0, 10))
+			.populationSize(50)
+			.metrics(metrics)
+			.build();
+
+		final EvolutionStatistics<Double, ?> statistics =
+			EvolutionStatistics.ofNumber();
+		engine.stream()
+			.limit(20)
+			.peek(statistics)
+			.forEach(r -> {});
+
+		Assert.assertEquals(metrics.generations(), 20);
+		for (var phase : Phase.values()) {
+			Assert.assertEquals(metrics.histogram(phase).count(), 20);
+		}
+		Assert.assertEquals(metrics.populationSizes().min(), 50);
+		Assert.assertEquals(metrics.populationSizes().max(), 50);
+		Assert.assertEquals(
+			metrics.alterCount(),
+			(long)statistics.altered().sum()
+		);
+		Assert.assertEquals(metrics.cacheHits(), 0);
+		Assert.assertSame(engine.metrics(), metrics);
+		Assert.assertSame(engine.toBuilder().metrics(), metrics);
+	}
+
+	@Test
+	public void cacheMetrics() {
+		final HistogramMetrics metrics = EvolutionMetrics.ofHistograms();
+		final CachingEvaluator<DoubleGene, Double> evaluator =
+			Evaluators.cachedFitness(HistogramMetricsTest::fitness, 1000);
+
+		final Engine<DoubleGene, Double> engine =
+			new Engine.Builder<>(evaluator, Genotype.of(DoubleChromosome.of(0, 10)))
+				.populationSize(50)
+				.metrics(metrics)
+				.build();
+
+		engine.stream()
+			.limit(10)
+			.forEach(r -> {});
+
+		Assert.assertEquals(metrics.cacheHits(), evaluator.hits());
+		Assert.assertEquals(metrics.cacheMisses(), evaluator.misses());
+	}
+
+	@Test
+	public void composedMetrics() {
+		final HistogramMetrics m1 = EvolutionMetrics.ofHistograms();
+		final HistogramMetrics m2 = new HistogramMetrics(1);
+
+		m1.andThen(m2).record(new EvolutionMetrics.Sample(
+			1, EvolutionDurations.ZERO, 10, 1, 2, 3, 4, 5
+		));
+
+		for (var metrics : new HistogramMetrics[]{m1, m2}) {
+			Assert.assertEquals(metrics.generations(), 1);
+			Assert.assertEquals(metrics.killCount(), 1);
+			Assert.assertEquals(metrics.invalidCount(), 2);
+			Assert.assertEquals(metrics.alterCount(), 3);
+			Assert.assertEquals(metrics.cacheHits(), 4);
+			Assert.assertEquals(metrics.cacheMisses(), 5);
+		}
+
+		m1.reset();
+		Assert.assertEquals(m1.generations(), 0);
+		Assert.assertEquals(m1.histogram(Phase.EVALUATION).count(), 0);
+	}
+
+}
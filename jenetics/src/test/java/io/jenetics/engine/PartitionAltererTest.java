@@ -0,0 +1,195 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGeneratorFactory;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.EnumGene;
+import io.jenetics.Genotype;
+import io.jenetics.PartiallyMatchedCrossover;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.SwapMutator;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PartitionAltererTest {
+
+	private static ISeq<Phenotype<EnumGene<Integer>, Integer>>
+	population(final int size) {
+		return RandomRegistry.with(
+			RandomGeneratorFactory.getDefault().create(42),
+			r -> Genotype.of(PermutationChromosome.ofInteger(50)).instances()
+				.limit(size)
+				.map(gt -> Phenotype.<EnumGene<Integer>, Integer>of(gt, 1))
+				.collect(ISeq.toISeq())
+		);
+	}
+
+	private static Alterer<EnumGene<Integer>, Integer> alterer() {
+		return Alterer.of(
+			new PartiallyMatchedCrossover<Integer, Integer>(0.5),
+			new SwapMutator<EnumGene<Integer>, Integer>(0.1)
+		);
+	}
+
+	private static AltererResult<EnumGene<Integer>, Integer> alter(
+		final ISeq<Phenotype<EnumGene<Integer>, Integer>> population,
+		final int partitions,
+		final Executor executor
+	) {
+		final var alterer = new PartitionAlterer<>(alterer(), partitions, executor);
+		return RandomRegistry.with(
+			RandomGeneratorFactory.getDefault().create(123),
+			r -> alterer.alter(population, 1)
+		);
+	}
+
+	@Test(dataProvider = "partitions")
+	public void reproducible(final int partitions) {
+		final var population = population(1_000);
+
+		final var result1 = alter(population, partitions, ForkJoinPool.commonPool());
+		final var result2 = alter(population, partitions, ForkJoinPool.commonPool());
+
+		Assert.assertEquals(result1.population().size(), population.size());
+		Assert.assertEquals(result1.population(), result2.population());
+		Assert.assertEquals(result1.alterations(), result2.alterations());
+		Assert.assertTrue(result1.alterations() > 0);
+		Assert.assertTrue(result1.population().forAll(pt -> pt.genotype().isValid()));
+	}
+
+	@DataProvider
+	public Object[][] partitions() {
+		return new Object[][] {{1}, {2}, {3}, {7}, {16}};
+	}
+
+	@Test
+	public void executorIndependent() {
+		final var population = population(1_000);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			final var result1 = alter(population, 8, executor);
+			final var result2 = alter(population, 8, ForkJoinPool.commonPool());
+			final var result3 = alter(population, 8, Runnable::run);
+
+			Assert.assertEquals(result1.population(), result2.population());
+			Assert.assertEquals(result1.population(), result3.population());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void idleExecutor() {
+		// The calling thread alters all partitions, if no executor thread is
+		// available.
+		final var population = population(1_000);
+		final var result = alter(population, 8, task -> {});
+
+		Assert.assertEquals(
+			result.population(),
+			alter(population, 8, ForkJoinPool.commonPool()).population()
+		);
+	}
+
+	@Test
+	public void partitionIndexes() {
+		final var population = population(100);
+		final Alterer<EnumGene<Integer>, Integer> identity =
+			(pop, generation) -> new AltererResult<>(pop.asISeq(), pop.size());
+
+		final var result = new PartitionAlterer<>(identity, 3, ForkJoinPool.commonPool())
+			.alter(population, 1);
+
+		Assert.assertEquals(result.population(), population);
+		Assert.assertEquals(result.alterations(), population.size());
+	}
+
+	@Test
+	public void smallPopulation() {
+		final var population = population(PartitionAlterer.MIN_PARTITION_SIZE);
+		final var result = alter(population, 4, task -> {
+			throw new AssertionError("Must not use executor.");
+		});
+
+		Assert.assertEquals(result.population().size(), population.size());
+	}
+
+	@Test(expectedExceptions = CompletionException.class)
+	public void failingAlterer() {
+		final Alterer<EnumGene<Integer>, Integer> failing = (pop, generation) -> {
+			throw new IllegalStateException("Failing alterer.");
+		};
+
+		new PartitionAlterer<>(failing, 4, ForkJoinPool.commonPool())
+			.alter(population(100), 1);
+	}
+
+	@Test
+	public void engine() {
+		final Engine<EnumGene<Integer>, Integer> engine = Engine
+			.builder(
+				gt -> gt.chromosome().stream()
+					.mapToInt(EnumGene::allele)
+					.reduce(0, (a, b) -> a*31 + b),
+				PermutationChromosome.ofInteger(20)
+			)
+			.alterers(new PartiallyMatchedCrossover<>(0.5), new SwapMutator<>())
+			.populationSize(200)
+			.alterPartitions(4)
+			.build();
+
+		Assert.assertEquals(engine.alterPartitions(), 4);
+		Assert.assertEquals(engine.toBuilder().alterPartitions(), 4);
+
+		final List<EvolutionResult<EnumGene<Integer>, Integer>> results =
+			engine.stream().limit(10).toList();
+
+		Assert.assertEquals(results.size(), 10);
+		for (var result : results) {
+			Assert.assertEquals(result.population().size(), 200);
+			Assert.assertTrue(result.population().forAll(pt -> pt.genotype().isValid()));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidPartitions() {
+		Engine.builder(gt -> 1, PermutationChromosome.ofInteger(20))
+			.alterPartitions(0);
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SteadyStateEngineTest {
+
+	private static double fitness(final Genotype<DoubleGene> gt) {
+		return gt.chromosome().gene().doubleValue();
+	}
+
+	private static Engine.Builder<DoubleGene, Double> builder() {
+		return Engine
+			.builder(
+				SteadyStateEngineTest::fitness,
+				DoubleChromosome.of(0, 1000)
+			)
+			.populationSize(20);
+	}
+
+	@Test
+	public void snapshots() {
+		final var engine = SteadyStateEngine.of(builder().build(), 4, 10);
+
+		final var results = engine.stream()
+			.limit(25)
+			.toList();
+
+		Assert.assertEquals(results.size(), 25);
+		for (int i = 0; i < results.size(); ++i) {
+			final var result = results.get(i);
+			Assert.assertEquals(result.generation(), i + 1);
+			Assert.assertEquals(result.population().size(), 20);
+			Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		}
+	}
+
+	@Test
+	public void bestFitnessNeverDecreases() {
+		final var engine = SteadyStateEngine.of(builder().build(), 8);
+
+		final var results = engine.stream()
+			.limit(50)
+			.toList();
+
+		for (int i = 1; i < results.size(); ++i) {
+			Assert.assertTrue(
+				results.get(i).bestFitness() >= results.get(i - 1).bestFitness()
+			);
+		}
+		Assert.assertTrue(results.get(results.size() - 1).bestFitness() > 900);
+	}
+
+	@Test
+	public void minimizing() {
+		final var engine = SteadyStateEngine.of(builder().minimizing().build(), 4);
+
+		final var result = engine.stream()
+			.limit(50)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.optimize(), Optimize.MINIMUM);
+		Assert.assertTrue(result.bestFitness() < 100);
+	}
+
+	@Test
+	public void evaluationCount() {
+		final var count = new AtomicInteger();
+		final var engine = SteadyStateEngine.of(
+			Engine
+				.builder(
+					(Genotype<DoubleGene> gt) -> {
+						count.incrementAndGet();
+						return fitness(gt);
+					},
+					DoubleChromosome.of(0, 1000)
+				)
+				.populationSize(20)
+				.alterers(new Mutator<>(1.0))
+				.build(),
+			4,
+			10
+		);
+
+		engine.stream().limit(5).forEach(r -> {});
+
+		// Initial population + 5*10 insertions + at most 4 in flight.
+		Assert.assertTrue(count.get() >= 20 + 50, "Count: " + count.get());
+		Assert.assertTrue(count.get() <= 20 + 50 + 4, "Count: " + count.get());
+	}
+
+	@Test
+	public void unalteredOffspringAreDiscarded() {
+		final var engine = SteadyStateEngine.of(
+			builder().alterers(new Mutator<>(0.0)).build(),
+			4,
+			10
+		);
+
+		final var results = engine.stream()
+			.limit(20)
+			.toList();
+
+		final var initial = results.get(0).genotypes().asList();
+		Assert.assertEquals(Set.copyOf(initial).size(), 20);
+		for (var result : results) {
+			Assert.assertEquals(result.population().size(), 20);
+			Assert.assertEquals(
+				Set.copyOf(result.genotypes().asList()),
+				Set.copyOf(initial)
+			);
+		}
+	}
+
+	@Test
+	public void slowEvaluations() throws InterruptedException {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final var engine = SteadyStateEngine.of(
+				Engine
+					.builder(
+						(Genotype<DoubleGene> gt) -> {
+							final double value = fitness(gt);
+							if (value < 10) {
+								try {
+									Thread.sleep(100);
+								} catch (InterruptedException e) {
+									Thread.currentThread().interrupt();
+								}
+							}
+							return value;
+						},
+						DoubleChromosome.of(0, 1000)
+					)
+					.populationSize(20)
+					.executor(executor)
+					.build(),
+				4
+			);
+
+			final var result = engine.stream()
+				.limit(20)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(result.population().size(), 20);
+		} finally {
+			executor.shutdown();
+			Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalConcurrency() {
+		SteadyStateEngine.of(builder().build(), 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalInterval() {
+		SteadyStateEngine.of(builder().build(), 1, 0);
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class VirtualThreadFitnessTest {
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population(final int size) {
+		return IntStream.range(0, size)
+			.mapToObj(v -> IntegerChromosome.of(IntegerGene.of(v, 0, size)))
+			.map(ch -> Phenotype.<IntegerGene, Integer>of(Genotype.of(ch), 1))
+			.collect(ISeq.toISeq());
+	}
+
+	private static int value(final Genotype<IntegerGene> gt) {
+		return gt.chromosome().gene().intValue();
+	}
+
+	private static void sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void eval() {
+		final Evaluator<IntegerGene, Integer> evaluator =
+			Evaluators.ofVirtualThreads(VirtualThreadFitnessTest::value, 4);
+
+		final var result = evaluator.eval(population(100));
+		Assert.assertEquals(result.size(), 100);
+		Assert.assertTrue(result.forAll(pt ->
+			pt.fitness() == value(pt.genotype())
+		));
+	}
+
+	@Test
+	public void maxConcurrency() {
+		final var running = new AtomicInteger();
+		final var maxRunning = new AtomicInteger();
+
+		final Evaluator<IntegerGene, Integer> evaluator =
+			Evaluators.ofVirtualThreads(
+				gt -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					sleep(2);
+					running.decrementAndGet();
+					return value(gt);
+				},
+				5
+			);
+
+		for (int i = 0; i < 3; ++i) {
+			Assert.assertEquals(evaluator.eval(population(100)).size(), 100);
+		}
+		Assert.assertTrue(maxRunning.get() <= 5, "Max: " + maxRunning.get());
+	}
+
+	@Test
+	public void timeout() {
+		final Evaluator<IntegerGene, Integer> evaluator =
+			Evaluators.ofVirtualThreads(
+				gt -> {
+					final int value = value(gt);
+					if (value%2 == 0) {
+						sleep(10_000);
+					}
+					return value;
+				},
+				20,
+				Duration.ofMillis(50),
+				-1
+			);
+
+		final var result = evaluator.eval(population(20));
+		Assert.assertEquals(result.size(), 20);
+		Assert.assertTrue(result.forAll(pt ->
+			value(pt.genotype())%2 == 0
+				? pt.fitness() == -1
+				: pt.fitness() == value(pt.genotype())
+		));
+	}
+
+	@Test
+	public void finishedEvaluationsCancelTimeout() {
+		final var timer = new ScheduledThreadPoolExecutor(1);
+		timer.setRemoveOnCancelPolicy(true);
+		try {
+			final var fitness = new VirtualThreadFitness<IntegerGene, Integer>(
+				VirtualThreadFitnessTest::value,
+				10,
+				Duration.ofMinutes(10),
+				-1,
+				timer
+			);
+
+			final var results = population(1000).stream()
+				.map(pt -> fitness.apply(pt.genotype()))
+				.toList();
+			CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+				.join();
+			for (int i = 0; i < results.size(); ++i) {
+				Assert.assertEquals((int)results.get(i).join(), i);
+			}
+
+			// The timeout tasks are cancelled by the completing thread.
+			final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+			while (!timer.getQueue().isEmpty() && System.nanoTime() < deadline) {
+				sleep(1);
+			}
+			Assert.assertEquals(timer.getQueue().size(), 0);
+		} finally {
+			timer.shutdownNow();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalMaxConcurrency() {
+		Evaluators.ofVirtualThreads(VirtualThreadFitnessTest::value, 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalTimeout() {
+		Evaluators.ofVirtualThreads(
+			VirtualThreadFitnessTest::value, 1, Duration.ZERO, -1
+		);
+	}
+
+}
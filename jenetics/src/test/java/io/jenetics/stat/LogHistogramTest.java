@@ -0,0 +1,124 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LogHistogramTest {
+
+	@Test
+	public void smallValuesAreExact() {
+		final var histogram = new LogHistogram(2);
+		LongStream.range(0, 100).forEach(histogram);
+
+		Assert.assertEquals(histogram.count(), 100);
+		Assert.assertEquals(histogram.min(), 0);
+		Assert.assertEquals(histogram.max(), 99);
+		Assert.assertEquals(histogram.mean(), 49.5);
+		Assert.assertEquals(histogram.quantile(0.5), 49);
+		Assert.assertEquals(histogram.quantile(1.0), 99);
+	}
+
+	@Test
+	public void relativeError() {
+		final var random = new Random(123);
+		final var histogram = new LogHistogram(2);
+		final long[] values = new long[100_000];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = (long)Math.exp(random.nextDouble()*40);
+			histogram.accept(values[i]);
+		}
+		Arrays.sort(values);
+
+		for (double q : new double[]{0.1, 0.5, 0.9, 0.99, 0.999}) {
+			final long expected = values[(int)Math.ceil(q*values.length) - 1];
+			final long actual = histogram.quantile(q);
+			Assert.assertEquals(
+				actual, expected, Math.max(1, expected*0.01),
+				"Quantile " + q
+			);
+		}
+	}
+
+	@Test
+	public void bucketIndexes() {
+		final var histogram = new LogHistogram(3);
+		int previous = -1;
+		for (long value = 1; value > 0 && value < Long.MAX_VALUE/3; value = value*3 + 1) {
+			final int index = histogram.index(value);
+			Assert.assertTrue(index >= previous);
+			Assert.assertEquals(
+				(double)histogram.value(index), (double)value, value*0.001 + 1
+			);
+			previous = index;
+		}
+		histogram.accept(Long.MAX_VALUE);
+		Assert.assertEquals(histogram.quantile(1), Long.MAX_VALUE);
+	}
+
+	@Test
+	public void combine() {
+		final var h1 = new LogHistogram();
+		final var h2 = new LogHistogram();
+		LongStream.range(0, 1000).forEach(h1);
+		LongStream.range(1000, 2000).forEach(h2);
+
+		h1.combine(h2);
+		Assert.assertEquals(h1.count(), 2000);
+		Assert.assertEquals(h1.min(), 0);
+		Assert.assertEquals(h1.max(), 1999);
+		Assert.assertEquals((double)h1.quantile(0.5), 1000.0, 10.0);
+	}
+
+	@Test
+	public void reset() {
+		final var histogram = new LogHistogram();
+		LongStream.range(0, 1000).forEach(histogram);
+		histogram.reset();
+
+		Assert.assertEquals(histogram.count(), 0);
+		Assert.assertEquals(histogram.quantile(0.5), 0);
+		Assert.assertTrue(Double.isNaN(histogram.mean()));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeValue() {
+		new LogHistogram().accept(-1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalDigits() {
+		new LogHistogram(4);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void combineDifferentDigits() {
+		new LogHistogram(1).combine(new LogHistogram(2));
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AdaptiveBatchExecutorTest {
+
+	private static ISeq<Runnable> tasks(
+		final int size,
+		final AtomicInteger count,
+		final long nanos
+	) {
+		return IntStream.range(0, size)
+			.<Runnable>mapToObj(i -> () -> {
+				if (nanos > 0) {
+					LockSupport.parkNanos(nanos);
+				}
+				count.incrementAndGet();
+			})
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void executeAll() {
+		final var count = new AtomicInteger();
+		final var executor = BatchExecutor.ofAdaptive(ForkJoinPool.commonPool());
+		Assert.assertNull(executor.partitioning());
+
+		for (int i = 0; i < 5; ++i) {
+			executor.execute(tasks(1000, count, 0));
+		}
+
+		Assert.assertEquals(count.get(), 5000);
+		final var partitioning = executor.partitioning();
+		Assert.assertEquals(partitioning.batchSize(), 1000);
+		Assert.assertTrue(partitioning.taskNanos() > 0);
+		Assert.assertTrue(partitioning.makespanNanos() > 0);
+	}
+
+	@Test
+	public void cheapTasks() {
+		final var count = new AtomicInteger();
+		final var executor = BatchExecutor.ofAdaptive(ForkJoinPool.commonPool());
+
+		executor.execute(tasks(100, count, 0));
+		executor.execute(tasks(100, count, 0));
+
+		// The tasks are too cheap for being distributed.
+		Assert.assertEquals(executor.partitioning().partitions(), 1);
+		Assert.assertEquals(count.get(), 200);
+	}
+
+	@Test
+	public void expensiveTasks() {
+		final ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			final var count = new AtomicInteger();
+			final var executor = BatchExecutor.ofAdaptive(pool);
+
+			executor.execute(tasks(200, count, 200_000));
+			executor.execute(tasks(200, count, 200_000));
+
+			Assert.assertTrue(executor.partitioning().partitions() > 1);
+			Assert.assertTrue(
+				executor.partitioning().partitions() <=
+				Runtime.getRuntime().availableProcessors()*
+					AdaptiveBatchExecutor.MAX_OVERSUBSCRIPTION
+			);
+			Assert.assertEquals(count.get(), 400);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void emptyBatch() {
+		final var executor = BatchExecutor.ofAdaptive(ForkJoinPool.commonPool());
+		executor.execute(ISeq.empty());
+		Assert.assertNull(executor.partitioning());
+	}
+
+	@Test(expectedExceptions = CompletionException.class)
+	public void taskError() {
+		final var executor = BatchExecutor.ofAdaptive(ForkJoinPool.commonPool());
+		executor.execute(
+			IntStream.range(0, 100)
+				.<Runnable>mapToObj(i -> () -> {
+					if (i == 50) {
+						throw new IllegalStateException();
+					}
+				})
+				.collect(ISeq.toISeq())
+		);
+	}
+
+}
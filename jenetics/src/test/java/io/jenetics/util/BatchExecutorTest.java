@@ -23,9 +23,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Random;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
+import org.testng.annotations.Test;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -74,4 +78,47 @@ public class BatchExecutorTest {
 		assertThat(PartitionBatchExecutor.maxBatchSize()).isEqualTo(1000000);
 	}
 
+	@Test
+	public void virtualThreadsMaxConcurrency() {
+		final var running = new AtomicInteger();
+		final var maxRunning = new AtomicInteger();
+		final var executed = new AtomicInteger();
+
+		final ISeq<Runnable> runnables = IntStream.range(0, 200)
+			.<Runnable>mapToObj(i -> () -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(2);
+				} catch (InterruptedException e) {
+					throw new CancellationException(e.getMessage());
+				} finally {
+					running.decrementAndGet();
+					executed.incrementAndGet();
+				}
+			})
+			.collect(ISeq.toISeq());
+
+		final BatchExecutor executor = BatchExecutor.ofVirtualThreads(8);
+		executor.execute(runnables);
+		executor.execute(runnables);
+
+		assertThat(executed.get()).isEqualTo(400);
+		assertThat(maxRunning.get()).isLessThanOrEqualTo(8);
+	}
+
+	@Test(expectedExceptions = CompletionException.class)
+	public void virtualThreadsError() {
+		final ISeq<Runnable> runnables = ISeq.of(
+			() -> {},
+			() -> { throw new IllegalStateException(); }
+		);
+
+		BatchExecutor.ofVirtualThreads(2).execute(runnables);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void virtualThreadsIllegalMaxConcurrency() {
+		BatchExecutor.ofVirtualThreads(0);
+	}
+
 }
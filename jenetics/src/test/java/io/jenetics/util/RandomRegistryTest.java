@@ -252,6 +252,108 @@ public class RandomRegistryTest {
 		assertEquals(genotypes1, genotypes2);
 	}
 
+	@Test
+	public void reproducibleTask() {
+		try {
+			RandomRegistry.reproducible(123);
+			final Supplier<long[]> task1 = RandomRegistry.task(5, 2, () ->
+				RandomRegistry.random().longs(10).toArray()
+			);
+			final Supplier<long[]> task2 = RandomRegistry.task(5, 2, () ->
+				RandomRegistry.random().longs(10).toArray()
+			);
+			final Supplier<long[]> task3 = RandomRegistry.task(5, 3, () ->
+				RandomRegistry.random().longs(10).toArray()
+			);
+			final Supplier<long[]> task4 = RandomRegistry.task(6, 2, () ->
+				RandomRegistry.random().longs(10).toArray()
+			);
+
+			final long[] values = task1.get();
+			assertEquals(task2.get(), values);
+			Assert.assertNotEquals(task3.get(), values);
+			Assert.assertNotEquals(task4.get(), values);
+
+			RandomRegistry.reproducible(124);
+			Assert.assertNotEquals(
+				RandomRegistry.task(5, 2, () ->
+					RandomRegistry.random().longs(10).toArray()
+				).get(),
+				values
+			);
+		} finally {
+			RandomRegistry.reset();
+		}
+	}
+
+	@Test
+	public void reproducibleTaskThreadIndependent() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			RandomRegistry.reproducible(123);
+			final List<Supplier<Long>> tasks = IntStream.range(0, 20)
+				.mapToObj(i -> RandomRegistry.task(1, i, () ->
+					RandomRegistry.random().nextLong()
+				))
+				.toList();
+
+			final List<Long> sequential = tasks.stream()
+				.map(Supplier::get)
+				.toList();
+
+			final List<Future<Long>> futures = tasks.stream()
+				.map(task -> executor.submit(task::get))
+				.toList();
+			for (int i = 0; i < futures.size(); ++i) {
+				assertEquals(futures.get(i).get(), sequential.get(i));
+			}
+		} finally {
+			RandomRegistry.reset();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void reproducibleNestedTask() {
+		try {
+			RandomRegistry.reproducible(123);
+			final Supplier<Long> task = RandomRegistry.task(1, 0, () ->
+				RandomRegistry.task(1, 0, () ->
+					RandomRegistry.random().nextLong()
+				).get()
+			);
+
+			assertEquals(task.get(), task.get());
+			Assert.assertNotEquals(
+				task.get(),
+				RandomRegistry.task(1, 0, () -> RandomRegistry.random().nextLong()).get()
+			);
+		} finally {
+			RandomRegistry.reset();
+		}
+	}
+
+	@Test
+	public void reproducibleFunctionTask() {
+		try {
+			RandomRegistry.reproducible(123);
+			final var task = RandomRegistry.task(1, 0, (Integer n) ->
+				RandomRegistry.random().longs(n).toArray()
+			);
+
+			assertEquals(task.apply(10), task.apply(10));
+		} finally {
+			RandomRegistry.reset();
+		}
+	}
+
+	@Test
+	public void nonReproducibleTask() {
+		RandomRegistry.reset();
+		final Supplier<Long> supplier = () -> 1L;
+		assertSame(RandomRegistry.task(1, 0, supplier), supplier);
+	}
+
 	//@Test
 	public void defaultRandomGenerator() {
 		System.setProperty(